@@ -1,13 +1,24 @@
 package com.SAFE_Rescue.API_Recursos;
 
+import com.SAFE_Rescue.API_Recursos.config.PistasNativas;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@ImportRuntimeHints(PistasNativas.class)
+@EnableScheduling
 public class ApiRecursosApplication {
 
+	// Cantidad máxima de pasos de arranque registrados para el reporte de tiempos
+	private static final int PASOS_ARRANQUE = 4096;
+
 	public static void main(String[] args) {
-		SpringApplication.run(ApiRecursosApplication.class, args);
+		SpringApplication application = new SpringApplication(ApiRecursosApplication.class);
+		application.setApplicationStartup(new BufferingApplicationStartup(PASOS_ARRANQUE));
+		application.run(args);
 	}
 
 }
@@ -1,9 +1,12 @@
 package com.SAFE_Rescue.API_Recursos;
 
+import com.SAFE_Rescue.API_Recursos.indice.IndiceRecursos;
+import com.SAFE_Rescue.API_Recursos.indice.IndiceVehiculos;
 import com.SAFE_Rescue.API_Recursos.modelo.*;
 import com.SAFE_Rescue.API_Recursos.repository.*;
 import net.datafaker.Faker;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
@@ -16,6 +19,11 @@ import java.util.*;
  * Esta clase se ejecuta solo en el perfil 'dev' y utiliza Faker para generar datos ficticios para las entidades
  * de la aplicación.
  * </p>
+ * <p>
+ * Con {@code app.seed.modo=masivo} delega en {@link GeneradorDatosMasivos}, que genera volúmenes configurables
+ * (millones de filas) para pruebas de rendimiento. Con {@code app.seed.asincrono=true} (perfil 'fast') la carga
+ * se ejecuta en un hilo aparte para no retrasar el arranque, y al terminar se recargan los índices en memoria.
+ * </p>
  */
 @Profile("dev")
 @Component
@@ -27,6 +35,12 @@ public class DataLoader implements CommandLineRunner {
     @Autowired private TipoRecursoRepository tipoRecursoRepository;
     @Autowired private TipoVehiculoRepository tipoVehiculoRepository;
     @Autowired private VehiculoRepository vehiculoRepository;
+    @Autowired private GeneradorDatosMasivos generadorDatosMasivos;
+    @Autowired private IndiceRecursos indiceRecursos;
+    @Autowired private IndiceVehiculos indiceVehiculos;
+
+    @Value("${app.seed.modo:basico}") private String modo;
+    @Value("${app.seed.asincrono:false}") private boolean asincrono;
 
     /**
      * Método que se ejecuta al iniciar la aplicación.
@@ -39,12 +53,36 @@ public class DataLoader implements CommandLineRunner {
      */
     @Override
     public void run(String... args) throws Exception {
+        if (asincrono) {
+            Thread hilo = new Thread(() -> {
+                cargar();
+                indiceRecursos.cargar();
+                indiceVehiculos.cargar();
+            }, "data-loader");
+            hilo.setDaemon(true);
+            hilo.start();
+            return;
+        }
+        cargar();
+    }
+
+    /**
+     * Genera los datos ficticios según el modo configurado.
+     */
+    private void cargar() {
         System.out.println("DataLoader is running...");
 
+        if ("masivo".equalsIgnoreCase(modo)) {
+            generadorDatosMasivos.generar();
+            return;
+        }
+
         Faker faker = new Faker();
         Random random = new Random();
         Set<String> uniquePatentes = new HashSet<>();
-        List<String> estados = Arrays.asList("Pendiente", "En Proceso", "Completada", "Rechazada");
+        List<Estado> estadosRecurso = Arrays.asList(Estado.DISPONIBLE, Estado.ACTIVO, Estado.RESERVADO, Estado.AGOTADO);
+        List<Estado> estadosVehiculo = Arrays.asList(Estado.OPERATIVO, Estado.EN_MANTENCION, Estado.FUERA_DE_SERVICIO);
+        List<Estado> estadosSolicitud = Arrays.asList(Estado.PENDIENTE, Estado.EN_PROCESO, Estado.COMPLETADA, Estado.RECHAZADA);
 
         // Generar TipoRecurso
         for (int i = 0; i < 5; i++) {
@@ -85,7 +123,7 @@ public class DataLoader implements CommandLineRunner {
         for (int i = 0; i < 5; i++) {
             Recurso recurso = new Recurso();
             recurso.setNombre(faker.commerce().productName());
-            String estado = estados.get(random.nextInt(estados.size()));
+            Estado estado = estadosRecurso.get(random.nextInt(estadosRecurso.size()));
             recurso.setEstado(estado);
             recurso.setCantidad(faker.number().numberBetween(0, 9999));
 
@@ -116,7 +154,7 @@ public class DataLoader implements CommandLineRunner {
             vehiculo.setMarca(faker.vehicle().make());
             vehiculo.setModelo(faker.vehicle().model());
             vehiculo.setConductor(faker.name().firstName());
-            String estado = estados.get(random.nextInt(estados.size()));
+            Estado estado = estadosVehiculo.get(random.nextInt(estadosVehiculo.size()));
             vehiculo.setEstado(estado);
 
             TipoVehiculo tipoVehiculo = tiposVehiculos.get(random.nextInt(tiposVehiculos.size()));
@@ -153,7 +191,7 @@ public class DataLoader implements CommandLineRunner {
 
             Bombero bombero = bomberos.get(random.nextInt(bomberos.size()));
             solicitudRecurso.setBombero(bombero);
-            String estado = estados.get(random.nextInt(estados.size()));
+            Estado estado = estadosSolicitud.get(random.nextInt(estadosSolicitud.size()));
             solicitudRecurso.setEstado(estado);
             Recurso recurso = recursos.get(random.nextInt(recursos.size()));
             solicitudRecurso.setRecurso(recurso);
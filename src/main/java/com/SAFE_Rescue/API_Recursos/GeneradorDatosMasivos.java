@@ -0,0 +1,225 @@
+package com.SAFE_Rescue.API_Recursos;
+
+import com.SAFE_Rescue.API_Recursos.modelo.Estado;
+import net.datafaker.Faker;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * Generador de conjuntos de datos sintéticos de gran volumen para pruebas de rendimiento.
+ * <p>
+ * Se activa desde {@link DataLoader} con {@code app.seed.modo=masivo}. Las filas se generan en lotes
+ * independientes y en paralelo; cada lote usa su propio {@link Faker} con una semilla derivada de
+ * {@code app.seed.semilla}, de modo que sobre una base vacía el resultado es idéntico en cada ejecución
+ * sin importar el orden en que los hilos procesen los lotes. Las fechas de creación de las solicitudes se
+ * reparten en los 30 días previos a {@code app.seed.fin-historia} (por defecto, el inicio del día actual en UTC).
+ * Cada lote se inserta con un único
+ * {@code batchUpdate} de JDBC y los IDs se asignan explícitamente, lo que permite referenciar las
+ * claves foráneas sin volver a leer las tablas.
+ * </p>
+ */
+@Profile("dev")
+@Component
+public class GeneradorDatosMasivos {
+
+    // Desplazamiento de cantidades y teléfonos para no chocar con los datos del modo básico
+    private static final int CANTIDAD_MINIMA = 10_000;
+    private static final int RANGO_CANTIDAD = 999_989_999;
+    private static final int MULTIPLICADOR_CANTIDAD = 7_919;
+    private static final int TELEFONO_BASE = 900_000_000;
+    private static final int SEGUNDOS_HISTORIA = 30 * 24 * 3600;
+    private static final String ALFABETO_PATENTE = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZ";
+
+    private static final Estado[] ESTADOS_RECURSO = {Estado.DISPONIBLE, Estado.ACTIVO, Estado.RESERVADO, Estado.AGOTADO};
+    private static final Estado[] ESTADOS_VEHICULO = {Estado.OPERATIVO, Estado.EN_MANTENCION, Estado.FUERA_DE_SERVICIO};
+    private static final Estado[] ESTADOS_SOLICITUD = {Estado.PENDIENTE, Estado.EN_PROCESO, Estado.COMPLETADA, Estado.RECHAZADA};
+
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    @Value("${app.seed.semilla:42}") private long semilla;
+    @Value("${app.seed.lote:1000}") private int lote;
+    @Value("${app.seed.hilos:0}") private int hilos;
+    @Value("${app.seed.tipos-recurso:50}") private int tiposRecurso;
+    @Value("${app.seed.tipos-vehiculo:20}") private int tiposVehiculo;
+    @Value("${app.seed.bomberos:10000}") private int bomberos;
+    @Value("${app.seed.recursos:1000000}") private int recursos;
+    @Value("${app.seed.vehiculos:100000}") private int vehiculos;
+    @Value("${app.seed.solicitudes:1000000}") private int solicitudes;
+    @Value("${app.seed.fin-historia:}") private String finHistoria;
+
+    /**
+     * Genera e inserta todas las entidades en orden de dependencia y reporta filas por segundo.
+     */
+    public void generar() {
+        ForkJoinPool pool = new ForkJoinPool(hilos > 0 ? hilos : Runtime.getRuntime().availableProcessors());
+        long inicio = System.nanoTime();
+        long total = 0;
+        try {
+            Rango rangoTiposRecurso = insertar(pool, "tipo_recurso", 1,
+                    "INSERT INTO tipo_recurso (id, nombre_tipo) VALUES (?, ?)", tiposRecurso,
+                    (faker, random, id) -> new Object[]{id, recortar(faker.commerce().department(), 50)});
+
+            Rango rangoTiposVehiculo = insertar(pool, "tipo_vehiculo", 2,
+                    "INSERT INTO tipo_vehiculo (id, nombre_tipo) VALUES (?, ?)", tiposVehiculo,
+                    (faker, random, id) -> new Object[]{id, recortar(faker.vehicle().carType(), 50)});
+
+            Rango rangoBomberos = insertar(pool, "bombero", 3,
+                    "INSERT INTO bombero (id, nombre, a_paterno, a_materno, telefono) VALUES (?, ?, ?, ?, ?)", bomberos,
+                    (faker, random, id) -> new Object[]{id,
+                            recortar(faker.name().firstName(), 50),
+                            recortar(faker.name().lastName(), 50),
+                            recortar(faker.name().lastName(), 50),
+                            TELEFONO_BASE + id});
+
+            Rango rangoRecursos = insertar(pool, "recurso", 4,
+                    "INSERT INTO recurso (id, nombre, cantidad, estado, tipo_recurso_id) VALUES (?, ?, ?, ?, ?)", recursos,
+                    (faker, random, id) -> new Object[]{id,
+                            recortar(faker.commerce().productName(), 50),
+                            cantidadUnica(id),
+                            ESTADOS_RECURSO[random.nextInt(ESTADOS_RECURSO.length)].getCodigo(),
+                            rangoTiposRecurso.elegir(random)});
+
+            Rango rangoVehiculos = insertar(pool, "vehiculo", 5,
+                    "INSERT INTO vehiculo (id, marca, modelo, patente, conductor, estado, tipo_vehiculo_id) VALUES (?, ?, ?, ?, ?, ?, ?)", vehiculos,
+                    (faker, random, id) -> new Object[]{id,
+                            recortar(faker.vehicle().make(), 50),
+                            recortar(faker.vehicle().model(), 50),
+                            patenteUnica(id),
+                            recortar(faker.name().firstName(), 50),
+                            ESTADOS_VEHICULO[random.nextInt(ESTADOS_VEHICULO.length)].getCodigo(),
+                            rangoTiposVehiculo.elegir(random)});
+
+            Instant fin = finHistoria.isBlank() ? Instant.now().truncatedTo(ChronoUnit.DAYS) : Instant.parse(finHistoria);
+            Rango rangoSolicitudes = insertar(pool, "solicitud_recurso", 6,
+                    "INSERT INTO solicitud_recurso (id, titulo, detalle, bombero_id, estado, recurso_id, fecha_creacion) VALUES (?, ?, ?, ?, ?, ?, ?)", solicitudes,
+                    (faker, random, id) -> new Object[]{id,
+                            recortar(faker.book().title(), 50),
+                            recortar(faker.lorem().paragraph(), 400),
+                            rangoBomberos.elegir(random),
+                            ESTADOS_SOLICITUD[random.nextInt(ESTADOS_SOLICITUD.length)].getCodigo(),
+                            rangoRecursos.elegir(random),
+                            Timestamp.from(fin.minusSeconds(random.nextInt(SEGUNDOS_HISTORIA)))});
+
+            total = rangoTiposRecurso.filas() + rangoTiposVehiculo.filas() + rangoBomberos.filas()
+                    + rangoRecursos.filas() + rangoVehiculos.filas() + rangoSolicitudes.filas();
+        } finally {
+            pool.shutdown();
+        }
+        reportar("TOTAL", total, System.nanoTime() - inicio);
+    }
+
+    // MÉTODOS PRIVADOS
+
+    /**
+     * Genera e inserta {@code filas} filas de una tabla en lotes paralelos.
+     * @return Rango de IDs generados (o los IDs existentes si no se generó ninguna fila)
+     */
+    private Rango insertar(ForkJoinPool pool, String tabla, int sal, String sql, int filas, GeneradorFila generador) {
+        int primerId = siguienteId(tabla);
+        if (filas <= 0) {
+            return new Rango(tabla, 0, 0, jdbcTemplate.queryForList("SELECT id FROM " + tabla, Integer.class));
+        }
+
+        long inicio = System.nanoTime();
+        int tamanioLote = Math.max(1, lote);
+        int lotes = (filas + tamanioLote - 1) / tamanioLote;
+        pool.submit(() -> IntStream.range(0, lotes).parallel().forEach(numeroLote -> {
+            Random random = new Random(semilla * 1_000_003L + sal * 10_007L + numeroLote);
+            Faker faker = new Faker(Locale.ENGLISH, random);
+            int desde = numeroLote * tamanioLote;
+            int hasta = Math.min(filas, desde + tamanioLote);
+            List<Object[]> filasLote = new ArrayList<>(hasta - desde);
+            for (int i = desde; i < hasta; i++) {
+                filasLote.add(generador.generar(faker, random, primerId + i));
+            }
+            jdbcTemplate.batchUpdate(sql, filasLote);
+        })).join();
+
+        ajustarIdentidad(tabla, primerId + filas);
+        reportar(tabla, filas, System.nanoTime() - inicio);
+        return new Rango(tabla, primerId, filas, List.of());
+    }
+
+    private int siguienteId(String tabla) {
+        Integer maximo = jdbcTemplate.queryForObject("SELECT MAX(id) FROM " + tabla, Integer.class);
+        return maximo == null ? 1 : maximo + 1;
+    }
+
+    /**
+     * MySQL avanza AUTO_INCREMENT al insertar IDs explícitos; H2 no, así que se reinicia su identidad
+     * para que las inserciones posteriores de JPA no choquen con los IDs generados.
+     */
+    private void ajustarIdentidad(String tabla, int siguiente) {
+        String motor = jdbcTemplate.execute((ConnectionCallback<String>) conexion -> conexion.getMetaData().getDatabaseProductName());
+        if ("H2".equalsIgnoreCase(motor)) {
+            jdbcTemplate.execute("ALTER TABLE " + tabla + " ALTER COLUMN id RESTART WITH " + siguiente);
+        }
+    }
+
+    private void reportar(String tabla, long filas, long nanos) {
+        double segundos = Math.max(nanos, 1) / 1_000_000_000.0;
+        System.out.printf(Locale.ROOT, "Carga masiva %-18s %,12d filas en %8.2f s (%,.0f filas/s)%n",
+                tabla, filas, segundos, filas / segundos);
+    }
+
+    /**
+     * Cantidad única por ID (la columna es UNIQUE): permutación de un rango de 9 dígitos mediante
+     * multiplicación modular, para que los valores no queden ordenados como los IDs.
+     */
+    static int cantidadUnica(int id) {
+        return CANTIDAD_MINIMA + (int) ((long) id * MULTIPLICADOR_CANTIDAD % RANGO_CANTIDAD);
+    }
+
+    /**
+     * Patente única de 6 caracteres: "V" seguida del ID en base 36 (hasta 60 millones de vehículos).
+     */
+    static String patenteUnica(int id) {
+        char[] patente = {'V', '0', '0', '0', '0', '0'};
+        int valor = id;
+        for (int i = patente.length - 1; i > 0 && valor > 0; i--) {
+            patente[i] = ALFABETO_PATENTE.charAt(valor % 36);
+            valor /= 36;
+        }
+        return new String(patente);
+    }
+
+    private static String recortar(String texto, int maximo) {
+        return texto.length() > maximo ? texto.substring(0, maximo) : texto;
+    }
+
+    @FunctionalInterface
+    interface GeneradorFila {
+        Object[] generar(Faker faker, Random random, int id);
+    }
+
+    /**
+     * IDs disponibles para claves foráneas: el rango contiguo recién insertado o, si no se generaron
+     * filas, los IDs existentes en la tabla.
+     */
+    private record Rango(String tabla, int primerId, int filas, List<Integer> existentes) {
+
+        int elegir(Random random) {
+            if (filas > 0) {
+                return primerId + random.nextInt(filas);
+            }
+            if (existentes.isEmpty()) {
+                throw new IllegalStateException("No hay filas en " + tabla + " para referenciar");
+            }
+            return existentes.get(random.nextInt(existentes.size()));
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.SAFE_Rescue.API_Recursos.config;
+
+import com.SAFE_Rescue.API_Recursos.instrumentacion.FiltroSentencias;
+import com.SAFE_Rescue.API_Recursos.instrumentacion.RegistroSentencias;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+
+/**
+ * Instrumentación de las sentencias SQL (ver {@link RegistroSentencias}). Con {@code app.sql.instrumentacion=true}
+ * la fuente de datos principal se envuelve en un proxy JDBC y cada solicitud HTTP se mide por endpoint; con el
+ * valor por defecto la fuente de datos queda sin cambios y el filtro no interviene.
+ */
+@Configuration
+public class InstrumentacionSqlConfig {
+
+    /**
+     * Envuelve la fuente de datos al crearla, antes de que la usen Hibernate, JdbcTemplate o los fragmentos.
+     * Es estático para registrarse sin crear esta configuración antes de tiempo.
+     */
+    @Bean
+    public static BeanPostProcessor instrumentacionDataSource(Environment entorno, ObjectProvider<RegistroSentencias> registro) {
+        boolean habilitado = entorno.getProperty("app.sql.instrumentacion", Boolean.class, false);
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String nombre) {
+                return habilitado && bean instanceof DataSource dataSource ? registro.getObject().instrumentar(dataSource) : bean;
+            }
+        };
+    }
+
+    @Bean
+    public FilterRegistrationBean<FiltroSentencias> filtroSentencias(RegistroSentencias registro) {
+        FilterRegistrationBean<FiltroSentencias> registracion = new FilterRegistrationBean<>(new FiltroSentencias(registro));
+        registracion.addUrlPatterns("/*");
+        // Primero, para incluir las consultas de otros filtros en la medición de la solicitud
+        registracion.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registracion;
+    }
+}
@@ -0,0 +1,57 @@
+package com.SAFE_Rescue.API_Recursos.config;
+
+import com.SAFE_Rescue.API_Recursos.invalidacion.TransporteInvalidacion;
+import com.SAFE_Rescue.API_Recursos.invalidacion.TransporteLocal;
+import com.SAFE_Rescue.API_Recursos.invalidacion.TransporteUdp;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.net.InetSocketAddress;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Selecciona el transporte del bus de invalidación según {@code app.invalidacion.transporte}:
+ * <ul>
+ *     <li>{@code ninguno}: un único nodo; los mensajes no salen del proceso.</li>
+ *     <li>{@code local}: nodos dentro de la misma JVM que comparten {@code app.invalidacion.canal}.</li>
+ *     <li>{@code udp}: nodos en red que escuchan en {@code app.invalidacion.udp.puerto} y envían a
+ *     {@code app.invalidacion.udp.nodos} (lista de host:puerto separada por comas).</li>
+ * </ul>
+ */
+@Configuration
+public class InvalidacionConfig {
+
+    @Value("${app.invalidacion.transporte:ninguno}") private String transporte;
+    @Value("${app.invalidacion.canal:recursos}") private String canal;
+    @Value("${app.invalidacion.udp.puerto:7410}") private int puerto;
+    @Value("${app.invalidacion.udp.nodos:}") private String nodos;
+
+    @Bean
+    public TransporteInvalidacion transporteInvalidacion() {
+        return switch (transporte.trim().toLowerCase()) {
+            case "ninguno" -> new TransporteLocal(UUID.randomUUID().toString());
+            case "local" -> new TransporteLocal(canal);
+            case "udp" -> new TransporteUdp(puerto, direcciones(nodos));
+            default -> throw new IllegalArgumentException("Transporte de invalidación desconocido: " + transporte);
+        };
+    }
+
+    // MÉTODOS PRIVADOS
+
+    private static List<InetSocketAddress> direcciones(String nodos) {
+        return Arrays.stream(nodos.split(","))
+                .map(String::trim)
+                .filter(nodo -> !nodo.isEmpty())
+                .map(nodo -> {
+                    int separador = nodo.lastIndexOf(':');
+                    if (separador <= 0) {
+                        throw new IllegalArgumentException("Nodo de invalidación sin puerto: " + nodo);
+                    }
+                    return new InetSocketAddress(nodo.substring(0, separador), Integer.parseInt(nodo.substring(separador + 1)));
+                })
+                .toList();
+    }
+}
@@ -0,0 +1,25 @@
+package com.SAFE_Rescue.API_Recursos.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.msgpack.jackson.dataformat.MessagePackFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.AbstractJackson2HttpMessageConverter;
+import org.springframework.util.Assert;
+
+/**
+ * Convertidor HTTP para MessagePack basado en Jackson, equivalente a los convertidores Smile y CBOR de Spring.
+ * Acepta y produce {@code application/x-msgpack} y {@code application/msgpack}.
+ */
+public class MsgPackHttpMessageConverter extends AbstractJackson2HttpMessageConverter {
+
+    public static final MediaType APPLICATION_MSGPACK = new MediaType("application", "x-msgpack");
+
+    /**
+     * Crea el convertidor con un ObjectMapper que debe usar {@link MessagePackFactory}.
+     * @param objectMapper ObjectMapper configurado para MessagePack
+     */
+    public MsgPackHttpMessageConverter(ObjectMapper objectMapper) {
+        super(objectMapper, APPLICATION_MSGPACK, new MediaType("application", "msgpack"));
+        Assert.isInstanceOf(MessagePackFactory.class, objectMapper.getFactory(), "Se requiere MessagePackFactory");
+    }
+}
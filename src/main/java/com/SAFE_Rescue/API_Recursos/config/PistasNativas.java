@@ -0,0 +1,37 @@
+package com.SAFE_Rescue.API_Recursos.config;
+
+import com.SAFE_Rescue.API_Recursos.indice.DisponibilidadVehiculos;
+import com.SAFE_Rescue.API_Recursos.modelo.*;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+/**
+ * Metadatos de alcanzabilidad para la imagen nativa de GraalVM (perfil Maven "native").
+ * <p>
+ * Spring AOT genera la mayoría de las pistas a partir de los beans y controladores; aquí se agregan las que
+ * dependen de reflexión en tiempo de ejecución: los accesores generados por Lombok en las entidades de
+ * {@code modelo}, que Jackson serializa por reflexión, el {@link EstadoConverter} que Hibernate instancia,
+ * el {@code @JsonCreator} de {@link Estado} y los recursos estáticos de Swagger UI servidos por springdoc.
+ * </p>
+ */
+public class PistasNativas implements RuntimeHintsRegistrar {
+
+    private static final Class<?>[] TIPOS_SERIALIZADOS = {
+            Bombero.class, Recurso.class, SolicitudRecurso.class, TipoRecurso.class, TipoVehiculo.class,
+            Vehiculo.class, HistorialRecurso.class, DemandaRecurso.class, Estado.class, DisponibilidadVehiculos.class
+    };
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        new BindingReflectionHintsRegistrar().registerReflectionHints(hints.reflection(), TIPOS_SERIALIZADOS);
+
+        hints.reflection().registerType(Estado.class, MemberCategory.INVOKE_PUBLIC_METHODS);
+        hints.reflection().registerType(EstadoConverter.class,
+                MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS);
+
+        hints.resources().registerPattern("META-INF/resources/webjars/swagger-ui/**");
+        hints.resources().registerPattern("db/*.sql");
+    }
+}
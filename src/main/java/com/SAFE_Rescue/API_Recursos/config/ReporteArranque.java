@@ -0,0 +1,94 @@
+package com.SAFE_Rescue.API_Recursos.config;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Reporte de la línea de tiempo de arranque de la aplicación.
+ * <p>
+ * Cuando la aplicación se inicia con {@link BufferingApplicationStartup} (ver {@code ApiRecursosApplication}),
+ * al quedar lista se resumen los pasos registrados por Spring: tiempo total, tiempo de la JVM, tiempo
+ * acumulado por tipo de paso y los pasos individuales más lentos (por ejemplo, la creación de un bean).
+ * Las duraciones de los pasos incluyen a sus pasos hijos.
+ * </p>
+ */
+@Component
+public class ReporteArranque {
+
+    private static final int PASOS_MAS_LENTOS = 15;
+
+    @Autowired
+    private ConfigurableApplicationContext contexto;
+
+    private volatile Map<String, Object> reporte = Map.of("disponible", false);
+
+    /**
+     * Genera e imprime el reporte cuando la aplicación está lista para recibir solicitudes.
+     * @param evento Evento de aplicación lista
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void generar(ApplicationReadyEvent evento) {
+        Map<String, Object> nuevo = new LinkedHashMap<>();
+        nuevo.put("disponible", true);
+        nuevo.put("arranqueMs", evento.getTimeTaken() == null ? null : evento.getTimeTaken().toMillis());
+        nuevo.put("jvmMs", ManagementFactory.getRuntimeMXBean().getUptime());
+
+        if (contexto.getApplicationStartup() instanceof BufferingApplicationStartup buffering) {
+            List<StartupTimeline.TimelineEvent> eventos = buffering.getBufferedTimeline().getEvents();
+            nuevo.put("pasosRegistrados", eventos.size());
+            nuevo.put("porTipoMs", acumuladoPorTipo(eventos));
+            nuevo.put("pasosMasLentos", eventos.stream()
+                    .sorted(Comparator.comparing(StartupTimeline.TimelineEvent::getDuration).reversed())
+                    .limit(PASOS_MAS_LENTOS)
+                    .map(ReporteArranque::describir)
+                    .toList());
+        }
+
+        reporte = nuevo;
+        System.out.println("Arranque: " + nuevo.get("arranqueMs") + " ms (JVM " + nuevo.get("jvmMs") + " ms)");
+        if (nuevo.containsKey("pasosMasLentos")) {
+            ((List<?>) nuevo.get("pasosMasLentos")).forEach(paso -> System.out.println("  " + paso));
+        }
+    }
+
+    /**
+     * Obtiene el último reporte de arranque generado.
+     * @return Mapa con los tiempos de arranque, o {@code disponible=false} si aún no se genera
+     */
+    public Map<String, Object> reporte() {
+        return reporte;
+    }
+
+    // MÉTODOS PRIVADOS
+
+    private static Map<String, Long> acumuladoPorTipo(List<StartupTimeline.TimelineEvent> eventos) {
+        Map<String, Long> porTipo = new TreeMap<>();
+        for (StartupTimeline.TimelineEvent evento : eventos) {
+            porTipo.merge(evento.getStartupStep().getName(), evento.getDuration().toMillis(), Long::sum);
+        }
+        return porTipo;
+    }
+
+    private static Map<String, Object> describir(StartupTimeline.TimelineEvent evento) {
+        Map<String, Object> paso = new LinkedHashMap<>();
+        paso.put("paso", evento.getStartupStep().getName());
+        for (StartupStep.Tag etiqueta : evento.getStartupStep().getTags()) {
+            paso.put(etiqueta.getKey(), etiqueta.getValue());
+        }
+        paso.put("ms", evento.getDuration().toMillis());
+        return paso;
+    }
+}
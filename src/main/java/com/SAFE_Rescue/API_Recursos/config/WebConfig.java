@@ -0,0 +1,45 @@
+package com.SAFE_Rescue.API_Recursos.config;
+
+import com.SAFE_Rescue.API_Recursos.modelo.Estado;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.msgpack.jackson.dataformat.MessagePackFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.format.FormatterRegistry;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.List;
+
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    @Autowired
+    private ObjectProvider<Jackson2ObjectMapperBuilder> objectMapperBuilder;
+
+    @Override
+    public void addFormatters(FormatterRegistry registry) {
+        // Permite recibir estados por etiqueta en parámetros de consulta (ej: ?estado=Operativo)
+        registry.addConverter(String.class, Estado.class, Estado::desdeEtiqueta);
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        // Formatos binarios negociados por Accept (application/x-jackson-smile, application/cbor, application/x-msgpack).
+        // Se agregan al final para que JSON siga siendo el formato por defecto, y usan la misma configuración
+        // de Jackson que JSON en lugar de los convertidores por defecto de Spring.
+        converters.removeIf(converter -> converter instanceof MappingJackson2SmileHttpMessageConverter
+                || converter instanceof MappingJackson2CborHttpMessageConverter);
+        converters.add(new MappingJackson2SmileHttpMessageConverter(
+                objectMapperBuilder.getObject().factory(new SmileFactory()).build()));
+        converters.add(new MappingJackson2CborHttpMessageConverter(
+                objectMapperBuilder.getObject().factory(new CBORFactory()).build()));
+        converters.add(new MsgPackHttpMessageConverter(
+                objectMapperBuilder.getObject().factory(new MessagePackFactory()).build()));
+    }
+}
@@ -0,0 +1,94 @@
+package com.SAFE_Rescue.API_Recursos.controller;
+
+import com.SAFE_Rescue.API_Recursos.modelo.Bombero;
+import com.SAFE_Rescue.API_Recursos.modelo.ResultadoLote;
+import com.SAFE_Rescue.API_Recursos.service.BomberoService;
+import com.SAFE_Rescue.API_Recursos.util.Lotes;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * Controlador REST de consulta de bomberos.
+ * Los bomberos se administran fuera de esta API; aquí solo se consultan desde el directorio en memoria.
+ */
+@RestController
+@RequestMapping("/api-recursos/v1/bomberos")
+public class BomberoController {
+
+    // SERVICIOS INYECTADOS
+    @Autowired
+    private BomberoService bomberoService;
+
+    /**
+     * Busca bomberos por nombre y apellidos.
+     * @param q Palabras a buscar (ej: "juan perez")
+     * @param limite Cantidad máxima de resultados
+     * @return ResponseEntity con los bomberos encontrados o estado NO_CONTENT si no hay coincidencias
+     */
+    @GetMapping
+    @Operation(summary = "Buscar bomberos", description = "Devuelve los bomberos cuyo nombre completo contiene todas las palabras indicadas, sin distinguir mayúsculas ni tildes.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Bomberos encontrados"),
+            @ApiResponse(responseCode = "204", description = "No hay bomberos que coincidan"),
+            @ApiResponse(responseCode = "400", description = "Texto vacío o límite fuera de rango")
+    })
+    public ResponseEntity<?> buscar(@RequestParam String q, @RequestParam(defaultValue = "20") int limite) {
+        List<Bombero> bomberos = bomberoService.buscar(q, limite);
+        if (bomberos.isEmpty()) {
+            return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+        }
+        return ResponseEntity.ok(bomberos);
+    }
+
+    /**
+     * Busca varios bomberos por ID con una sola consulta (tiene prioridad sobre la búsqueda por nombre).
+     * @param ids IDs separados por coma (ej: 1,2,3), hasta 1000
+     * @return ResponseEntity con los bomberos en el orden pedido y los IDs que no existen
+     */
+    @GetMapping(params = "ids")
+    @Operation(summary = "Buscar bomberos por lista de IDs", description = "Devuelve los bomberos en el orden de los IDs pedidos, con null y en noEncontrados los IDs que no existen. Usa una sola consulta por lote.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Resultado del lote"),
+            @ApiResponse(responseCode = "400", description = "Lista vacía, con valores no numéricos o de más de 1000 IDs")
+    })
+    public ResponseEntity<ResultadoLote<Bombero>> buscarBomberos(@RequestParam List<Integer> ids) {
+        return ResponseEntity.ok(Lotes.buscar(ids, bomberoService::findAllById, Bombero::getId));
+    }
+
+    /**
+     * Busca un bombero por su ID.
+     * @param id ID del bombero a buscar
+     * @return ResponseEntity con el bombero encontrado o mensaje de error
+     */
+    @GetMapping("/{id}")
+    @Operation(summary = "Buscar bombero por ID", description = "Devuelve un bombero específico dado su ID.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Bombero encontrado"),
+            @ApiResponse(responseCode = "404", description = "Bombero no encontrado")
+    })
+    public ResponseEntity<?> buscarBombero(@PathVariable Integer id) {
+        return ResponseEntity.ok(bomberoService.findById(id));
+    }
+
+    /**
+     * Busca un bombero por su teléfono.
+     * @param telefono Teléfono del bombero
+     * @return ResponseEntity con el bombero encontrado o mensaje de error
+     */
+    @GetMapping("/telefono/{telefono}")
+    @Operation(summary = "Buscar bombero por teléfono", description = "Devuelve el bombero con el teléfono indicado.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Bombero encontrado"),
+            @ApiResponse(responseCode = "404", description = "Bombero no encontrado")
+    })
+    public ResponseEntity<?> buscarPorTelefono(@PathVariable Integer telefono) {
+        return ResponseEntity.ok(bomberoService.findByTelefono(telefono));
+    }
+}
@@ -0,0 +1,79 @@
+package com.SAFE_Rescue.API_Recursos.controller;
+
+import com.SAFE_Rescue.API_Recursos.excepcion.CodigoError;
+import com.SAFE_Rescue.API_Recursos.excepcion.DatosInvalidosException;
+import com.SAFE_Rescue.API_Recursos.modelo.DemandaRecurso;
+import com.SAFE_Rescue.API_Recursos.modelo.Granularidad;
+import com.SAFE_Rescue.API_Recursos.service.DemandaRecursoService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Controlador REST para la analítica de demanda de recursos.
+ * Expone la cantidad de solicitudes por tipo de recurso en intervalos por hora o por día.
+ */
+@RestController
+@RequestMapping("/api-recursos/v1/demanda-recursos")
+public class DemandaRecursoController {
+
+    // Rango por defecto de cada granularidad cuando no se indica "desde"
+    private static final Map<Granularidad, Long> DIAS_POR_DEFECTO = Map.of(Granularidad.HORA, 1L, Granularidad.DIA, 30L);
+
+    // SERVICIOS INYECTADOS
+    @Autowired
+    private DemandaRecursoService demandaRecursoService;
+
+    /**
+     * Obtiene la demanda agregada por tipo de recurso en un rango de fechas.
+     * @param granularidad Tamaño del intervalo (HORA o DIA)
+     * @param tipoRecursoId ID del tipo de recurso (opcional; si se omite, todos los tipos)
+     * @param desde Inicio del rango en formato ISO-8601 (por defecto, 1 día atrás para HORA y 30 para DIA)
+     * @param hasta Fin del rango en formato ISO-8601 (por defecto, ahora)
+     * @return ResponseEntity con los intervalos o estado NO_CONTENT si no hay demanda en el rango
+     */
+    @GetMapping
+    @Operation(summary = "Obtener demanda por tipo de recurso", description = "Devuelve las solicitudes por tipo de recurso agregadas por hora o por día. Lee solo los intervalos precalculados.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Demanda obtenida"),
+            @ApiResponse(responseCode = "204", description = "Sin demanda en el rango"),
+            @ApiResponse(responseCode = "400", description = "Rango de fechas inválido")
+    })
+    public ResponseEntity<?> demanda(@RequestParam(defaultValue = "HORA") Granularidad granularidad,
+                                     @RequestParam(required = false) Integer tipoRecursoId,
+                                     @RequestParam(required = false) Instant desde,
+                                     @RequestParam(required = false) Instant hasta) {
+        Instant fin = hasta != null ? hasta : Instant.now();
+        Instant inicio = desde != null ? desde : fin.minus(Duration.ofDays(DIAS_POR_DEFECTO.get(granularidad)));
+        if (inicio.isAfter(fin)) {
+            throw new DatosInvalidosException(CodigoError.DATOS_INVALIDOS, "La fecha desde no puede ser posterior a la fecha hasta");
+        }
+        List<DemandaRecurso> demanda = demandaRecursoService.buscar(granularidad, tipoRecursoId, inicio, fin);
+        if (demanda.isEmpty()) {
+            return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+        }
+        return ResponseEntity.ok(demanda);
+    }
+
+    /**
+     * Ejecuta de inmediato la agregación de las solicitudes nuevas, sin esperar la tarea programada.
+     * @return ResponseEntity con la cantidad de solicitudes procesadas
+     */
+    @PostMapping("/agregar")
+    @Operation(summary = "Agregar solicitudes nuevas", description = "Agrega en los intervalos las solicitudes creadas desde la última ejecución.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Agregación ejecutada")
+    })
+    public ResponseEntity<Map<String, Integer>> agregar() {
+        return ResponseEntity.ok(Map.of("procesadas", demandaRecursoService.agregar()));
+    }
+}
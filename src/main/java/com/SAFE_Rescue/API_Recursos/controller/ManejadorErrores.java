@@ -0,0 +1,161 @@
+package com.SAFE_Rescue.API_Recursos.controller;
+
+import com.SAFE_Rescue.API_Recursos.excepcion.CodigoError;
+import com.SAFE_Rescue.API_Recursos.excepcion.DatosInvalidosException;
+import com.SAFE_Rescue.API_Recursos.excepcion.ErrorDominio;
+import com.SAFE_Rescue.API_Recursos.excepcion.ServicioSaturadoException;
+import jakarta.servlet.http.HttpServletRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.web.ErrorResponse;
+import org.springframework.web.ErrorResponseException;
+import org.springframework.web.bind.MissingServletRequestParameterException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
+
+import java.net.URI;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Traduce las excepciones de todos los controladores a respuestas de error estructuradas.
+ * <p>
+ * Cada respuesta es un {@link ProblemDetail} (RFC 9457) con el estado y título del {@link CodigoError}, el mensaje
+ * de la excepción como detalle, la ruta solicitada como instancia y la propiedad {@code codigo}. Las excepciones
+ * que implementan {@link ErrorDominio} indican su código; las demás se clasifican por tipo. Los errores internos
+ * no exponen su mensaje y se registran con su traza; entre ellos, cualquier {@link IllegalArgumentException}
+ * que no sea una {@link DatosInvalidosException}, ya que las del framework o de Hibernate no son errores del
+ * cliente. Las excepciones con estado HTTP propio ({@link ErrorResponse}, como {@code ResponseStatusException})
+ * conservan su estado, cabeceras y cuerpo. Se lleva un contador por código, expuesto en {@code /metricas/errores}.
+ * </p>
+ */
+@RestControllerAdvice
+public class ManejadorErrores {
+
+    private static final Logger log = LoggerFactory.getLogger(ManejadorErrores.class);
+    private static final String DETALLE_INTERNO = "Error interno del servidor.";
+
+    private final Map<CodigoError, LongAdder> contadores = new EnumMap<>(CodigoError.class);
+
+    public ManejadorErrores() {
+        for (CodigoError codigo : CodigoError.values()) {
+            contadores.put(codigo, new LongAdder());
+        }
+    }
+
+    /**
+     * Responde a elementos no encontrados.
+     */
+    @ExceptionHandler(NoSuchElementException.class)
+    public ProblemDetail noEncontrado(NoSuchElementException e, HttpServletRequest request) {
+        return responder(codigo(e, CodigoError.NO_ENCONTRADO), e.getMessage(), request);
+    }
+
+    /**
+     * Responde a datos que no pasan las validaciones.
+     */
+    @ExceptionHandler(DatosInvalidosException.class)
+    public ProblemDetail datosInvalidos(DatosInvalidosException e, HttpServletRequest request) {
+        return responder(e.getCodigo(), e.getMessage(), request);
+    }
+
+    /**
+     * Responde a operaciones rechazadas por saturación, indicando cuándo reintentar.
+     */
+    @ExceptionHandler(ServicioSaturadoException.class)
+    public ResponseEntity<ProblemDetail> saturado(ServicioSaturadoException e, HttpServletRequest request) {
+        return ResponseEntity.status(e.getCodigo().getEstado())
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(responder(e.getCodigo(), e.getMessage(), request));
+    }
+
+    /**
+     * Responde a datos que violan una restricción de la base de datos, como un valor único repetido
+     * o una referencia a una fila inexistente.
+     */
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ProblemDetail conflictoDatos(DataIntegrityViolationException e, HttpServletRequest request) {
+        return responder(CodigoError.CONFLICTO_DATOS, "Los datos violan una restricción de integridad", request);
+    }
+
+    /**
+     * Responde a cuerpos ilegibles, parámetros faltantes o con tipo incorrecto.
+     */
+    @ExceptionHandler({HttpMessageNotReadableException.class, MethodArgumentTypeMismatchException.class,
+            MissingServletRequestParameterException.class})
+    public ProblemDetail solicitudMalformada(Exception e, HttpServletRequest request) {
+        String detalle = e instanceof MethodArgumentTypeMismatchException tipo
+                ? "Valor inválido para el parámetro " + tipo.getName() + ": " + tipo.getValue()
+                : e instanceof MissingServletRequestParameterException faltante
+                ? "Falta el parámetro " + faltante.getParameterName()
+                : "El cuerpo de la solicitud no es válido";
+        return responder(CodigoError.SOLICITUD_MALFORMADA, detalle, request);
+    }
+
+    /**
+     * Responde a las excepciones que ya definen su estado HTTP, como {@code ResponseStatusException},
+     * conservando su estado, cabeceras y cuerpo.
+     */
+    @ExceptionHandler(ErrorResponseException.class)
+    public ResponseEntity<ProblemDetail> respuestaHttp(ErrorResponseException e, HttpServletRequest request) {
+        if (e.getStatusCode().is5xxServerError()) {
+            log.error("Error {} en {} {}", e.getStatusCode().value(), request.getMethod(), request.getRequestURI(), e);
+        }
+        ProblemDetail problema = e.getBody();
+        if (problema.getInstance() == null) {
+            problema.setInstance(URI.create(request.getRequestURI()));
+        }
+        return ResponseEntity.status(e.getStatusCode()).headers(e.getHeaders()).body(problema);
+    }
+
+    /**
+     * Responde a cualquier otro error sin exponer su mensaje.
+     */
+    @ExceptionHandler(RuntimeException.class)
+    public ProblemDetail errorInterno(RuntimeException e, HttpServletRequest request) {
+        log.error("Error interno en {} {}", request.getMethod(), request.getRequestURI(), e);
+        return responder(CodigoError.ERROR_INTERNO, DETALLE_INTERNO, request);
+    }
+
+    /**
+     * Obtiene la cantidad de errores respondidos por código.
+     * @return Mapa con el total y la cantidad por cada código
+     */
+    public Map<String, Object> estadisticas() {
+        Map<String, Long> porCodigo = new LinkedHashMap<>();
+        long total = 0;
+        for (Map.Entry<CodigoError, LongAdder> contador : contadores.entrySet()) {
+            long cantidad = contador.getValue().sum();
+            porCodigo.put(contador.getKey().name(), cantidad);
+            total += cantidad;
+        }
+        Map<String, Object> estadisticas = new LinkedHashMap<>();
+        estadisticas.put("total", total);
+        estadisticas.put("porCodigo", porCodigo);
+        return estadisticas;
+    }
+
+    // MÉTODOS PRIVADOS
+
+    private ProblemDetail responder(CodigoError codigo, String detalle, HttpServletRequest request) {
+        contadores.get(codigo).increment();
+        ProblemDetail problema = ProblemDetail.forStatusAndDetail(codigo.getEstado(), detalle);
+        problema.setTitle(codigo.getTitulo());
+        problema.setInstance(URI.create(request.getRequestURI()));
+        problema.setProperty("codigo", codigo.name());
+        return problema;
+    }
+
+    private static CodigoError codigo(RuntimeException e, CodigoError porDefecto) {
+        return e instanceof ErrorDominio error ? error.getCodigo() : porDefecto;
+    }
+}
@@ -0,0 +1,171 @@
+package com.SAFE_Rescue.API_Recursos.controller;
+
+import com.SAFE_Rescue.API_Recursos.config.ReporteArranque;
+import com.SAFE_Rescue.API_Recursos.instrumentacion.RegistroSentencias;
+import com.SAFE_Rescue.API_Recursos.invalidacion.BusInvalidacion;
+import com.SAFE_Rescue.API_Recursos.service.BomberoService;
+import com.SAFE_Rescue.API_Recursos.service.HistorialRecursoService;
+import com.SAFE_Rescue.API_Recursos.service.IngestaSolicitudService;
+import com.SAFE_Rescue.API_Recursos.service.RecursoService;
+import com.SAFE_Rescue.API_Recursos.service.SolicitudRecursoService;
+import com.SAFE_Rescue.API_Recursos.service.VehiculoService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Controlador REST para la consulta de métricas internas de la API.
+ * Proporciona endpoints de solo lectura para observar el comportamiento de los servicios.
+ */
+@RestController
+@RequestMapping("/api-recursos/v1/metricas")
+public class MetricasController {
+
+    // SERVICIOS INYECTADOS
+    @Autowired
+    private RecursoService recursoService;
+
+    @Autowired
+    private VehiculoService vehiculoService;
+
+    @Autowired
+    private SolicitudRecursoService solicitudRecursoService;
+
+    @Autowired
+    private HistorialRecursoService historialRecursoService;
+
+    @Autowired
+    private IngestaSolicitudService ingestaSolicitudService;
+
+    @Autowired
+    private BomberoService bomberoService;
+
+    // COMPONENTES INYECTADOS
+    @Autowired
+    private ReporteArranque reporteArranque;
+
+    @Autowired
+    private ManejadorErrores manejadorErrores;
+
+    @Autowired
+    private BusInvalidacion busInvalidacion;
+
+    @Autowired
+    private RegistroSentencias registroSentencias;
+
+    /**
+     * Obtiene las métricas de coalescencia de las búsquedas por ID de cada servicio.
+     * @return ResponseEntity con las métricas agrupadas por entidad
+     */
+    @GetMapping("/coalescencia")
+    @Operation(summary = "Obtener métricas de coalescencia", description = "Devuelve cuántas búsquedas por ID se compartieron con una consulta en curso.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Métricas de coalescencia obtenidas")
+    })
+    public ResponseEntity<Map<String, Object>> coalescencia() {
+        Map<String, Object> metricas = new LinkedHashMap<>();
+        metricas.put("recursos", recursoService.estadisticasCoalescencia());
+        metricas.put("vehiculos", vehiculoService.estadisticasCoalescencia());
+        metricas.put("solicitudesRecursos", solicitudRecursoService.estadisticasCoalescencia());
+        return ResponseEntity.ok(metricas);
+    }
+
+    /**
+     * Obtiene el reporte de la línea de tiempo de arranque de la aplicación.
+     * @return ResponseEntity con el tiempo total de arranque y los pasos más lentos
+     */
+    @GetMapping("/arranque")
+    @Operation(summary = "Obtener reporte de arranque", description = "Devuelve el tiempo de arranque y los pasos de inicialización más lentos.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Reporte de arranque obtenido")
+    })
+    public ResponseEntity<Map<String, Object>> arranque() {
+        return ResponseEntity.ok(reporteArranque.reporte());
+    }
+
+    /**
+     * Obtiene las métricas de la escritura por lotes del historial de recursos.
+     * @return ResponseEntity con registros, escritos, lotes y pendientes
+     */
+    @GetMapping("/historial")
+    @Operation(summary = "Obtener métricas del historial", description = "Devuelve cuántos cambios de recursos se registraron, escribieron y quedan pendientes.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Métricas del historial obtenidas")
+    })
+    public ResponseEntity<Map<String, Object>> historial() {
+        return ResponseEntity.ok(historialRecursoService.estadisticas());
+    }
+
+    /**
+     * Obtiene las métricas de la ingesta asíncrona de solicitudes.
+     * @return ResponseEntity con solicitudes aceptadas, rechazadas por saturación, guardadas y en cola
+     */
+    @GetMapping("/ingesta")
+    @Operation(summary = "Obtener métricas de la ingesta", description = "Devuelve cuántas solicitudes aceptó, guardó por lotes o rechazó la ingesta asíncrona.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Métricas de la ingesta obtenidas")
+    })
+    public ResponseEntity<Map<String, Object>> ingesta() {
+        return ResponseEntity.ok(ingestaSolicitudService.estadisticas());
+    }
+
+    /**
+     * Obtiene las métricas del directorio de bomberos.
+     * @return ResponseEntity con tamaño, aciertos, fallos, consultas a la base de datos y refrescos
+     */
+    @GetMapping("/bomberos")
+    @Operation(summary = "Obtener métricas del directorio de bomberos", description = "Devuelve cuántas consultas de bomberos se respondieron desde memoria y cuántas llegaron a la base de datos.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Métricas del directorio obtenidas")
+    })
+    public ResponseEntity<Map<String, Object>> bomberos() {
+        return ResponseEntity.ok(bomberoService.estadisticas());
+    }
+
+    /**
+     * Obtiene la cantidad de errores respondidos por la API, agrupados por código de error.
+     * @return ResponseEntity con el total y la cantidad por código
+     */
+    @GetMapping("/errores")
+    @Operation(summary = "Obtener métricas de errores", description = "Devuelve cuántas respuestas de error se emitieron por cada código de error.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Métricas de errores obtenidas")
+    })
+    public ResponseEntity<Map<String, Object>> errores() {
+        return ResponseEntity.ok(manejadorErrores.estadisticas());
+    }
+
+    /**
+     * Obtiene las métricas del bus de invalidación entre nodos.
+     * @return ResponseEntity con mensajes publicados, recibidos, aplicados y descartados
+     */
+    @GetMapping("/invalidacion")
+    @Operation(summary = "Obtener métricas de invalidación", description = "Devuelve cuántas invalidaciones publicó este nodo y cuántas recibió, aplicó o descartó por versión.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Métricas de invalidación obtenidas")
+    })
+    public ResponseEntity<Map<String, Object>> invalidacion() {
+        return ResponseEntity.ok(busInvalidacion.estadisticas());
+    }
+
+    /**
+     * Obtiene el reporte de sentencias SQL (requiere app.sql.instrumentacion=true).
+     * @return ResponseEntity con las sentencias de mayor tiempo acumulado, las sentencias por solicitud de cada endpoint y las últimas sentencias lentas
+     */
+    @GetMapping("/sql")
+    @Operation(summary = "Obtener métricas de sentencias SQL", description = "Devuelve ejecuciones, filas y latencias por sentencia, sentencias por solicitud de cada endpoint y las últimas sentencias lentas.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Métricas de sentencias obtenidas")
+    })
+    public ResponseEntity<Map<String, Object>> sql() {
+        return ResponseEntity.ok(registroSentencias.estadisticas());
+    }
+}
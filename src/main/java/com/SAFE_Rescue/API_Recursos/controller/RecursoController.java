@@ -1,14 +1,21 @@
 package com.SAFE_Rescue.API_Recursos.controller;
 
+import com.SAFE_Rescue.API_Recursos.excepcion.CodigoError;
+import com.SAFE_Rescue.API_Recursos.excepcion.DatosInvalidosException;
+import com.SAFE_Rescue.API_Recursos.modelo.HistorialRecurso;
 import com.SAFE_Rescue.API_Recursos.modelo.Recurso;
+import com.SAFE_Rescue.API_Recursos.modelo.ResultadoLote;
+import com.SAFE_Rescue.API_Recursos.service.HistorialRecursoService;
 import com.SAFE_Rescue.API_Recursos.service.RecursoService;
+import com.SAFE_Rescue.API_Recursos.util.Lotes;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.Instant;
 import java.util.List;
-import java.util.NoSuchElementException;
+import java.util.Map;
 
 /**
  * Controlador REST para la gestión de recursos.
@@ -22,14 +29,26 @@ public class RecursoController {
     @Autowired
     private RecursoService recursoService;
 
+    @Autowired
+    private HistorialRecursoService historialRecursoService;
+
     // OPERACIONES CRUD BÁSICAS
 
     /**
      * Obtiene todos los recursos registrados en el sistema.
+     * @param fields Campos a devolver separados por coma (ej: id,nombre); si se omite se devuelve la entidad completa
      * @return ResponseEntity con lista de recursos o estado NO_CONTENT si no hay registros
      */
     @GetMapping
-    public ResponseEntity<List<Recurso>> listar() {
+    public ResponseEntity<?> listar(@RequestParam(required = false) String fields) {
+        if (fields != null) {
+            List<Map<String, Object>> proyeccion = recursoService.findAll(fields);
+            if (proyeccion.isEmpty()) {
+                return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+            }
+            return ResponseEntity.ok(proyeccion);
+        }
+
         List<Recurso> recursos = recursoService.findAll();
         if (recursos.isEmpty()) {
             return new ResponseEntity<>(HttpStatus.NO_CONTENT);
@@ -37,6 +56,16 @@ public class RecursoController {
         return ResponseEntity.ok(recursos);
     }
 
+    /**
+     * Busca varios recursos por ID con una sola consulta (tiene prioridad sobre fields).
+     * @param ids IDs separados por coma (ej: 1,2,3), hasta 1000
+     * @return ResponseEntity con los recursos en el orden pedido y los IDs que no existen
+     */
+    @GetMapping(params = "ids")
+    public ResponseEntity<ResultadoLote<Recurso>> buscarRecursos(@RequestParam List<Integer> ids) {
+        return ResponseEntity.ok(Lotes.buscar(ids, recursoService::findAllById, Recurso::getId));
+    }
+
     /**
      * Busca un recurso por su ID.
      * @param id ID del recurso a buscar
@@ -44,13 +73,28 @@ public class RecursoController {
      */
     @GetMapping("/{id}")
     public ResponseEntity<?> buscarRecurso(@PathVariable Integer id) {
-        Recurso recurso;
-        try {
-            recurso = recursoService.findById(id);
-        } catch (NoSuchElementException e) {
-            return new ResponseEntity<String>("Recurso no encontrado", HttpStatus.NOT_FOUND);
+        return ResponseEntity.ok(recursoService.findById(id));
+    }
+
+    /**
+     * Obtiene el historial de cambios de cantidad y estado de un recurso en un rango de fechas.
+     * @param id ID del recurso
+     * @param desde Inicio del rango en formato ISO-8601 (opcional)
+     * @param hasta Fin del rango en formato ISO-8601 (opcional)
+     * @return ResponseEntity con los cambios ordenados por fecha o mensaje de error
+     */
+    @GetMapping("/{id}/historial")
+    public ResponseEntity<?> historialRecurso(@PathVariable Integer id,
+                                              @RequestParam(required = false) Instant desde,
+                                              @RequestParam(required = false) Instant hasta) {
+        if (desde != null && hasta != null && desde.isAfter(hasta)) {
+            throw new DatosInvalidosException(CodigoError.DATOS_INVALIDOS, "La fecha desde no puede ser posterior a la fecha hasta");
+        }
+        List<HistorialRecurso> historial = historialRecursoService.buscar(id, desde, hasta);
+        if (historial.isEmpty()) {
+            return new ResponseEntity<>(HttpStatus.NO_CONTENT);
         }
-        return ResponseEntity.ok(recurso);
+        return ResponseEntity.ok(historial);
     }
 
     /**
@@ -60,14 +104,8 @@ public class RecursoController {
      */
     @PostMapping
     public ResponseEntity<String> agregarRecurso(@RequestBody Recurso recurso) {
-        try {
-            recursoService.save(recurso);
-            return ResponseEntity.status(HttpStatus.CREATED).body("Recurso creado con éxito.");
-        } catch (RuntimeException e) {
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
-        } catch (Exception e) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Error interno del servidor.");
-        }
+        recursoService.save(recurso);
+        return ResponseEntity.status(HttpStatus.CREATED).body("Recurso creado con éxito.");
     }
 
     /**
@@ -78,19 +116,8 @@ public class RecursoController {
      */
     @PutMapping("/{id}")
     public ResponseEntity<String> actualizarRecurso(@PathVariable Integer id, @RequestBody Recurso recurso) {
-        try {
-            Recurso nuevoRecurso = recursoService.update(recurso, id);
-            return ResponseEntity.ok("Actualizado con éxito");
-        } catch (NoSuchElementException e) {
-            return ResponseEntity.status(HttpStatus.NOT_FOUND)
-                    .body("Recurso no encontrado");
-        } catch (RuntimeException e) {
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-                    .body(e.getMessage());
-        } catch (Exception e) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body("Error interno del servidor.");
-        }
+        recursoService.update(recurso, id);
+        return ResponseEntity.ok("Actualizado con éxito");
     }
 
     /**
@@ -100,19 +127,8 @@ public class RecursoController {
      */
     @DeleteMapping("/{id}")
     public ResponseEntity<String> eliminarRecurso(@PathVariable Integer id) {
-        try {
-            recursoService.delete(id);
-            return ResponseEntity.ok("Recurso eliminado con éxito.");
-        } catch (NoSuchElementException e) {
-            return ResponseEntity.status(HttpStatus.NOT_FOUND)
-                    .body("Recurso no encontrado");
-        } catch (RuntimeException e) {
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-                    .body(e.getMessage());
-        } catch (Exception e) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body("Error interno del servidor.");
-        }
+        recursoService.delete(id);
+        return ResponseEntity.ok("Recurso eliminado con éxito.");
     }
 
     // GESTIÓN DE RELACIONES
@@ -125,11 +141,7 @@ public class RecursoController {
      */
     @PostMapping("/{recursoId}/asignar-tipo-recurso/{tipoRecursoId}")
     public ResponseEntity<String> asignarTipoRecurso(@PathVariable int recursoId, @PathVariable int tipoRecursoId) {
-        try {
-            recursoService.asignarTipoRecurso(recursoId, tipoRecursoId);
-            return ResponseEntity.ok("Tipo Recurso asignado al Recurso exitosamente");
-        } catch (RuntimeException e) {
-            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
-        }
+        recursoService.asignarTipoRecurso(recursoId, tipoRecursoId);
+        return ResponseEntity.ok("Tipo Recurso asignado al Recurso exitosamente");
     }
 }
\ No newline at end of file
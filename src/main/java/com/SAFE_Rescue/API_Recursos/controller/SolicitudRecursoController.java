@@ -1,14 +1,22 @@
 package com.SAFE_Rescue.API_Recursos.controller;
 
+import com.SAFE_Rescue.API_Recursos.excepcion.CodigoError;
+import com.SAFE_Rescue.API_Recursos.excepcion.NoEncontradoException;
+import com.SAFE_Rescue.API_Recursos.modelo.Pagina;
+import com.SAFE_Rescue.API_Recursos.modelo.Recurso;
+import com.SAFE_Rescue.API_Recursos.modelo.ResultadoLote;
 import com.SAFE_Rescue.API_Recursos.modelo.SolicitudRecurso;
+import com.SAFE_Rescue.API_Recursos.service.IngestaSolicitudService;
 import com.SAFE_Rescue.API_Recursos.service.SolicitudRecursoService;
+import com.SAFE_Rescue.API_Recursos.util.Lotes;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.net.URI;
 import java.util.List;
-import java.util.NoSuchElementException;
+import java.util.Map;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
@@ -25,10 +33,14 @@ public class SolicitudRecursoController {
     @Autowired
     private SolicitudRecursoService solicitudRecursoService;
 
+    @Autowired
+    private IngestaSolicitudService ingestaSolicitudService;
+
     // OPERACIONES CRUD BÁSICAS
 
     /**
      * Obtiene todas las solicitudes de recursos registradas en el sistema.
+     * @param fields Campos a devolver separados por coma (ej: id,nombre); si se omite se devuelve la entidad completa
      * @return ResponseEntity con lista de solicitudes de recursos o estado NO_CONTENT si no hay registros
      */
     @GetMapping
@@ -37,7 +49,15 @@ public class SolicitudRecursoController {
             @ApiResponse(responseCode = "200", description = "Lista de solicitudes de recursos encontrada"),
             @ApiResponse(responseCode = "204", description = "No hay solicitudes de recursos registradas")
     })
-    public ResponseEntity<List<SolicitudRecurso>> listarsolicitud() {
+    public ResponseEntity<?> listarsolicitud(@RequestParam(required = false) String fields) {
+        if (fields != null) {
+            List<Map<String, Object>> proyeccion = solicitudRecursoService.findAll(fields);
+            if (proyeccion.isEmpty()) {
+                return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+            }
+            return ResponseEntity.ok(proyeccion);
+        }
+
         List<SolicitudRecurso> solicitudRecurso = solicitudRecursoService.findAll();
         if (solicitudRecurso.isEmpty()) {
             return new ResponseEntity<>(HttpStatus.NO_CONTENT);
@@ -45,6 +65,40 @@ public class SolicitudRecursoController {
         return ResponseEntity.ok(solicitudRecurso);
     }
 
+    /**
+     * Obtiene una página de solicitudes de recursos, de la más reciente a la más antigua.
+     * @param region Región a filtrar; si se omite se consultan todas
+     * @param pagina Número de página, desde 0
+     * @param tamanio Tamaño de página (máximo 200)
+     * @return ResponseEntity con la página de solicitudes y el total
+     */
+    @GetMapping("/pagina")
+    @Operation(summary = "Obtener una página de solicitudes de recursos", description = "Devuelve las solicitudes más recientes primero, opcionalmente de una región, junto con el total.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Página de solicitudes obtenida"),
+            @ApiResponse(responseCode = "400", description = "Página o tamaño inválidos")
+    })
+    public ResponseEntity<Pagina<SolicitudRecurso>> listarPagina(@RequestParam(required = false) String region,
+                                                                 @RequestParam(defaultValue = "0") int pagina,
+                                                                 @RequestParam(defaultValue = "50") int tamanio) {
+        return ResponseEntity.ok(solicitudRecursoService.listar(region, pagina, tamanio));
+    }
+
+    /**
+     * Busca varios solicitudes de recursos por ID con una sola consulta (tiene prioridad sobre fields).
+     * @param ids IDs separados por coma (ej: 1,2,3), hasta 1000
+     * @return ResponseEntity con los solicitudes de recursos en el orden pedido y los IDs que no existen
+     */
+    @GetMapping(params = "ids")
+    @Operation(summary = "Buscar solicitudes de recursos por lista de IDs", description = "Devuelve los solicitudes de recursos en el orden de los IDs pedidos, con null y en noEncontrados los IDs que no existen. Usa una sola consulta por lote.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Resultado del lote"),
+            @ApiResponse(responseCode = "400", description = "Lista vacía, con valores no numéricos o de más de 1000 IDs")
+    })
+    public ResponseEntity<ResultadoLote<SolicitudRecurso>> buscarSolicitudes(@RequestParam List<Integer> ids) {
+        return ResponseEntity.ok(Lotes.buscar(ids, solicitudRecursoService::findAllById, SolicitudRecurso::getId));
+    }
+
     /**
      * Busca una solicitud de recurso por su ID.
      * @param id ID de la solicitud a buscar
@@ -57,13 +111,7 @@ public class SolicitudRecursoController {
             @ApiResponse(responseCode = "404", description = "Solicitud de recurso no encontrada")
     })
     public ResponseEntity<?> buscarSolicitud(@PathVariable Integer id) {
-        SolicitudRecurso solicitudRecurso;
-        try {
-            solicitudRecurso = solicitudRecursoService.findById(id);
-        } catch (NoSuchElementException e) {
-            return new ResponseEntity<String>("Solicitud Recurso no encontrada", HttpStatus.NOT_FOUND);
-        }
-        return ResponseEntity.ok(solicitudRecurso);
+        return ResponseEntity.ok(solicitudRecursoService.findById(id));
     }
 
     /**
@@ -72,21 +120,38 @@ public class SolicitudRecursoController {
      * @return ResponseEntity con mensaje de confirmación o error
      */
     @PostMapping
-    @Operation(summary = "Crear nueva solicitud de recurso", description = "Crea una nueva solicitud de recurso en el sistema.")
+    @Operation(summary = "Crear nueva solicitud de recurso", description = "Crea una nueva solicitud de recurso en el sistema. Con la ingesta asíncrona activa, la acepta y la persiste por lotes.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "201", description = "Solicitud de recurso creada con éxito"),
+            @ApiResponse(responseCode = "202", description = "Solicitud aceptada por la ingesta asíncrona; se devuelve su ID de seguimiento"),
             @ApiResponse(responseCode = "400", description = "Error de validación"),
+            @ApiResponse(responseCode = "503", description = "Cola de ingesta llena; reintentar más tarde"),
             @ApiResponse(responseCode = "500", description = "Error interno del servidor")
     })
-    public ResponseEntity<String> agregarSolicitud(@RequestBody SolicitudRecurso solicitudRecurso) {
-        try {
-            solicitudRecursoService.save(solicitudRecurso);
-            return ResponseEntity.status(HttpStatus.CREATED).body("Solicitud Recurso creada con éxito.");
-        } catch (RuntimeException e) {
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
-        } catch (Exception e) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Error interno del servidor.");
+    public ResponseEntity<?> agregarSolicitud(@RequestBody SolicitudRecurso solicitudRecurso) {
+        if (ingestaSolicitudService.activa()) {
+            return aceptarSolicitud(solicitudRecurso);
         }
+        solicitudRecursoService.save(solicitudRecurso);
+        return ResponseEntity.status(HttpStatus.CREATED).body("Solicitud Recurso creada con éxito.");
+    }
+
+    /**
+     * Consulta el estado de una solicitud aceptada por la ingesta asíncrona.
+     * @param seguimiento ID de seguimiento entregado al aceptar la solicitud
+     * @return ResponseEntity con el estado (PENDIENTE, GUARDADA o RECHAZADA) o NOT_FOUND si no existe
+     */
+    @GetMapping("/ingesta/{seguimiento}")
+    @Operation(summary = "Consultar solicitud en ingesta", description = "Devuelve si una solicitud aceptada sigue pendiente, se guardó (con su ID) o fue rechazada.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Estado de la solicitud obtenido"),
+            @ApiResponse(responseCode = "404", description = "ID de seguimiento no encontrado")
+    })
+    public ResponseEntity<?> estadoIngesta(@PathVariable String seguimiento) {
+        return ingestaSolicitudService.estado(seguimiento)
+                .<ResponseEntity<?>>map(ResponseEntity::ok)
+                .orElseThrow(() -> new NoEncontradoException(CodigoError.SEGUIMIENTO_NO_ENCONTRADO,
+                        "Seguimiento no encontrado: " + seguimiento));
     }
 
     /**
@@ -104,16 +169,8 @@ public class SolicitudRecursoController {
             @ApiResponse(responseCode = "500", description = "Error interno del servidor")
     })
     public ResponseEntity<String> actualizarSolicitud(@PathVariable Integer id, @RequestBody SolicitudRecurso solicitudRecurso) {
-        try {
-            SolicitudRecurso nuevoSolicitudRecurso = solicitudRecursoService.update(solicitudRecurso, id);
-            return ResponseEntity.ok("Actualizado con éxito");
-        } catch (NoSuchElementException e) {
-            return ResponseEntity.status(HttpStatus.NOT_FOUND).body("Solicitud Recurso no encontrada");
-        } catch (RuntimeException e) {
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
-        } catch (Exception e) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Error interno del servidor.");
-        }
+        solicitudRecursoService.update(solicitudRecurso, id);
+        return ResponseEntity.ok("Actualizado con éxito");
     }
 
     /**
@@ -130,16 +187,8 @@ public class SolicitudRecursoController {
             @ApiResponse(responseCode = "500", description = "Error interno del servidor")
     })
     public ResponseEntity<String> eliminarSolicitud(@PathVariable Integer id) {
-        try {
-            solicitudRecursoService.delete(id);
-            return ResponseEntity.ok("Solicitud Recurso eliminada con éxito.");
-        } catch (NoSuchElementException e) {
-            return ResponseEntity.status(HttpStatus.NOT_FOUND).body("Solicitud Recurso no encontrada");
-        } catch (RuntimeException e) {
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
-        } catch (Exception e) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Error interno del servidor.");
-        }
+        solicitudRecursoService.delete(id);
+        return ResponseEntity.ok("Solicitud Recurso eliminada con éxito.");
     }
 
     // GESTIÓN DE RELACIONES
@@ -158,12 +207,8 @@ public class SolicitudRecursoController {
             @ApiResponse(responseCode = "400", description = "Error de validación")
     })
     public ResponseEntity<String> asignarRecurso(@PathVariable Integer solicitudRecursoId, @PathVariable Integer recursoId) {
-        try {
-            solicitudRecursoService.asignarRecurso(solicitudRecursoId, recursoId);
-            return ResponseEntity.ok("Recurso asignado a la Solicitud Recurso exitosamente");
-        } catch (RuntimeException e) {
-            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
-        }
+        solicitudRecursoService.asignarRecurso(solicitudRecursoId, recursoId);
+        return ResponseEntity.ok("Recurso asignado a la Solicitud Recurso exitosamente");
     }
 
     /**
@@ -180,11 +225,49 @@ public class SolicitudRecursoController {
             @ApiResponse(responseCode = "400", description = "Error de validación")
     })
     public ResponseEntity<String> asignarBombero(@PathVariable Integer solicitudRecursoId, @PathVariable Integer bomberoId) {
-        try {
-            solicitudRecursoService.asignarBombero(solicitudRecursoId, bomberoId);
-            return ResponseEntity.ok("Bombero asignado a la Solicitud Recurso exitosamente");
-        } catch (RuntimeException e) {
-            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
-        }
+        solicitudRecursoService.asignarBombero(solicitudRecursoId, bomberoId);
+        return ResponseEntity.ok("Bombero asignado a la Solicitud Recurso exitosamente");
+    }
+
+    /**
+     * Asigna recursos y bomberos a varias solicitudes en una sola operación.
+     * @param asignaciones Lista de asignaciones (solicitudId, recursoId, bomberoId)
+     * @return ResponseEntity con la cantidad de solicitudes actualizadas o mensaje de error
+     */
+    @PostMapping("/asignaciones")
+    @Operation(summary = "Asignar recursos y bomberos por lote", description = "Aplica en una sola transacción una lista de asignaciones (solicitudId, recursoId, bomberoId); recursoId o bomberoId nulos no se modifican. Si falta alguna entidad no se aplica ninguna.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Asignaciones aplicadas"),
+            @ApiResponse(responseCode = "400", description = "Lista vacía, demasiado grande, con solicitudes repetidas o sin nada que asignar"),
+            @ApiResponse(responseCode = "404", description = "Alguna solicitud, recurso o bombero no existe")
+    })
+    public ResponseEntity<?> asignarLote(@RequestBody List<SolicitudRecursoService.Asignacion> asignaciones) {
+        return ResponseEntity.ok(Map.of("asignadas", solicitudRecursoService.asignarLote(asignaciones)));
+    }
+
+    /**
+     * Asigna a una solicitud el mejor recurso disponible de un tipo de recurso.
+     * @param solicitudRecursoId ID de la solicitud
+     * @param tipoRecursoId ID del tipo de recurso requerido
+     * @return ResponseEntity con el recurso asignado o mensaje de error
+     */
+    @PostMapping("/{solicitudRecursoId}/asignar-mejor-recurso/{tipoRecursoId}")
+    @Operation(summary = "Asignar mejor recurso disponible", description = "Selecciona, reserva y asigna el mejor recurso disponible del tipo indicado.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Recurso reservado y asignado a la solicitud"),
+            @ApiResponse(responseCode = "404", description = "Solicitud de recurso no encontrada o sin recursos disponibles")
+    })
+    public ResponseEntity<?> asignarMejorRecurso(@PathVariable Integer solicitudRecursoId, @PathVariable Integer tipoRecursoId) {
+        Recurso recurso = solicitudRecursoService.asignarMejorRecurso(solicitudRecursoId, tipoRecursoId);
+        return ResponseEntity.ok(recurso);
+    }
+
+    // MÉTODOS PRIVADOS
+
+    private ResponseEntity<?> aceptarSolicitud(SolicitudRecurso solicitudRecurso) {
+        String seguimiento = ingestaSolicitudService.aceptar(solicitudRecurso);
+        return ResponseEntity.accepted()
+                .location(URI.create("/api-recursos/v1/solicitudes-recursos/ingesta/" + seguimiento))
+                .body(Map.of("seguimiento", seguimiento));
     }
-}
\ No newline at end of file
+}
@@ -1,14 +1,16 @@
 package com.SAFE_Rescue.API_Recursos.controller;
 
+import com.SAFE_Rescue.API_Recursos.modelo.ResultadoLote;
 import com.SAFE_Rescue.API_Recursos.modelo.TipoRecurso;
 import com.SAFE_Rescue.API_Recursos.service.TipoRecursoService;
+import com.SAFE_Rescue.API_Recursos.util.Lotes;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
-import java.util.NoSuchElementException;
+import java.util.Map;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
@@ -29,6 +31,7 @@ public class TipoRecursoController {
 
     /**
      * Obtiene todos los tipos de recursos registrados en el sistema.
+     * @param fields Campos a devolver separados por coma (ej: id,nombre); si se omite se devuelve la entidad completa
      * @return ResponseEntity con lista de tipos de recursos o estado NO_CONTENT si no hay registros
      */
     @GetMapping
@@ -37,7 +40,15 @@ public class TipoRecursoController {
             @ApiResponse(responseCode = "200", description = "Lista de tipos de recursos encontrada"),
             @ApiResponse(responseCode = "204", description = "No hay tipos de recursos registrados")
     })
-    public ResponseEntity<List<TipoRecurso>> listarTiposRecursos() {
+    public ResponseEntity<?> listarTiposRecursos(@RequestParam(required = false) String fields) {
+        if (fields != null) {
+            List<Map<String, Object>> proyeccion = tipoRecursoService.findAll(fields);
+            if (proyeccion.isEmpty()) {
+                return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+            }
+            return ResponseEntity.ok(proyeccion);
+        }
+
         List<TipoRecurso> tipoRecurso = tipoRecursoService.findAll();
         if (tipoRecurso.isEmpty()) {
             return new ResponseEntity<>(HttpStatus.NO_CONTENT);
@@ -45,6 +56,21 @@ public class TipoRecursoController {
         return ResponseEntity.ok(tipoRecurso);
     }
 
+    /**
+     * Busca varios tipos de recursos por ID con una sola consulta (tiene prioridad sobre fields).
+     * @param ids IDs separados por coma (ej: 1,2,3), hasta 1000
+     * @return ResponseEntity con los tipos de recursos en el orden pedido y los IDs que no existen
+     */
+    @GetMapping(params = "ids")
+    @Operation(summary = "Buscar tipos de recursos por lista de IDs", description = "Devuelve los tipos de recursos en el orden de los IDs pedidos, con null y en noEncontrados los IDs que no existen. Usa una sola consulta por lote.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Resultado del lote"),
+            @ApiResponse(responseCode = "400", description = "Lista vacía, con valores no numéricos o de más de 1000 IDs")
+    })
+    public ResponseEntity<ResultadoLote<TipoRecurso>> buscarTiposRecursos(@RequestParam List<Integer> ids) {
+        return ResponseEntity.ok(Lotes.buscar(ids, tipoRecursoService::findAllById, TipoRecurso::getId));
+    }
+
     /**
      * Busca un tipo de recurso por su ID.
      * @param id ID del tipo de recurso a buscar
@@ -57,13 +83,7 @@ public class TipoRecursoController {
             @ApiResponse(responseCode = "404", description = "Tipo de recurso no encontrado")
     })
     public ResponseEntity<?> buscarTipoRecurso(@PathVariable Integer id) {
-        TipoRecurso tipoRecurso;
-        try {
-            tipoRecurso = tipoRecursoService.findById(id);
-        } catch (NoSuchElementException e) {
-            return new ResponseEntity<String>("Tipo Recurso no encontrado", HttpStatus.NOT_FOUND);
-        }
-        return ResponseEntity.ok(tipoRecurso);
+        return ResponseEntity.ok(tipoRecursoService.findById(id));
     }
 
     /**
@@ -79,14 +99,8 @@ public class TipoRecursoController {
             @ApiResponse(responseCode = "500", description = "Error interno del servidor")
     })
     public ResponseEntity<String> agregarTipoRecurso(@RequestBody TipoRecurso tipoRecurso) {
-        try {
-            tipoRecursoService.save(tipoRecurso);
-            return ResponseEntity.status(HttpStatus.CREATED).body("Tipo Recurso creado con éxito.");
-        } catch (RuntimeException e) {
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
-        } catch (Exception e) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Error interno del servidor.");
-        }
+        tipoRecursoService.save(tipoRecurso);
+        return ResponseEntity.status(HttpStatus.CREATED).body("Tipo Recurso creado con éxito.");
     }
 
     /**
@@ -104,16 +118,8 @@ public class TipoRecursoController {
             @ApiResponse(responseCode = "500", description = "Error interno del servidor")
     })
     public ResponseEntity<String> actualizarTipoRecurso(@PathVariable Integer id, @RequestBody TipoRecurso tipoRecurso) {
-        try {
-            TipoRecurso nuevoTipoRecurso = tipoRecursoService.update(tipoRecurso, id);
-            return ResponseEntity.ok("Actualizado con éxito");
-        } catch (NoSuchElementException e) {
-            return ResponseEntity.status(HttpStatus.NOT_FOUND).body("Tipo Recurso no encontrado");
-        } catch (RuntimeException e) {
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
-        } catch (Exception e) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Error interno del servidor.");
-        }
+        tipoRecursoService.update(tipoRecurso, id);
+        return ResponseEntity.ok("Actualizado con éxito");
     }
 
     /**
@@ -130,15 +136,7 @@ public class TipoRecursoController {
             @ApiResponse(responseCode = "500", description = "Error interno del servidor")
     })
     public ResponseEntity<String> eliminarTipoEquipo(@PathVariable Integer id) {
-        try {
-            tipoRecursoService.delete(id);
-            return ResponseEntity.ok("Tipo Recurso eliminado con éxito.");
-        } catch (NoSuchElementException e) {
-            return ResponseEntity.status(HttpStatus.NOT_FOUND).body("Tipo Recurso no encontrado");
-        } catch (RuntimeException e) {
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
-        } catch (Exception e) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Error interno del servidor.");
-        }
+        tipoRecursoService.delete(id);
+        return ResponseEntity.ok("Tipo Recurso eliminado con éxito.");
     }
 }
\ No newline at end of file
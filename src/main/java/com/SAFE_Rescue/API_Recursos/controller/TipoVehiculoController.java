@@ -1,14 +1,16 @@
 package com.SAFE_Rescue.API_Recursos.controller;
 
+import com.SAFE_Rescue.API_Recursos.modelo.ResultadoLote;
 import com.SAFE_Rescue.API_Recursos.modelo.TipoVehiculo;
 import com.SAFE_Rescue.API_Recursos.service.TipoVehiculoService;
+import com.SAFE_Rescue.API_Recursos.util.Lotes;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
-import java.util.NoSuchElementException;
+import java.util.Map;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
@@ -29,6 +31,7 @@ public class TipoVehiculoController {
 
     /**
      * Obtiene todos los tipos de vehículos registrados en el sistema.
+     * @param fields Campos a devolver separados por coma (ej: id,nombre); si se omite se devuelve la entidad completa
      * @return ResponseEntity con lista de tipos de vehículos o estado NO_CONTENT si no hay registros
      */
     @GetMapping
@@ -37,7 +40,15 @@ public class TipoVehiculoController {
             @ApiResponse(responseCode = "200", description = "Lista de tipos de vehículos encontrada"),
             @ApiResponse(responseCode = "204", description = "No hay tipos de vehículos registrados")
     })
-    public ResponseEntity<List<TipoVehiculo>> listarTiposVehiculos() {
+    public ResponseEntity<?> listarTiposVehiculos(@RequestParam(required = false) String fields) {
+        if (fields != null) {
+            List<Map<String, Object>> proyeccion = tipoVehiculoService.findAll(fields);
+            if (proyeccion.isEmpty()) {
+                return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+            }
+            return ResponseEntity.ok(proyeccion);
+        }
+
         List<TipoVehiculo> tipoVehiculo = tipoVehiculoService.findAll();
         if (tipoVehiculo.isEmpty()) {
             return new ResponseEntity<>(HttpStatus.NO_CONTENT);
@@ -45,6 +56,21 @@ public class TipoVehiculoController {
         return ResponseEntity.ok(tipoVehiculo);
     }
 
+    /**
+     * Busca varios tipos de vehículos por ID con una sola consulta (tiene prioridad sobre fields).
+     * @param ids IDs separados por coma (ej: 1,2,3), hasta 1000
+     * @return ResponseEntity con los tipos de vehículos en el orden pedido y los IDs que no existen
+     */
+    @GetMapping(params = "ids")
+    @Operation(summary = "Buscar tipos de vehículos por lista de IDs", description = "Devuelve los tipos de vehículos en el orden de los IDs pedidos, con null y en noEncontrados los IDs que no existen. Usa una sola consulta por lote.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Resultado del lote"),
+            @ApiResponse(responseCode = "400", description = "Lista vacía, con valores no numéricos o de más de 1000 IDs")
+    })
+    public ResponseEntity<ResultadoLote<TipoVehiculo>> buscarTiposVehiculos(@RequestParam List<Integer> ids) {
+        return ResponseEntity.ok(Lotes.buscar(ids, tipoVehiculoService::findAllById, TipoVehiculo::getId));
+    }
+
     /**
      * Busca un tipo de vehículo por su ID.
      * @param id ID del tipo de vehículo a buscar
@@ -57,13 +83,7 @@ public class TipoVehiculoController {
             @ApiResponse(responseCode = "404", description = "Tipo de vehículo no encontrado")
     })
     public ResponseEntity<?> buscarTipoVehiculo(@PathVariable Integer id) {
-        TipoVehiculo tipoVehiculo;
-        try {
-            tipoVehiculo = tipoVehiculoService.findById(id);
-        } catch (NoSuchElementException e) {
-            return new ResponseEntity<String>("Tipo Vehiculo no encontrado", HttpStatus.NOT_FOUND);
-        }
-        return ResponseEntity.ok(tipoVehiculo);
+        return ResponseEntity.ok(tipoVehiculoService.findById(id));
     }
 
     /**
@@ -79,14 +99,8 @@ public class TipoVehiculoController {
             @ApiResponse(responseCode = "500", description = "Error interno del servidor")
     })
     public ResponseEntity<String> agregarTipoVehiculo(@RequestBody TipoVehiculo tipoVehiculo) {
-        try {
-            tipoVehiculoService.save(tipoVehiculo);
-            return ResponseEntity.status(HttpStatus.CREATED).body("Tipo Vehiculo creado con éxito.");
-        } catch (RuntimeException e) {
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
-        } catch (Exception e) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Error interno del servidor.");
-        }
+        tipoVehiculoService.save(tipoVehiculo);
+        return ResponseEntity.status(HttpStatus.CREATED).body("Tipo Vehiculo creado con éxito.");
     }
 
     /**
@@ -104,16 +118,8 @@ public class TipoVehiculoController {
             @ApiResponse(responseCode = "500", description = "Error interno del servidor")
     })
     public ResponseEntity<String> actualizarTipoVehiculo(@PathVariable Integer id, @RequestBody TipoVehiculo tipoVehiculo) {
-        try {
-            TipoVehiculo nuevoTipoVehiculo = tipoVehiculoService.update(tipoVehiculo, id);
-            return ResponseEntity.ok("Actualizado con éxito");
-        } catch (NoSuchElementException e) {
-            return ResponseEntity.status(HttpStatus.NOT_FOUND).body("Tipo Vehiculo no encontrado");
-        } catch (RuntimeException e) {
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
-        } catch (Exception e) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Error interno del servidor.");
-        }
+        tipoVehiculoService.update(tipoVehiculo, id);
+        return ResponseEntity.ok("Actualizado con éxito");
     }
 
     /**
@@ -130,15 +136,7 @@ public class TipoVehiculoController {
             @ApiResponse(responseCode = "500", description = "Error interno del servidor")
     })
     public ResponseEntity<String> eliminarTipoVehiculo(@PathVariable Integer id) {
-        try {
-            tipoVehiculoService.delete(id);
-            return ResponseEntity.ok("Tipo Vehiculo eliminado con éxito.");
-        } catch (NoSuchElementException e) {
-            return ResponseEntity.status(HttpStatus.NOT_FOUND).body("Tipo Vehiculo no encontrado");
-        } catch (RuntimeException e) {
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
-        } catch (Exception e) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Error interno del servidor.");
-        }
+        tipoVehiculoService.delete(id);
+        return ResponseEntity.ok("Tipo Vehiculo eliminado con éxito.");
     }
 }
\ No newline at end of file
@@ -1,14 +1,18 @@
 package com.SAFE_Rescue.API_Recursos.controller;
 
+import com.SAFE_Rescue.API_Recursos.indice.DisponibilidadVehiculos;
+import com.SAFE_Rescue.API_Recursos.modelo.Estado;
+import com.SAFE_Rescue.API_Recursos.modelo.ResultadoLote;
 import com.SAFE_Rescue.API_Recursos.modelo.Vehiculo;
 import com.SAFE_Rescue.API_Recursos.service.VehiculoService;
+import com.SAFE_Rescue.API_Recursos.util.Lotes;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
-import java.util.NoSuchElementException;
+import java.util.Map;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
@@ -29,6 +33,7 @@ public class VehiculoController {
 
     /**
      * Obtiene todos los vehículos registrados en el sistema.
+     * @param fields Campos a devolver separados por coma (ej: id,nombre); si se omite se devuelve la entidad completa
      * @return ResponseEntity con lista de vehículos o estado NO_CONTENT si no hay registros
      */
     @GetMapping
@@ -37,7 +42,15 @@ public class VehiculoController {
             @ApiResponse(responseCode = "200", description = "Lista de vehículos encontrada"),
             @ApiResponse(responseCode = "204", description = "No hay vehículos registrados")
     })
-    public ResponseEntity<List<Vehiculo>> listar() {
+    public ResponseEntity<?> listar(@RequestParam(required = false) String fields) {
+        if (fields != null) {
+            List<Map<String, Object>> proyeccion = vehiculoService.findAll(fields);
+            if (proyeccion.isEmpty()) {
+                return new ResponseEntity<>(HttpStatus.NO_CONTENT);
+            }
+            return ResponseEntity.ok(proyeccion);
+        }
+
         List<Vehiculo> vehiculos = vehiculoService.findAll();
         if (vehiculos.isEmpty()) {
             return new ResponseEntity<>(HttpStatus.NO_CONTENT);
@@ -45,6 +58,39 @@ public class VehiculoController {
         return ResponseEntity.ok(vehiculos);
     }
 
+    /**
+     * Consulta los vehículos disponibles de un tipo y estado usando el índice en memoria.
+     * @param tipoVehiculoId ID del tipo de vehículo
+     * @param estado Estado buscado, por defecto "Operativo"
+     * @param limite Cantidad máxima de IDs a devolver
+     * @return ResponseEntity con el total de vehículos y sus IDs
+     */
+    @GetMapping("/disponibles")
+    @Operation(summary = "Consultar vehículos disponibles", description = "Devuelve los IDs de vehículos de un tipo y estado sin consultar la base de datos.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Disponibilidad obtenida")
+    })
+    public ResponseEntity<DisponibilidadVehiculos> disponibles(@RequestParam Integer tipoVehiculoId,
+                                                               @RequestParam(defaultValue = "Operativo") Estado estado,
+                                                               @RequestParam(defaultValue = "100") int limite) {
+        return ResponseEntity.ok(vehiculoService.disponibles(tipoVehiculoId, estado, limite));
+    }
+
+    /**
+     * Busca varios vehículos por ID con una sola consulta (tiene prioridad sobre fields).
+     * @param ids IDs separados por coma (ej: 1,2,3), hasta 1000
+     * @return ResponseEntity con los vehículos en el orden pedido y los IDs que no existen
+     */
+    @GetMapping(params = "ids")
+    @Operation(summary = "Buscar vehículos por lista de IDs", description = "Devuelve los vehículos en el orden de los IDs pedidos, con null y en noEncontrados los IDs que no existen. Usa una sola consulta por lote.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Resultado del lote"),
+            @ApiResponse(responseCode = "400", description = "Lista vacía, con valores no numéricos o de más de 1000 IDs")
+    })
+    public ResponseEntity<ResultadoLote<Vehiculo>> buscarVehiculos(@RequestParam List<Integer> ids) {
+        return ResponseEntity.ok(Lotes.buscar(ids, vehiculoService::findAllById, Vehiculo::getId));
+    }
+
     /**
      * Busca un vehículo por su ID.
      * @param id ID del vehículo a buscar
@@ -57,13 +103,7 @@ public class VehiculoController {
             @ApiResponse(responseCode = "404", description = "Vehículo no encontrado")
     })
     public ResponseEntity<?> buscarVehiculo(@PathVariable Integer id) {
-        Vehiculo vehiculo;
-        try {
-            vehiculo = vehiculoService.findById(id);
-        } catch (NoSuchElementException e) {
-            return new ResponseEntity<String>("Vehiculo no encontrado", HttpStatus.NOT_FOUND);
-        }
-        return ResponseEntity.ok(vehiculo);
+        return ResponseEntity.ok(vehiculoService.findById(id));
     }
 
     /**
@@ -79,14 +119,8 @@ public class VehiculoController {
             @ApiResponse(responseCode = "500", description = "Error interno del servidor")
     })
     public ResponseEntity<String> agregarVehiculo(@RequestBody Vehiculo vehiculo) {
-        try {
-            vehiculoService.save(vehiculo);
-            return ResponseEntity.status(HttpStatus.CREATED).body("Vehiculo creado con éxito.");
-        } catch (RuntimeException e) {
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
-        } catch (Exception e) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Error interno del servidor.");
-        }
+        vehiculoService.save(vehiculo);
+        return ResponseEntity.status(HttpStatus.CREATED).body("Vehiculo creado con éxito.");
     }
 
     /**
@@ -104,16 +138,8 @@ public class VehiculoController {
             @ApiResponse(responseCode = "500", description = "Error interno del servidor")
     })
     public ResponseEntity<String> actualizarVehiculo(@PathVariable Integer id, @RequestBody Vehiculo vehiculo) {
-        try {
-            Vehiculo nuevoVehiculo = vehiculoService.update(vehiculo, id);
-            return ResponseEntity.ok("Actualizado con éxito");
-        } catch (NoSuchElementException e) {
-            return ResponseEntity.status(HttpStatus.NOT_FOUND).body("Vehiculo no encontrado");
-        } catch (RuntimeException e) {
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
-        } catch (Exception e) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Error interno del servidor.");
-        }
+        vehiculoService.update(vehiculo, id);
+        return ResponseEntity.ok("Actualizado con éxito");
     }
 
     /**
@@ -130,16 +156,8 @@ public class VehiculoController {
             @ApiResponse(responseCode = "500", description = "Error interno del servidor")
     })
     public ResponseEntity<String> eliminarVehiculo(@PathVariable Integer id) {
-        try {
-            vehiculoService.delete(id);
-            return ResponseEntity.ok("Vehiculo eliminado con éxito.");
-        } catch (NoSuchElementException e) {
-            return ResponseEntity.status(HttpStatus.NOT_FOUND).body("Vehiculo no encontrado");
-        } catch (RuntimeException e) {
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
-        } catch (Exception e) {
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Error interno del servidor.");
-        }
+        vehiculoService.delete(id);
+        return ResponseEntity.ok("Vehiculo eliminado con éxito.");
     }
 
     // GESTIÓN DE RELACIONES
@@ -158,11 +176,7 @@ public class VehiculoController {
             @ApiResponse(responseCode = "400", description = "Error de validación")
     })
     public ResponseEntity<String> asignarTipoVehiculo(@PathVariable Integer vehiculoId, @PathVariable Integer tipoVehiculoId) {
-        try {
-            vehiculoService.asignarTipoVehiculo(vehiculoId, tipoVehiculoId);
-            return ResponseEntity.ok("Tipo Vehiculo asignado al Vehiculo exitosamente");
-        } catch (RuntimeException e) {
-            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
-        }
+        vehiculoService.asignarTipoVehiculo(vehiculoId, tipoVehiculoId);
+        return ResponseEntity.ok("Tipo Vehiculo asignado al Vehiculo exitosamente");
     }
 }
\ No newline at end of file
@@ -0,0 +1,428 @@
+package com.SAFE_Rescue.API_Recursos.diario;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * Diario de escritura anticipada (write-ahead log) de solo anexado, para no perder operaciones aceptadas
+ * antes de persistirlas.
+ * <p>
+ * El diario es una secuencia de segmentos de tamaño fijo ({@code 00000000000000000001.seg}, ...) mapeados en
+ * memoria. Cada registro se escribe con el formato {@code [largo:int][crc32c:int][tipo:byte][datos]}, donde el
+ * CRC cubre el tipo y los datos; un largo 0 marca el fin de los datos del segmento. Cada registro se identifica
+ * por su posición lógica (LSN), creciente durante toda la vida del diario.
+ * </p>
+ * <p>
+ * La escritura ({@link #escribir}) solo copia el registro en memoria; {@link #sincronizar} espera a que esté en
+ * disco. La sincronización es por grupos: el primer hilo que la necesita fuerza a disco todo lo escrito hasta
+ * ese momento y los hilos que esperan durante ese {@code fsync} quedan cubiertos por el siguiente, de modo que
+ * un solo {@code fsync} confirma los registros de muchos hilos.
+ * </p>
+ * <p>
+ * Al abrir el diario se valida cada registro y se descarta lo que haya desde el primer registro incompleto o
+ * corrupto del último segmento, como el que puede dejar una caída a mitad de escritura. Los segmentos cuyos
+ * registros ya no se necesitan se eliminan con {@link #liberarHasta}.
+ * </p>
+ */
+public class Diario implements Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(Diario.class);
+
+    private static final int CABECERA = Integer.BYTES * 2 + 1;
+    private static final String EXTENSION = ".seg";
+
+    private final Path directorio;
+    private final int tamanioSegmento;
+    private final Deque<Segmento> segmentos = new ArrayDeque<>();
+
+    private final ReentrantLock escritura = new ReentrantLock();
+    private final ReentrantLock sincronizacion = new ReentrantLock();
+    private final Condition sincronizado = sincronizacion.newCondition();
+    private Segmento actual;
+    private volatile long escrito;
+    private long durable;
+    private boolean sincronizando;
+    private boolean cerrado;
+
+    private final LongAdder registros = new LongAdder();
+    private final LongAdder sincronizaciones = new LongAdder();
+
+    /**
+     * Lector de los registros del diario.
+     */
+    @FunctionalInterface
+    public interface Lector {
+
+        /**
+         * Recibe un registro del diario.
+         * @param lsn Posición lógica del registro
+         * @param tipo Tipo del registro, definido por quien usa el diario
+         * @param datos Contenido del registro
+         */
+        void leer(long lsn, byte tipo, byte[] datos);
+    }
+
+    /**
+     * Abre (o crea) el diario en el directorio indicado y descarta los registros incompletos del final.
+     * @param directorio Directorio de los segmentos
+     * @param tamanioSegmento Tamaño de cada segmento en bytes
+     * @throws IOException Si no se pueden abrir los segmentos
+     */
+    public Diario(Path directorio, int tamanioSegmento) throws IOException {
+        if (tamanioSegmento < CABECERA * 2) {
+            throw new IllegalArgumentException("El tamaño de segmento es demasiado pequeño: " + tamanioSegmento);
+        }
+        this.directorio = directorio;
+        this.tamanioSegmento = tamanioSegmento;
+        Files.createDirectories(directorio);
+
+        List<Long> numeros;
+        try (Stream<Path> archivos = Files.list(directorio)) {
+            numeros = archivos.map(archivo -> archivo.getFileName().toString())
+                    .filter(nombre -> nombre.matches("\\d{20}\\" + EXTENSION))
+                    .map(nombre -> Long.parseLong(nombre.substring(0, 20)))
+                    .sorted()
+                    .toList();
+        }
+        for (long numero : numeros) {
+            Segmento segmento = abrir(numero);
+            segmento.posicion = recorrer(segmento, null);
+            segmentos.addLast(segmento);
+        }
+        if (segmentos.isEmpty()) {
+            segmentos.addLast(abrir(1));
+        }
+        actual = segmentos.peekLast();
+        descartarCola(actual);
+        escrito = actual.lsn(actual.posicion);
+        durable = escrito;
+    }
+
+    /**
+     * Escribe un registro al final del diario sin esperar a que llegue a disco.
+     * @param tipo Tipo del registro
+     * @param datos Contenido del registro
+     * @return LSN del registro, para usar con {@link #sincronizar}
+     * @throws IOException Si no se puede crear un nuevo segmento
+     */
+    public long escribir(byte tipo, byte[] datos) throws IOException {
+        int largo = CABECERA + datos.length;
+        if (largo > tamanioSegmento - Integer.BYTES) {
+            throw new IllegalArgumentException("El registro excede el tamaño del segmento del diario");
+        }
+        escritura.lock();
+        try {
+            if (cerrado) {
+                throw new IOException("El diario está cerrado");
+            }
+            if (actual.posicion + largo > tamanioSegmento - Integer.BYTES) {
+                rotarSegmento();
+            }
+            MappedByteBuffer buffer = actual.buffer;
+            int posicion = actual.posicion;
+            buffer.putInt(posicion + Integer.BYTES, crc(tipo, datos));
+            buffer.put(posicion + Integer.BYTES * 2, tipo);
+            buffer.put(posicion + CABECERA, datos);
+            // El largo se escribe al final: un registro sin largo se lee como fin de datos
+            buffer.putInt(posicion, datos.length + 1);
+            actual.posicion += largo;
+            escrito = actual.lsn(actual.posicion);
+            registros.increment();
+            return actual.lsn(posicion);
+        } finally {
+            escritura.unlock();
+        }
+    }
+
+    /**
+     * Espera a que el registro indicado (y todos los anteriores) estén en disco.
+     * @param lsn LSN devuelto por {@link #escribir}
+     * @throws IOException Si falla la escritura a disco
+     */
+    public void sincronizar(long lsn) throws IOException {
+        sincronizacion.lock();
+        try {
+            while (durable <= lsn) {
+                if (sincronizando) {
+                    sincronizado.awaitUninterruptibly();
+                    continue;
+                }
+                sincronizando = true;
+                long objetivo;
+                sincronizacion.unlock();
+                try {
+                    objetivo = forzar();
+                } finally {
+                    sincronizacion.lock();
+                    sincronizando = false;
+                    sincronizado.signalAll();
+                }
+                durable = Math.max(durable, objetivo);
+                sincronizaciones.increment();
+            }
+        } finally {
+            sincronizacion.unlock();
+        }
+    }
+
+    /**
+     * Escribe un registro y espera a que esté en disco.
+     * @param tipo Tipo del registro
+     * @param datos Contenido del registro
+     * @return LSN del registro
+     * @throws IOException Si no se puede escribir
+     */
+    public long agregar(byte tipo, byte[] datos) throws IOException {
+        long lsn = escribir(tipo, datos);
+        sincronizar(lsn);
+        return lsn;
+    }
+
+    /**
+     * Entrega en orden cada registro válido del diario.
+     * @param lector Recibe el LSN, el tipo y el contenido de cada registro
+     */
+    public void recorrer(Lector lector) {
+        escritura.lock();
+        try {
+            for (Segmento segmento : segmentos) {
+                recorrer(segmento, lector);
+            }
+        } finally {
+            escritura.unlock();
+        }
+    }
+
+    /**
+     * Cierra el segmento actual y continúa en uno nuevo.
+     * @return LSN del inicio del nuevo segmento; todo lo anterior puede liberarse con {@link #liberarHasta}
+     * @throws IOException Si no se puede crear el segmento
+     */
+    public long rotar() throws IOException {
+        escritura.lock();
+        try {
+            if (actual.posicion > 0) {
+                rotarSegmento();
+            }
+            return actual.lsn(0);
+        } finally {
+            escritura.unlock();
+        }
+    }
+
+    /**
+     * Elimina los segmentos cuyos registros son todos anteriores al LSN indicado.
+     * El segmento actual nunca se elimina.
+     * @param lsn Primer LSN que debe conservarse
+     */
+    public void liberarHasta(long lsn) {
+        escritura.lock();
+        try {
+            while (segmentos.size() > 1 && segmentos.peekFirst().lsn(tamanioSegmento) <= lsn) {
+                Segmento segmento = segmentos.removeFirst();
+                try {
+                    Files.deleteIfExists(segmento.archivo);
+                } catch (IOException e) {
+                    // Se reintenta en la próxima liberación o al reabrir (sus registros ya no se necesitan)
+                    log.warn("No se pudo eliminar el segmento {}", segmento.archivo, e);
+                }
+            }
+        } finally {
+            escritura.unlock();
+        }
+    }
+
+    /**
+     * Obtiene la cantidad de bytes ocupados por registros en los segmentos vigentes.
+     * @return Bytes escritos
+     */
+    public long tamanio() {
+        escritura.lock();
+        try {
+            long total = 0;
+            for (Segmento segmento : segmentos) {
+                total += segmento.posicion;
+            }
+            return total;
+        } finally {
+            escritura.unlock();
+        }
+    }
+
+    /**
+     * Obtiene las métricas del diario.
+     * @return Mapa con registros, sincronizaciones, registros por sincronización, segmentos y bytes
+     */
+    public Map<String, Object> estadisticas() {
+        long totalRegistros = registros.sum();
+        long totalSincronizaciones = sincronizaciones.sum();
+        Map<String, Object> estadisticas = new LinkedHashMap<>();
+        estadisticas.put("registros", totalRegistros);
+        estadisticas.put("sincronizaciones", totalSincronizaciones);
+        estadisticas.put("registrosPorSincronizacion",
+                totalSincronizaciones == 0 ? 0.0 : Math.round(100.0 * totalRegistros / totalSincronizaciones) / 100.0);
+        escritura.lock();
+        try {
+            estadisticas.put("segmentos", segmentos.size());
+            estadisticas.put("bytes", tamanio());
+        } finally {
+            escritura.unlock();
+        }
+        return estadisticas;
+    }
+
+    @Override
+    public void close() throws IOException {
+        escritura.lock();
+        try {
+            if (cerrado) {
+                return;
+            }
+            cerrado = true;
+            actual.buffer.force();
+            segmentos.clear();
+        } finally {
+            escritura.unlock();
+        }
+    }
+
+    // MÉTODOS PRIVADOS
+
+    private Segmento abrir(long numero) throws IOException {
+        Path archivo = directorio.resolve(String.format("%020d%s", numero, EXTENSION));
+        try (FileChannel canal = FileChannel.open(archivo,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            return new Segmento(numero, archivo, canal.map(FileChannel.MapMode.READ_WRITE, 0, tamanioSegmento));
+        }
+    }
+
+    /**
+     * Fuerza a disco el segmento lleno y abre el siguiente. Debe llamarse con el bloqueo de escritura.
+     */
+    private void rotarSegmento() throws IOException {
+        actual.buffer.force();
+        actual.forzado = actual.posicion;
+        Segmento siguiente = abrir(actual.numero + 1);
+        segmentos.addLast(siguiente);
+        actual = siguiente;
+    }
+
+    /**
+     * Fuerza a disco lo escrito en el segmento actual.
+     * @return LSN hasta el cual quedó todo en disco
+     */
+    private long forzar() {
+        Segmento segmento;
+        int hasta;
+        long objetivo;
+        escritura.lock();
+        try {
+            segmento = actual;
+            hasta = segmento.posicion;
+            objetivo = escrito;
+        } finally {
+            escritura.unlock();
+        }
+        // Los segmentos anteriores se forzaron completos al rotar
+        int desde = segmento.forzado;
+        if (hasta > desde) {
+            segmento.buffer.force(desde, hasta - desde);
+            segmento.forzado = hasta;
+        }
+        return objetivo;
+    }
+
+    /**
+     * Borra lo que sigue al último registro válido del segmento, para que la próxima escritura no deje
+     * restos de un registro corrupto a continuación.
+     */
+    private void descartarCola(Segmento segmento) {
+        boolean sucio = false;
+        for (int i = segmento.posicion; i < tamanioSegmento && i < segmento.posicion + CABECERA; i++) {
+            sucio |= segmento.buffer.get(i) != 0;
+        }
+        if (sucio) {
+            int largo = segmento.buffer.getInt(segmento.posicion);
+            int fin = (int) Math.min(tamanioSegmento, (long) segmento.posicion + Integer.BYTES * 2 + Math.max(0, largo));
+            for (int i = segmento.posicion; i < fin; i++) {
+                segmento.buffer.put(i, (byte) 0);
+            }
+            segmento.buffer.force();
+        }
+        segmento.forzado = segmento.posicion;
+    }
+
+    /**
+     * Recorre los registros válidos de un segmento desde el inicio.
+     * @return Posición siguiente al último registro válido
+     */
+    private int recorrer(Segmento segmento, Lector lector) {
+        MappedByteBuffer buffer = segmento.buffer;
+        int posicion = 0;
+        while (posicion + CABECERA <= tamanioSegmento) {
+            int largo = buffer.getInt(posicion);
+            if (largo < 1 || posicion + Integer.BYTES * 2L + largo > tamanioSegmento) {
+                break;
+            }
+            int crc = buffer.getInt(posicion + Integer.BYTES);
+            byte tipo = buffer.get(posicion + Integer.BYTES * 2);
+            byte[] datos = new byte[largo - 1];
+            buffer.get(posicion + CABECERA, datos);
+            if (crc(tipo, datos) != crc) {
+                break;
+            }
+            if (lector != null) {
+                lector.leer(segmento.lsn(posicion), tipo, datos);
+            }
+            posicion += Integer.BYTES * 2 + largo;
+        }
+        return posicion;
+    }
+
+    private static int crc(byte tipo, byte[] datos) {
+        CRC32C crc = new CRC32C();
+        crc.update(tipo);
+        crc.update(datos);
+        return (int) crc.getValue();
+    }
+
+    /**
+     * Segmento del diario mapeado en memoria.
+     */
+    private final class Segmento {
+
+        private final long numero;
+        private final Path archivo;
+        private final MappedByteBuffer buffer;
+        private int posicion;
+        private volatile int forzado;
+
+        private Segmento(long numero, Path archivo, MappedByteBuffer buffer) {
+            this.numero = numero;
+            this.archivo = archivo;
+            this.buffer = buffer;
+        }
+
+        private long lsn(int desplazamiento) {
+            return numero * tamanioSegmento + desplazamiento;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.SAFE_Rescue.API_Recursos.excepcion;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * Códigos de error de la API.
+ * Cada código define el estado HTTP y el título con que se responde; el código se incluye en la respuesta
+ * y se usa para contar los errores por tipo.
+ */
+public enum CodigoError {
+
+    SOLICITUD_NO_ENCONTRADA(HttpStatus.NOT_FOUND, "Solicitud de recurso no encontrada"),
+    RECURSO_NO_ENCONTRADO(HttpStatus.NOT_FOUND, "Recurso no encontrado"),
+    TIPO_RECURSO_NO_ENCONTRADO(HttpStatus.NOT_FOUND, "Tipo de recurso no encontrado"),
+    VEHICULO_NO_ENCONTRADO(HttpStatus.NOT_FOUND, "Vehículo no encontrado"),
+    TIPO_VEHICULO_NO_ENCONTRADO(HttpStatus.NOT_FOUND, "Tipo de vehículo no encontrado"),
+    BOMBERO_NO_ENCONTRADO(HttpStatus.NOT_FOUND, "Bombero no encontrado"),
+    SEGUIMIENTO_NO_ENCONTRADO(HttpStatus.NOT_FOUND, "Seguimiento de ingesta no encontrado"),
+    SIN_RECURSOS_DISPONIBLES(HttpStatus.NOT_FOUND, "Sin recursos disponibles"),
+    NO_ENCONTRADO(HttpStatus.NOT_FOUND, "Elemento no encontrado"),
+    DATOS_INVALIDOS(HttpStatus.BAD_REQUEST, "Datos inválidos"),
+    CAMPO_DESCONOCIDO(HttpStatus.BAD_REQUEST, "Campo desconocido"),
+    SOLICITUD_MALFORMADA(HttpStatus.BAD_REQUEST, "Solicitud HTTP malformada"),
+    CONFLICTO_DATOS(HttpStatus.CONFLICT, "Conflicto con los datos existentes"),
+    INGESTA_SATURADA(HttpStatus.SERVICE_UNAVAILABLE, "Ingesta saturada"),
+    ERROR_INTERNO(HttpStatus.INTERNAL_SERVER_ERROR, "Error interno del servidor");
+
+    private final HttpStatus estado;
+    private final String titulo;
+
+    CodigoError(HttpStatus estado, String titulo) {
+        this.estado = estado;
+        this.titulo = titulo;
+    }
+
+    /**
+     * Obtiene el estado HTTP con que se responde este error.
+     * @return Estado HTTP
+     */
+    public HttpStatus getEstado() {
+        return estado;
+    }
+
+    /**
+     * Obtiene el título legible del error.
+     * @return Título del error
+     */
+    public String getTitulo() {
+        return titulo;
+    }
+}
@@ -0,0 +1,30 @@
+package com.SAFE_Rescue.API_Recursos.excepcion;
+
+/**
+ * Excepción para datos de entrada que no cumplen las reglas de negocio.
+ * Como es una {@link IllegalArgumentException}, las validaciones existentes conservan su contrato.
+ */
+public class DatosInvalidosException extends IllegalArgumentException implements ErrorDominio {
+
+    private final CodigoError codigo;
+
+    /**
+     * Crea la excepción con un código y un mensaje.
+     * @param codigo Código del error
+     * @param mensaje Detalle del error
+     */
+    public DatosInvalidosException(CodigoError codigo, String mensaje) {
+        super(mensaje);
+        this.codigo = codigo;
+    }
+
+    @Override
+    public CodigoError getCodigo() {
+        return codigo;
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
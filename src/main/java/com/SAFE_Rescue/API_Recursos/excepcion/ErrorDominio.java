@@ -0,0 +1,18 @@
+package com.SAFE_Rescue.API_Recursos.excepcion;
+
+/**
+ * Error de negocio con un código conocido.
+ * <p>
+ * Lo implementan las excepciones livianas de este paquete, que no capturan la traza de la pila: se lanzan en
+ * flujos normales de la API (un ID inexistente, un dato inválido) y el manejador global solo usa su código y su
+ * mensaje, por lo que recorrer la pila en cada lanzamiento sería costo sin uso.
+ * </p>
+ */
+public interface ErrorDominio {
+
+    /**
+     * Obtiene el código del error.
+     * @return Código del error
+     */
+    CodigoError getCodigo();
+}
@@ -0,0 +1,32 @@
+package com.SAFE_Rescue.API_Recursos.excepcion;
+
+import java.util.NoSuchElementException;
+
+/**
+ * Excepción para entidades o elementos que no existen.
+ * Extiende {@link NoSuchElementException}, por lo que los llamadores que ya la esperaban siguen funcionando.
+ */
+public class NoEncontradoException extends NoSuchElementException implements ErrorDominio {
+
+    private final CodigoError codigo;
+
+    /**
+     * Crea la excepción con un código y un mensaje.
+     * @param codigo Código del error
+     * @param mensaje Detalle del error
+     */
+    public NoEncontradoException(CodigoError codigo, String mensaje) {
+        super(mensaje);
+        this.codigo = codigo;
+    }
+
+    @Override
+    public CodigoError getCodigo() {
+        return codigo;
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
@@ -0,0 +1,30 @@
+package com.SAFE_Rescue.API_Recursos.excepcion;
+
+/**
+ * Excepción para operaciones rechazadas porque el servicio no tiene capacidad disponible en este momento.
+ * El manejador global responde con el estado del código y un encabezado {@code Retry-After}.
+ */
+public class ServicioSaturadoException extends IllegalStateException implements ErrorDominio {
+
+    private final CodigoError codigo;
+
+    /**
+     * Crea la excepción con un código y un mensaje.
+     * @param codigo Código del error
+     * @param mensaje Detalle del error
+     */
+    public ServicioSaturadoException(CodigoError codigo, String mensaje) {
+        super(mensaje);
+        this.codigo = codigo;
+    }
+
+    @Override
+    public CodigoError getCodigo() {
+        return codigo;
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
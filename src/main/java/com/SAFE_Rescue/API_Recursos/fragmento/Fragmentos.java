@@ -0,0 +1,273 @@
+package com.SAFE_Rescue.API_Recursos.fragmento;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.BiFunction;
+
+/**
+ * Fragmentos (shards) de base de datos en que se reparten las solicitudes de recursos según su región.
+ * <p>
+ * El fragmento 0 es la base de datos principal, donde además viven los catálogos (recursos, bomberos, tipos).
+ * Los fragmentos adicionales se configuran en {@code app.fragmentos.urls} y solo contienen la tabla
+ * {@code solicitud_recurso}, sin claves foráneas: los bomberos y recursos referenciados se leen siempre de la
+ * principal. Sin fragmentos adicionales todo queda en la base de datos principal, como antes.
+ * </p>
+ * <p>
+ * Cada región se asigna a un fragmento según {@code app.fragmentos.regiones} (lista {@code region:fragmento})
+ * o, si no figura, por el hash de su nombre normalizado; las solicitudes sin región van al fragmento 0.
+ * Para ubicar una solicitud solo por su ID, cada fragmento genera IDs en su propio bloque de
+ * 2<sup>{@value #BITS_POR_BLOQUE}</sup> valores: el fragmento de un ID es {@code id >> }{@value #BITS_POR_BLOQUE}.
+ * </p>
+ */
+@Component
+public class Fragmentos {
+
+    private static final Logger log = LoggerFactory.getLogger(Fragmentos.class);
+
+    /**
+     * Bits bajos del ID disponibles para cada fragmento.
+     */
+    public static final int BITS_POR_BLOQUE = 27;
+
+    /**
+     * Cantidad máxima de fragmentos que caben en un ID entero positivo.
+     */
+    public static final int MAXIMO = 1 << (Integer.SIZE - 1 - BITS_POR_BLOQUE);
+
+    private static final String CREAR_TABLA = "CREATE TABLE IF NOT EXISTS solicitud_recurso ("
+            + "id INT NOT NULL AUTO_INCREMENT PRIMARY KEY, "
+            + "titulo VARCHAR(50) NOT NULL, "
+            + "detalle VARCHAR(400) NOT NULL, "
+            + "estado TINYINT NOT NULL, "
+            + "region VARCHAR(30), "
+            + "bombero_id INT, "
+            + "recurso_id INT, "
+            + "fecha_creacion DATETIME(6), "
+            + "INDEX idx_solicitud_recurso_region_fecha (region, fecha_creacion), "
+            + "INDEX idx_solicitud_recurso_fecha_creacion (fecha_creacion))";
+
+    // COMPONENTES INYECTADOS
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    @Value("${app.fragmentos.urls:}") private String urls;
+    @Value("${app.fragmentos.usuario:}") private String usuario;
+    @Value("${app.fragmentos.clave:}") private String clave;
+    @Value("${app.fragmentos.regiones:}") private String regiones;
+
+    private final List<JdbcTemplate> plantillas = new ArrayList<>();
+    private final List<DataSource> adicionales = new ArrayList<>();
+    private final Map<String, Integer> fragmentoPorRegion = new HashMap<>();
+    private ExecutorService consultas;
+
+    /**
+     * Abre los fragmentos adicionales y prepara en cada uno la tabla de solicitudes y su bloque de IDs.
+     */
+    @PostConstruct
+    public void iniciar() {
+        plantillas.add(jdbcTemplate);
+        for (String url : urls.split(",")) {
+            if (url.isBlank()) {
+                continue;
+            }
+            DataSource dataSource = crearDataSource(url.trim(), plantillas.size());
+            adicionales.add(dataSource);
+            plantillas.add(new JdbcTemplate(dataSource));
+        }
+        if (plantillas.size() > MAXIMO) {
+            throw new IllegalStateException("No se admiten más de " + MAXIMO + " fragmentos");
+        }
+        for (String asignacion : regiones.split(",")) {
+            if (asignacion.isBlank()) {
+                continue;
+            }
+            String[] partes = asignacion.split(":");
+            int fragmento = partes.length == 2 ? Integer.parseInt(partes[1].trim()) : -1;
+            if (fragmento < 0 || fragmento >= plantillas.size()) {
+                throw new IllegalStateException("Asignación de región inválida: " + asignacion);
+            }
+            fragmentoPorRegion.put(normalizarRegion(partes[0]), fragmento);
+        }
+        for (int fragmento = 1; fragmento < plantillas.size(); fragmento++) {
+            prepararTabla(fragmento);
+        }
+        if (activos()) {
+            consultas = Executors.newFixedThreadPool(plantillas.size(), tarea -> {
+                Thread hilo = new Thread(tarea, "fragmento-consulta");
+                hilo.setDaemon(true);
+                return hilo;
+            });
+        }
+    }
+
+    /**
+     * Cierra las consultas en curso y las conexiones de los fragmentos adicionales.
+     */
+    @PreDestroy
+    public void detener() {
+        if (consultas != null) {
+            consultas.shutdownNow();
+        }
+        for (DataSource dataSource : adicionales) {
+            if (dataSource instanceof Closeable cerrable) {
+                try {
+                    cerrable.close();
+                } catch (IOException e) {
+                    log.warn("No se pudo cerrar el fragmento {}", dataSource, e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Indica si las solicitudes se reparten en más de una base de datos.
+     * @return true si hay fragmentos adicionales configurados
+     */
+    public boolean activos() {
+        return plantillas.size() > 1;
+    }
+
+    /**
+     * Obtiene la cantidad de fragmentos, incluida la base de datos principal.
+     * @return Cantidad de fragmentos
+     */
+    public int cantidad() {
+        return plantillas.size();
+    }
+
+    /**
+     * Obtiene el fragmento donde se guardan las solicitudes de una región.
+     * @param region Región de la solicitud (nula para la base de datos principal)
+     * @return Número de fragmento
+     */
+    public int paraRegion(String region) {
+        if (region == null || region.isBlank()) {
+            return 0;
+        }
+        String normalizada = normalizarRegion(region);
+        Integer asignado = fragmentoPorRegion.get(normalizada);
+        return asignado != null ? asignado : Math.floorMod(normalizada.hashCode(), plantillas.size());
+    }
+
+    /**
+     * Obtiene el fragmento que generó un ID.
+     * @param id ID de la solicitud
+     * @return Número de fragmento, o -1 si el ID no corresponde a ningún fragmento configurado
+     */
+    public int paraId(int id) {
+        int fragmento = id >> BITS_POR_BLOQUE;
+        return id > 0 && fragmento < plantillas.size() ? fragmento : -1;
+    }
+
+    /**
+     * Obtiene el acceso JDBC a un fragmento.
+     * @param fragmento Número de fragmento
+     * @return Plantilla JDBC del fragmento
+     */
+    public JdbcTemplate jdbc(int fragmento) {
+        return plantillas.get(fragmento);
+    }
+
+    /**
+     * Ejecuta una consulta en los fragmentos indicados en paralelo y espera todos los resultados.
+     * @param fragmentos Números de fragmento
+     * @param consulta Consulta que recibe el número de fragmento y su plantilla JDBC
+     * @return Resultados en el mismo orden que los fragmentos
+     */
+    public <T> List<T> consultar(List<Integer> fragmentos, BiFunction<Integer, JdbcTemplate, T> consulta) {
+        if (fragmentos.size() == 1 || consultas == null) {
+            return fragmentos.stream().map(fragmento -> consulta.apply(fragmento, jdbc(fragmento))).toList();
+        }
+        List<CompletableFuture<T>> pendientes = fragmentos.stream()
+                .map(fragmento -> CompletableFuture.supplyAsync(() -> consulta.apply(fragmento, jdbc(fragmento)), consultas))
+                .toList();
+        return pendientes.stream().map(CompletableFuture::join).toList();
+    }
+
+    /**
+     * Obtiene los números de todos los fragmentos.
+     * @return Fragmentos de 0 a {@link #cantidad()} - 1
+     */
+    public List<Integer> todos() {
+        List<Integer> todos = new ArrayList<>(plantillas.size());
+        for (int fragmento = 0; fragmento < plantillas.size(); fragmento++) {
+            todos.add(fragmento);
+        }
+        return todos;
+    }
+
+    /**
+     * Normaliza el nombre de una región para compararlo y asignarle un fragmento.
+     * @param region Nombre de la región
+     * @return Nombre sin espacios en los extremos y en minúsculas
+     */
+    public static String normalizarRegion(String region) {
+        return region.trim().toLowerCase(Locale.ROOT);
+    }
+
+    // MÉTODOS PRIVADOS
+
+    /**
+     * Crea el pool de un fragmento adicional con la misma configuración que el de la base de datos principal
+     * (tamaño, tiempos y propiedades del driver, ver application-prod.properties), cambiando solo la URL y las
+     * credenciales. Si la principal no usa HikariCP se crea un pool con la configuración por defecto. La
+     * principal puede venir envuelta por la instrumentación de sentencias (app.sql.instrumentacion).
+     */
+    private DataSource crearDataSource(String url, int fragmento) {
+        HikariDataSource principal = hikari(jdbcTemplate.getDataSource());
+        if (principal == null) {
+            return DataSourceBuilder.create().url(url).username(usuario).password(clave).build();
+        }
+        HikariConfig configuracion = new HikariConfig();
+        principal.copyStateTo(configuracion);
+        configuracion.setJdbcUrl(url);
+        configuracion.setUsername(usuario);
+        configuracion.setPassword(clave);
+        configuracion.setPoolName((principal.getPoolName() != null ? principal.getPoolName() : "HikariPool") + "-fragmento-" + fragmento);
+        return new HikariDataSource(configuracion);
+    }
+
+    private static HikariDataSource hikari(DataSource dataSource) {
+        try {
+            return dataSource != null && dataSource.isWrapperFor(HikariDataSource.class) ? dataSource.unwrap(HikariDataSource.class) : null;
+        } catch (SQLException e) {
+            return null;
+        }
+    }
+
+    private void prepararTabla(int fragmento) {
+        JdbcTemplate jdbc = plantillas.get(fragmento);
+        jdbc.execute(CREAR_TABLA);
+        int inicio = fragmento << BITS_POR_BLOQUE;
+        Integer maximo = jdbc.queryForObject("SELECT COALESCE(MAX(id), 0) FROM solicitud_recurso", Integer.class);
+        if (maximo != null && maximo >= inicio) {
+            return;
+        }
+        String producto = jdbc.execute((ConnectionCallback<String>) conexion -> conexion.getMetaData().getDatabaseProductName());
+        jdbc.execute("MySQL".equalsIgnoreCase(producto)
+                ? "ALTER TABLE solicitud_recurso AUTO_INCREMENT = " + inicio
+                : "ALTER TABLE solicitud_recurso ALTER COLUMN id RESTART WITH " + inicio);
+    }
+}
@@ -0,0 +1,45 @@
+package com.SAFE_Rescue.API_Recursos.grpc;
+
+import com.SAFE_Rescue.API_Recursos.excepcion.ErrorDominio;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.NoSuchElementException;
+
+/**
+ * Traduce las excepciones de los servicios a estados gRPC, con el mismo criterio que ManejadorErrores usa para
+ * los estados HTTP: el código del error define el estado y el mensaje se envía como descripción.
+ */
+final class ErroresGrpc {
+
+    private static final Logger log = LoggerFactory.getLogger(ErroresGrpc.class);
+
+    private ErroresGrpc() {
+    }
+
+    static StatusRuntimeException traducir(Throwable e) {
+        if (e instanceof StatusRuntimeException estado) {
+            return estado;
+        }
+        Status status;
+        if (e instanceof ErrorDominio error) {
+            status = switch (error.getCodigo().getEstado()) {
+                case NOT_FOUND -> Status.NOT_FOUND;
+                case BAD_REQUEST -> Status.INVALID_ARGUMENT;
+                case CONFLICT -> Status.ALREADY_EXISTS;
+                case SERVICE_UNAVAILABLE -> Status.UNAVAILABLE;
+                default -> Status.INTERNAL;
+            };
+        } else if (e instanceof NoSuchElementException) {
+            status = Status.NOT_FOUND;
+        } else if (e instanceof IllegalArgumentException) {
+            status = Status.INVALID_ARGUMENT;
+        } else {
+            log.error("Error en consulta gRPC", e);
+            status = Status.INTERNAL;
+        }
+        return status.withDescription(e.getMessage()).asRuntimeException();
+    }
+}
@@ -0,0 +1,62 @@
+package com.SAFE_Rescue.API_Recursos.grpc;
+
+import com.SAFE_Rescue.API_Recursos.grpc.v1.Estado;
+import com.SAFE_Rescue.API_Recursos.grpc.v1.Recurso;
+import com.SAFE_Rescue.API_Recursos.grpc.v1.TipoRecurso;
+import com.SAFE_Rescue.API_Recursos.grpc.v1.TipoVehiculo;
+import com.SAFE_Rescue.API_Recursos.grpc.v1.Vehiculo;
+
+/**
+ * Convierte las entidades del modelo en los mensajes de consulta_recursos.proto.
+ * Los textos nulos se envían vacíos (proto3 no distingue nulo de vacío) y los tipos nulos se omiten.
+ */
+final class MapeoGrpc {
+
+    private MapeoGrpc() {
+    }
+
+    static Recurso recurso(com.SAFE_Rescue.API_Recursos.modelo.Recurso recurso) {
+        Recurso.Builder mensaje = Recurso.newBuilder()
+                .setId(recurso.getId())
+                .setNombre(texto(recurso.getNombre()))
+                .setEstado(estado(recurso.getEstado()));
+        if (recurso.getCantidad() != null) {
+            mensaje.setCantidad(recurso.getCantidad());
+        }
+        com.SAFE_Rescue.API_Recursos.modelo.TipoRecurso tipo = recurso.getTipoRecurso();
+        if (tipo != null) {
+            mensaje.setTipoRecurso(TipoRecurso.newBuilder().setId(tipo.getId()).setNombre(texto(tipo.getNombre())));
+        }
+        return mensaje.build();
+    }
+
+    static Vehiculo vehiculo(com.SAFE_Rescue.API_Recursos.modelo.Vehiculo vehiculo) {
+        Vehiculo.Builder mensaje = Vehiculo.newBuilder()
+                .setId(vehiculo.getId())
+                .setMarca(texto(vehiculo.getMarca()))
+                .setModelo(texto(vehiculo.getModelo()))
+                .setPatente(texto(vehiculo.getPatente()))
+                .setConductor(texto(vehiculo.getConductor()))
+                .setEstado(estado(vehiculo.getEstado()));
+        com.SAFE_Rescue.API_Recursos.modelo.TipoVehiculo tipo = vehiculo.getTipoVehiculo();
+        if (tipo != null) {
+            mensaje.setTipoVehiculo(TipoVehiculo.newBuilder().setId(tipo.getId()).setNombre(texto(tipo.getNombre())));
+        }
+        return mensaje.build();
+    }
+
+    /**
+     * Los números del enum del .proto son los códigos del catálogo de estados.
+     */
+    static Estado estado(com.SAFE_Rescue.API_Recursos.modelo.Estado estado) {
+        if (estado == null) {
+            return Estado.ESTADO_DESCONOCIDO;
+        }
+        Estado mensaje = Estado.forNumber(estado.getCodigo());
+        return mensaje != null ? mensaje : Estado.ESTADO_DESCONOCIDO;
+    }
+
+    private static String texto(String valor) {
+        return valor != null ? valor : "";
+    }
+}
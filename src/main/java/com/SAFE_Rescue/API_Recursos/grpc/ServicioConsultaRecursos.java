@@ -0,0 +1,163 @@
+package com.SAFE_Rescue.API_Recursos.grpc;
+
+import com.SAFE_Rescue.API_Recursos.grpc.v1.ConsultaLista;
+import com.SAFE_Rescue.API_Recursos.grpc.v1.ConsultaPorId;
+import com.SAFE_Rescue.API_Recursos.grpc.v1.ConsultaPorIds;
+import com.SAFE_Rescue.API_Recursos.grpc.v1.ConsultaRecursosGrpc;
+import com.SAFE_Rescue.API_Recursos.grpc.v1.Recurso;
+import com.SAFE_Rescue.API_Recursos.grpc.v1.RecursosPorIds;
+import com.SAFE_Rescue.API_Recursos.grpc.v1.Vehiculo;
+import com.SAFE_Rescue.API_Recursos.grpc.v1.VehiculosPorIds;
+import com.SAFE_Rescue.API_Recursos.service.RecursoService;
+import com.SAFE_Rescue.API_Recursos.service.VehiculoService;
+import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Implementación del servicio gRPC ConsultaRecursos (ver consulta_recursos.proto).
+ * <p>
+ * Las búsquedas por ID usan los mismos servicios y cachés que la API REST. Las búsquedas por lote (GetMany)
+ * resuelven todos los IDs con una sola consulta a la base de datos y devuelven los encontrados en el orden
+ * pedido junto con los IDs que no existen. Las listas se transmiten mensaje a mensaje respetando el control de
+ * flujo de HTTP/2: solo se convierte y envía un elemento cuando el cliente puede recibirlo, y el envío se
+ * detiene si el cliente cancela.
+ * </p>
+ */
+@Component
+public class ServicioConsultaRecursos extends ConsultaRecursosGrpc.ConsultaRecursosImplBase {
+
+    /**
+     * Cantidad máxima de IDs por consulta de lote.
+     */
+    public static final int MAXIMO_IDS = 1000;
+
+    // SERVICIOS INYECTADOS
+    @Autowired private RecursoService recursoService;
+    @Autowired private VehiculoService vehiculoService;
+
+    @Override
+    public void obtenerRecurso(ConsultaPorId consulta, StreamObserver<Recurso> observador) {
+        responder(observador, () -> MapeoGrpc.recurso(recursoService.findById(consulta.getId())));
+    }
+
+    @Override
+    public void obtenerRecursos(ConsultaPorIds consulta, StreamObserver<RecursosPorIds> observador) {
+        responder(observador, () -> {
+            Set<Integer> ids = ids(consulta);
+            Map<Integer, com.SAFE_Rescue.API_Recursos.modelo.Recurso> encontrados = new HashMap<>();
+            recursoService.findAllById(ids).forEach(recurso -> encontrados.put(recurso.getId(), recurso));
+            RecursosPorIds.Builder respuesta = RecursosPorIds.newBuilder();
+            for (Integer id : ids) {
+                com.SAFE_Rescue.API_Recursos.modelo.Recurso recurso = encontrados.get(id);
+                if (recurso != null) {
+                    respuesta.addEncontrados(MapeoGrpc.recurso(recurso));
+                } else {
+                    respuesta.addNoEncontrados(id);
+                }
+            }
+            return respuesta.build();
+        });
+    }
+
+    @Override
+    public void listarRecursos(ConsultaLista consulta, StreamObserver<Recurso> observador) {
+        transmitir(observador, recursoService::findAll, MapeoGrpc::recurso);
+    }
+
+    @Override
+    public void obtenerVehiculo(ConsultaPorId consulta, StreamObserver<Vehiculo> observador) {
+        responder(observador, () -> MapeoGrpc.vehiculo(vehiculoService.findById(consulta.getId())));
+    }
+
+    @Override
+    public void obtenerVehiculos(ConsultaPorIds consulta, StreamObserver<VehiculosPorIds> observador) {
+        responder(observador, () -> {
+            Set<Integer> ids = ids(consulta);
+            Map<Integer, com.SAFE_Rescue.API_Recursos.modelo.Vehiculo> encontrados = new HashMap<>();
+            vehiculoService.findAllById(ids).forEach(vehiculo -> encontrados.put(vehiculo.getId(), vehiculo));
+            VehiculosPorIds.Builder respuesta = VehiculosPorIds.newBuilder();
+            for (Integer id : ids) {
+                com.SAFE_Rescue.API_Recursos.modelo.Vehiculo vehiculo = encontrados.get(id);
+                if (vehiculo != null) {
+                    respuesta.addEncontrados(MapeoGrpc.vehiculo(vehiculo));
+                } else {
+                    respuesta.addNoEncontrados(id);
+                }
+            }
+            return respuesta.build();
+        });
+    }
+
+    @Override
+    public void listarVehiculos(ConsultaLista consulta, StreamObserver<Vehiculo> observador) {
+        transmitir(observador, vehiculoService::findAll, MapeoGrpc::vehiculo);
+    }
+
+    // MÉTODOS PRIVADOS
+
+    private interface Consulta<T> {
+        T ejecutar();
+    }
+
+    private static <T> void responder(StreamObserver<T> observador, Consulta<T> consulta) {
+        T respuesta;
+        try {
+            respuesta = consulta.ejecutar();
+        } catch (RuntimeException e) {
+            observador.onError(ErroresGrpc.traducir(e));
+            return;
+        }
+        observador.onNext(respuesta);
+        observador.onCompleted();
+    }
+
+    /**
+     * IDs pedidos sin repetidos y en su orden original.
+     */
+    private static Set<Integer> ids(ConsultaPorIds consulta) {
+        if (consulta.getIdsCount() > MAXIMO_IDS) {
+            throw Status.INVALID_ARGUMENT
+                    .withDescription("Se permiten hasta " + MAXIMO_IDS + " IDs por consulta; se recibieron " + consulta.getIdsCount())
+                    .asRuntimeException();
+        }
+        return new LinkedHashSet<>(consulta.getIdsList());
+    }
+
+    /**
+     * Envía los elementos mientras el transporte esté listo y continúa cuando el cliente vuelve a pedir más.
+     * gRPC ejecuta los manejadores de una misma llamada de a uno, por lo que el iterador no requiere sincronización.
+     */
+    private static <E, M> void transmitir(StreamObserver<M> observador, Consulta<List<E>> consulta, Function<E, M> mapeo) {
+        List<E> elementos;
+        try {
+            elementos = consulta.ejecutar();
+        } catch (RuntimeException e) {
+            observador.onError(ErroresGrpc.traducir(e));
+            return;
+        }
+        ServerCallStreamObserver<M> servidor = (ServerCallStreamObserver<M>) observador;
+        Iterator<E> pendientes = elementos.iterator();
+        boolean[] terminado = {false};
+        servidor.setOnCancelHandler(() -> terminado[0] = true);
+        servidor.setOnReadyHandler(() -> {
+            while (!terminado[0] && servidor.isReady() && pendientes.hasNext()) {
+                servidor.onNext(mapeo.apply(pendientes.next()));
+            }
+            if (!terminado[0] && !pendientes.hasNext()) {
+                terminado[0] = true;
+                servidor.onCompleted();
+            }
+        });
+    }
+}
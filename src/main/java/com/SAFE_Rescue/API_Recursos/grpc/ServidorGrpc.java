@@ -0,0 +1,79 @@
+package com.SAFE_Rescue.API_Recursos.grpc;
+
+import io.grpc.Grpc;
+import io.grpc.InsecureServerCredentials;
+import io.grpc.Server;
+import io.grpc.inprocess.InProcessServerBuilder;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Servidor gRPC que expone {@link ServicioConsultaRecursos} junto a la API REST.
+ * <p>
+ * Deshabilitado por defecto ({@code app.grpc.habilitado}). Escucha en {@code app.grpc.puerto} (0 elige un
+ * puerto libre) sin TLS, pensado para la red interna entre servicios; con {@code app.grpc.en-proceso} se
+ * registra en cambio como servidor en memoria con ese nombre, para pruebas y clientes en la misma JVM.
+ * </p>
+ */
+@Component
+public class ServidorGrpc {
+
+    // COMPONENTES INYECTADOS
+    @Autowired private ServicioConsultaRecursos servicioConsultaRecursos;
+
+    @Value("${app.grpc.habilitado:false}") private boolean habilitado;
+    @Value("${app.grpc.puerto:9090}") private int puerto;
+    @Value("${app.grpc.en-proceso:}") private String enProceso;
+    @Value("${app.grpc.espera-cierre-ms:5000}") private long esperaCierreMs;
+
+    private Server servidor;
+
+    /**
+     * Inicia el servidor si está habilitado.
+     */
+    @PostConstruct
+    public void iniciar() {
+        if (!habilitado) {
+            return;
+        }
+        Server nuevo = enProceso.isBlank()
+                ? Grpc.newServerBuilderForPort(puerto, InsecureServerCredentials.create()).addService(servicioConsultaRecursos).build()
+                : InProcessServerBuilder.forName(enProceso).addService(servicioConsultaRecursos).build();
+        try {
+            servidor = nuevo.start();
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo iniciar el servidor gRPC en el puerto " + puerto, e);
+        }
+        System.out.println("Servidor gRPC iniciado en " + (enProceso.isBlank() ? "el puerto " + getPuerto() : "proceso: " + enProceso));
+    }
+
+    /**
+     * Deja de aceptar llamadas, espera las que están en curso y luego cancela las restantes.
+     */
+    @PreDestroy
+    public void detener() throws InterruptedException {
+        if (servidor == null) {
+            return;
+        }
+        servidor.shutdown();
+        if (!servidor.awaitTermination(esperaCierreMs, TimeUnit.MILLISECONDS)) {
+            servidor.shutdownNow();
+        }
+        servidor = null;
+    }
+
+    /**
+     * Obtiene el puerto en que escucha el servidor.
+     * @return Puerto, o -1 si no está iniciado o es un servidor en proceso
+     */
+    public int getPuerto() {
+        return servidor != null ? servidor.getPort() : -1;
+    }
+}
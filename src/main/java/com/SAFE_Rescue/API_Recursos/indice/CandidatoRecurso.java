@@ -0,0 +1,41 @@
+package com.SAFE_Rescue.API_Recursos.indice;
+
+import com.SAFE_Rescue.API_Recursos.modelo.Estado;
+import com.SAFE_Rescue.API_Recursos.modelo.Recurso;
+
+/**
+ * Vista compacta de un recurso dentro del índice en memoria.
+ * <p>
+ * Solo guarda los atributos necesarios para seleccionar recursos en el despacho,
+ * sin mantener la entidad completa.
+ * </p>
+ *
+ * @param id            Identificador del recurso
+ * @param tipoRecursoId Identificador del tipo de recurso
+ * @param estado        Estado del recurso
+ * @param cantidad      Cantidad disponible
+ */
+public record CandidatoRecurso(int id, int tipoRecursoId, Estado estado, int cantidad) {
+
+    /**
+     * Crea un candidato a partir de una entidad Recurso.
+     * @param recurso Recurso a indexar
+     * @return Candidato, o null si el recurso no tiene los datos mínimos para indexarse
+     */
+    public static CandidatoRecurso de(Recurso recurso) {
+        if (recurso.getId() == null || recurso.getTipoRecurso() == null || recurso.getTipoRecurso().getId() == null
+                || recurso.getEstado() == null || recurso.getCantidad() == null) {
+            return null;
+        }
+        return new CandidatoRecurso(recurso.getId(), recurso.getTipoRecurso().getId(), recurso.getEstado(), recurso.getCantidad());
+    }
+
+    /**
+     * Obtiene una copia del candidato con otro estado.
+     * @param nuevoEstado Estado de la copia
+     * @return Candidato con el estado indicado
+     */
+    public CandidatoRecurso conEstado(Estado nuevoEstado) {
+        return new CandidatoRecurso(id, tipoRecursoId, nuevoEstado, cantidad);
+    }
+}
@@ -0,0 +1,362 @@
+package com.SAFE_Rescue.API_Recursos.indice;
+
+import com.SAFE_Rescue.API_Recursos.modelo.Bombero;
+import com.SAFE_Rescue.API_Recursos.repository.BomberoRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Directorio en memoria de bomberos indexado por ID y por teléfono.
+ * <p>
+ * Los bomberos se guardan en un arreglo compacto; dos {@link MapaEnteros} traducen el ID y el teléfono a su
+ * posición en el arreglo sin crear objetos por entrada. Junto a cada bombero se guarda su nombre completo
+ * normalizado (minúsculas y sin tildes) para la búsqueda por texto.
+ * </p>
+ * <p>
+ * Los bomberos no se modifican desde esta API, por lo que el directorio se mantiene con un refresco periódico:
+ * cada {@code app.bomberos.intervalo-ms} se consultan solo los bomberos con ID mayor al último conocido, y cada
+ * {@code app.bomberos.completo-ms} se recarga el directorio completo para reflejar modificaciones y
+ * eliminaciones. La búsqueda por un ID mayor al último conocido consulta la base de datos para no esperar al
+ * siguiente refresco; las demás consultas se responden solo desde memoria.
+ * </p>
+ */
+@Component
+public class DirectorioBomberos {
+
+    private static final int AUSENTE = -1;
+
+    private final ReentrantReadWriteLock bloqueo = new ReentrantReadWriteLock();
+    private Bombero[] bomberos = new Bombero[0];
+    private String[] textos = new String[0];
+    private MapaEnteros posicionPorId = new MapaEnteros(0, AUSENTE);
+    private MapaEnteros posicionPorTelefono = new MapaEnteros(0, AUSENTE);
+    private int cantidad;
+    private int ultimoId;
+    private volatile boolean cargado;
+    private volatile long ultimaCargaCompleta;
+
+    private final LongAdder aciertos = new LongAdder();
+    private final LongAdder fallos = new LongAdder();
+    private final LongAdder consultasBaseDatos = new LongAdder();
+    private final LongAdder refrescos = new LongAdder();
+    private final LongAdder cargasCompletas = new LongAdder();
+
+    // REPOSITORIOS INYECTADOS
+    @Autowired
+    private BomberoRepository bomberoRepository;
+
+    @Value("${app.bomberos.completo-ms:300000}") private long completoMs;
+    @Value("${app.bomberos.lote:1000}") private int lote;
+
+    /**
+     * Carga todos los bomberos al iniciar la aplicación, reemplazando el contenido del directorio.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void cargar() {
+        List<Bombero> todos = bomberoRepository.findAll();
+        bloqueo.writeLock().lock();
+        try {
+            bomberos = new Bombero[Math.max(16, todos.size())];
+            textos = new String[bomberos.length];
+            posicionPorId = new MapaEnteros(todos.size(), AUSENTE);
+            posicionPorTelefono = new MapaEnteros(todos.size(), AUSENTE);
+            cantidad = 0;
+            ultimoId = 0;
+            todos.forEach(this::poner);
+        } finally {
+            bloqueo.writeLock().unlock();
+        }
+        ultimaCargaCompleta = System.currentTimeMillis();
+        cargasCompletas.increment();
+        cargado = true;
+    }
+
+    /**
+     * Agrega al directorio los bomberos creados desde el último refresco y, cuando corresponde,
+     * recarga el directorio completo.
+     */
+    @Scheduled(fixedDelayString = "${app.bomberos.intervalo-ms:5000}")
+    public void refrescar() {
+        if (!cargado) {
+            return;
+        }
+        if (System.currentTimeMillis() - ultimaCargaCompleta >= completoMs) {
+            cargar();
+            return;
+        }
+        List<Bombero> nuevos;
+        do {
+            nuevos = bomberoRepository.findByIdGreaterThanOrderByIdAsc(ultimoIdConocido(), Limit.of(lote));
+            nuevos.forEach(this::actualizar);
+        } while (nuevos.size() == lote);
+        refrescos.increment();
+    }
+
+    /**
+     * Inserta o actualiza un bombero en el directorio.
+     * @param bombero Bombero persistido
+     */
+    public void actualizar(Bombero bombero) {
+        if (bombero == null || bombero.getId() == null) {
+            return;
+        }
+        bloqueo.writeLock().lock();
+        try {
+            poner(bombero);
+        } finally {
+            bloqueo.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Elimina un bombero del directorio.
+     * @param id Identificador del bombero
+     */
+    public void eliminar(Integer id) {
+        if (id == null) {
+            return;
+        }
+        bloqueo.writeLock().lock();
+        try {
+            int posicion = posicionPorId.obtener(id);
+            if (posicion != AUSENTE) {
+                quitar(posicion);
+            }
+        } finally {
+            bloqueo.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Busca un bombero por su ID.
+     * Si el ID es mayor al último conocido se consulta la base de datos y el resultado se agrega al directorio.
+     * @param id Identificador del bombero
+     * @return Copia del bombero, si existe
+     */
+    public Optional<Bombero> buscarPorId(int id) {
+        Bombero bombero;
+        boolean posterior;
+        bloqueo.readLock().lock();
+        try {
+            bombero = obtener(posicionPorId.obtener(id));
+            posterior = id > ultimoId;
+        } finally {
+            bloqueo.readLock().unlock();
+        }
+        if (bombero != null) {
+            aciertos.increment();
+            return Optional.of(bombero);
+        }
+        fallos.increment();
+        if (!posterior) {
+            return Optional.empty();
+        }
+        consultasBaseDatos.increment();
+        Optional<Bombero> encontrado = bomberoRepository.findById(id);
+        encontrado.ifPresent(this::actualizar);
+        return encontrado.map(DirectorioBomberos::copiar);
+    }
+
+    /**
+     * Busca varios bomberos por ID, primero en memoria.
+     * Los IDs mayores al último conocido que no estén en memoria se consultan juntos en la base de datos y los
+     * encontrados se agregan al directorio.
+     * @param ids Identificadores de los bomberos
+     * @return Copias de los bomberos encontrados, en cualquier orden
+     */
+    public List<Bombero> buscarPorIds(Collection<Integer> ids) {
+        List<Bombero> encontrados = new ArrayList<>(ids.size());
+        List<Integer> posteriores = new ArrayList<>();
+        bloqueo.readLock().lock();
+        try {
+            for (Integer id : ids) {
+                Bombero bombero = obtener(posicionPorId.obtener(id));
+                if (bombero != null) {
+                    encontrados.add(bombero);
+                } else if (id > ultimoId) {
+                    posteriores.add(id);
+                }
+            }
+        } finally {
+            bloqueo.readLock().unlock();
+        }
+        aciertos.add(encontrados.size());
+        fallos.add(ids.size() - encontrados.size());
+        if (!posteriores.isEmpty()) {
+            consultasBaseDatos.increment();
+            for (Bombero bombero : bomberoRepository.findAllById(posteriores)) {
+                actualizar(bombero);
+                encontrados.add(copiar(bombero));
+            }
+        }
+        return encontrados;
+    }
+
+    /**
+     * Busca un bombero por su teléfono, solo en memoria.
+     * @param telefono Teléfono del bombero
+     * @return Copia del bombero, si existe
+     */
+    public Optional<Bombero> buscarPorTelefono(int telefono) {
+        Bombero bombero;
+        bloqueo.readLock().lock();
+        try {
+            bombero = obtener(posicionPorTelefono.obtener(telefono));
+        } finally {
+            bloqueo.readLock().unlock();
+        }
+        (bombero != null ? aciertos : fallos).increment();
+        return Optional.ofNullable(bombero);
+    }
+
+    /**
+     * Busca bomberos cuyo nombre completo contiene todas las palabras del texto,
+     * sin distinguir mayúsculas ni tildes.
+     * @param texto Palabras a buscar (ej: "juan perez")
+     * @param limite Cantidad máxima de resultados
+     * @return Copias de los bomberos encontrados
+     */
+    public List<Bombero> buscar(String texto, int limite) {
+        String[] palabras = normalizar(texto).split("\\s+");
+        List<Bombero> encontrados = new ArrayList<>();
+        bloqueo.readLock().lock();
+        try {
+            for (int i = 0; i < cantidad && encontrados.size() < limite; i++) {
+                if (contieneTodas(textos[i], palabras)) {
+                    encontrados.add(copiar(bomberos[i]));
+                }
+            }
+        } finally {
+            bloqueo.readLock().unlock();
+        }
+        return encontrados;
+    }
+
+    /**
+     * Obtiene la cantidad de bomberos en el directorio.
+     * @return Número de bomberos
+     */
+    public int tamanio() {
+        bloqueo.readLock().lock();
+        try {
+            return cantidad;
+        } finally {
+            bloqueo.readLock().unlock();
+        }
+    }
+
+    /**
+     * Obtiene las métricas del directorio.
+     * @return Mapa con tamaño, aciertos, fallos, consultas a la base de datos, refrescos y cargas completas
+     */
+    public Map<String, Object> estadisticas() {
+        Map<String, Object> estadisticas = new LinkedHashMap<>();
+        estadisticas.put("tamanio", tamanio());
+        estadisticas.put("aciertos", aciertos.sum());
+        estadisticas.put("fallos", fallos.sum());
+        estadisticas.put("consultasBaseDatos", consultasBaseDatos.sum());
+        estadisticas.put("refrescos", refrescos.sum());
+        estadisticas.put("cargasCompletas", cargasCompletas.sum());
+        return estadisticas;
+    }
+
+    // MÉTODOS PRIVADOS
+
+    private int ultimoIdConocido() {
+        bloqueo.readLock().lock();
+        try {
+            return ultimoId;
+        } finally {
+            bloqueo.readLock().unlock();
+        }
+    }
+
+    /**
+     * Inserta o reemplaza un bombero. Debe llamarse con el bloqueo de escritura.
+     */
+    private void poner(Bombero bombero) {
+        int posicion = posicionPorId.obtener(bombero.getId());
+        if (posicion == AUSENTE) {
+            if (cantidad == bomberos.length) {
+                bomberos = Arrays.copyOf(bomberos, Math.max(16, cantidad * 2));
+                textos = Arrays.copyOf(textos, bomberos.length);
+            }
+            posicion = cantidad++;
+            posicionPorId.poner(bombero.getId(), posicion);
+        } else if (bomberos[posicion].getTelefono() != null) {
+            posicionPorTelefono.quitar(bomberos[posicion].getTelefono());
+        }
+        Bombero copia = copiar(bombero);
+        bomberos[posicion] = copia;
+        textos[posicion] = normalizar(copia.getNombre() + " " + copia.getAPaterno() + " " + copia.getAMaterno());
+        if (copia.getTelefono() != null) {
+            posicionPorTelefono.poner(copia.getTelefono(), posicion);
+        }
+        ultimoId = Math.max(ultimoId, copia.getId());
+    }
+
+    /**
+     * Quita el bombero de una posición moviendo el último a su lugar. Debe llamarse con el bloqueo de escritura.
+     */
+    private void quitar(int posicion) {
+        Bombero quitado = bomberos[posicion];
+        posicionPorId.quitar(quitado.getId());
+        if (quitado.getTelefono() != null) {
+            posicionPorTelefono.quitar(quitado.getTelefono());
+        }
+        int ultima = --cantidad;
+        if (posicion != ultima) {
+            Bombero movido = bomberos[ultima];
+            bomberos[posicion] = movido;
+            textos[posicion] = textos[ultima];
+            posicionPorId.poner(movido.getId(), posicion);
+            if (movido.getTelefono() != null) {
+                posicionPorTelefono.poner(movido.getTelefono(), posicion);
+            }
+        }
+        bomberos[ultima] = null;
+        textos[ultima] = null;
+    }
+
+    private Bombero obtener(int posicion) {
+        return posicion == AUSENTE ? null : copiar(bomberos[posicion]);
+    }
+
+    private static boolean contieneTodas(String texto, String[] palabras) {
+        for (String palabra : palabras) {
+            if (!texto.contains(palabra)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Bombero copiar(Bombero bombero) {
+        return new Bombero(bombero.getId(), bombero.getNombre(), bombero.getAPaterno(), bombero.getAMaterno(),
+                bombero.getTelefono());
+    }
+
+    private static String normalizar(String texto) {
+        return Normalizer.normalize(texto == null ? "" : texto, Normalizer.Form.NFD)
+                .replaceAll("\\p{M}", "")
+                .toLowerCase(Locale.ROOT)
+                .trim();
+    }
+}
@@ -0,0 +1,14 @@
+package com.SAFE_Rescue.API_Recursos.indice;
+
+import com.SAFE_Rescue.API_Recursos.modelo.Estado;
+
+/**
+ * Resultado de una consulta de disponibilidad al índice de vehículos.
+ *
+ * @param tipoVehiculoId Identificador del tipo de vehículo consultado
+ * @param estado         Estado consultado
+ * @param total          Cantidad total de vehículos en ese tipo y estado
+ * @param ids            IDs de vehículos devueltos (limitados por la consulta)
+ */
+public record DisponibilidadVehiculos(Integer tipoVehiculoId, Estado estado, int total, int[] ids) {
+}
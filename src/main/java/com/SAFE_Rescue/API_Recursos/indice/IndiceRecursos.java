@@ -0,0 +1,194 @@
+package com.SAFE_Rescue.API_Recursos.indice;
+
+import com.SAFE_Rescue.API_Recursos.invalidacion.BusInvalidacion;
+import com.SAFE_Rescue.API_Recursos.invalidacion.EntidadCacheada;
+import com.SAFE_Rescue.API_Recursos.invalidacion.Invalidacion;
+import com.SAFE_Rescue.API_Recursos.modelo.Estado;
+import com.SAFE_Rescue.API_Recursos.modelo.Recurso;
+import com.SAFE_Rescue.API_Recursos.repository.RecursoRepository;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Índice en memoria de recursos particionado por tipo de recurso y estado.
+ * <p>
+ * Las particiones de cada tipo se guardan en un arreglo indexado por el ordinal de {@link Estado}.
+ * Cada partición mantiene sus candidatos ordenados por cantidad descendente, por lo que obtener
+ * los mejores candidatos de un tipo y estado no requiere recorrer todos los recursos.
+ * Los cambios de un mismo recurso se serializan con {@link ConcurrentHashMap#compute}, lo que permite
+ * reservar un candidato de forma atómica entre hilos.
+ * </p>
+ * <p>
+ * Los cambios hechos por otros nodos llegan por el {@link BusInvalidacion}: un recurso eliminado se quita del
+ * índice y uno modificado se vuelve a leer de la base de datos.
+ * </p>
+ */
+@Component
+public class IndiceRecursos {
+
+    private static final Comparator<CandidatoRecurso> POR_CANTIDAD = Comparator
+            .comparingInt(CandidatoRecurso::cantidad).reversed()
+            .thenComparingInt(CandidatoRecurso::id);
+
+    private static final int ESTADOS = Estado.values().length;
+
+    private final Map<Integer, AtomicReferenceArray<NavigableSet<CandidatoRecurso>>> particiones = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Integer, CandidatoRecurso> porId = new ConcurrentHashMap<>();
+
+    // REPOSITORIOS INYECTADOS
+    @Autowired
+    private RecursoRepository recursoRepository;
+
+    // COMPONENTES INYECTADOS
+    @Autowired
+    private BusInvalidacion busInvalidacion;
+
+    /**
+     * Se suscribe a los cambios de recursos publicados por otros nodos.
+     */
+    @PostConstruct
+    public void suscribir() {
+        busInvalidacion.suscribir(EntidadCacheada.RECURSO, this::aplicar);
+    }
+
+    /**
+     * Carga todos los recursos en el índice al iniciar la aplicación.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void cargar() {
+        recursoRepository.findAll().forEach(this::actualizar);
+    }
+
+    /**
+     * Inserta o actualiza un recurso en el índice, moviéndolo de partición si cambió su tipo o estado.
+     * @param recurso Recurso persistido
+     */
+    public void actualizar(Recurso recurso) {
+        if (recurso == null || recurso.getId() == null) {
+            return;
+        }
+        CandidatoRecurso nuevo = CandidatoRecurso.de(recurso);
+        porId.compute(recurso.getId(), (id, anterior) -> reemplazar(anterior, nuevo));
+    }
+
+    /**
+     * Restaura un candidato en el índice tal como estaba antes de una reserva fallida.
+     * @param candidato Candidato original
+     */
+    public void restaurar(CandidatoRecurso candidato) {
+        porId.compute(candidato.id(), (id, anterior) -> reemplazar(anterior, candidato));
+    }
+
+    /**
+     * Elimina un recurso del índice.
+     * @param id Identificador del recurso
+     */
+    public void eliminar(Integer id) {
+        porId.computeIfPresent(id, (clave, anterior) -> reemplazar(anterior, null));
+    }
+
+    /**
+     * Aplica el cambio de un recurso publicado por otro nodo.
+     * @param invalidacion Invalidación recibida
+     */
+    public void aplicar(Invalidacion invalidacion) {
+        if (invalidacion.eliminado()) {
+            eliminar(invalidacion.id());
+            return;
+        }
+        recursoRepository.findById(invalidacion.id())
+                .ifPresentOrElse(this::actualizar, () -> eliminar(invalidacion.id()));
+    }
+
+    /**
+     * Obtiene los mejores candidatos (mayor cantidad) de una partición.
+     * @param tipoRecursoId Identificador del tipo de recurso
+     * @param estado Estado de los recursos
+     * @param limite Cantidad máxima de candidatos a devolver
+     * @return Candidatos ordenados por cantidad descendente
+     */
+    public List<CandidatoRecurso> mejores(Integer tipoRecursoId, Estado estado, int limite) {
+        AtomicReferenceArray<NavigableSet<CandidatoRecurso>> porEstado = particiones.get(tipoRecursoId);
+        NavigableSet<CandidatoRecurso> particion = porEstado == null ? null : porEstado.get(estado.ordinal());
+        if (particion == null) {
+            return Collections.emptyList();
+        }
+        List<CandidatoRecurso> resultado = new ArrayList<>(limite);
+        for (CandidatoRecurso candidato : particion) {
+            if (resultado.size() == limite) {
+                break;
+            }
+            resultado.add(candidato);
+        }
+        return resultado;
+    }
+
+    /**
+     * Reserva un candidato moviéndolo a la partición del estado indicado.
+     * Solo un hilo puede reservar un mismo candidato: si el recurso cambió desde que se leyó, la reserva falla.
+     * @param candidato Candidato leído del índice
+     * @param estadoReservado Estado que tendrá el recurso reservado
+     * @return true si la reserva se realizó, false si otro proceso lo modificó antes
+     */
+    public boolean reservar(CandidatoRecurso candidato, Estado estadoReservado) {
+        boolean[] reservado = {false};
+        porId.computeIfPresent(candidato.id(), (id, actual) -> {
+            if (!actual.equals(candidato)) {
+                return actual;
+            }
+            reservado[0] = true;
+            return reemplazar(actual, actual.conEstado(estadoReservado));
+        });
+        return reservado[0];
+    }
+
+    /**
+     * Obtiene el candidato indexado para un recurso.
+     * @param id Identificador del recurso
+     * @return Candidato indexado o null si no está en el índice
+     */
+    public CandidatoRecurso buscar(Integer id) {
+        return porId.get(id);
+    }
+
+    /**
+     * Obtiene la cantidad de recursos indexados.
+     * @return Número de recursos en el índice
+     */
+    public int tamanio() {
+        return porId.size();
+    }
+
+    // MÉTODOS PRIVADOS
+
+    private CandidatoRecurso reemplazar(CandidatoRecurso anterior, CandidatoRecurso nuevo) {
+        if (anterior != null) {
+            particion(anterior).remove(anterior);
+        }
+        if (nuevo != null) {
+            particion(nuevo).add(nuevo);
+        }
+        return nuevo;
+    }
+
+    private NavigableSet<CandidatoRecurso> particion(CandidatoRecurso candidato) {
+        AtomicReferenceArray<NavigableSet<CandidatoRecurso>> porEstado = particiones
+                .computeIfAbsent(candidato.tipoRecursoId(), tipo -> new AtomicReferenceArray<>(ESTADOS));
+        int ordinal = candidato.estado().ordinal();
+        porEstado.compareAndSet(ordinal, null, new ConcurrentSkipListSet<>(POR_CANTIDAD));
+        return porEstado.get(ordinal);
+    }
+}
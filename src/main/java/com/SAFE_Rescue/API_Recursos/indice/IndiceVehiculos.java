@@ -0,0 +1,219 @@
+package com.SAFE_Rescue.API_Recursos.indice;
+
+import com.SAFE_Rescue.API_Recursos.invalidacion.BusInvalidacion;
+import com.SAFE_Rescue.API_Recursos.invalidacion.EntidadCacheada;
+import com.SAFE_Rescue.API_Recursos.invalidacion.Invalidacion;
+import com.SAFE_Rescue.API_Recursos.modelo.Estado;
+import com.SAFE_Rescue.API_Recursos.modelo.Vehiculo;
+import com.SAFE_Rescue.API_Recursos.repository.VehiculoRepository;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Índice en memoria de disponibilidad de vehículos por tipo de vehículo y estado.
+ * <p>
+ * Cada combinación tipo × estado es una celda representada por un {@link BitSet} de IDs de vehículo;
+ * las celdas de cada tipo se ubican en un arreglo indexado por el ordinal de {@link Estado}.
+ * Por cada vehículo solo se guarda el número de su celda en un arreglo de enteros (4 bytes) más un bit
+ * en la celda, en lugar de la entidad completa. Las lecturas comparten un bloqueo de lectura y solo
+ * las escrituras (altas, cambios de estado o de tipo) toman el bloqueo exclusivo.
+ * </p>
+ * <p>
+ * Los cambios hechos por otros nodos llegan por el {@link BusInvalidacion}: un vehículo eliminado se quita del
+ * índice y uno modificado se vuelve a leer de la base de datos.
+ * </p>
+ */
+@Component
+public class IndiceVehiculos {
+
+    private static final int SIN_CELDA = -1;
+    private static final int ESTADOS = Estado.values().length;
+
+    private final ReentrantReadWriteLock bloqueo = new ReentrantReadWriteLock();
+    private final Map<Integer, int[]> celdasPorTipo = new HashMap<>();
+    private final List<BitSet> celdas = new ArrayList<>();
+    private int[] celdaPorVehiculo = new int[0];
+    private int indexados;
+
+    // REPOSITORIOS INYECTADOS
+    @Autowired
+    private VehiculoRepository vehiculoRepository;
+
+    // COMPONENTES INYECTADOS
+    @Autowired
+    private BusInvalidacion busInvalidacion;
+
+    /**
+     * Se suscribe a los cambios de vehículos publicados por otros nodos.
+     */
+    @PostConstruct
+    public void suscribir() {
+        busInvalidacion.suscribir(EntidadCacheada.VEHICULO, this::aplicar);
+    }
+
+    /**
+     * Carga todos los vehículos en el índice al iniciar la aplicación.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void cargar() {
+        vehiculoRepository.findAll().forEach(this::actualizar);
+    }
+
+    /**
+     * Inserta o actualiza un vehículo en el índice, moviéndolo de celda si cambió su tipo o estado.
+     * @param vehiculo Vehículo persistido
+     */
+    public void actualizar(Vehiculo vehiculo) {
+        if (vehiculo == null || vehiculo.getId() == null || vehiculo.getId() < 0) {
+            return;
+        }
+        Integer tipoVehiculoId = vehiculo.getTipoVehiculo() == null ? null : vehiculo.getTipoVehiculo().getId();
+        int id = vehiculo.getId();
+        bloqueo.writeLock().lock();
+        try {
+            quitar(id);
+            if (tipoVehiculoId == null || vehiculo.getEstado() == null) {
+                return;
+            }
+            int[] celdasDelTipo = celdasPorTipo.computeIfAbsent(tipoVehiculoId, tipo -> {
+                int[] nuevas = new int[ESTADOS];
+                Arrays.fill(nuevas, SIN_CELDA);
+                return nuevas;
+            });
+            int ordinal = vehiculo.getEstado().ordinal();
+            if (celdasDelTipo[ordinal] == SIN_CELDA) {
+                celdas.add(new BitSet());
+                celdasDelTipo[ordinal] = celdas.size() - 1;
+            }
+            int celda = celdasDelTipo[ordinal];
+            asegurarCapacidad(id);
+            celdas.get(celda).set(id);
+            celdaPorVehiculo[id] = celda;
+            indexados++;
+        } finally {
+            bloqueo.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Elimina un vehículo del índice.
+     * @param id Identificador del vehículo
+     */
+    public void eliminar(Integer id) {
+        if (id == null || id < 0) {
+            return;
+        }
+        bloqueo.writeLock().lock();
+        try {
+            quitar(id);
+        } finally {
+            bloqueo.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Aplica el cambio de un vehículo publicado por otro nodo.
+     * @param invalidacion Invalidación recibida
+     */
+    public void aplicar(Invalidacion invalidacion) {
+        if (invalidacion.eliminado()) {
+            eliminar(invalidacion.id());
+            return;
+        }
+        vehiculoRepository.findById(invalidacion.id())
+                .ifPresentOrElse(this::actualizar, () -> eliminar(invalidacion.id()));
+    }
+
+    /**
+     * Obtiene los IDs de vehículos de un tipo y estado.
+     * @param tipoVehiculoId Identificador del tipo de vehículo
+     * @param estado Estado de los vehículos
+     * @param limite Cantidad máxima de IDs a devolver
+     * @return Disponibilidad con el total de la celda y los primeros IDs en orden ascendente
+     */
+    public DisponibilidadVehiculos disponibles(Integer tipoVehiculoId, Estado estado, int limite) {
+        bloqueo.readLock().lock();
+        try {
+            BitSet celda = celda(tipoVehiculoId, estado);
+            if (celda == null) {
+                return new DisponibilidadVehiculos(tipoVehiculoId, estado, 0, new int[0]);
+            }
+            int total = celda.cardinality();
+            int[] ids = new int[Math.min(total, Math.max(limite, 0))];
+            int id = celda.nextSetBit(0);
+            for (int i = 0; i < ids.length; i++, id = celda.nextSetBit(id + 1)) {
+                ids[i] = id;
+            }
+            return new DisponibilidadVehiculos(tipoVehiculoId, estado, total, ids);
+        } finally {
+            bloqueo.readLock().unlock();
+        }
+    }
+
+    /**
+     * Obtiene el primer vehículo de un tipo y estado.
+     * @param tipoVehiculoId Identificador del tipo de vehículo
+     * @param estado Estado del vehículo
+     * @return ID del vehículo, o -1 si no hay vehículos en esa celda
+     */
+    public int primero(Integer tipoVehiculoId, Estado estado) {
+        bloqueo.readLock().lock();
+        try {
+            BitSet celda = celda(tipoVehiculoId, estado);
+            return celda == null ? -1 : celda.nextSetBit(0);
+        } finally {
+            bloqueo.readLock().unlock();
+        }
+    }
+
+    /**
+     * Obtiene la cantidad de vehículos indexados.
+     * @return Número de vehículos en el índice
+     */
+    public int tamanio() {
+        bloqueo.readLock().lock();
+        try {
+            return indexados;
+        } finally {
+            bloqueo.readLock().unlock();
+        }
+    }
+
+    // MÉTODOS PRIVADOS
+
+    private BitSet celda(Integer tipoVehiculoId, Estado estado) {
+        int[] celdasDelTipo = celdasPorTipo.get(tipoVehiculoId);
+        if (celdasDelTipo == null || estado == null || celdasDelTipo[estado.ordinal()] == SIN_CELDA) {
+            return null;
+        }
+        return celdas.get(celdasDelTipo[estado.ordinal()]);
+    }
+
+    private void quitar(int id) {
+        if (id < celdaPorVehiculo.length && celdaPorVehiculo[id] != SIN_CELDA) {
+            celdas.get(celdaPorVehiculo[id]).clear(id);
+            celdaPorVehiculo[id] = SIN_CELDA;
+            indexados--;
+        }
+    }
+
+    private void asegurarCapacidad(int id) {
+        if (id < celdaPorVehiculo.length) {
+            return;
+        }
+        int anterior = celdaPorVehiculo.length;
+        celdaPorVehiculo = Arrays.copyOf(celdaPorVehiculo, Math.max(id + 1, anterior * 2));
+        Arrays.fill(celdaPorVehiculo, anterior, celdaPorVehiculo.length, SIN_CELDA);
+    }
+}
@@ -0,0 +1,131 @@
+package com.SAFE_Rescue.API_Recursos.indice;
+
+import java.util.Arrays;
+
+/**
+ * Mapa de entero a entero con direccionamiento abierto y sondeo lineal, sin objetos por entrada.
+ * <p>
+ * Claves y valores se guardan en dos arreglos de {@code int}, evitando el {@code Integer} y el nodo por
+ * entrada de un {@code HashMap<Integer, Integer>}. La clave {@link Integer#MIN_VALUE} está reservada para
+ * marcar posiciones libres. Al eliminar, las entradas siguientes del mismo grupo se reubican para que las
+ * búsquedas no necesiten marcas de borrado. No es seguro para hilos: quien lo usa debe sincronizar.
+ * </p>
+ */
+final class MapaEnteros {
+
+    private static final int LIBRE = Integer.MIN_VALUE;
+    private static final float CARGA_MAXIMA = 0.5f;
+
+    private final int ausente;
+    private int[] claves;
+    private int[] valores;
+    private int tamanio;
+
+    /**
+     * Crea un mapa vacío.
+     * @param capacidadInicial Cantidad de entradas esperadas
+     * @param ausente Valor que devuelve {@link #obtener} cuando la clave no existe
+     */
+    MapaEnteros(int capacidadInicial, int ausente) {
+        this.ausente = ausente;
+        int capacidad = Integer.highestOneBit(Math.max(4, (int) (capacidadInicial / CARGA_MAXIMA)) - 1) << 1;
+        claves = new int[capacidad];
+        valores = new int[capacidad];
+        Arrays.fill(claves, LIBRE);
+    }
+
+    /**
+     * Obtiene el valor asociado a una clave.
+     * @param clave Clave a buscar
+     * @return Valor asociado, o el valor ausente si la clave no existe
+     */
+    int obtener(int clave) {
+        int mascara = claves.length - 1;
+        for (int i = posicion(clave, mascara); claves[i] != LIBRE; i = (i + 1) & mascara) {
+            if (claves[i] == clave) {
+                return valores[i];
+            }
+        }
+        return ausente;
+    }
+
+    /**
+     * Asocia un valor a una clave, reemplazando el anterior.
+     * @param clave Clave (distinta de {@link Integer#MIN_VALUE})
+     * @param valor Valor a asociar
+     */
+    void poner(int clave, int valor) {
+        if (clave == LIBRE) {
+            throw new IllegalArgumentException("Clave reservada: " + clave);
+        }
+        if (tamanio + 1 > claves.length * CARGA_MAXIMA) {
+            redimensionar(claves.length * 2);
+        }
+        int mascara = claves.length - 1;
+        int i = posicion(clave, mascara);
+        while (claves[i] != LIBRE && claves[i] != clave) {
+            i = (i + 1) & mascara;
+        }
+        if (claves[i] == LIBRE) {
+            claves[i] = clave;
+            tamanio++;
+        }
+        valores[i] = valor;
+    }
+
+    /**
+     * Elimina una clave.
+     * @param clave Clave a eliminar
+     */
+    void quitar(int clave) {
+        int mascara = claves.length - 1;
+        int i = posicion(clave, mascara);
+        while (claves[i] != clave) {
+            if (claves[i] == LIBRE) {
+                return;
+            }
+            i = (i + 1) & mascara;
+        }
+        tamanio--;
+        // Reubica las entradas siguientes que quedarían inalcanzables tras liberar la posición
+        int libre = i;
+        for (int j = (i + 1) & mascara; claves[j] != LIBRE; j = (j + 1) & mascara) {
+            int ideal = posicion(claves[j], mascara);
+            if (((j - ideal) & mascara) >= ((j - libre) & mascara)) {
+                claves[libre] = claves[j];
+                valores[libre] = valores[j];
+                libre = j;
+            }
+        }
+        claves[libre] = LIBRE;
+    }
+
+    /**
+     * Obtiene la cantidad de entradas.
+     * @return Número de claves en el mapa
+     */
+    int tamanio() {
+        return tamanio;
+    }
+
+    // MÉTODOS PRIVADOS
+
+    private static int posicion(int clave, int mascara) {
+        int h = clave * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & mascara;
+    }
+
+    private void redimensionar(int capacidad) {
+        int[] clavesAnteriores = claves;
+        int[] valoresAnteriores = valores;
+        claves = new int[capacidad];
+        valores = new int[capacidad];
+        Arrays.fill(claves, LIBRE);
+        tamanio = 0;
+        for (int i = 0; i < clavesAnteriores.length; i++) {
+            if (clavesAnteriores[i] != LIBRE) {
+                poner(clavesAnteriores[i], valoresAnteriores[i]);
+            }
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.SAFE_Rescue.API_Recursos.instrumentacion;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Mide las sentencias SQL de cada solicitud HTTP y las acumula en el endpoint que la atendió, identificado por
+ * método y patrón de ruta (ej: "GET /api-recursos/v1/recursos/{id}") para que todas las solicitudes a un
+ * mismo endpoint queden juntas. Sin instrumentación habilitada no interviene.
+ */
+public class FiltroSentencias extends OncePerRequestFilter {
+
+    private final RegistroSentencias registro;
+
+    public FiltroSentencias(RegistroSentencias registro) {
+        this.registro = registro;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !registro.isHabilitado();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        Medicion medicion = registro.abrir(request.getMethod() + " " + request.getRequestURI());
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            registro.cerrar(medicion);
+            Object patron = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            registro.registrarSolicitud(request.getMethod() + " " + (patron != null ? patron : "(sin endpoint)"), medicion);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.SAFE_Rescue.API_Recursos.instrumentacion;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Sentencias SQL ejecutadas por un hilo mientras una medición está abierta (una solicitud HTTP, o el bloque
+ * de una prueba). Las mediciones se anidan: cada sentencia se suma a la medición abierta y a todas las que la
+ * contienen. Solo la usa el hilo que la abrió.
+ */
+public final class Medicion {
+
+    private final String nombre;
+    private final Medicion padre;
+    private final Map<String, Integer> porSentencia = new HashMap<>();
+    private int sentencias;
+    private long filas;
+    private long nanos;
+
+    Medicion(String nombre, Medicion padre) {
+        this.nombre = nombre;
+        this.padre = padre;
+    }
+
+    /**
+     * Suma una ejecución.
+     * @return Cantidad de ejecuciones de la misma sentencia en esta medición, incluida esta
+     */
+    int registrar(String sentencia, long nanosEjecucion) {
+        sentencias++;
+        nanos += nanosEjecucion;
+        return porSentencia.merge(sentencia, 1, Integer::sum);
+    }
+
+    void sumarFilas(long cantidad) {
+        filas += cantidad;
+    }
+
+    Medicion getPadre() {
+        return padre;
+    }
+
+    /**
+     * Obtiene el nombre con que se abrió la medición (por ejemplo, "GET /api-recursos/v1/recursos/7").
+     * @return Nombre de la medición
+     */
+    public String getNombre() {
+        return nombre;
+    }
+
+    /**
+     * Obtiene la cantidad de sentencias ejecutadas; un lote JDBC cuenta como una.
+     * @return Sentencias ejecutadas
+     */
+    public int getSentencias() {
+        return sentencias;
+    }
+
+    /**
+     * Obtiene las filas leídas de los resultados más las filas afectadas por las escrituras.
+     * @return Filas leídas o afectadas
+     */
+    public long getFilas() {
+        return filas;
+    }
+
+    /**
+     * Obtiene el tiempo total de ejecución de las sentencias, sin contar la lectura de sus resultados.
+     * @return Tiempo en la base de datos en milisegundos
+     */
+    public double getTiempoMs() {
+        return nanos / 1e6;
+    }
+
+    /**
+     * Obtiene cuántas veces se ejecutó cada sentencia, normalizada como en {@link RegistroSentencias}.
+     * @return Ejecuciones por sentencia
+     */
+    public Map<String, Integer> getPorSentencia() {
+        return Collections.unmodifiableMap(porSentencia);
+    }
+
+    @Override
+    public String toString() {
+        return nombre + ": " + sentencias + " sentencias, " + filas + " filas, " + String.format("%.2f", getTiempoMs()) + " ms";
+    }
+}
@@ -0,0 +1,181 @@
+package com.SAFE_Rescue.API_Recursos.instrumentacion;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.Set;
+
+/**
+ * Proxies JDBC que informan a {@link RegistroSentencias} cada sentencia ejecutada. Envuelven la fuente de
+ * datos, las conexiones que entrega, sus sentencias y los resultados de éstas; el resto de los métodos se
+ * delega sin cambios, incluidos unwrap/isWrapperFor para que Spring y Hibernate lleguen al pool real.
+ */
+final class ProxiesJdbc {
+
+    private static final Set<String> EJECUCIONES = Set.of(
+            "execute", "executeQuery", "executeUpdate", "executeLargeUpdate", "executeBatch", "executeLargeBatch");
+    private static final Set<String> PREPARACIONES = Set.of("prepareStatement", "prepareCall", "createStatement");
+
+    private ProxiesJdbc() {
+    }
+
+    static DataSource dataSource(DataSource dataSource, RegistroSentencias registro) {
+        // Closeable conserva el cierre del pool al apagar el contexto (destroyMethod inferido)
+        Class<?>[] interfaces = dataSource instanceof AutoCloseable
+                ? new Class<?>[]{DataSource.class, Closeable.class}
+                : new Class<?>[]{DataSource.class};
+        return (DataSource) crear(interfaces, new Delegado(dataSource) {
+            @Override
+            Object invocar(Object proxy, Method metodo, Object[] args) throws Throwable {
+                if (metodo.getName().equals("close") && dataSource instanceof AutoCloseable cerrable) {
+                    cerrable.close();
+                    return null;
+                }
+                Object resultado = delegar(metodo, args);
+                return resultado instanceof Connection conexion ? conexion(conexion, registro) : resultado;
+            }
+        });
+    }
+
+    private static Connection conexion(Connection conexion, RegistroSentencias registro) {
+        return (Connection) crear(new Class<?>[]{Connection.class}, new Delegado(conexion) {
+            @Override
+            Object invocar(Object proxy, Method metodo, Object[] args) throws Throwable {
+                Object resultado = delegar(metodo, args);
+                if (!(resultado instanceof Statement sentencia) || !PREPARACIONES.contains(metodo.getName())) {
+                    return resultado;
+                }
+                String sql = args != null && args.length > 0 && args[0] instanceof String texto ? texto : null;
+                Class<?> tipo = resultado instanceof CallableStatement ? CallableStatement.class
+                        : resultado instanceof PreparedStatement ? PreparedStatement.class
+                        : Statement.class;
+                return sentencia(sentencia, tipo, sql, registro);
+            }
+        });
+    }
+
+    private static Statement sentencia(Statement sentencia, Class<?> tipo, String sqlPreparado, RegistroSentencias registro) {
+        return (Statement) crear(new Class<?>[]{tipo}, new Delegado(sentencia) {
+            // En sentencias sin preparar el SQL llega con la ejecución (o con addBatch)
+            private String sql = sqlPreparado;
+
+            @Override
+            Object invocar(Object proxy, Method metodo, Object[] args) throws Throwable {
+                String nombre = metodo.getName();
+                if (sqlPreparado == null && args != null && args.length > 0 && args[0] instanceof String texto
+                        && (nombre.equals("addBatch") || EJECUCIONES.contains(nombre))) {
+                    sql = texto;
+                }
+                if (nombre.equals("getResultSet")) {
+                    Object resultado = delegar(metodo, args);
+                    return resultado instanceof ResultSet filas ? resultados(filas, sql, registro) : resultado;
+                }
+                if (!EJECUCIONES.contains(nombre)) {
+                    return delegar(metodo, args);
+                }
+                long inicio = System.nanoTime();
+                Object resultado;
+                try {
+                    resultado = delegar(metodo, args);
+                } catch (Throwable e) {
+                    registro.registrar(sql, System.nanoTime() - inicio, 0, true);
+                    throw e;
+                }
+                registro.registrar(sql, System.nanoTime() - inicio, filasAfectadas(resultado), false);
+                return resultado instanceof ResultSet filas ? resultados(filas, sql, registro) : resultado;
+            }
+        });
+    }
+
+    private static ResultSet resultados(ResultSet resultados, String sql, RegistroSentencias registro) {
+        return (ResultSet) crear(new Class<?>[]{ResultSet.class}, new Delegado(resultados) {
+            private long filas;
+            private boolean informado;
+
+            @Override
+            Object invocar(Object proxy, Method metodo, Object[] args) throws Throwable {
+                Object resultado = delegar(metodo, args);
+                if (metodo.getName().equals("next") && Boolean.TRUE.equals(resultado)) {
+                    filas++;
+                } else if (metodo.getName().equals("close") && !informado) {
+                    informado = true;
+                    registro.registrarFilas(sql, filas);
+                }
+                return resultado;
+            }
+        });
+    }
+
+    private static long filasAfectadas(Object resultado) {
+        if (resultado instanceof Integer filas) {
+            return Math.max(filas, 0);
+        }
+        if (resultado instanceof Long filas) {
+            return Math.max(filas, 0);
+        }
+        long total = 0;
+        if (resultado instanceof int[] lote) {
+            for (int filas : lote) {
+                total += Math.max(filas, 0);
+            }
+        } else if (resultado instanceof long[] lote) {
+            for (long filas : lote) {
+                total += Math.max(filas, 0);
+            }
+        }
+        return total;
+    }
+
+    private static Object crear(Class<?>[] interfaces, Delegado delegado) {
+        return Proxy.newProxyInstance(ProxiesJdbc.class.getClassLoader(), interfaces, delegado);
+    }
+
+    /**
+     * Base de los proxies: resuelve equals/hashCode/toString y unwrap sobre el objeto real y devuelve las
+     * excepciones del objeto real sin envolver.
+     */
+    private abstract static class Delegado implements InvocationHandler {
+
+        private final Object objetivo;
+
+        Delegado(Object objetivo) {
+            this.objetivo = objetivo;
+        }
+
+        abstract Object invocar(Object proxy, Method metodo, Object[] args) throws Throwable;
+
+        @Override
+        public Object invoke(Object proxy, Method metodo, Object[] args) throws Throwable {
+            switch (metodo.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "Instrumentado[" + objetivo + "]";
+                case "isWrapperFor":
+                    return ((Class<?>) args[0]).isInstance(proxy) || (Boolean) delegar(metodo, args);
+                case "unwrap":
+                    return ((Class<?>) args[0]).isInstance(objetivo) ? objetivo : delegar(metodo, args);
+                default:
+                    return invocar(proxy, metodo, args);
+            }
+        }
+
+        Object delegar(Method metodo, Object[] args) throws Throwable {
+            try {
+                return metodo.invoke(objetivo, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
@@ -0,0 +1,339 @@
+package com.SAFE_Rescue.API_Recursos.instrumentacion;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * Registro de las sentencias SQL ejecutadas sobre la base de datos principal.
+ * <p>
+ * Con {@code app.sql.instrumentacion=true} la fuente de datos se envuelve en un proxy JDBC (ver
+ * {@code InstrumentacionSqlConfig}) que informa aquí cada ejecución: por sentencia se acumulan ejecuciones,
+ * errores, filas leídas o afectadas, tiempo total y máximo y un histograma de latencias; por endpoint, las
+ * solicitudes atendidas y cuántas sentencias ejecutó cada una. Las sentencias se agrupan normalizadas
+ * (espacios colapsados y listas {@code IN (?, ?, ...)} de cualquier largo como una sola).
+ * </p>
+ * <p>
+ * Las sentencias que superan {@code app.sql.lenta-ms} se escriben en el log y se guardan las últimas. Cuando
+ * una misma sentencia se repite {@code app.sql.repeticiones-n1} veces dentro de una solicitud se informa como
+ * posible N+1, que es la forma en que aparece una asociación cargada fila a fila. Ambos avisos van al logger
+ * {@value #LOGGER} con nivel WARN, para poder dirigirlos o silenciarlos por separado.
+ * </p>
+ */
+@Component
+public class RegistroSentencias {
+
+    /**
+     * Nombre del logger de las sentencias lentas y los posibles N+1.
+     */
+    public static final String LOGGER = "sql.sentencias";
+
+    private static final Logger log = LoggerFactory.getLogger(LOGGER);
+
+    /**
+     * Límites superiores de los intervalos del histograma de latencias, en microsegundos.
+     */
+    private static final long[] LIMITES_MICROS = {100, 500, 1_000, 5_000, 10_000, 50_000, 100_000, 500_000, 1_000_000};
+    private static final String[] INTERVALOS = {"<0.1ms", "<0.5ms", "<1ms", "<5ms", "<10ms", "<50ms", "<100ms", "<500ms", "<1s", ">=1s"};
+    private static final Pattern ESPACIOS = Pattern.compile("\\s+");
+    private static final Pattern LISTA_IN = Pattern.compile("\\(\\s*\\?(\\s*,\\s*\\?)+\\s*\\)");
+    private static final String OTRAS = "(otras sentencias)";
+    private static final String FUERA_DE_SOLICITUDES = "(fuera de solicitudes)";
+    private static final int MAS_COSTOSAS = 20;
+    private static final int ULTIMAS_LENTAS = 50;
+
+    @Value("${app.sql.instrumentacion:false}") private boolean habilitado;
+    @Value("${app.sql.lenta-ms:200}") private long lentaMs;
+    @Value("${app.sql.repeticiones-n1:10}") private int repeticionesN1;
+    @Value("${app.sql.maximo-sentencias:1000}") private int maximoSentencias;
+
+    private final ThreadLocal<Medicion> medicionActual = new ThreadLocal<>();
+    private final Map<String, String> normalizadas = new ConcurrentHashMap<>();
+    private final Map<String, EstadisticaSentencia> porSentencia = new ConcurrentHashMap<>();
+    private final Map<String, EstadisticaEndpoint> porEndpoint = new ConcurrentHashMap<>();
+    private final Deque<Map<String, Object>> lentas = new ConcurrentLinkedDeque<>();
+    private final LongAdder totalLentas = new LongAdder();
+    private final LongAdder posiblesN1 = new LongAdder();
+
+    /**
+     * Acumulados de una sentencia normalizada.
+     */
+    private static final class EstadisticaSentencia {
+        final LongAdder ejecuciones = new LongAdder();
+        final LongAdder errores = new LongAdder();
+        final LongAdder filas = new LongAdder();
+        final LongAdder nanos = new LongAdder();
+        final AtomicLong maximoNanos = new AtomicLong();
+        final LongAdder[] histograma = new LongAdder[INTERVALOS.length];
+
+        EstadisticaSentencia() {
+            for (int i = 0; i < histograma.length; i++) {
+                histograma[i] = new LongAdder();
+            }
+        }
+    }
+
+    /**
+     * Acumulados de las solicitudes a un endpoint.
+     */
+    private static final class EstadisticaEndpoint {
+        final LongAdder solicitudes = new LongAdder();
+        final LongAdder sentencias = new LongAdder();
+        final LongAdder filas = new LongAdder();
+        final LongAdder nanos = new LongAdder();
+        final AtomicLong maximoSentencias = new AtomicLong();
+    }
+
+    /**
+     * Indica si la instrumentación está habilitada.
+     * @return true si la fuente de datos se envuelve y se registran las sentencias
+     */
+    public boolean isHabilitado() {
+        return habilitado;
+    }
+
+    /**
+     * Envuelve una fuente de datos para que informe sus sentencias a este registro.
+     * @param dataSource Fuente de datos a instrumentar
+     * @return Fuente de datos instrumentada
+     */
+    public DataSource instrumentar(DataSource dataSource) {
+        return ProxiesJdbc.dataSource(dataSource, this);
+    }
+
+    // MEDICIONES POR HILO
+
+    /**
+     * Abre una medición en el hilo actual, anidada en la que ya esté abierta.
+     * @param nombre Nombre de la medición
+     * @return Medición abierta, que debe cerrarse con {@link #cerrar(Medicion)} en el mismo hilo
+     */
+    public Medicion abrir(String nombre) {
+        Medicion medicion = new Medicion(nombre, medicionActual.get());
+        medicionActual.set(medicion);
+        return medicion;
+    }
+
+    /**
+     * Cierra una medición y vuelve a la que la contenía.
+     * @param medicion Medición abierta por este hilo
+     */
+    public void cerrar(Medicion medicion) {
+        if (medicion.getPadre() == null) {
+            medicionActual.remove();
+        } else {
+            medicionActual.set(medicion.getPadre());
+        }
+    }
+
+    /**
+     * Acumula una solicitud terminada en las estadísticas de su endpoint.
+     * @param endpoint Método y ruta del endpoint (ej: "GET /api-recursos/v1/recursos/{id}")
+     * @param medicion Medición de la solicitud
+     */
+    public void registrarSolicitud(String endpoint, Medicion medicion) {
+        EstadisticaEndpoint estadistica = porEndpoint.computeIfAbsent(endpoint, e -> new EstadisticaEndpoint());
+        estadistica.solicitudes.increment();
+        estadistica.sentencias.add(medicion.getSentencias());
+        estadistica.filas.add(medicion.getFilas());
+        estadistica.nanos.add(Math.round(medicion.getTiempoMs() * 1e6));
+        estadistica.maximoSentencias.accumulateAndGet(medicion.getSentencias(), Math::max);
+    }
+
+    // REGISTRO DESDE EL PROXY JDBC
+
+    /**
+     * Registra una ejecución.
+     * @param sql Sentencia tal como se envió al driver
+     * @param nanos Duración de la ejecución
+     * @param filasAfectadas Filas modificadas por una escritura (0 en consultas; sus filas se suman al leerlas)
+     * @param error true si la ejecución lanzó una excepción
+     */
+    void registrar(String sql, long nanos, long filasAfectadas, boolean error) {
+        String sentencia = normalizar(sql);
+        EstadisticaSentencia estadistica = estadistica(sentencia);
+        estadistica.ejecuciones.increment();
+        estadistica.nanos.add(nanos);
+        estadistica.filas.add(filasAfectadas);
+        estadistica.maximoNanos.accumulateAndGet(nanos, Math::max);
+        estadistica.histograma[intervalo(nanos)].increment();
+        if (error) {
+            estadistica.errores.increment();
+        }
+
+        Medicion actual = medicionActual.get();
+        for (Medicion medicion = actual; medicion != null; medicion = medicion.getPadre()) {
+            int repeticiones = medicion.registrar(sentencia, nanos);
+            medicion.sumarFilas(filasAfectadas);
+            if (medicion == actual && repeticiones == repeticionesN1) {
+                posiblesN1.increment();
+                log.warn("Posible N+1 en {}: {} ejecuciones de {}", medicion.getNombre(), repeticiones, sentencia);
+            }
+        }
+
+        if (nanos >= lentaMs * 1_000_000) {
+            registrarLenta(sentencia, nanos, actual);
+        }
+    }
+
+    /**
+     * Suma las filas leídas de un resultado al cerrarlo.
+     * @param sql Sentencia que produjo el resultado
+     * @param filas Filas leídas
+     */
+    void registrarFilas(String sql, long filas) {
+        estadistica(normalizar(sql)).filas.add(filas);
+        for (Medicion medicion = medicionActual.get(); medicion != null; medicion = medicion.getPadre()) {
+            medicion.sumarFilas(filas);
+        }
+    }
+
+    // REPORTE
+
+    /**
+     * Obtiene el reporte de sentencias: totales, las sentencias de mayor tiempo acumulado, los endpoints
+     * ordenados por sentencias por solicitud y las últimas sentencias lentas.
+     * @return Mapa con el reporte
+     */
+    public Map<String, Object> estadisticas() {
+        long ejecuciones = 0;
+        for (EstadisticaSentencia estadistica : porSentencia.values()) {
+            ejecuciones += estadistica.ejecuciones.sum();
+        }
+        Map<String, Object> estadisticas = new LinkedHashMap<>();
+        estadisticas.put("habilitado", habilitado);
+        estadisticas.put("ejecuciones", ejecuciones);
+        estadisticas.put("sentenciasDistintas", porSentencia.size());
+        estadisticas.put("lentas", totalLentas.sum());
+        estadisticas.put("umbralLentaMs", lentaMs);
+        estadisticas.put("posiblesN1", posiblesN1.sum());
+        estadisticas.put("masCostosas", porSentencia.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<String, EstadisticaSentencia> e) -> e.getValue().nanos.sum()).reversed())
+                .limit(MAS_COSTOSAS)
+                .map(e -> describir(e.getKey(), e.getValue()))
+                .toList());
+        estadisticas.put("endpoints", porEndpoint.entrySet().stream()
+                .map(e -> describir(e.getKey(), e.getValue()))
+                .sorted(Comparator.comparingDouble((Map<String, Object> e) -> (double) e.get("sentenciasPorSolicitud")).reversed())
+                .toList());
+        estadisticas.put("ultimasLentas", new ArrayList<>(lentas));
+        return estadisticas;
+    }
+
+    /**
+     * Descarta todo lo acumulado.
+     */
+    public void reiniciar() {
+        porSentencia.clear();
+        porEndpoint.clear();
+        lentas.clear();
+        totalLentas.reset();
+        posiblesN1.reset();
+    }
+
+    // MÉTODOS PRIVADOS
+
+    private String normalizar(String sql) {
+        if (sql == null) {
+            return "(sin sentencia)";
+        }
+        String normalizada = normalizadas.get(sql);
+        if (normalizada == null) {
+            normalizada = LISTA_IN.matcher(ESPACIOS.matcher(sql.strip()).replaceAll(" ")).replaceAll("(?, ...)");
+            if (normalizadas.size() < maximoSentencias * 4) {
+                normalizadas.put(sql, normalizada);
+            }
+        }
+        return normalizada;
+    }
+
+    /**
+     * Obtiene los acumulados de una sentencia; sobre el máximo configurado las nuevas se agrupan juntas.
+     */
+    private EstadisticaSentencia estadistica(String sentencia) {
+        EstadisticaSentencia estadistica = porSentencia.get(sentencia);
+        if (estadistica != null) {
+            return estadistica;
+        }
+        return porSentencia.computeIfAbsent(porSentencia.size() < maximoSentencias ? sentencia : OTRAS, s -> new EstadisticaSentencia());
+    }
+
+    private void registrarLenta(String sentencia, long nanos, Medicion medicion) {
+        totalLentas.increment();
+        String origen = medicion == null ? FUERA_DE_SOLICITUDES : medicion.getNombre();
+        log.warn("Sentencia lenta ({} ms) en {}: {}", redondear(nanos / 1e6), origen, sentencia);
+        Map<String, Object> lenta = new LinkedHashMap<>();
+        lenta.put("fecha", Instant.now().toString());
+        lenta.put("origen", origen);
+        lenta.put("ms", redondear(nanos / 1e6));
+        lenta.put("sentencia", sentencia);
+        lentas.addFirst(lenta);
+        while (lentas.size() > ULTIMAS_LENTAS) {
+            lentas.pollLast();
+        }
+    }
+
+    private static int intervalo(long nanos) {
+        long micros = nanos / 1_000;
+        for (int i = 0; i < LIMITES_MICROS.length; i++) {
+            if (micros < LIMITES_MICROS[i]) {
+                return i;
+            }
+        }
+        return LIMITES_MICROS.length;
+    }
+
+    private static Map<String, Object> describir(String sentencia, EstadisticaSentencia estadistica) {
+        long ejecuciones = estadistica.ejecuciones.sum();
+        long nanos = estadistica.nanos.sum();
+        Map<String, Object> descripcion = new LinkedHashMap<>();
+        descripcion.put("sentencia", sentencia);
+        descripcion.put("ejecuciones", ejecuciones);
+        descripcion.put("errores", estadistica.errores.sum());
+        descripcion.put("filas", estadistica.filas.sum());
+        descripcion.put("totalMs", redondear(nanos / 1e6));
+        descripcion.put("promedioMs", redondear(ejecuciones == 0 ? 0 : nanos / 1e6 / ejecuciones));
+        descripcion.put("maximoMs", redondear(estadistica.maximoNanos.get() / 1e6));
+        Map<String, Long> histograma = new LinkedHashMap<>();
+        for (int i = 0; i < INTERVALOS.length; i++) {
+            long cantidad = estadistica.histograma[i].sum();
+            if (cantidad > 0) {
+                histograma.put(INTERVALOS[i], cantidad);
+            }
+        }
+        descripcion.put("histograma", histograma);
+        return descripcion;
+    }
+
+    private static Map<String, Object> describir(String endpoint, EstadisticaEndpoint estadistica) {
+        long solicitudes = estadistica.solicitudes.sum();
+        Map<String, Object> descripcion = new LinkedHashMap<>();
+        descripcion.put("endpoint", endpoint);
+        descripcion.put("solicitudes", solicitudes);
+        descripcion.put("sentencias", estadistica.sentencias.sum());
+        descripcion.put("sentenciasPorSolicitud", redondear(solicitudes == 0 ? 0 : (double) estadistica.sentencias.sum() / solicitudes));
+        descripcion.put("maximoSentencias", estadistica.maximoSentencias.get());
+        descripcion.put("filasPorSolicitud", redondear(solicitudes == 0 ? 0 : (double) estadistica.filas.sum() / solicitudes));
+        descripcion.put("tiempoBdPorSolicitudMs", redondear(solicitudes == 0 ? 0 : estadistica.nanos.sum() / 1e6 / solicitudes));
+        return descripcion;
+    }
+
+    private static double redondear(double valor) {
+        return Math.round(valor * 100) / 100.0;
+    }
+}
@@ -0,0 +1,229 @@
+package com.SAFE_Rescue.API_Recursos.invalidacion;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Bus que mantiene coherentes entre nodos las copias en memoria de las entidades.
+ * <p>
+ * Los servicios publican una {@link Invalidacion} por cada escritura confirmada; el bus la envía por el
+ * {@link TransporteInvalidacion} configurado y, en los demás nodos, la entrega a los suscriptores de la entidad.
+ * </p>
+ * <p>
+ * Las versiones salen de un reloj híbrido: el tiempo en milisegundos desplazado 16 bits, que nunca retrocede
+ * y avanza al recibir una versión mayor de otro nodo. Por cada entidad e ID se recuerda la última versión
+ * aplicada, publicada o recibida, y solo se aplican mensajes con una versión mayor; los duplicados y los que
+ * llegan atrasados se descartan. Los mensajes del propio nodo se ignoran.
+ * </p>
+ * <p>
+ * Para que esa memoria no crezca sin límite, {@link #purgar()} olvida las versiones más antiguas que la ventana de
+ * retención ({@code app.invalidacion.retencion-ms}) medida con el mismo reloj, y eleva un piso bajo el cual todo
+ * mensaje de una entidad olvidada se considera atrasado.
+ * </p>
+ */
+@Component
+public class BusInvalidacion {
+
+    private static final Logger log = LoggerFactory.getLogger(BusInvalidacion.class);
+
+    /** Ventana de retención por defecto de las versiones recordadas, en milisegundos. */
+    public static final long RETENCION_MS = 300_000;
+
+    private final TransporteInvalidacion transporte;
+    private final long retencionMs;
+    private final long nodo = ThreadLocalRandom.current().nextLong();
+    private final AtomicLong reloj = new AtomicLong();
+    private final Map<Long, Long> versiones = new ConcurrentHashMap<>();
+    private final Map<EntidadCacheada, List<Consumer<Invalidacion>>> suscriptores = new EnumMap<>(EntidadCacheada.class);
+    private volatile long piso;
+
+    private final LongAdder publicadas = new LongAdder();
+    private final LongAdder recibidas = new LongAdder();
+    private final LongAdder aplicadas = new LongAdder();
+    private final LongAdder descartadas = new LongAdder();
+    private final LongAdder propias = new LongAdder();
+    private final LongAdder errores = new LongAdder();
+    private final LongAdder purgadas = new LongAdder();
+
+    public BusInvalidacion(TransporteInvalidacion transporte) {
+        this(transporte, RETENCION_MS);
+    }
+
+    @Autowired
+    public BusInvalidacion(TransporteInvalidacion transporte,
+                           @Value("${app.invalidacion.retencion-ms:300000}") long retencionMs) {
+        this.transporte = transporte;
+        this.retencionMs = retencionMs;
+        for (EntidadCacheada entidad : EntidadCacheada.values()) {
+            suscriptores.put(entidad, new CopyOnWriteArrayList<>());
+        }
+    }
+
+    /**
+     * Comienza a recibir las tramas del transporte.
+     */
+    @PostConstruct
+    public void iniciar() {
+        transporte.escuchar(this::recibir);
+    }
+
+    /**
+     * Cierra el transporte al detener la aplicación.
+     */
+    @PreDestroy
+    public void detener() {
+        transporte.close();
+    }
+
+    /**
+     * Registra una acción a ejecutar cuando otro nodo modifica una entidad del tipo indicado.
+     * @param entidad Entidad observada
+     * @param suscriptor Acción que recibe cada invalidación aplicada
+     */
+    public void suscribir(EntidadCacheada entidad, Consumer<Invalidacion> suscriptor) {
+        suscriptores.get(entidad).add(suscriptor);
+    }
+
+    /**
+     * Publica el cambio de una entidad a los demás nodos. Debe llamarse después de confirmar la escritura.
+     * @param entidad Entidad modificada
+     * @param id ID de la entidad
+     * @param eliminado Indica si la entidad se eliminó
+     * @return Mensaje publicado, o {@code null} si el ID es nulo
+     */
+    public Invalidacion publicar(EntidadCacheada entidad, Integer id, boolean eliminado) {
+        if (id == null) {
+            return null;
+        }
+        long version = reloj.updateAndGet(actual -> Math.max(actual + 1, System.currentTimeMillis() << 16));
+        versiones.merge(clave(entidad, id), version, Math::max);
+        Invalidacion invalidacion = new Invalidacion(entidad, id, version, nodo, eliminado);
+        try {
+            transporte.enviar(invalidacion.codificar());
+            publicadas.increment();
+        } catch (RuntimeException e) {
+            errores.increment();
+            log.error("No se pudo publicar la invalidación {}", invalidacion, e);
+        }
+        return invalidacion;
+    }
+
+    /**
+     * Procesa una trama recibida del transporte.
+     * @param trama Trama codificada
+     */
+    public void recibir(byte[] trama) {
+        Invalidacion invalidacion;
+        try {
+            invalidacion = Invalidacion.decodificar(trama);
+        } catch (IllegalArgumentException e) {
+            errores.increment();
+            return;
+        }
+        if (invalidacion.nodo() == nodo) {
+            propias.increment();
+            return;
+        }
+        recibidas.increment();
+        reloj.accumulateAndGet(invalidacion.version(), Math::max);
+
+        if (!avanzarVersion(invalidacion)) {
+            descartadas.increment();
+            return;
+        }
+        aplicadas.increment();
+        for (Consumer<Invalidacion> suscriptor : suscriptores.get(invalidacion.entidad())) {
+            try {
+                suscriptor.accept(invalidacion);
+            } catch (RuntimeException e) {
+                errores.increment();
+                log.error("Error al aplicar la invalidación {}", invalidacion, e);
+            }
+        }
+    }
+
+    /**
+     * Olvida las versiones recordadas que quedaron fuera de la ventana de retención.
+     * @return Cantidad de versiones olvidadas
+     */
+    @Scheduled(fixedDelayString = "${app.invalidacion.purga-ms:60000}")
+    public int purgar() {
+        long ahora = Math.max(reloj.get() >>> 16, System.currentTimeMillis());
+        long corte = (ahora - retencionMs) << 16;
+        if (corte > piso) {
+            piso = corte;
+        }
+        int olvidadas = 0;
+        for (Iterator<Long> versionesRecordadas = versiones.values().iterator(); versionesRecordadas.hasNext(); ) {
+            if (versionesRecordadas.next() < corte) {
+                versionesRecordadas.remove();
+                olvidadas++;
+            }
+        }
+        purgadas.add(olvidadas);
+        return olvidadas;
+    }
+
+    /**
+     * Obtiene el identificador de este nodo en los mensajes.
+     * @return Identificador del nodo
+     */
+    public long getNodo() {
+        return nodo;
+    }
+
+    /**
+     * Obtiene las métricas del bus.
+     * @return Mapa con mensajes publicados, recibidos, aplicados, descartados por versión, propios y errores,
+     * y versiones recordadas y purgadas
+     */
+    public Map<String, Object> estadisticas() {
+        Map<String, Object> estadisticas = new LinkedHashMap<>();
+        estadisticas.put("nodo", Long.toHexString(nodo));
+        estadisticas.put("publicadas", publicadas.sum());
+        estadisticas.put("recibidas", recibidas.sum());
+        estadisticas.put("aplicadas", aplicadas.sum());
+        estadisticas.put("descartadas", descartadas.sum());
+        estadisticas.put("propias", propias.sum());
+        estadisticas.put("errores", errores.sum());
+        estadisticas.put("versiones", versiones.size());
+        estadisticas.put("purgadas", purgadas.sum());
+        return estadisticas;
+    }
+
+    // MÉTODOS PRIVADOS
+
+    private boolean avanzarVersion(Invalidacion invalidacion) {
+        boolean[] nueva = {false};
+        versiones.compute(clave(invalidacion.entidad(), invalidacion.id()), (clave, anterior) -> {
+            if (anterior != null ? anterior >= invalidacion.version() : piso >= invalidacion.version()) {
+                return anterior;
+            }
+            nueva[0] = true;
+            return invalidacion.version();
+        });
+        return nueva[0];
+    }
+
+    private static long clave(EntidadCacheada entidad, int id) {
+        return ((long) entidad.getCodigo() << 32) | (id & 0xFFFFFFFFL);
+    }
+}
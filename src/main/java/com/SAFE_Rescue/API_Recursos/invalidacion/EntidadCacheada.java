@@ -0,0 +1,51 @@
+package com.SAFE_Rescue.API_Recursos.invalidacion;
+
+/**
+ * Entidades cuyas copias en memoria se invalidan entre nodos.
+ * <p>
+ * Cada entidad se identifica en los mensajes con un código fijo de un byte, independiente del orden de declaración.
+ * Solo figuran las entidades con copias en memoria (los índices de recursos y vehículos); los tipos no se
+ * guardan en memoria y no se publican. Los códigos 1 y 2 quedan reservados.
+ * </p>
+ */
+public enum EntidadCacheada {
+
+    RECURSO(3),
+    VEHICULO(4);
+
+    private static final EntidadCacheada[] POR_CODIGO = new EntidadCacheada[Byte.MAX_VALUE + 1];
+
+    static {
+        for (EntidadCacheada entidad : values()) {
+            POR_CODIGO[entidad.codigo] = entidad;
+        }
+    }
+
+    private final byte codigo;
+
+    EntidadCacheada(int codigo) {
+        this.codigo = (byte) codigo;
+    }
+
+    /**
+     * Código de la entidad en los mensajes de invalidación.
+     * @return Código de un byte
+     */
+    public byte getCodigo() {
+        return codigo;
+    }
+
+    /**
+     * Obtiene la entidad correspondiente a un código.
+     * @param codigo Código recibido
+     * @return Entidad del código
+     * @throws IllegalArgumentException Si el código no corresponde a ninguna entidad
+     */
+    public static EntidadCacheada desdeCodigo(byte codigo) {
+        EntidadCacheada entidad = codigo < 0 ? null : POR_CODIGO[codigo];
+        if (entidad == null) {
+            throw new IllegalArgumentException("Código de entidad desconocido: " + codigo);
+        }
+        return entidad;
+    }
+}
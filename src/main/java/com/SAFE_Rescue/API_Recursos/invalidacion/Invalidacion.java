@@ -0,0 +1,67 @@
+package com.SAFE_Rescue.API_Recursos.invalidacion;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Mensaje que avisa a los demás nodos que una entidad cambió o se eliminó.
+ * <p>
+ * Se codifica en una trama fija de {@value #TAMANIO} bytes: formato, entidad, marca de eliminación, ID,
+ * versión y nodo de origen. El mensaje no lleva los datos de la entidad: quien lo recibe la vuelve a leer
+ * de la base de datos o la descarta.
+ * </p>
+ * @param entidad Entidad modificada
+ * @param id ID de la entidad
+ * @param version Versión del cambio, creciente por entidad e ID
+ * @param nodo Nodo que publicó el cambio
+ * @param eliminado Indica si la entidad se eliminó
+ */
+public record Invalidacion(EntidadCacheada entidad, int id, long version, long nodo, boolean eliminado) {
+
+    /**
+     * Versión del formato de la trama.
+     */
+    public static final byte FORMATO = 1;
+
+    /**
+     * Tamaño en bytes de la trama codificada.
+     */
+    public static final int TAMANIO = 3 + Integer.BYTES + Long.BYTES + Long.BYTES;
+
+    /**
+     * Codifica el mensaje en su trama binaria.
+     * @return Trama de {@value #TAMANIO} bytes
+     */
+    public byte[] codificar() {
+        return ByteBuffer.allocate(TAMANIO)
+                .put(FORMATO)
+                .put(entidad.getCodigo())
+                .put((byte) (eliminado ? 1 : 0))
+                .putInt(id)
+                .putLong(version)
+                .putLong(nodo)
+                .array();
+    }
+
+    /**
+     * Decodifica una trama recibida.
+     * @param trama Trama binaria
+     * @return Mensaje decodificado
+     * @throws IllegalArgumentException Si la trama no tiene el tamaño o el formato esperado
+     */
+    public static Invalidacion decodificar(byte[] trama) {
+        if (trama == null || trama.length != TAMANIO) {
+            throw new IllegalArgumentException("Trama de invalidación con tamaño inválido");
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(trama);
+        byte formato = buffer.get();
+        if (formato != FORMATO) {
+            throw new IllegalArgumentException("Formato de invalidación no soportado: " + formato);
+        }
+        EntidadCacheada entidad = EntidadCacheada.desdeCodigo(buffer.get());
+        boolean eliminado = buffer.get() != 0;
+        int id = buffer.getInt();
+        long version = buffer.getLong();
+        long nodo = buffer.getLong();
+        return new Invalidacion(entidad, id, version, nodo, eliminado);
+    }
+}
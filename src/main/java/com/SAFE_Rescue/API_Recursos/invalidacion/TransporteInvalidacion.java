@@ -0,0 +1,31 @@
+package com.SAFE_Rescue.API_Recursos.invalidacion;
+
+import java.util.function.Consumer;
+
+/**
+ * Medio por el que los nodos intercambian tramas de invalidación.
+ * <p>
+ * El transporte no interpreta las tramas ni garantiza entrega ni orden: el {@link BusInvalidacion} descarta
+ * duplicados y mensajes atrasados por su versión.
+ * </p>
+ */
+public interface TransporteInvalidacion extends AutoCloseable {
+
+    /**
+     * Envía una trama a los demás nodos.
+     * @param trama Trama codificada
+     */
+    void enviar(byte[] trama);
+
+    /**
+     * Registra el receptor de las tramas que lleguen de otros nodos.
+     * @param receptor Acción que recibe cada trama
+     */
+    void escuchar(Consumer<byte[]> receptor);
+
+    /**
+     * Libera los recursos del transporte.
+     */
+    @Override
+    void close();
+}
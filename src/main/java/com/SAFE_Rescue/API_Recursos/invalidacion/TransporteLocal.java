@@ -0,0 +1,54 @@
+package com.SAFE_Rescue.API_Recursos.invalidacion;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Transporte dentro de la misma JVM: entrega cada trama de forma síncrona a todos los transportes
+ * abiertos sobre el mismo canal, incluido el emisor.
+ * <p>
+ * Sirve para un único nodo y para simular varios nodos en las pruebas.
+ * </p>
+ */
+public class TransporteLocal implements TransporteInvalidacion {
+
+    private static final Map<String, List<TransporteLocal>> CANALES = new ConcurrentHashMap<>();
+
+    private final String canal;
+    private volatile Consumer<byte[]> receptor;
+
+    /**
+     * Abre un transporte sobre el canal indicado.
+     * @param canal Nombre del canal compartido
+     */
+    public TransporteLocal(String canal) {
+        this.canal = canal;
+        CANALES.computeIfAbsent(canal, nombre -> new CopyOnWriteArrayList<>()).add(this);
+    }
+
+    @Override
+    public void enviar(byte[] trama) {
+        for (TransporteLocal transporte : CANALES.getOrDefault(canal, List.of())) {
+            Consumer<byte[]> destino = transporte.receptor;
+            if (destino != null) {
+                destino.accept(trama.clone());
+            }
+        }
+    }
+
+    @Override
+    public void escuchar(Consumer<byte[]> receptor) {
+        this.receptor = receptor;
+    }
+
+    @Override
+    public void close() {
+        List<TransporteLocal> transportes = CANALES.get(canal);
+        if (transportes != null) {
+            transportes.remove(this);
+        }
+    }
+}
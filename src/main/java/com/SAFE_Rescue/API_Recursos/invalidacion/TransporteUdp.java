@@ -0,0 +1,96 @@
+package com.SAFE_Rescue.API_Recursos.invalidacion;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.DatagramPacket;
+import java.net.DatagramSocket;
+import java.net.InetSocketAddress;
+import java.net.SocketException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Transporte entre nodos por datagramas UDP: cada trama se envía en un datagrama a cada nodo configurado.
+ * <p>
+ * Las tramas se reciben en un hilo demonio. Un datagrama perdido deja la copia de ese nodo desactualizada
+ * hasta el siguiente cambio de la misma entidad o su próxima recarga.
+ * </p>
+ */
+public class TransporteUdp implements TransporteInvalidacion {
+
+    private static final Logger log = LoggerFactory.getLogger(TransporteUdp.class);
+
+    private final DatagramSocket socket;
+    private final List<InetSocketAddress> nodos;
+    private Thread receptor;
+
+    /**
+     * Abre el socket en el puerto indicado.
+     * @param puerto Puerto local (0 para uno libre)
+     * @param nodos Direcciones de los demás nodos
+     */
+    public TransporteUdp(int puerto, List<InetSocketAddress> nodos) {
+        try {
+            this.socket = new DatagramSocket(puerto);
+        } catch (SocketException e) {
+            throw new UncheckedIOException("No se pudo abrir el puerto de invalidación " + puerto, e);
+        }
+        this.nodos = List.copyOf(nodos);
+    }
+
+    /**
+     * Obtiene el puerto local en que se reciben las tramas.
+     * @return Puerto local
+     */
+    public int getPuerto() {
+        return socket.getLocalPort();
+    }
+
+    @Override
+    public void enviar(byte[] trama) {
+        for (InetSocketAddress nodo : nodos) {
+            try {
+                socket.send(new DatagramPacket(trama, trama.length, nodo));
+            } catch (IOException e) {
+                log.warn("No se pudo enviar la invalidación a {}", nodo, e);
+            }
+        }
+    }
+
+    @Override
+    public synchronized void escuchar(Consumer<byte[]> destino) {
+        if (receptor != null) {
+            throw new IllegalStateException("El transporte ya tiene un receptor");
+        }
+        receptor = new Thread(() -> recibir(destino), "invalidacion-udp");
+        receptor.setDaemon(true);
+        receptor.start();
+    }
+
+    @Override
+    public void close() {
+        socket.close();
+    }
+
+    // MÉTODOS PRIVADOS
+
+    private void recibir(Consumer<byte[]> destino) {
+        byte[] buffer = new byte[512];
+        while (!socket.isClosed()) {
+            DatagramPacket paquete = new DatagramPacket(buffer, buffer.length);
+            try {
+                socket.receive(paquete);
+            } catch (IOException e) {
+                if (!socket.isClosed()) {
+                    log.error("Error al recibir una invalidación", e);
+                }
+                continue;
+            }
+            destino.accept(Arrays.copyOf(paquete.getData(), paquete.getLength()));
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.SAFE_Rescue.API_Recursos.modelo;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.Instant;
+
+/**
+ * Entidad que representa la demanda agregada de un tipo de recurso en un intervalo de tiempo.
+ * Cada fila acumula las solicitudes creadas en el intervalo; la mantiene {@code DemandaRecursoService}.
+ */
+@Entity
+@Table(name = "demanda_recurso",
+        uniqueConstraints = @UniqueConstraint(name = "uk_demanda_recurso_intervalo",
+                columnNames = {"granularidad", "inicio", "tipo_recurso_id"}))
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+public class DemandaRecurso {
+
+    /**
+     * Identificador único del intervalo agregado.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "demanda_recurso_seq")
+    @SequenceGenerator(name = "demanda_recurso_seq", sequenceName = "demanda_recurso_seq", allocationSize = 50)
+    @Schema(description = "Identificador único del intervalo agregado")
+    private Long id;
+
+    /**
+     * Tamaño del intervalo.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(length = 4, nullable = false)
+    @Schema(description = "Tamaño del intervalo", example = "HORA", required = true)
+    private Granularidad granularidad;
+
+    /**
+     * Inicio del intervalo (UTC).
+     */
+    @Column(nullable = false)
+    @Schema(description = "Inicio del intervalo", example = "2025-01-01T12:00:00Z", required = true)
+    private Instant inicio;
+
+    /**
+     * ID del tipo de recurso solicitado.
+     */
+    @Column(name = "tipo_recurso_id", nullable = false)
+    @Schema(description = "ID del tipo de recurso solicitado", example = "1", required = true)
+    private Integer tipoRecursoId;
+
+    /**
+     * Cantidad de solicitudes creadas en el intervalo.
+     */
+    @Column(nullable = false)
+    @Schema(description = "Cantidad de solicitudes creadas en el intervalo", example = "12", required = true)
+    private Long solicitudes;
+}
@@ -0,0 +1,119 @@
+package com.SAFE_Rescue.API_Recursos.modelo;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+import java.text.Normalizer;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Catálogo canónico de estados para recursos, vehículos y solicitudes de recursos.
+ * <p>
+ * En la API cada estado se representa con su etiqueta (por ejemplo "En Proceso"), y en la base de datos
+ * con un código numérico de un byte (columna TINYINT) mediante {@link EstadoConverter}.
+ * Los códigos son fijos y no dependen del orden de declaración: para agregar un estado se asigna un código nuevo.
+ * En memoria, el ordinal permite usar arreglos indexados por estado.
+ * </p>
+ */
+public enum Estado {
+
+    // Estados de recursos
+    DISPONIBLE(1, "Disponible"),
+    ACTIVO(2, "Activo"),
+    RESERVADO(3, "Reservado"),
+    AGOTADO(4, "Agotado"),
+
+    // Estados de vehículos
+    OPERATIVO(5, "Operativo"),
+    EN_MANTENCION(6, "En Mantención"),
+    FUERA_DE_SERVICIO(7, "Fuera de Servicio"),
+
+    // Estados de solicitudes
+    PENDIENTE(8, "Pendiente"),
+    EN_PROCESO(9, "En Proceso"),
+    COMPLETADA(10, "Completada"),
+    RECHAZADA(11, "Rechazada");
+
+    private static final Estado[] POR_CODIGO = new Estado[Byte.MAX_VALUE + 1];
+    private static final Map<String, Estado> POR_ETIQUETA = new HashMap<>();
+
+    static {
+        for (Estado estado : values()) {
+            POR_CODIGO[estado.codigo] = estado;
+            POR_ETIQUETA.put(normalizar(estado.etiqueta), estado);
+            POR_ETIQUETA.put(normalizar(estado.name()), estado);
+        }
+    }
+
+    private final byte codigo;
+    private final String etiqueta;
+
+    Estado(int codigo, String etiqueta) {
+        this.codigo = (byte) codigo;
+        this.etiqueta = etiqueta;
+    }
+
+    /**
+     * Código numérico almacenado en la base de datos.
+     * @return Código del estado
+     */
+    public byte getCodigo() {
+        return codigo;
+    }
+
+    /**
+     * Etiqueta del estado, usada en la API.
+     * @return Etiqueta del estado
+     */
+    @JsonValue
+    public String getEtiqueta() {
+        return etiqueta;
+    }
+
+    /**
+     * Obtiene el estado correspondiente a un código de la base de datos.
+     * @param codigo Código almacenado
+     * @return Estado del código
+     * @throws IllegalArgumentException Si el código no pertenece al catálogo
+     */
+    public static Estado desdeCodigo(byte codigo) {
+        Estado estado = codigo >= 0 ? POR_CODIGO[codigo] : null;
+        if (estado == null) {
+            throw new IllegalArgumentException("Código de estado desconocido: " + codigo);
+        }
+        return estado;
+    }
+
+    /**
+     * Obtiene el estado correspondiente a una etiqueta.
+     * Acepta la etiqueta o el nombre de la constante, sin distinguir mayúsculas ni tildes.
+     * @param etiqueta Etiqueta recibida (por ejemplo "en proceso" o "EN_PROCESO")
+     * @return Estado de la etiqueta, o null si la etiqueta es nula
+     * @throws IllegalArgumentException Si la etiqueta no pertenece al catálogo
+     */
+    @JsonCreator
+    public static Estado desdeEtiqueta(String etiqueta) {
+        if (etiqueta == null) {
+            return null;
+        }
+        Estado estado = POR_ETIQUETA.get(normalizar(etiqueta));
+        if (estado == null) {
+            throw new IllegalArgumentException("Estado desconocido: " + etiqueta);
+        }
+        return estado;
+    }
+
+    @Override
+    public String toString() {
+        return etiqueta;
+    }
+
+    private static String normalizar(String texto) {
+        return Normalizer.normalize(texto.trim(), Normalizer.Form.NFD)
+                .replaceAll("\\p{M}", "")
+                .replace('_', ' ')
+                .toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,21 @@
+package com.SAFE_Rescue.API_Recursos.modelo;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * Convierte un {@link Estado} a su código de un byte para almacenarlo en una columna TINYINT.
+ */
+@Converter
+public class EstadoConverter implements AttributeConverter<Estado, Byte> {
+
+    @Override
+    public Byte convertToDatabaseColumn(Estado estado) {
+        return estado == null ? null : estado.getCodigo();
+    }
+
+    @Override
+    public Estado convertToEntityAttribute(Byte codigo) {
+        return codigo == null ? null : Estado.desdeCodigo(codigo);
+    }
+}
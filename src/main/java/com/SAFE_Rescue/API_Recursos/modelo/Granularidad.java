@@ -0,0 +1,37 @@
+package com.SAFE_Rescue.API_Recursos.modelo;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Tamaño de los intervalos de tiempo en que se agrega la demanda de recursos.
+ * Los intervalos se calculan en UTC.
+ */
+public enum Granularidad {
+
+    HORA(ChronoUnit.HOURS),
+    DIA(ChronoUnit.DAYS);
+
+    private final ChronoUnit unidad;
+
+    Granularidad(ChronoUnit unidad) {
+        this.unidad = unidad;
+    }
+
+    /**
+     * Obtiene el inicio del intervalo que contiene el instante indicado.
+     * @param instante Instante a truncar
+     * @return Inicio del intervalo (UTC)
+     */
+    public Instant inicio(Instant instante) {
+        return instante.truncatedTo(unidad);
+    }
+
+    /**
+     * Obtiene la unidad de tiempo del intervalo.
+     * @return Unidad de tiempo
+     */
+    public ChronoUnit getUnidad() {
+        return unidad;
+    }
+}
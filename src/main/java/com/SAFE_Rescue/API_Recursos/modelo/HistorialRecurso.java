@@ -0,0 +1,84 @@
+package com.SAFE_Rescue.API_Recursos.modelo;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.Instant;
+
+/**
+ * Entidad que representa un cambio de cantidad o estado de un recurso.
+ * La tabla es de solo inserción: cada modificación agrega una fila y nunca se actualizan las existentes.
+ */
+@Entity
+@Table(name = "historial_recurso",
+        indexes = @Index(name = "idx_historial_recurso_fecha", columnList = "recurso_id, fecha"))
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+public class HistorialRecurso {
+
+    /**
+     * Identificador único del registro.
+     * Se genera con una secuencia (en MySQL, una tabla de secuencia) para permitir inserciones por lotes.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "historial_recurso_seq")
+    @SequenceGenerator(name = "historial_recurso_seq", sequenceName = "historial_recurso_seq", allocationSize = 50)
+    @Schema(description = "Identificador único del registro de historial")
+    private Long id;
+
+    /**
+     * ID del recurso modificado.
+     * Se guarda sin clave foránea para conservar el historial de recursos eliminados.
+     */
+    @Column(name = "recurso_id", nullable = false)
+    @Schema(description = "ID del recurso modificado", example = "1", required = true)
+    private Integer recursoId;
+
+    /**
+     * Fecha y hora del cambio (UTC).
+     */
+    @Column(nullable = false)
+    @Schema(description = "Fecha y hora del cambio", example = "2025-01-01T12:00:00Z", required = true)
+    private Instant fecha;
+
+    /**
+     * Usuario o sistema que realizó el cambio.
+     */
+    @Column(length = 50, nullable = false)
+    @Schema(description = "Usuario que realizó el cambio", example = "central-norte", required = true, maxLength = 50)
+    private String actor;
+
+    /**
+     * Cantidad antes del cambio (nula si el recurso fue creado).
+     */
+    @Column(name = "cantidad_anterior")
+    @Schema(description = "Cantidad antes del cambio", example = "10")
+    private Integer cantidadAnterior;
+
+    /**
+     * Cantidad después del cambio.
+     */
+    @Column(name = "cantidad_nueva")
+    @Schema(description = "Cantidad después del cambio", example = "8")
+    private Integer cantidadNueva;
+
+    /**
+     * Estado antes del cambio (nulo si el recurso fue creado).
+     */
+    @Convert(converter = EstadoConverter.class)
+    @Column(name = "estado_anterior")
+    @Schema(description = "Estado antes del cambio", example = "Disponible")
+    private Estado estadoAnterior;
+
+    /**
+     * Estado después del cambio.
+     */
+    @Convert(converter = EstadoConverter.class)
+    @Column(name = "estado_nuevo")
+    @Schema(description = "Estado después del cambio", example = "Reservado")
+    private Estado estadoNuevo;
+}
@@ -0,0 +1,51 @@
+package com.SAFE_Rescue.API_Recursos.modelo;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.Instant;
+
+/**
+ * Entidad que registra el resultado de una solicitud recibida por la ingesta asíncrona.
+ * Se inserta en la misma transacción que la solicitud, por lo que permite saber si un registro del diario
+ * ya fue persistido y consultar el estado por su ID de seguimiento.
+ */
+@Entity
+@Table(name = "ingesta_solicitud")
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+public class IngestaSolicitud {
+
+    /**
+     * ID de seguimiento entregado al aceptar la solicitud.
+     */
+    @Id
+    @Column(length = 36)
+    @Schema(description = "ID de seguimiento de la solicitud", example = "3f1c2b9e-8d4a-4c55-9a61-0b7e4f7f2a10")
+    private String seguimiento;
+
+    /**
+     * ID de la solicitud creada (nulo si fue rechazada).
+     */
+    @Column(name = "solicitud_id")
+    @Schema(description = "ID de la solicitud creada", example = "125")
+    private Integer solicitudId;
+
+    /**
+     * Fecha y hora en que se aceptó la solicitud (UTC).
+     */
+    @Column(nullable = false)
+    @Schema(description = "Fecha y hora en que se aceptó la solicitud", example = "2025-01-01T12:00:00Z")
+    private Instant fecha;
+
+    /**
+     * Motivo del rechazo al persistir (nulo si se guardó).
+     */
+    @Column(length = 400)
+    @Schema(description = "Motivo del rechazo al persistir la solicitud", example = "El recurso indicado no existe")
+    private String error;
+}
@@ -0,0 +1,34 @@
+package com.SAFE_Rescue.API_Recursos.modelo;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Entidad que guarda hasta qué fila de origen llegó un proceso de agregación incremental.
+ * Se actualiza en la misma transacción que los datos agregados, por lo que nunca cuenta una fila dos veces.
+ */
+@Entity
+@Table(name = "marca_agregacion")
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+public class MarcaAgregacion {
+
+    /**
+     * Nombre del proceso de agregación.
+     */
+    @Id
+    @Column(length = 50)
+    @Schema(description = "Nombre del proceso de agregación", example = "demanda_recurso")
+    private String nombre;
+
+    /**
+     * Último ID de origen incluido en la agregación.
+     */
+    @Column(name = "ultimo_id", nullable = false)
+    @Schema(description = "Último ID de origen incluido en la agregación", example = "1500")
+    private Integer ultimoId;
+}
@@ -0,0 +1,19 @@
+package com.SAFE_Rescue.API_Recursos.modelo;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * Página de resultados de una consulta paginada.
+ * @param contenido Elementos de la página
+ * @param pagina Número de página, desde 0
+ * @param tamanio Tamaño de página solicitado
+ * @param total Cantidad total de elementos que cumplen la consulta
+ */
+public record Pagina<T>(
+        @Schema(description = "Elementos de la página") List<T> contenido,
+        @Schema(description = "Número de página, desde 0", example = "0") int pagina,
+        @Schema(description = "Tamaño de página solicitado", example = "50") int tamanio,
+        @Schema(description = "Cantidad total de elementos", example = "1200") long total) {
+}
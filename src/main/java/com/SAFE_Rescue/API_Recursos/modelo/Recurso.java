@@ -44,12 +44,13 @@ public class Recurso {
     private Integer cantidad;
 
     /**
-     * Nombre descriptivo del estado del recurso.
-     * Debe ser un valor no nulo y con una longitud máxima recomendada de 50 caracteres.
+     * Estado del recurso según el catálogo {@link Estado}.
+     * Debe ser un valor no nulo. Se almacena como código TINYINT.
      */
-    @Column(length = 50, nullable = false)
-    @Schema(description = "Estado del recurso", example = "Disponible", required = true, maxLength = 50)
-    private String estado;
+    @Convert(converter = EstadoConverter.class)
+    @Column(nullable = false)
+    @Schema(description = "Estado del recurso", example = "Disponible", required = true)
+    private Estado estado;
 
     /**
      * Tipo de Recurso (especialización).
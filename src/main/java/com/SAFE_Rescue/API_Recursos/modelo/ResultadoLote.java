@@ -0,0 +1,15 @@
+package com.SAFE_Rescue.API_Recursos.modelo;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * Resultado de una búsqueda por lista de IDs.
+ * @param resultados Elementos en el mismo orden que los IDs pedidos, con null en la posición de cada ID inexistente
+ * @param noEncontrados IDs pedidos que no existen, en orden y sin repetir
+ */
+public record ResultadoLote<T>(
+        @Schema(description = "Elementos en el orden de los IDs pedidos; null donde el ID no existe") List<T> resultados,
+        @Schema(description = "IDs pedidos que no existen", example = "[99]") List<Integer> noEncontrados) {
+}
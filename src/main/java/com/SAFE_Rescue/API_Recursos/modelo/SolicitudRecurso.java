@@ -1,11 +1,14 @@
 package com.SAFE_Rescue.API_Recursos.modelo;
 
+import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import io.swagger.v3.oas.annotations.media.Schema;
 
+import java.time.Instant;
+
 /**
  * Entidad que representa una solicitud de recurso.
  * Contiene información básica de identificación y ubicación.
@@ -14,7 +17,11 @@ import io.swagger.v3.oas.annotations.media.Schema;
 @AllArgsConstructor
 @Data
 @Entity
-@Table(name = "solicitud_recurso")
+@Table(name = "solicitud_recurso",
+        indexes = {
+                @Index(name = "idx_solicitud_recurso_fecha_creacion", columnList = "fecha_creacion"),
+                @Index(name = "idx_solicitud_recurso_region_fecha", columnList = "region, fecha_creacion")
+        })
 public class SolicitudRecurso {
 
     /**
@@ -56,12 +63,13 @@ public class SolicitudRecurso {
     private Bombero bombero;
 
     /**
-     * Estado de la solicitud.
-     * Debe ser un valor no nulo y con una longitud máxima recomendada de 50 caracteres.
+     * Estado de la solicitud según el catálogo {@link Estado}.
+     * Debe ser un valor no nulo. Se almacena como código TINYINT.
      */
-    @Column(length = 50, nullable = false)
-    @Schema(description = "Estado de la solicitud", example = "Pendiente", required = true, maxLength = 50)
-    private String estado;
+    @Convert(converter = EstadoConverter.class)
+    @Column(nullable = false)
+    @Schema(description = "Estado de la solicitud", example = "Pendiente", required = true)
+    private Estado estado;
 
     /**
      * Recurso solicitado.
@@ -71,4 +79,34 @@ public class SolicitudRecurso {
     @JoinColumn(name = "recurso_id", referencedColumnName = "id")
     @Schema(description = "Recurso solicitado en la solicitud", required = true)
     private Recurso recurso;
-}
\ No newline at end of file
+
+    /**
+     * Fecha y hora de creación de la solicitud (UTC).
+     * La asigna el servidor al insertar; es nula en solicitudes anteriores a este campo.
+     */
+    @Column(name = "fecha_creacion", updatable = false)
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    @Schema(description = "Fecha y hora de creación de la solicitud", example = "2025-01-01T12:00:00Z", accessMode = Schema.AccessMode.READ_ONLY)
+    private Instant fechaCreacion;
+
+    /**
+     * Región o estación que origina la solicitud.
+     * Determina el fragmento de base de datos donde se guarda la solicitud (ver {@code Fragmentos});
+     * sin región, la solicitud queda en la base de datos principal. No se puede cambiar después de crearla.
+     * Restricciones:
+     * - Máximo 30 caracteres.
+     */
+    @Column(length = 30, updatable = false)
+    @Schema(description = "Región o estación que origina la solicitud", example = "norte", maxLength = 30)
+    private String region;
+
+    /**
+     * Asigna la fecha de creación al insertar si no se indicó otra (por ejemplo, al generar datos de prueba).
+     */
+    @PrePersist
+    void asignarFechaCreacion() {
+        if (fechaCreacion == null) {
+            fechaCreacion = Instant.now();
+        }
+    }
+}
@@ -58,12 +58,13 @@ public class Vehiculo {
     private String conductor;
 
     /**
-     * Nombre descriptivo del estado del vehículo.
-     * Debe ser un valor no nulo y con una longitud máxima recomendada de 50 caracteres.
+     * Estado del vehículo según el catálogo {@link Estado}.
+     * Debe ser un valor no nulo. Se almacena como código TINYINT.
      */
-    @Column(length = 50, nullable = false)
-    @Schema(description = "Estado del vehículo", example = "Operativo", required = true, maxLength = 50)
-    private String estado;
+    @Convert(converter = EstadoConverter.class)
+    @Column(nullable = false)
+    @Schema(description = "Estado del vehículo", example = "Operativo", required = true)
+    private Estado estado;
 
     /**
      * Tipo de Vehículo (especialización).
@@ -2,8 +2,13 @@ package com.SAFE_Rescue.API_Recursos.repository;
 
 import com.SAFE_Rescue.API_Recursos.modelo.Bombero;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
 /**
  * Repositorio para la gestión de Bomberos
  * Maneja operaciones CRUD desde la base de datos usando Jakarta
@@ -11,7 +16,18 @@ import org.springframework.stereotype.Repository;
 @Repository
 public interface BomberoRepository extends JpaRepository<Bombero, Integer>{
 
-}
-
-
+    /**
+     * Busca un bombero por su teléfono (columna única).
+     * @param telefono Teléfono del bombero
+     * @return Bombero encontrado, si existe
+     */
+    Optional<Bombero> findByTelefono(Integer telefono);
 
+    /**
+     * Obtiene los bomberos con ID mayor al indicado, en orden de ID, para el refresco incremental del directorio.
+     * @param id Último ID conocido
+     * @param limite Cantidad máxima de filas
+     * @return Bomberos agregados después del ID indicado
+     */
+    List<Bombero> findByIdGreaterThanOrderByIdAsc(Integer id, Limit limite);
+}
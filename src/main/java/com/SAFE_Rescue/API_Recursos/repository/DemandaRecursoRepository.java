@@ -0,0 +1,47 @@
+package com.SAFE_Rescue.API_Recursos.repository;
+
+import com.SAFE_Rescue.API_Recursos.modelo.DemandaRecurso;
+import com.SAFE_Rescue.API_Recursos.modelo.Granularidad;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repositorio para la demanda de recursos agregada por intervalos de tiempo
+ * Las consultas leen solo los intervalos agregados, nunca las solicitudes
+ */
+@Repository
+public interface DemandaRecursoRepository extends JpaRepository<DemandaRecurso, Long> {
+
+    /**
+     * Obtiene los intervalos de todos los tipos de recurso en un rango de fechas.
+     * @param granularidad Tamaño del intervalo
+     * @param desde Inicio del rango (inclusive)
+     * @param hasta Fin del rango (inclusive)
+     * @return Intervalos ordenados por inicio y tipo de recurso
+     */
+    List<DemandaRecurso> findByGranularidadAndInicioBetweenOrderByInicioAscTipoRecursoIdAsc(
+            Granularidad granularidad, Instant desde, Instant hasta);
+
+    /**
+     * Obtiene los intervalos de un tipo de recurso en un rango de fechas.
+     * @param granularidad Tamaño del intervalo
+     * @param tipoRecursoId ID del tipo de recurso
+     * @param desde Inicio del rango (inclusive)
+     * @param hasta Fin del rango (inclusive)
+     * @return Intervalos ordenados por inicio
+     */
+    List<DemandaRecurso> findByGranularidadAndTipoRecursoIdAndInicioBetweenOrderByInicioAsc(
+            Granularidad granularidad, Integer tipoRecursoId, Instant desde, Instant hasta);
+
+    /**
+     * Obtiene los intervalos existentes con los inicios indicados, para acumular sobre ellos.
+     * @param granularidad Tamaño del intervalo
+     * @param inicios Inicios de intervalo
+     * @return Intervalos encontrados
+     */
+    List<DemandaRecurso> findByGranularidadAndInicioIn(Granularidad granularidad, Collection<Instant> inicios);
+}
@@ -0,0 +1,25 @@
+package com.SAFE_Rescue.API_Recursos.repository;
+
+import com.SAFE_Rescue.API_Recursos.modelo.HistorialRecurso;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Repositorio para el historial de cambios de Recursos
+ * Solo se agregan registros; las consultas filtran por recurso y rango de fechas
+ */
+@Repository
+public interface HistorialRecursoRepository extends JpaRepository<HistorialRecurso, Long> {
+
+    /**
+     * Obtiene los cambios de un recurso en un rango de fechas, usando el índice (recurso_id, fecha).
+     * @param recursoId ID del recurso
+     * @param desde Inicio del rango (inclusive)
+     * @param hasta Fin del rango (inclusive)
+     * @return Cambios ordenados del más antiguo al más reciente
+     */
+    List<HistorialRecurso> findByRecursoIdAndFechaBetweenOrderByFechaAscIdAsc(Integer recursoId, Instant desde, Instant hasta);
+}
@@ -0,0 +1,14 @@
+package com.SAFE_Rescue.API_Recursos.repository;
+
+import com.SAFE_Rescue.API_Recursos.modelo.IngestaSolicitud;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repositorio para los resultados de la ingesta asíncrona de solicitudes
+ * Maneja operaciones CRUD desde la base de datos usando Jakarta
+ */
+@Repository
+public interface IngestaSolicitudRepository extends JpaRepository<IngestaSolicitud, String> {
+
+}
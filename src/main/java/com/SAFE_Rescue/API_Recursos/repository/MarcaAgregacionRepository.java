@@ -0,0 +1,14 @@
+package com.SAFE_Rescue.API_Recursos.repository;
+
+import com.SAFE_Rescue.API_Recursos.modelo.MarcaAgregacion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repositorio para las marcas de avance de las agregaciones incrementales
+ * Maneja operaciones CRUD desde la base de datos usando Jakarta
+ */
+@Repository
+public interface MarcaAgregacionRepository extends JpaRepository<MarcaAgregacion, String> {
+
+}
@@ -0,0 +1,229 @@
+package com.SAFE_Rescue.API_Recursos.repository;
+
+import com.SAFE_Rescue.API_Recursos.excepcion.CodigoError;
+import com.SAFE_Rescue.API_Recursos.excepcion.DatosInvalidosException;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import jakarta.persistence.metamodel.Attribute;
+import jakarta.persistence.metamodel.EntityType;
+import jakarta.persistence.metamodel.ManagedType;
+import jakarta.persistence.metamodel.SingularAttribute;
+import org.springframework.stereotype.Repository;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Repositorio de consultas con proyección de campos ("sparse fieldsets").
+ * <p>
+ * Traduce una lista de campos como {@code id,titulo,bombero.nombre,recurso.tipoRecurso.nombre} a una consulta
+ * JPA de tuplas que selecciona solo esas columnas, con LEFT JOIN únicamente hacia las asociaciones pedidas.
+ * Los campos se validan contra el metamodelo JPA; nombrar una asociación sin atributo (por ejemplo
+ * {@code bombero}) equivale a pedir todos sus atributos simples. El resultado se devuelve como mapas anidados
+ * con la misma forma que el JSON de la entidad completa; una asociación nula se devuelve como {@code null}.
+ * </p>
+ */
+@Repository
+public class ProyeccionRepository {
+
+    private static final int PROFUNDIDAD_MAXIMA = 3;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Obtiene todas las filas de una entidad con solo los campos indicados, ordenadas por ID.
+     * @param entidad Clase de la entidad a consultar
+     * @param campos Lista de campos separados por coma
+     * @return Lista de mapas (anidados para las asociaciones) con los campos solicitados
+     * @throws IllegalArgumentException Si la lista está vacía o algún campo no existe
+     */
+    public List<Map<String, Object>> proyectar(Class<?> entidad, String campos) {
+        EntityType<?> tipo = entityManager.getMetamodel().entity(entidad);
+        List<String> rutas = resolver(tipo, campos);
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> consulta = cb.createTupleQuery();
+        Root<?> raiz = consulta.from(entidad);
+        Map<String, From<?, ?>> uniones = new HashMap<>();
+        List<Selection<?>> selecciones = new ArrayList<>(rutas.size());
+        for (String ruta : rutas) {
+            selecciones.add(camino(raiz, ruta, uniones));
+        }
+        consulta.multiselect(selecciones)
+                .orderBy(cb.asc(raiz.get(tipo.getId(tipo.getIdType().getJavaType()).getName())));
+
+        List<Tuple> filas = entityManager.createQuery(consulta).getResultList();
+        List<Map<String, Object>> resultado = new ArrayList<>(filas.size());
+        for (Tuple fila : filas) {
+            Map<String, Object> objeto = new LinkedHashMap<>();
+            for (int i = 0; i < rutas.size(); i++) {
+                colocar(objeto, rutas.get(i), fila.get(i));
+            }
+            resultado.add(anularAsociacionesVacias(objeto));
+        }
+        return resultado;
+    }
+
+    /**
+     * Proyecta entidades ya cargadas fuera de JPA, como las de los fragmentos, con la misma validación de campos
+     * y la misma forma de resultado que {@link #proyectar(Class, String)}. Los campos se validan antes de cargar.
+     * @param entidad Clase de las entidades
+     * @param campos Lista de campos separados por coma
+     * @param cargar Obtiene las entidades a proyectar
+     * @return Lista de mapas con los campos solicitados, en el orden en que se cargaron las entidades
+     * @throws IllegalArgumentException Si la lista está vacía o algún campo no existe
+     */
+    public <T> List<Map<String, Object>> proyectar(Class<T> entidad, String campos, Supplier<? extends Collection<T>> cargar) {
+        List<String> rutas = resolver(entityManager.getMetamodel().entity(entidad), campos);
+        Collection<T> entidades = cargar.get();
+        List<Map<String, Object>> resultado = new ArrayList<>(entidades.size());
+        for (T instancia : entidades) {
+            Map<String, Object> objeto = new LinkedHashMap<>();
+            for (String ruta : rutas) {
+                colocar(objeto, ruta, valor(instancia, ruta));
+            }
+            resultado.add(anularAsociacionesVacias(objeto));
+        }
+        return resultado;
+    }
+
+    /**
+     * Valida la lista de campos contra el metamodelo y la expande a rutas de atributos simples.
+     * @param tipo Entidad raíz
+     * @param campos Lista de campos separados por coma
+     * @return Rutas de atributos simples, sin duplicados y en el orden pedido
+     * @throws IllegalArgumentException Si la lista está vacía o algún campo no existe
+     */
+    public List<String> resolver(ManagedType<?> tipo, String campos) {
+        Set<String> rutas = new LinkedHashSet<>();
+        for (String campo : campos.split(",")) {
+            String ruta = campo.trim();
+            if (!ruta.isEmpty()) {
+                expandir(tipo, ruta, ruta.split("\\."), 0, rutas);
+            }
+        }
+        if (rutas.isEmpty()) {
+            throw new DatosInvalidosException(CodigoError.DATOS_INVALIDOS, "Debe indicar al menos un campo en fields");
+        }
+        return new ArrayList<>(rutas);
+    }
+
+    // MÉTODOS PRIVADOS
+
+    private void expandir(ManagedType<?> tipo, String ruta, String[] segmentos, int nivel, Set<String> rutas) {
+        if (nivel >= PROFUNDIDAD_MAXIMA) {
+            throw new DatosInvalidosException(CodigoError.CAMPO_DESCONOCIDO, "El campo excede la profundidad máxima (" + PROFUNDIDAD_MAXIMA + "): " + ruta);
+        }
+        Attribute<?, ?> atributo = atributo(tipo, segmentos[nivel], ruta);
+        boolean ultimo = nivel == segmentos.length - 1;
+
+        if (atributo.getPersistentAttributeType() == Attribute.PersistentAttributeType.BASIC) {
+            if (!ultimo) {
+                throw new DatosInvalidosException(CodigoError.CAMPO_DESCONOCIDO, "Campo desconocido: " + ruta);
+            }
+            rutas.add(ruta);
+            return;
+        }
+        if (!(atributo instanceof SingularAttribute<?, ?> singular) || !(singular.getType() instanceof ManagedType<?> asociado)) {
+            throw new DatosInvalidosException(CodigoError.CAMPO_DESCONOCIDO, "Campo no proyectable: " + ruta);
+        }
+        if (!ultimo) {
+            expandir(asociado, ruta, segmentos, nivel + 1, rutas);
+            return;
+        }
+        // Asociación sin atributo: todos sus atributos simples, en el orden en que se declaran
+        for (Field campo : asociado.getJavaType().getDeclaredFields()) {
+            Attribute<?, ?> simple = atributoOpcional(asociado, campo.getName());
+            if (simple != null && simple.getPersistentAttributeType() == Attribute.PersistentAttributeType.BASIC) {
+                rutas.add(ruta + "." + campo.getName());
+            }
+        }
+    }
+
+    private static Attribute<?, ?> atributo(ManagedType<?> tipo, String nombre, String ruta) {
+        Attribute<?, ?> atributo = atributoOpcional(tipo, nombre);
+        if (atributo == null) {
+            throw new DatosInvalidosException(CodigoError.CAMPO_DESCONOCIDO, "Campo desconocido: " + ruta);
+        }
+        return atributo;
+    }
+
+    private static Attribute<?, ?> atributoOpcional(ManagedType<?> tipo, String nombre) {
+        try {
+            return tipo.getAttribute(nombre);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static Path<?> camino(Root<?> raiz, String ruta, Map<String, From<?, ?>> uniones) {
+        String[] segmentos = ruta.split("\\.");
+        From<?, ?> actual = raiz;
+        StringBuilder prefijo = new StringBuilder();
+        for (int i = 0; i < segmentos.length - 1; i++) {
+            prefijo.append(i == 0 ? "" : ".").append(segmentos[i]);
+            From<?, ?> padre = actual;
+            String asociacion = segmentos[i];
+            actual = uniones.computeIfAbsent(prefijo.toString(), clave -> padre.join(asociacion, JoinType.LEFT));
+        }
+        return actual.get(segmentos[segmentos.length - 1]);
+    }
+
+    /**
+     * Lee una ruta de atributos sobre una entidad en memoria; una asociación nula en el camino da {@code null}.
+     */
+    private static Object valor(Object instancia, String ruta) {
+        Object actual = instancia;
+        for (String segmento : ruta.split("\\.")) {
+            if (actual == null) {
+                return null;
+            }
+            Field campo = ReflectionUtils.findField(actual.getClass(), segmento);
+            ReflectionUtils.makeAccessible(campo);
+            actual = ReflectionUtils.getField(campo, actual);
+        }
+        return actual;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void colocar(Map<String, Object> objeto, String ruta, Object valor) {
+        String[] segmentos = ruta.split("\\.");
+        Map<String, Object> actual = objeto;
+        for (int i = 0; i < segmentos.length - 1; i++) {
+            actual = (Map<String, Object>) actual.computeIfAbsent(segmentos[i], clave -> new LinkedHashMap<String, Object>());
+        }
+        actual.put(segmentos[segmentos.length - 1], valor);
+    }
+
+    /**
+     * Reemplaza por null las asociaciones cuyo LEFT JOIN no encontró fila (todos sus valores nulos).
+     */
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> anularAsociacionesVacias(Map<String, Object> objeto) {
+        for (Map.Entry<String, Object> entrada : objeto.entrySet()) {
+            if (entrada.getValue() instanceof Map<?, ?> anidado) {
+                Map<String, Object> limpio = anularAsociacionesVacias((Map<String, Object>) anidado);
+                entrada.setValue(limpio.values().stream().allMatch(valor -> valor == null) ? null : limpio);
+            }
+        }
+        return objeto;
+    }
+}
@@ -1,9 +1,17 @@
 package com.SAFE_Rescue.API_Recursos.repository;
 
+import com.SAFE_Rescue.API_Recursos.modelo.Estado;
 import com.SAFE_Rescue.API_Recursos.modelo.Recurso;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 /**
  * Repositorio para la gestión de Recursos
  * Maneja operaciones CRUD desde la base de datos usando Jakarta
@@ -11,5 +19,31 @@ import org.springframework.stereotype.Repository;
 @Repository
 public interface RecursoRepository extends JpaRepository<Recurso, Integer> {
 
+    /**
+     * Obtiene todos los recursos junto con su tipo de recurso en una sola consulta, en lugar de una consulta
+     * adicional por cada tipo distinto.
+     * @return Lista de recursos
+     */
+    @Override
+    @EntityGraph(attributePaths = "tipoRecurso")
+    List<Recurso> findAll();
+
+    /**
+     * Cambia el estado de un recurso solo si su estado actual es el esperado.
+     * @return Cantidad de filas actualizadas (0 si el estado no coincidía)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Recurso r SET r.estado = :estadoNuevo WHERE r.id = :id AND r.estado = :estadoEsperado")
+    int actualizarEstadoSiCoincide(@Param("id") Integer id,
+                                   @Param("estadoEsperado") Estado estadoEsperado,
+                                   @Param("estadoNuevo") Estado estadoNuevo);
+
+    /**
+     * Obtiene los recursos indicados junto con su tipo de recurso en una sola consulta.
+     * @param ids IDs de los recursos
+     * @return Recursos encontrados, en cualquier orden
+     */
+    @Query("SELECT r FROM Recurso r LEFT JOIN FETCH r.tipoRecurso WHERE r.id IN :ids")
+    List<Recurso> findAllConTipoByIdIn(@Param("ids") Collection<Integer> ids);
 }
 
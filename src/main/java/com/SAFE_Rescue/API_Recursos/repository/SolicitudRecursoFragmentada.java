@@ -0,0 +1,83 @@
+package com.SAFE_Rescue.API_Recursos.repository;
+
+import com.SAFE_Rescue.API_Recursos.fragmento.Fragmentos;
+import com.SAFE_Rescue.API_Recursos.modelo.Pagina;
+import com.SAFE_Rescue.API_Recursos.modelo.SolicitudRecurso;
+import com.SAFE_Rescue.API_Recursos.repository.SolicitudRecursoRepository.SolicitudCreada;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Operaciones sobre solicitudes de recursos repartidas en los {@link Fragmentos} según su región.
+ * <p>
+ * Cada operación sobre una solicitud se dirige al fragmento de su región (al guardar) o de su ID (al buscar,
+ * actualizar o eliminar); los listados consultan los fragmentos en paralelo y combinan los resultados.
+ * El bombero y el recurso de cada solicitud se leen de la base de datos principal.
+ * </p>
+ */
+public interface SolicitudRecursoFragmentada {
+
+    /**
+     * Busca una solicitud en el fragmento que generó su ID.
+     * @param id ID de la solicitud
+     * @return Solicitud encontrada, o vacío si no existe
+     */
+    Optional<SolicitudRecurso> buscarEnFragmento(Integer id);
+
+    /**
+     * Busca varias solicitudes con una consulta por cada fragmento que generó alguno de los IDs.
+     * @param ids IDs de las solicitudes
+     * @return Solicitudes encontradas, en cualquier orden
+     */
+    List<SolicitudRecurso> buscarVariasEnFragmentos(Collection<Integer> ids);
+
+    /**
+     * Obtiene las solicitudes de todos los fragmentos.
+     * @return Solicitudes, de la más reciente a la más antigua
+     */
+    List<SolicitudRecurso> buscarTodasEnFragmentos();
+
+    /**
+     * Obtiene una página de solicitudes, de la más reciente a la más antigua.
+     * Con región se consulta solo su fragmento; sin región se consultan todos y se combinan los resultados.
+     * @param region Región a filtrar (nula para todas)
+     * @param pagina Número de página, desde 0
+     * @param tamanio Tamaño de página
+     * @return Página de solicitudes con el total de todos los fragmentos consultados
+     */
+    Pagina<SolicitudRecurso> listarEnFragmentos(String region, int pagina, int tamanio);
+
+    /**
+     * Inserta una solicitud nueva en el fragmento de su región, o actualiza una existente en el fragmento de su ID.
+     * @param solicitudRecurso Solicitud a guardar
+     * @return Solicitud guardada con su ID
+     */
+    SolicitudRecurso guardarEnFragmento(SolicitudRecurso solicitudRecurso);
+
+    /**
+     * Escribe el bombero y el recurso de varias solicitudes con una sentencia en lotes JDBC por cada fragmento
+     * que generó alguno de los IDs, en paralelo. Cada fragmento confirma sus cambios por separado.
+     * @param solicitudes Solicitudes existentes con sus nuevas relaciones
+     * @return Cantidad de solicitudes actualizadas
+     */
+    int asignarEnFragmentos(Collection<SolicitudRecurso> solicitudes);
+
+    /**
+     * Obtiene, en orden de ID, las solicitudes de un fragmento posteriores al ID indicado, con solo los datos
+     * necesarios para agregar la demanda. El tipo de recurso se resuelve en la base de datos principal.
+     * @param fragmento Número de fragmento
+     * @param ultimoId Último ID ya agregado de ese fragmento
+     * @param limite Cantidad máxima de filas
+     * @return Solicitudes creadas en el fragmento después del ID indicado
+     */
+    List<SolicitudCreada> buscarCreadasEnFragmento(int fragmento, Integer ultimoId, int limite);
+
+    /**
+     * Elimina una solicitud del fragmento que generó su ID.
+     * @param id ID de la solicitud
+     * @return true si la solicitud existía
+     */
+    boolean eliminarEnFragmento(Integer id);
+}
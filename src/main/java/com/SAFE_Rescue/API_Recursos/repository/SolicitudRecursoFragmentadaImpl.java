@@ -0,0 +1,379 @@
+package com.SAFE_Rescue.API_Recursos.repository;
+
+import com.SAFE_Rescue.API_Recursos.fragmento.Fragmentos;
+import com.SAFE_Rescue.API_Recursos.modelo.Bombero;
+import com.SAFE_Rescue.API_Recursos.modelo.Estado;
+import com.SAFE_Rescue.API_Recursos.modelo.Pagina;
+import com.SAFE_Rescue.API_Recursos.modelo.Recurso;
+import com.SAFE_Rescue.API_Recursos.modelo.SolicitudRecurso;
+import com.SAFE_Rescue.API_Recursos.repository.SolicitudRecursoRepository.SolicitudCreada;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Implementación JDBC de {@link SolicitudRecursoFragmentada}.
+ * <p>
+ * Un listado sin región pide a cada fragmento sus primeras {@code (pagina + 1) * tamanio} solicitudes en el
+ * mismo orden (fecha de creación y luego ID, descendentes) y las combina con una mezcla de k vías hasta
+ * completar la página; el total es la suma de los conteos de cada fragmento.
+ * </p>
+ */
+public class SolicitudRecursoFragmentadaImpl implements SolicitudRecursoFragmentada {
+
+    private static final String COLUMNAS = "id, titulo, detalle, estado, region, bombero_id, recurso_id, fecha_creacion";
+    private static final String ORDEN_SQL = " ORDER BY fecha_creacion DESC, id DESC";
+    private static final String ASIGNAR_SQL = "UPDATE solicitud_recurso SET bombero_id = ?, recurso_id = ? WHERE id = ?";
+
+    /**
+     * Mismo orden que {@link #ORDEN_SQL}: las fechas nulas quedan al final, como en MySQL y H2.
+     */
+    private static final Comparator<Fila> ORDEN = Comparator
+            .comparing((Fila fila) -> fila.solicitud().getFechaCreacion(), Comparator.nullsFirst(Comparator.<Instant>naturalOrder()))
+            .thenComparing(fila -> fila.solicitud().getId())
+            .reversed();
+
+    private static final RowMapper<Fila> FILA = (resultado, numero) -> {
+        SolicitudRecurso solicitud = new SolicitudRecurso();
+        solicitud.setId(resultado.getInt("id"));
+        solicitud.setTitulo(resultado.getString("titulo"));
+        solicitud.setDetalle(resultado.getString("detalle"));
+        solicitud.setEstado(Estado.desdeCodigo(resultado.getByte("estado")));
+        solicitud.setRegion(resultado.getString("region"));
+        Timestamp fecha = resultado.getTimestamp("fecha_creacion");
+        solicitud.setFechaCreacion(fecha == null ? null : fecha.toInstant());
+        return new Fila(solicitud, resultado.getObject("bombero_id", Integer.class),
+                resultado.getObject("recurso_id", Integer.class));
+    };
+
+    // COMPONENTES INYECTADOS (se resuelve al usarse: los tests de repositorio no cargan los componentes)
+    @Autowired private ObjectProvider<Fragmentos> proveedorFragmentos;
+
+    // REPOSITORIOS INYECTADOS
+    @Autowired private BomberoRepository bomberoRepository;
+    @Autowired private RecursoRepository recursoRepository;
+
+    /**
+     * Solicitud leída de un fragmento, con los IDs de sus relaciones aún sin resolver.
+     */
+    private record Fila(SolicitudRecurso solicitud, Integer bomberoId, Integer recursoId) {
+    }
+
+    /**
+     * Resultado de la consulta de una página en un fragmento.
+     */
+    private record Parcial(List<Fila> filas, long total) {
+    }
+
+    /**
+     * Solicitud leída para agregar la demanda, con el tipo de su recurso ya resuelto.
+     */
+    private record Creada(Integer id, Instant fechaCreacion, Integer tipoRecursoId) implements SolicitudCreada {
+
+        @Override
+        public Integer getId() {
+            return id;
+        }
+
+        @Override
+        public Instant getFechaCreacion() {
+            return fechaCreacion;
+        }
+
+        @Override
+        public Integer getTipoRecursoId() {
+            return tipoRecursoId;
+        }
+    }
+
+    @Override
+    public Optional<SolicitudRecurso> buscarEnFragmento(Integer id) {
+        int fragmento = id == null ? -1 : fragmentos().paraId(id);
+        if (fragmento < 0) {
+            return Optional.empty();
+        }
+        List<Fila> filas = fragmentos().jdbc(fragmento)
+                .query("SELECT " + COLUMNAS + " FROM solicitud_recurso WHERE id = ?", FILA, id);
+        return hidratar(filas).stream().findFirst();
+    }
+
+    @Override
+    public List<SolicitudRecurso> buscarVariasEnFragmentos(Collection<Integer> ids) {
+        Map<Integer, List<Integer>> porFragmento = new TreeMap<>();
+        for (Integer id : ids) {
+            int fragmento = id == null ? -1 : fragmentos().paraId(id);
+            if (fragmento >= 0) {
+                porFragmento.computeIfAbsent(fragmento, f -> new ArrayList<>()).add(id);
+            }
+        }
+        if (porFragmento.isEmpty()) {
+            return List.of();
+        }
+        List<List<Fila>> filas = fragmentos().consultar(new ArrayList<>(porFragmento.keySet()), (fragmento, jdbc) -> {
+            List<Integer> delFragmento = porFragmento.get(fragmento);
+            String marcadores = String.join(", ", Collections.nCopies(delFragmento.size(), "?"));
+            return jdbc.query("SELECT " + COLUMNAS + " FROM solicitud_recurso WHERE id IN (" + marcadores + ")",
+                    FILA, delFragmento.toArray());
+        });
+        List<Fila> todas = new ArrayList<>();
+        filas.forEach(todas::addAll);
+        return hidratar(todas);
+    }
+
+    @Override
+    public List<SolicitudRecurso> buscarTodasEnFragmentos() {
+        List<List<Fila>> porFragmento = fragmentos().consultar(fragmentos().todos(),
+                (fragmento, jdbc) -> jdbc.query("SELECT " + COLUMNAS + " FROM solicitud_recurso" + ORDEN_SQL, FILA));
+        return hidratar(mezclar(porFragmento, 0, Integer.MAX_VALUE));
+    }
+
+    @Override
+    public Pagina<SolicitudRecurso> listarEnFragmentos(String region, int pagina, int tamanio) {
+        List<Integer> destino = region == null ? fragmentos().todos() : List.of(fragmentos().paraRegion(region));
+        int limite = (pagina + 1) * tamanio;
+        List<Parcial> parciales = fragmentos().consultar(destino, (fragmento, jdbc) -> consultarPagina(jdbc, region, limite));
+
+        List<List<Fila>> porFragmento = new ArrayList<>(parciales.size());
+        long total = 0;
+        for (Parcial parcial : parciales) {
+            porFragmento.add(parcial.filas());
+            total += parcial.total();
+        }
+        List<Fila> filas = mezclar(porFragmento, pagina * tamanio, tamanio);
+        return new Pagina<>(hidratar(filas), pagina, tamanio, total);
+    }
+
+    @Override
+    public SolicitudRecurso guardarEnFragmento(SolicitudRecurso solicitudRecurso) {
+        if (solicitudRecurso.getId() != null) {
+            actualizar(solicitudRecurso);
+            return solicitudRecurso;
+        }
+        if (solicitudRecurso.getFechaCreacion() == null) {
+            solicitudRecurso.setFechaCreacion(Instant.now());
+        }
+        JdbcTemplate jdbc = fragmentos().jdbc(fragmentos().paraRegion(solicitudRecurso.getRegion()));
+        KeyHolder claves = new GeneratedKeyHolder();
+        jdbc.update(conexion -> {
+            PreparedStatement sentencia = conexion.prepareStatement("INSERT INTO solicitud_recurso "
+                    + "(titulo, detalle, estado, region, bombero_id, recurso_id, fecha_creacion) VALUES (?, ?, ?, ?, ?, ?, ?)",
+                    Statement.RETURN_GENERATED_KEYS);
+            sentencia.setString(1, solicitudRecurso.getTitulo());
+            sentencia.setString(2, solicitudRecurso.getDetalle());
+            sentencia.setByte(3, solicitudRecurso.getEstado().getCodigo());
+            sentencia.setString(4, solicitudRecurso.getRegion());
+            asignarId(sentencia, 5, solicitudRecurso.getBombero() == null ? null : solicitudRecurso.getBombero().getId());
+            asignarId(sentencia, 6, solicitudRecurso.getRecurso() == null ? null : solicitudRecurso.getRecurso().getId());
+            sentencia.setTimestamp(7, Timestamp.from(solicitudRecurso.getFechaCreacion()));
+            return sentencia;
+        }, claves);
+        Number id = (Number) claves.getKeyList().get(0).values().iterator().next();
+        solicitudRecurso.setId(id.intValue());
+        return solicitudRecurso;
+    }
+
+    @Override
+    public int asignarEnFragmentos(Collection<SolicitudRecurso> solicitudes) {
+        Map<Integer, List<Fila>> porFragmento = new TreeMap<>();
+        for (SolicitudRecurso solicitud : solicitudes) {
+            int fragmento = solicitud.getId() == null ? -1 : fragmentos().paraId(solicitud.getId());
+            if (fragmento < 0) {
+                throw new IllegalArgumentException("El ID " + solicitud.getId() + " no corresponde a ningún fragmento");
+            }
+            porFragmento.computeIfAbsent(fragmento, f -> new ArrayList<>()).add(new Fila(solicitud,
+                    solicitud.getBombero() == null ? null : solicitud.getBombero().getId(),
+                    solicitud.getRecurso() == null ? null : solicitud.getRecurso().getId()));
+        }
+        if (porFragmento.isEmpty()) {
+            return 0;
+        }
+        List<Integer> actualizadas = fragmentos().consultar(new ArrayList<>(porFragmento.keySet()), (fragmento, jdbc) ->
+                jdbc.execute((ConnectionCallback<Integer>) conexion -> asignarEnLote(conexion, porFragmento.get(fragmento))));
+        return actualizadas.stream().mapToInt(Integer::intValue).sum();
+    }
+
+    @Override
+    public List<SolicitudCreada> buscarCreadasEnFragmento(int fragmento, Integer ultimoId, int limite) {
+        List<Fila> filas = fragmentos().jdbc(fragmento).query("SELECT " + COLUMNAS
+                + " FROM solicitud_recurso WHERE id > ? ORDER BY id LIMIT ?", FILA, ultimoId, limite);
+        Set<Integer> idsRecursos = new HashSet<>();
+        for (Fila fila : filas) {
+            if (fila.recursoId() != null) {
+                idsRecursos.add(fila.recursoId());
+            }
+        }
+        Map<Integer, Integer> tipoPorRecurso = new HashMap<>();
+        if (!idsRecursos.isEmpty()) {
+            recursoRepository.findAllConTipoByIdIn(idsRecursos).forEach(recurso -> tipoPorRecurso.put(recurso.getId(),
+                    recurso.getTipoRecurso() == null ? null : recurso.getTipoRecurso().getId()));
+        }
+        List<SolicitudCreada> creadas = new ArrayList<>(filas.size());
+        for (Fila fila : filas) {
+            creadas.add(new Creada(fila.solicitud().getId(), fila.solicitud().getFechaCreacion(),
+                    fila.recursoId() == null ? null : tipoPorRecurso.get(fila.recursoId())));
+        }
+        return creadas;
+    }
+
+    @Override
+    public boolean eliminarEnFragmento(Integer id) {
+        int fragmento = id == null ? -1 : fragmentos().paraId(id);
+        return fragmento >= 0 && fragmentos().jdbc(fragmento).update("DELETE FROM solicitud_recurso WHERE id = ?", id) > 0;
+    }
+
+    // MÉTODOS PRIVADOS
+
+    private Fragmentos fragmentos() {
+        return proveedorFragmentos.getObject();
+    }
+
+    private void actualizar(SolicitudRecurso solicitudRecurso) {
+        int fragmento = fragmentos().paraId(solicitudRecurso.getId());
+        if (fragmento < 0) {
+            throw new IllegalArgumentException("El ID " + solicitudRecurso.getId() + " no corresponde a ningún fragmento");
+        }
+        fragmentos().jdbc(fragmento).update("UPDATE solicitud_recurso SET titulo = ?, detalle = ?, estado = ?, "
+                        + "bombero_id = ?, recurso_id = ? WHERE id = ?",
+                solicitudRecurso.getTitulo(), solicitudRecurso.getDetalle(), solicitudRecurso.getEstado().getCodigo(),
+                solicitudRecurso.getBombero() == null ? null : solicitudRecurso.getBombero().getId(),
+                solicitudRecurso.getRecurso() == null ? null : solicitudRecurso.getRecurso().getId(),
+                solicitudRecurso.getId());
+    }
+
+    /**
+     * Ejecuta las asignaciones de un fragmento en un lote JDBC. Si la conexión no participa de una transacción
+     * en curso, el lote se confirma o se revierte completo aquí.
+     */
+    private static int asignarEnLote(Connection conexion, List<Fila> filas) throws SQLException {
+        boolean confirmar = conexion.getAutoCommit();
+        if (confirmar) {
+            conexion.setAutoCommit(false);
+        }
+        try (PreparedStatement sentencia = conexion.prepareStatement(ASIGNAR_SQL)) {
+            for (Fila fila : filas) {
+                asignarId(sentencia, 1, fila.bomberoId());
+                asignarId(sentencia, 2, fila.recursoId());
+                sentencia.setInt(3, fila.solicitud().getId());
+                sentencia.addBatch();
+            }
+            int actualizadas = 0;
+            for (int resultado : sentencia.executeBatch()) {
+                actualizadas += resultado == Statement.SUCCESS_NO_INFO ? 1 : resultado;
+            }
+            if (confirmar) {
+                conexion.commit();
+            }
+            return actualizadas;
+        } catch (SQLException e) {
+            if (confirmar) {
+                conexion.rollback();
+            }
+            throw e;
+        } finally {
+            if (confirmar) {
+                conexion.setAutoCommit(true);
+            }
+        }
+    }
+
+    private static Parcial consultarPagina(JdbcTemplate jdbc, String region, int limite) {
+        if (region == null) {
+            return new Parcial(jdbc.query("SELECT " + COLUMNAS + " FROM solicitud_recurso" + ORDEN_SQL + " LIMIT ?", FILA, limite),
+                    jdbc.queryForObject("SELECT COUNT(*) FROM solicitud_recurso", Long.class));
+        }
+        String normalizada = Fragmentos.normalizarRegion(region);
+        return new Parcial(jdbc.query("SELECT " + COLUMNAS + " FROM solicitud_recurso WHERE region = ?" + ORDEN_SQL + " LIMIT ?",
+                FILA, normalizada, limite),
+                jdbc.queryForObject("SELECT COUNT(*) FROM solicitud_recurso WHERE region = ?", Long.class, normalizada));
+    }
+
+    /**
+     * Combina listas ya ordenadas según {@link #ORDEN}, omitiendo las primeras {@code desde} filas.
+     */
+    private static List<Fila> mezclar(List<List<Fila>> porFragmento, int desde, int cantidad) {
+        PriorityQueue<int[]> cabezas = new PriorityQueue<>(Math.max(1, porFragmento.size()),
+                (a, b) -> ORDEN.compare(porFragmento.get(a[0]).get(a[1]), porFragmento.get(b[0]).get(b[1])));
+        for (int fragmento = 0; fragmento < porFragmento.size(); fragmento++) {
+            if (!porFragmento.get(fragmento).isEmpty()) {
+                cabezas.add(new int[]{fragmento, 0});
+            }
+        }
+        List<Fila> resultado = new ArrayList<>(Math.min(cantidad, 1024));
+        int posicion = 0;
+        while (!cabezas.isEmpty() && resultado.size() < cantidad) {
+            int[] cabeza = cabezas.poll();
+            List<Fila> filas = porFragmento.get(cabeza[0]);
+            if (posicion++ >= desde) {
+                resultado.add(filas.get(cabeza[1]));
+            }
+            if (++cabeza[1] < filas.size()) {
+                cabezas.add(cabeza);
+            }
+        }
+        return resultado;
+    }
+
+    /**
+     * Resuelve los bomberos y recursos de las filas con una consulta por entidad a la base de datos principal.
+     */
+    private List<SolicitudRecurso> hidratar(List<Fila> filas) {
+        Set<Integer> idsBomberos = new HashSet<>();
+        Set<Integer> idsRecursos = new HashSet<>();
+        for (Fila fila : filas) {
+            if (fila.bomberoId() != null) {
+                idsBomberos.add(fila.bomberoId());
+            }
+            if (fila.recursoId() != null) {
+                idsRecursos.add(fila.recursoId());
+            }
+        }
+        Map<Integer, Bombero> bomberos = new HashMap<>();
+        if (!idsBomberos.isEmpty()) {
+            bomberoRepository.findAllById(idsBomberos).forEach(bombero -> bomberos.put(bombero.getId(), bombero));
+        }
+        Map<Integer, Recurso> recursos = new HashMap<>();
+        if (!idsRecursos.isEmpty()) {
+            recursoRepository.findAllConTipoByIdIn(idsRecursos).forEach(recurso -> recursos.put(recurso.getId(), recurso));
+        }
+        List<SolicitudRecurso> solicitudes = new ArrayList<>(filas.size());
+        for (Fila fila : filas) {
+            SolicitudRecurso solicitud = fila.solicitud();
+            solicitud.setBombero(fila.bomberoId() == null ? null : bomberos.get(fila.bomberoId()));
+            solicitud.setRecurso(fila.recursoId() == null ? null : recursos.get(fila.recursoId()));
+            solicitudes.add(solicitud);
+        }
+        return solicitudes;
+    }
+
+    private static void asignarId(PreparedStatement sentencia, int indice, Integer id) throws SQLException {
+        if (id == null) {
+            sentencia.setNull(indice, Types.INTEGER);
+        } else {
+            sentencia.setInt(indice, id);
+        }
+    }
+}
@@ -1,15 +1,85 @@
 package com.SAFE_Rescue.API_Recursos.repository;
 
 import com.SAFE_Rescue.API_Recursos.modelo.SolicitudRecurso;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
 /**
  * Repositorio para la gestión de Solicitudes de Recursos
  * Maneja operaciones CRUD desde la base de datos usando Jakarta
+ * <p>
+ * Las operaciones de {@link SolicitudRecursoFragmentada} reparten las solicitudes entre varias bases de datos
+ * según su región; las demás consultan solo la base de datos principal.
+ * </p>
  */
 @Repository
-public interface SolicitudRecursoRepository extends JpaRepository<SolicitudRecurso, Integer> {
+public interface SolicitudRecursoRepository extends JpaRepository<SolicitudRecurso, Integer>, SolicitudRecursoFragmentada {
+
+    /**
+     * Obtiene todas las solicitudes junto con su bombero, recurso y tipo de recurso en una sola consulta,
+     * en lugar de dos consultas adicionales por solicitud.
+     * @return Lista de solicitudes
+     */
+    @Override
+    @EntityGraph(attributePaths = {"bombero", "recurso", "recurso.tipoRecurso"})
+    List<SolicitudRecurso> findAll();
+
+    /**
+     * Obtiene una página de solicitudes junto con su bombero, recurso y tipo de recurso.
+     * @param pageable Página y orden
+     * @return Página de solicitudes
+     */
+    @Override
+    @EntityGraph(attributePaths = {"bombero", "recurso", "recurso.tipoRecurso"})
+    Page<SolicitudRecurso> findAll(Pageable pageable);
+
+    /**
+     * Obtiene una página de solicitudes de una región.
+     * @param region Región normalizada
+     * @param pageable Página y orden
+     * @return Página de solicitudes de la región
+     */
+    @EntityGraph(attributePaths = {"bombero", "recurso", "recurso.tipoRecurso"})
+    Page<SolicitudRecurso> findByRegion(String region, Pageable pageable);
+
+    /**
+     * Obtiene, en orden de ID, las solicitudes posteriores al ID indicado con solo los datos necesarios
+     * para agregar la demanda (sin cargar las entidades completas).
+     * @param ultimoId Último ID ya agregado
+     * @param limite Cantidad máxima de filas
+     * @return Solicitudes creadas después del ID indicado
+     */
+    @Query("SELECT s.id AS id, s.fechaCreacion AS fechaCreacion, t.id AS tipoRecursoId "
+            + "FROM SolicitudRecurso s LEFT JOIN s.recurso r LEFT JOIN r.tipoRecurso t "
+            + "WHERE s.id > :ultimoId ORDER BY s.id")
+    List<SolicitudCreada> findCreadasDespuesDe(Integer ultimoId, Limit limite);
+
+    /**
+     * Obtiene las solicitudes indicadas junto con su bombero, recurso y tipo de recurso en una sola consulta,
+     * en lugar de una consulta adicional por cada asociación.
+     * @param ids IDs de las solicitudes
+     * @return Solicitudes encontradas, en cualquier orden
+     */
+    @Query("SELECT s FROM SolicitudRecurso s LEFT JOIN FETCH s.bombero "
+            + "LEFT JOIN FETCH s.recurso r LEFT JOIN FETCH r.tipoRecurso WHERE s.id IN :ids")
+    List<SolicitudRecurso> findAllConRelacionesByIdIn(Collection<Integer> ids);
 
+    /**
+     * Proyección de una solicitud para la agregación de demanda.
+     */
+    interface SolicitudCreada {
+        Integer getId();
+        Instant getFechaCreacion();
+        Integer getTipoRecursoId();
+    }
 
 }
@@ -1,9 +1,15 @@
 package com.SAFE_Rescue.API_Recursos.repository;
 
 import com.SAFE_Rescue.API_Recursos.modelo.Vehiculo;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
+
 /**
  * Repositorio para la gestión de Vehiculos
  * Maneja operaciones CRUD desde la base de datos usando Jakarta
@@ -11,5 +17,22 @@ import org.springframework.stereotype.Repository;
 @Repository
 public interface VehiculoRepository extends JpaRepository<Vehiculo, Integer> {
 
+    /**
+     * Obtiene todos los vehículos junto con su tipo de vehículo en una sola consulta, en lugar de una consulta
+     * adicional por cada tipo distinto.
+     * @return Lista de vehículos
+     */
+    @Override
+    @EntityGraph(attributePaths = "tipoVehiculo")
+    List<Vehiculo> findAll();
+
     boolean existsByPatente(String Patente);
+
+    /**
+     * Obtiene los vehículos indicados junto con su tipo de vehículo en una sola consulta.
+     * @param ids IDs de los vehículos
+     * @return Vehículos encontrados, en cualquier orden
+     */
+    @Query("SELECT v FROM Vehiculo v LEFT JOIN FETCH v.tipoVehiculo WHERE v.id IN :ids")
+    List<Vehiculo> findAllConTipoByIdIn(@Param("ids") Collection<Integer> ids);
 }
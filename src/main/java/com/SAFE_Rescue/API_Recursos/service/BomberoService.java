@@ -0,0 +1,83 @@
+package com.SAFE_Rescue.API_Recursos.service;
+
+import com.SAFE_Rescue.API_Recursos.excepcion.CodigoError;
+import com.SAFE_Rescue.API_Recursos.excepcion.DatosInvalidosException;
+import com.SAFE_Rescue.API_Recursos.excepcion.NoEncontradoException;
+import com.SAFE_Rescue.API_Recursos.indice.DirectorioBomberos;
+import com.SAFE_Rescue.API_Recursos.modelo.Bombero;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Servicio de consulta de bomberos.
+ * Las consultas se responden desde {@link DirectorioBomberos}, sin acceder a la base de datos en régimen normal.
+ */
+@Service
+public class BomberoService {
+
+    private static final int LIMITE_MAXIMO = 100;
+
+    // COMPONENTES INYECTADOS
+    @Autowired private DirectorioBomberos directorioBomberos;
+
+    /**
+     * Busca un bombero por su ID.
+     * @param id Identificador del bombero
+     * @return Bombero encontrado
+     * @throws NoSuchElementException Si no se encuentra el bombero
+     */
+    public Bombero findById(Integer id) {
+        return directorioBomberos.buscarPorId(id)
+                .orElseThrow(() -> new NoEncontradoException(CodigoError.BOMBERO_NO_ENCONTRADO, "No se encontró bombero con ID: " + id));
+    }
+
+    /**
+     * Busca varios bomberos por ID, primero en el directorio en memoria.
+     * @param ids Identificadores de los bomberos
+     * @return Bomberos encontrados, en cualquier orden; los IDs inexistentes se omiten
+     */
+    public List<Bombero> findAllById(Collection<Integer> ids) {
+        return directorioBomberos.buscarPorIds(ids);
+    }
+
+    /**
+     * Busca un bombero por su teléfono.
+     * @param telefono Teléfono del bombero
+     * @return Bombero encontrado
+     * @throws NoSuchElementException Si no se encuentra el bombero
+     */
+    public Bombero findByTelefono(Integer telefono) {
+        return directorioBomberos.buscarPorTelefono(telefono)
+                .orElseThrow(() -> new NoEncontradoException(CodigoError.BOMBERO_NO_ENCONTRADO, "No se encontró bombero con teléfono: " + telefono));
+    }
+
+    /**
+     * Busca bomberos por nombre y apellidos.
+     * @param texto Palabras a buscar, sin distinguir mayúsculas ni tildes
+     * @param limite Cantidad máxima de resultados (entre 1 y 100)
+     * @return Bomberos cuyo nombre completo contiene todas las palabras
+     * @throws IllegalArgumentException Si el texto está vacío o el límite está fuera de rango
+     */
+    public List<Bombero> buscar(String texto, int limite) {
+        if (texto == null || texto.isBlank()) {
+            throw new DatosInvalidosException(CodigoError.DATOS_INVALIDOS, "Debe indicar el texto a buscar");
+        }
+        if (limite < 1 || limite > LIMITE_MAXIMO) {
+            throw new DatosInvalidosException(CodigoError.DATOS_INVALIDOS, "El límite debe estar entre 1 y " + LIMITE_MAXIMO);
+        }
+        return directorioBomberos.buscar(texto, limite);
+    }
+
+    /**
+     * Obtiene las métricas del directorio de bomberos.
+     * @return Mapa con tamaño, aciertos, fallos, consultas a la base de datos y refrescos
+     */
+    public Map<String, Object> estadisticas() {
+        return directorioBomberos.estadisticas();
+    }
+}
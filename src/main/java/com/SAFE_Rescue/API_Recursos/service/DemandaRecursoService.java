@@ -0,0 +1,183 @@
+package com.SAFE_Rescue.API_Recursos.service;
+
+import com.SAFE_Rescue.API_Recursos.fragmento.Fragmentos;
+import com.SAFE_Rescue.API_Recursos.modelo.DemandaRecurso;
+import com.SAFE_Rescue.API_Recursos.modelo.Granularidad;
+import com.SAFE_Rescue.API_Recursos.modelo.MarcaAgregacion;
+import com.SAFE_Rescue.API_Recursos.repository.DemandaRecursoRepository;
+import com.SAFE_Rescue.API_Recursos.repository.MarcaAgregacionRepository;
+import com.SAFE_Rescue.API_Recursos.repository.SolicitudRecursoRepository;
+import com.SAFE_Rescue.API_Recursos.repository.SolicitudRecursoRepository.SolicitudCreada;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Servicio de analítica de demanda de recursos por tipo y por intervalo de tiempo.
+ * <p>
+ * Una tarea programada agrega de forma incremental las solicitudes nuevas (por ID, a partir de la
+ * {@link MarcaAgregacion} "demanda_recurso") en intervalos por hora y por día de cada tipo de recurso.
+ * Cada lote acumula sus conteos y avanza la marca en una sola transacción. Las consultas leen solo los
+ * intervalos agregados, de modo que un gráfico de un día lee a lo sumo 24 filas por tipo de recurso.
+ * </p>
+ * <p>
+ * Con {@link Fragmentos} adicionales se agrega cada fragmento por separado, con su propia marca
+ * ("demanda_recurso_fragmento_N"; el fragmento 0 conserva "demanda_recurso"), ya que cada uno genera IDs en su
+ * propio bloque. Los intervalos y las marcas se guardan siempre en la base de datos principal.
+ * </p>
+ * <p>
+ * Las solicitudes creadas hace menos de {@code app.demanda.retraso-ms} se dejan para la siguiente ejecución,
+ * para no saltar IDs asignados antes pero confirmados después. Las solicitudes sin fecha de creación
+ * (anteriores a ese campo) o sin recurso asociado se omiten.
+ * </p>
+ */
+@Service
+public class DemandaRecursoService {
+
+    /**
+     * Nombre de la marca de avance de esta agregación.
+     */
+    public static final String MARCA = "demanda_recurso";
+
+    // REPOSITORIOS INYECTADOS
+    @Autowired private SolicitudRecursoRepository solicitudRecursoRepository;
+    @Autowired private DemandaRecursoRepository demandaRecursoRepository;
+    @Autowired private MarcaAgregacionRepository marcaAgregacionRepository;
+
+    // COMPONENTES INYECTADOS (los fragmentos se resuelven al usarse: los tests de repositorio no los cargan)
+    @Autowired private TransactionTemplate transactionTemplate;
+    @Autowired private ObjectProvider<Fragmentos> proveedorFragmentos;
+
+    @Value("${app.demanda.lote:5000}") private int lote;
+    @Value("${app.demanda.retraso-ms:5000}") private long retrasoMs;
+
+    private final ReentrantLock agregacion = new ReentrantLock();
+
+    /**
+     * Agrega las solicitudes creadas desde la última ejecución en cada fragmento.
+     * Se ejecuta periódicamente; si ya hay una agregación en curso, no hace nada.
+     * @return Cantidad de solicitudes procesadas
+     */
+    @Scheduled(fixedDelayString = "${app.demanda.intervalo-ms:60000}")
+    public int agregar() {
+        if (!agregacion.tryLock()) {
+            return 0;
+        }
+        try {
+            Instant corte = Instant.now().minusMillis(retrasoMs);
+            Fragmentos fragmentos = proveedorFragmentos.getIfAvailable();
+            int cantidad = fragmentos == null ? 1 : fragmentos.cantidad();
+            int total = 0;
+            for (int fragmento = 0; fragmento < cantidad; fragmento++) {
+                int actual = fragmento;
+                int procesadas;
+                do {
+                    procesadas = transactionTemplate.execute(estado -> agregarLote(actual, corte));
+                    total += procesadas;
+                } while (procesadas == lote);
+            }
+            return total;
+        } finally {
+            agregacion.unlock();
+        }
+    }
+
+    /**
+     * Obtiene la demanda agregada en un rango de fechas, leyendo solo los intervalos precalculados.
+     * @param granularidad Tamaño del intervalo
+     * @param tipoRecursoId ID del tipo de recurso (si es nulo, todos los tipos)
+     * @param desde Inicio del rango (se ajusta al inicio de su intervalo)
+     * @param hasta Fin del rango (inclusive)
+     * @return Intervalos con solicitudes, ordenados por inicio y tipo de recurso
+     */
+    public List<DemandaRecurso> buscar(Granularidad granularidad, Integer tipoRecursoId, Instant desde, Instant hasta) {
+        Instant inicio = granularidad.inicio(desde);
+        if (tipoRecursoId == null) {
+            return demandaRecursoRepository.findByGranularidadAndInicioBetweenOrderByInicioAscTipoRecursoIdAsc(
+                    granularidad, inicio, hasta);
+        }
+        return demandaRecursoRepository.findByGranularidadAndTipoRecursoIdAndInicioBetweenOrderByInicioAsc(
+                granularidad, tipoRecursoId, inicio, hasta);
+    }
+
+    /**
+     * Obtiene el nombre de la marca de avance de un fragmento.
+     * @param fragmento Número de fragmento
+     * @return {@link #MARCA} para la base de datos principal, o una marca propia para cada fragmento adicional
+     */
+    public static String marca(int fragmento) {
+        return fragmento == 0 ? MARCA : MARCA + "_fragmento_" + fragmento;
+    }
+
+    // MÉTODOS PRIVADOS
+
+    /**
+     * Agrega un lote de solicitudes de un fragmento y avanza su marca. Debe ejecutarse dentro de una transacción.
+     * Si el lote se corta por el retraso, devuelve menos que el tamaño de lote y la agregación del fragmento termina.
+     * @return Cantidad de solicitudes incluidas en la marca
+     */
+    private int agregarLote(int fragmento, Instant corte) {
+        String nombre = marca(fragmento);
+        MarcaAgregacion marca = marcaAgregacionRepository.findById(nombre)
+                .orElseGet(() -> new MarcaAgregacion(nombre, 0));
+        List<SolicitudCreada> nuevas = fragmento == 0
+                ? solicitudRecursoRepository.findCreadasDespuesDe(marca.getUltimoId(), Limit.of(lote))
+                : solicitudRecursoRepository.buscarCreadasEnFragmento(fragmento, marca.getUltimoId(), lote);
+
+        Map<Granularidad, Map<Clave, Long>> conteos = new HashMap<>();
+        int procesadas = 0;
+        for (SolicitudCreada solicitud : nuevas) {
+            if (solicitud.getFechaCreacion() != null && solicitud.getFechaCreacion().isAfter(corte)) {
+                break;
+            }
+            if (solicitud.getFechaCreacion() != null && solicitud.getTipoRecursoId() != null) {
+                for (Granularidad granularidad : Granularidad.values()) {
+                    Clave clave = new Clave(granularidad.inicio(solicitud.getFechaCreacion()), solicitud.getTipoRecursoId());
+                    conteos.computeIfAbsent(granularidad, g -> new HashMap<>()).merge(clave, 1L, Long::sum);
+                }
+            }
+            marca.setUltimoId(solicitud.getId());
+            procesadas++;
+        }
+        if (procesadas == 0) {
+            return 0;
+        }
+
+        List<DemandaRecurso> modificadas = new ArrayList<>();
+        for (Map.Entry<Granularidad, Map<Clave, Long>> porGranularidad : conteos.entrySet()) {
+            Granularidad granularidad = porGranularidad.getKey();
+            Map<Clave, Long> pendientes = new HashMap<>(porGranularidad.getValue());
+            Set<Instant> inicios = new HashSet<>();
+            pendientes.keySet().forEach(clave -> inicios.add(clave.inicio()));
+
+            for (DemandaRecurso existente : demandaRecursoRepository.findByGranularidadAndInicioIn(granularidad, inicios)) {
+                Long suma = pendientes.remove(new Clave(existente.getInicio(), existente.getTipoRecursoId()));
+                if (suma != null) {
+                    existente.setSolicitudes(existente.getSolicitudes() + suma);
+                    modificadas.add(existente);
+                }
+            }
+            pendientes.forEach((clave, suma) ->
+                    modificadas.add(new DemandaRecurso(null, granularidad, clave.inicio(), clave.tipoRecursoId(), suma)));
+        }
+        demandaRecursoRepository.saveAll(modificadas);
+        marcaAgregacionRepository.save(marca);
+        return procesadas;
+    }
+
+    private record Clave(Instant inicio, Integer tipoRecursoId) {
+    }
+}
@@ -0,0 +1,362 @@
+package com.SAFE_Rescue.API_Recursos.service;
+
+import com.SAFE_Rescue.API_Recursos.diario.Diario;
+import com.SAFE_Rescue.API_Recursos.modelo.Estado;
+import com.SAFE_Rescue.API_Recursos.modelo.HistorialRecurso;
+import com.SAFE_Rescue.API_Recursos.repository.HistorialRecursoRepository;
+import com.SAFE_Rescue.API_Recursos.util.Actor;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Servicio del historial de cambios de cantidad y estado de los recursos.
+ * <p>
+ * Los cambios se registran en una cola acotada en memoria y se escriben por lotes en una tarea programada,
+ * fuera del camino de la solicitud. Si la cola se llena, el hilo que registra intenta una sola escritura antes
+ * de encolar; si la cola sigue llena (base de datos caída), el cambio se descarta y se cuenta, en lugar de
+ * bloquear la solicitud. Un lote que falla al guardarse se aparta para reintentarlo en la siguiente ejecución,
+ * hasta {@code app.historial.capacidad} cambios; lo que excede ese límite también se descarta. Sin historial
+ * durable, los cambios descartados se pierden; con diario, siguen anotados y se guardan al reiniciar.
+ * </p>
+ * <p>
+ * Con {@code app.historial.durable=true}, cada cambio se anota además en un {@link Diario} local antes de
+ * encolarlo, y {@link #registrar} vuelve cuando el cambio está en disco. Al iniciar, los cambios anotados
+ * cuyo lote no alcanzó a confirmarse se guardan antes de aceptar nuevos. La entrega es "al menos una vez":
+ * una caída entre el guardado de un lote y su confirmación en el diario puede duplicar esos registros.
+ * </p>
+ */
+@Service
+public class HistorialRecursoService {
+
+    private static final Logger log = LoggerFactory.getLogger(HistorialRecursoService.class);
+
+    // REPOSITORIOS INYECTADOS
+    @Autowired private HistorialRecursoRepository historialRecursoRepository;
+
+    @Value("${app.historial.capacidad:10000}") private int capacidad;
+    @Value("${app.historial.lote:500}") private int lote;
+    @Value("${app.historial.durable:false}") private boolean durable;
+    @Value("${app.historial.directorio:datos/historial}") private String directorio;
+    @Value("${app.diario.tamanio-segmento:67108864}") private int tamanioSegmento;
+
+    private static final byte CAMBIO = 'H';
+    private static final byte CONFIRMADOS = 'C';
+    private static final long SIN_DIARIO = -1;
+
+    private BlockingQueue<Pendiente> pendientes;
+    private final ReentrantLock escritura = new ReentrantLock();
+    private List<Pendiente> reintento = new ArrayList<>();
+
+    private Diario diario;
+    private final NavigableSet<Long> sinConfirmar = new ConcurrentSkipListSet<>();
+    private final Object bloqueoDiario = new Object();
+
+    private final LongAdder registrados = new LongAdder();
+    private final LongAdder escritos = new LongAdder();
+    private final LongAdder lotes = new LongAdder();
+    private final LongAdder escriturasSincronas = new LongAdder();
+    private final LongAdder errores = new LongAdder();
+    private final LongAdder descartados = new LongAdder();
+    private final LongAdder recuperados = new LongAdder();
+
+    /**
+     * Cambio encolado junto con la posición de su registro en el diario.
+     * @param lsn LSN del registro en el diario, o {@link #SIN_DIARIO}
+     * @param cambio Cambio a guardar
+     */
+    private record Pendiente(long lsn, HistorialRecurso cambio) {
+    }
+
+    /**
+     * Crea la cola y, si el historial es durable, abre el diario y guarda lo que quedó pendiente.
+     */
+    @PostConstruct
+    void iniciar() throws IOException {
+        pendientes = new ArrayBlockingQueue<>(Math.max(1, capacidad));
+        if (durable) {
+            diario = new Diario(Path.of(directorio), tamanioSegmento);
+            recuperar();
+        }
+    }
+
+    /**
+     * Registra un cambio de un recurso si la cantidad o el estado cambiaron.
+     * La fecha y el actor se toman en el momento del registro.
+     * @param recursoId ID del recurso
+     * @param cantidadAnterior Cantidad antes del cambio (nula si el recurso es nuevo)
+     * @param cantidadNueva Cantidad después del cambio
+     * @param estadoAnterior Estado antes del cambio (nulo si el recurso es nuevo)
+     * @param estadoNuevo Estado después del cambio
+     */
+    public void registrar(Integer recursoId, Integer cantidadAnterior, Integer cantidadNueva,
+                          Estado estadoAnterior, Estado estadoNuevo) {
+        if (recursoId == null
+                || (Objects.equals(cantidadAnterior, cantidadNueva) && Objects.equals(estadoAnterior, estadoNuevo))) {
+            return;
+        }
+        HistorialRecurso cambio = new HistorialRecurso(null, recursoId, Instant.now(), Actor.actual(),
+                cantidadAnterior, cantidadNueva, estadoAnterior, estadoNuevo);
+        registrados.increment();
+        Pendiente pendiente = new Pendiente(anotar(cambio), cambio);
+        if (pendientes.offer(pendiente)) {
+            return;
+        }
+        escriturasSincronas.increment();
+        vaciar();
+        if (!pendientes.offer(pendiente)) {
+            descartar(List.of(pendiente), null);
+        }
+    }
+
+    /**
+     * Escribe por lotes todos los cambios pendientes.
+     * Se ejecuta periódicamente, al consultar el historial y al detener la aplicación.
+     */
+    @Scheduled(fixedDelayString = "${app.historial.intervalo-ms:200}")
+    public void vaciar() {
+        escritura.lock();
+        try {
+            if (!reintento.isEmpty()) {
+                try {
+                    guardar(reintento);
+                    reintento = new ArrayList<>();
+                } catch (RuntimeException e) {
+                    fallo(e);
+                }
+            }
+            // Se vacía la cola aunque el reintento haya fallado, para que no quede llena
+            List<Pendiente> loteActual = new ArrayList<>(lote);
+            while (pendientes.drainTo(loteActual, lote) > 0) {
+                try {
+                    guardar(loteActual);
+                } catch (RuntimeException e) {
+                    fallo(e);
+                    apartar(loteActual, e);
+                    return;
+                }
+                loteActual = new ArrayList<>(lote);
+            }
+        } finally {
+            escritura.unlock();
+        }
+    }
+
+    /**
+     * Obtiene los cambios de un recurso en un rango de fechas.
+     * Antes de consultar se escriben los cambios pendientes, para incluir los más recientes.
+     * @param recursoId ID del recurso
+     * @param desde Inicio del rango (si es nulo, desde el primer registro)
+     * @param hasta Fin del rango (si es nulo, hasta ahora)
+     * @return Cambios ordenados del más antiguo al más reciente
+     */
+    public List<HistorialRecurso> buscar(Integer recursoId, Instant desde, Instant hasta) {
+        vaciar();
+        return historialRecursoRepository.findByRecursoIdAndFechaBetweenOrderByFechaAscIdAsc(recursoId,
+                desde == null ? Instant.EPOCH : desde, hasta == null ? Instant.now() : hasta);
+    }
+
+    /**
+     * Obtiene las métricas de la escritura del historial.
+     * @return Mapa con registros, escritos, lotes, pendientes, en reintento, escrituras síncronas, errores y descartados
+     */
+    public Map<String, Object> estadisticas() {
+        Map<String, Object> estadisticas = new LinkedHashMap<>();
+        estadisticas.put("registrados", registrados.sum());
+        estadisticas.put("escritos", escritos.sum());
+        estadisticas.put("lotes", lotes.sum());
+        estadisticas.put("pendientes", pendientes.size());
+        estadisticas.put("enReintento", reintento.size());
+        estadisticas.put("escriturasSincronas", escriturasSincronas.sum());
+        estadisticas.put("errores", errores.sum());
+        estadisticas.put("descartados", descartados.sum());
+        if (diario != null) {
+            estadisticas.put("recuperados", recuperados.sum());
+            estadisticas.put("diario", diario.estadisticas());
+        }
+        return estadisticas;
+    }
+
+    /**
+     * Escribe los cambios pendientes y cierra el diario al detener la aplicación.
+     */
+    @PreDestroy
+    public void detener() throws IOException {
+        vaciar();
+        if (diario != null) {
+            diario.close();
+        }
+    }
+
+    // MÉTODOS PRIVADOS
+
+    /**
+     * Anota el cambio en el diario y espera a que esté en disco.
+     * @return LSN del registro, o {@link #SIN_DIARIO} si el historial no es durable
+     */
+    private long anotar(HistorialRecurso cambio) {
+        if (diario == null) {
+            return SIN_DIARIO;
+        }
+        try {
+            byte[] registro = codificar(cambio);
+            long lsn;
+            synchronized (bloqueoDiario) {
+                lsn = diario.escribir(CAMBIO, registro);
+                sinConfirmar.add(lsn);
+            }
+            diario.sincronizar(lsn);
+            return lsn;
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo anotar el cambio en el diario del historial", e);
+        }
+    }
+
+    private void fallo(RuntimeException e) {
+        errores.increment();
+        log.error("Error al guardar historial de recursos", e);
+    }
+
+    /**
+     * Aparta un lote que no se pudo guardar para el siguiente reintento, sin superar la capacidad configurada.
+     * @param causa Error por el que no se pudo guardar
+     */
+    private void apartar(List<Pendiente> fallidos, RuntimeException causa) {
+        int espacio = Math.max(0, capacidad - reintento.size());
+        reintento.addAll(fallidos.subList(0, Math.min(espacio, fallidos.size())));
+        if (fallidos.size() > espacio) {
+            descartar(fallidos.subList(espacio, fallidos.size()), causa);
+        }
+    }
+
+    /**
+     * Descarta cambios que no caben en memoria.
+     * @param causa Error que impidió guardarlos, o {@code null} si se descartan por falta de espacio en la cola
+     */
+    private void descartar(List<Pendiente> cambios, RuntimeException causa) {
+        descartados.add(cambios.size());
+        log.error("Historial de recursos: se descartaron {} cambios sin guardar{}", cambios.size(),
+                diario != null ? " (siguen en el diario y se guardarán al reiniciar)" : "", causa);
+    }
+
+    private void guardar(List<Pendiente> cambios) {
+        historialRecursoRepository.saveAll(cambios.stream().map(Pendiente::cambio).toList());
+        escritos.add(cambios.size());
+        lotes.increment();
+        if (diario != null) {
+            confirmar(cambios);
+        }
+    }
+
+    /**
+     * Anota en el diario los cambios ya guardados y elimina los segmentos sin cambios pendientes.
+     */
+    private void confirmar(List<Pendiente> guardados) {
+        ByteBuffer lsns = ByteBuffer.allocate(Long.BYTES * guardados.size());
+        guardados.forEach(pendiente -> lsns.putLong(pendiente.lsn()));
+        try {
+            synchronized (bloqueoDiario) {
+                long ultimo = diario.escribir(CONFIRMADOS, lsns.array());
+                guardados.forEach(pendiente -> sinConfirmar.remove(pendiente.lsn()));
+                diario.liberarHasta(sinConfirmar.isEmpty() ? ultimo : sinConfirmar.first());
+            }
+        } catch (IOException e) {
+            // El lote ya está guardado: sin la confirmación, solo se duplicaría al recuperar
+            log.error("No se pudo confirmar el historial en el diario", e);
+        }
+    }
+
+    /**
+     * Guarda los cambios del diario cuyo lote no se confirmó en una ejecución anterior.
+     */
+    private void recuperar() throws IOException {
+        Map<Long, HistorialRecurso> anotados = new LinkedHashMap<>();
+        diario.recorrer((lsn, tipo, datos) -> {
+            if (tipo == CAMBIO) {
+                anotados.put(lsn, decodificar(datos));
+            } else if (tipo == CONFIRMADOS) {
+                ByteBuffer lsns = ByteBuffer.wrap(datos);
+                while (lsns.remaining() >= Long.BYTES) {
+                    anotados.remove(lsns.getLong());
+                }
+            }
+        });
+        List<HistorialRecurso> cambios = new ArrayList<>(anotados.values());
+        for (int desde = 0; desde < cambios.size(); desde += lote) {
+            historialRecursoRepository.saveAll(cambios.subList(desde, Math.min(cambios.size(), desde + lote)));
+        }
+        recuperados.add(cambios.size());
+        // Todo lo anterior quedó guardado: se continúa en un segmento nuevo y se eliminan los anteriores
+        diario.liberarHasta(diario.rotar());
+    }
+
+    private static byte[] codificar(HistorialRecurso cambio) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+        try (DataOutputStream salida = new DataOutputStream(bytes)) {
+            salida.writeInt(cambio.getRecursoId());
+            salida.writeLong(cambio.getFecha().getEpochSecond());
+            salida.writeInt(cambio.getFecha().getNano());
+            salida.writeUTF(cambio.getActor());
+            escribirEntero(salida, cambio.getCantidadAnterior());
+            escribirEntero(salida, cambio.getCantidadNueva());
+            salida.writeByte(cambio.getEstadoAnterior() == null ? 0 : cambio.getEstadoAnterior().getCodigo());
+            salida.writeByte(cambio.getEstadoNuevo() == null ? 0 : cambio.getEstadoNuevo().getCodigo());
+        }
+        return bytes.toByteArray();
+    }
+
+    private static HistorialRecurso decodificar(byte[] datos) {
+        try (DataInputStream entrada = new DataInputStream(new ByteArrayInputStream(datos))) {
+            HistorialRecurso cambio = new HistorialRecurso();
+            cambio.setRecursoId(entrada.readInt());
+            cambio.setFecha(Instant.ofEpochSecond(entrada.readLong(), entrada.readInt()));
+            cambio.setActor(entrada.readUTF());
+            cambio.setCantidadAnterior(leerEntero(entrada));
+            cambio.setCantidadNueva(leerEntero(entrada));
+            byte estadoAnterior = entrada.readByte();
+            byte estadoNuevo = entrada.readByte();
+            cambio.setEstadoAnterior(estadoAnterior == 0 ? null : Estado.desdeCodigo(estadoAnterior));
+            cambio.setEstadoNuevo(estadoNuevo == 0 ? null : Estado.desdeCodigo(estadoNuevo));
+            return cambio;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Registro del diario del historial ilegible", e);
+        }
+    }
+
+    private static void escribirEntero(DataOutputStream salida, Integer valor) throws IOException {
+        salida.writeBoolean(valor != null);
+        salida.writeInt(valor == null ? 0 : valor);
+    }
+
+    private static Integer leerEntero(DataInputStream entrada) throws IOException {
+        boolean presente = entrada.readBoolean();
+        int valor = entrada.readInt();
+        return presente ? valor : null;
+    }
+}
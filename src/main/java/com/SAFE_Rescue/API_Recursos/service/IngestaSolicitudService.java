@@ -0,0 +1,457 @@
+package com.SAFE_Rescue.API_Recursos.service;
+
+import com.SAFE_Rescue.API_Recursos.diario.Diario;
+import com.SAFE_Rescue.API_Recursos.excepcion.CodigoError;
+import com.SAFE_Rescue.API_Recursos.excepcion.DatosInvalidosException;
+import com.SAFE_Rescue.API_Recursos.excepcion.ServicioSaturadoException;
+import com.SAFE_Rescue.API_Recursos.indice.DirectorioBomberos;
+import com.SAFE_Rescue.API_Recursos.modelo.IngestaSolicitud;
+import com.SAFE_Rescue.API_Recursos.modelo.SolicitudRecurso;
+import com.SAFE_Rescue.API_Recursos.repository.IngestaSolicitudRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Servicio de ingesta asíncrona de solicitudes de recursos para picos de carga.
+ * <p>
+ * Con {@code app.ingesta.asincrona=true}, cada solicitud se valida, se anota en un {@link Diario} en disco,
+ * se encola y se responde de inmediato con un ID de seguimiento. Un hilo escritor toma lotes de la cola y
+ * los inserta con un único INSERT de varias filas, junto con su registro en {@link IngestaSolicitud}, en una
+ * sola transacción. Si un lote falla por una restricción o un dato inválido, sus filas se insertan de a una
+ * y solo las que violan la restricción se marcan RECHAZADA. Los errores transitorios (bloqueos, deadlocks,
+ * conexión caída) no rechazan nada: las solicitudes sin guardar siguen PENDIENTE, conservan su lugar en la
+ * cola y se reintentan con espera creciente hasta que la base de datos vuelve.
+ * </p>
+ * <p>
+ * La cola está acotada por {@code app.ingesta.capacidad}: si no hay espacio tras {@code app.ingesta.espera-ms},
+ * la solicitud se rechaza con {@link IllegalStateException} para que el cliente reintente. Al iniciar, las
+ * solicitudes del diario que no figuran en {@code ingesta_solicitud} se persisten antes de aceptar nuevas.
+ * </p>
+ * <p>
+ * La anotación en el diario se hace fuera del bloqueo que ordena las aceptaciones, de modo que las solicitudes
+ * concurrentes comparten un mismo {@code fsync}. Los segmentos del diario anteriores a la solicitud pendiente
+ * más antigua se eliminan a medida que se confirman los lotes.
+ * </p>
+ */
+@Service
+public class IngestaSolicitudService {
+
+    private static final Logger log = LoggerFactory.getLogger(IngestaSolicitudService.class);
+
+    private static final byte ACEPTADA = 'A';
+    private static final byte CONFIRMADAS = 'C';
+    private static final long REINTENTO_INICIAL_MS = 200;
+    private static final long REINTENTO_MAXIMO_MS = 30_000;
+
+    private static final String INSERTAR_SOLICITUD = "(?, ?, ?, ?, ?, ?)";
+    private static final String INSERTAR_SOLICITUDES =
+            "INSERT INTO solicitud_recurso (titulo, detalle, bombero_id, estado, recurso_id, fecha_creacion) VALUES ";
+    private static final String INSERTAR_INGESTA =
+            "INSERT INTO ingesta_solicitud (seguimiento, solicitud_id, fecha, error) VALUES (?, ?, ?, ?)";
+
+    // SERVICIOS INYECTADOS
+    @Autowired private SolicitudRecursoService solicitudRecursoService;
+
+    // REPOSITORIOS INYECTADOS
+    @Autowired private IngestaSolicitudRepository ingestaSolicitudRepository;
+
+    // COMPONENTES INYECTADOS
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private TransactionTemplate transactionTemplate;
+    @Autowired private ObjectMapper objectMapper;
+    @Autowired private DirectorioBomberos directorioBomberos;
+
+    @Value("${app.ingesta.asincrona:false}") private boolean asincrona;
+    @Value("${app.ingesta.capacidad:10000}") private int capacidad;
+    @Value("${app.ingesta.lote:500}") private int lote;
+    @Value("${app.ingesta.espera-ms:50}") private long esperaMs;
+    @Value("${app.ingesta.directorio:datos/ingesta}") private String directorio;
+    @Value("${app.diario.tamanio-segmento:67108864}") private int tamanioSegmento;
+
+    private Diario diario;
+    private Semaphore espacio;
+    private final BlockingQueue<SolicitudAceptada> cola = new LinkedBlockingQueue<>();
+    private final Map<String, Long> enCola = new ConcurrentHashMap<>();
+    private final NavigableSet<Long> sinConfirmar = new ConcurrentSkipListSet<>();
+    private final Object bloqueoDiario = new Object();
+    private volatile Thread escritor;
+    private volatile boolean lista;
+
+    private final LongAdder aceptadas = new LongAdder();
+    private final LongAdder saturadas = new LongAdder();
+    private final LongAdder guardadas = new LongAdder();
+    private final LongAdder rechazadas = new LongAdder();
+    private final LongAdder lotes = new LongAdder();
+    private final LongAdder recuperadas = new LongAdder();
+    private final LongAdder reintentos = new LongAdder();
+
+    /**
+     * Solicitud aceptada por la ingesta, tal como se anota en el diario.
+     * @param seguimiento ID de seguimiento
+     * @param fecha Fecha de aceptación, que pasa a ser la fecha de creación
+     * @param solicitud Datos recibidos
+     */
+    public record SolicitudAceptada(String seguimiento, Instant fecha, SolicitudRecurso solicitud) {
+    }
+
+    /**
+     * Abre el diario, persiste lo que quedó pendiente de una ejecución anterior e inicia el hilo escritor.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void iniciar() throws IOException {
+        if (!asincrona) {
+            return;
+        }
+        espacio = new Semaphore(Math.max(1, capacidad));
+        diario = new Diario(Path.of(directorio, "solicitudes"), tamanioSegmento);
+        recuperar();
+
+        escritor = new Thread(this::escribirContinuamente, "ingesta-solicitudes");
+        escritor.setDaemon(true);
+        escritor.start();
+        lista = true;
+    }
+
+    /**
+     * Indica si la ingesta asíncrona está activa y lista para aceptar solicitudes.
+     * @return true si POST de solicitudes debe pasar por la ingesta
+     */
+    public boolean activa() {
+        return asincrona && lista;
+    }
+
+    /**
+     * Valida y acepta una solicitud para persistirla de forma asíncrona.
+     * Cuando vuelve, la solicitud ya está anotada en el diario y no se pierde ante una caída.
+     * @param solicitudRecurso Solicitud recibida
+     * @return ID de seguimiento
+     * @throws IllegalArgumentException Si la solicitud no pasa las validaciones
+     * @throws IllegalStateException Si la cola está llena (el cliente debe reintentar)
+     */
+    public String aceptar(SolicitudRecurso solicitudRecurso) {
+        solicitudRecursoService.validarSolicitud(solicitudRecurso);
+        if (solicitudRecurso.getBombero().getId() == null || solicitudRecurso.getRecurso().getId() == null) {
+            throw new DatosInvalidosException(CodigoError.DATOS_INVALIDOS, "El bombero y el recurso deben indicar su ID");
+        }
+        if (directorioBomberos.buscarPorId(solicitudRecurso.getBombero().getId()).isEmpty()) {
+            throw new DatosInvalidosException(CodigoError.DATOS_INVALIDOS, "No se encontró bombero con ID: " + solicitudRecurso.getBombero().getId());
+        }
+        try {
+            if (!espacio.tryAcquire(esperaMs, TimeUnit.MILLISECONDS)) {
+                saturadas.increment();
+                throw new ServicioSaturadoException(CodigoError.INGESTA_SATURADA, "La cola de ingesta está llena, reintente más tarde");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServicioSaturadoException(CodigoError.INGESTA_SATURADA, "Ingesta interrumpida");
+        }
+
+        SolicitudAceptada aceptada = new SolicitudAceptada(UUID.randomUUID().toString(), Instant.now(), solicitudRecurso);
+        try {
+            byte[] registro = objectMapper.writeValueAsBytes(aceptada);
+            long lsn;
+            synchronized (bloqueoDiario) {
+                lsn = diario.escribir(ACEPTADA, registro);
+                sinConfirmar.add(lsn);
+            }
+            diario.sincronizar(lsn);
+            enCola.put(aceptada.seguimiento(), lsn);
+        } catch (IOException e) {
+            espacio.release();
+            throw new UncheckedIOException("No se pudo anotar la solicitud en el diario", e);
+        }
+        cola.add(aceptada);
+        aceptadas.increment();
+        return aceptada.seguimiento();
+    }
+
+    /**
+     * Consulta el estado de una solicitud aceptada por la ingesta.
+     * @param seguimiento ID de seguimiento
+     * @return Mapa con "estado" (PENDIENTE, GUARDADA o RECHAZADA) y, según el caso, "solicitudId" o "error";
+     *         vacío si el ID no existe
+     */
+    public Optional<Map<String, Object>> estado(String seguimiento) {
+        if (enCola.containsKey(seguimiento)) {
+            return Optional.of(Map.of("seguimiento", seguimiento, "estado", "PENDIENTE"));
+        }
+        return ingestaSolicitudRepository.findById(seguimiento).map(ingesta -> {
+            Map<String, Object> estado = new LinkedHashMap<>();
+            estado.put("seguimiento", seguimiento);
+            estado.put("estado", ingesta.getSolicitudId() != null ? "GUARDADA" : "RECHAZADA");
+            estado.put(ingesta.getSolicitudId() != null ? "solicitudId" : "error",
+                    ingesta.getSolicitudId() != null ? ingesta.getSolicitudId() : ingesta.getError());
+            return estado;
+        });
+    }
+
+    /**
+     * Obtiene las métricas de la ingesta.
+     * @return Mapa con aceptadas, saturadas, guardadas, rechazadas, lotes, recuperadas, reintentos y en cola
+     */
+    public Map<String, Object> estadisticas() {
+        Map<String, Object> estadisticas = new LinkedHashMap<>();
+        estadisticas.put("activa", activa());
+        estadisticas.put("aceptadas", aceptadas.sum());
+        estadisticas.put("saturadas", saturadas.sum());
+        estadisticas.put("guardadas", guardadas.sum());
+        estadisticas.put("rechazadas", rechazadas.sum());
+        estadisticas.put("lotes", lotes.sum());
+        estadisticas.put("recuperadas", recuperadas.sum());
+        estadisticas.put("reintentos", reintentos.sum());
+        estadisticas.put("enCola", cola.size());
+        if (diario != null) {
+            estadisticas.put("diario", diario.estadisticas());
+        }
+        return estadisticas;
+    }
+
+    /**
+     * Detiene el hilo escritor. Lo que quede en la cola sigue en el diario y se persiste al reiniciar.
+     */
+    @PreDestroy
+    public void detener() throws IOException, InterruptedException {
+        lista = false;
+        Thread hilo = escritor;
+        if (hilo != null) {
+            hilo.interrupt();
+            hilo.join(TimeUnit.SECONDS.toMillis(5));
+        }
+        if (diario != null) {
+            diario.close();
+        }
+    }
+
+    // MÉTODOS PRIVADOS
+
+    /**
+     * Toma lotes de la cola y los escribe. Lo que no se pudo escribir por un error transitorio se conserva y se
+     * reintenta, sin tomar solicitudes nuevas, hasta que se guarde; mientras tanto sigue PENDIENTE y ocupa su
+     * lugar en la cola, de modo que la ingesta se satura en lugar de perder solicitudes.
+     */
+    private void escribirContinuamente() {
+        List<SolicitudAceptada> pendientes = new ArrayList<>(lote);
+        long espera = REINTENTO_INICIAL_MS;
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                if (pendientes.isEmpty()) {
+                    SolicitudAceptada primera = cola.poll(1, TimeUnit.SECONDS);
+                    if (primera == null) {
+                        continue;
+                    }
+                    pendientes.add(primera);
+                    cola.drainTo(pendientes, lote - 1);
+                }
+                List<SolicitudAceptada> procesadas = pendientes.subList(0, escribir(pendientes));
+                terminar(procesadas);
+                procesadas.clear();
+                if (pendientes.isEmpty()) {
+                    espera = REINTENTO_INICIAL_MS;
+                } else {
+                    reintentos.increment();
+                    Thread.sleep(espera);
+                    espera = Math.min(REINTENTO_MAXIMO_MS, espera * 2);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (RuntimeException e) {
+                // Error inesperado fuera de la escritura: el lote se conserva y se reintenta
+                log.error("Error en la ingesta de solicitudes", e);
+            }
+        }
+    }
+
+    /**
+     * Confirma en el diario las solicitudes guardadas o rechazadas y libera su lugar en la cola.
+     */
+    private void terminar(List<SolicitudAceptada> procesadas) {
+        if (procesadas.isEmpty()) {
+            return;
+        }
+        try {
+            confirmar(procesadas);
+        } catch (IOException e) {
+            // Ya figuran en ingesta_solicitud: la recuperación las descarta aunque falte la confirmación
+            log.error("No se pudo confirmar la ingesta en el diario", e);
+        }
+        procesadas.forEach(aceptada -> enCola.remove(aceptada.seguimiento()));
+        espacio.release(procesadas.size());
+    }
+
+    /**
+     * Persiste las solicitudes del diario que no alcanzaron a guardarse en una ejecución anterior.
+     */
+    private void recuperar() throws IOException {
+        Map<String, SolicitudAceptada> pendientes = new LinkedHashMap<>();
+        diario.recorrer((lsn, tipo, datos) -> {
+            if (tipo == ACEPTADA) {
+                SolicitudAceptada aceptada = leer(datos);
+                pendientes.put(aceptada.seguimiento(), aceptada);
+            } else if (tipo == CONFIRMADAS) {
+                for (String seguimiento : new String(datos, StandardCharsets.UTF_8).split(",")) {
+                    pendientes.remove(seguimiento);
+                }
+            }
+        });
+        // Confirmadas en la base de datos pero no en el diario (caída entre ambas escrituras)
+        ingestaSolicitudRepository.findAllById(pendientes.keySet())
+                .forEach(ingesta -> pendientes.remove(ingesta.getSeguimiento()));
+
+        List<SolicitudAceptada> lista = new ArrayList<>(pendientes.values());
+        for (int desde = 0; desde < lista.size(); desde += lote) {
+            List<SolicitudAceptada> loteActual = lista.subList(desde, Math.min(lista.size(), desde + lote));
+            if (escribir(loteActual) < loteActual.size()) {
+                // Siguen en el diario: se recuperan en el próximo inicio
+                throw new IllegalStateException("No se pudieron recuperar las solicitudes de la ingesta: base de datos no disponible");
+            }
+        }
+        recuperadas.add(lista.size());
+        // Todo lo anterior quedó persistido: se continúa en un segmento nuevo y se eliminan los anteriores
+        diario.liberarHasta(diario.rotar());
+    }
+
+    /**
+     * Inserta un lote en una sola transacción. Si falla por una restricción o un dato inválido, inserta cada
+     * solicitud por separado y marca RECHAZADA solo a las que violan la restricción. Un error transitorio
+     * detiene la escritura sin rechazar nada.
+     * @return Cantidad de solicitudes del inicio de la lista que quedaron guardadas o rechazadas; las
+     *         siguientes no se escribieron y deben reintentarse
+     */
+    private int escribir(List<SolicitudAceptada> aceptadas) {
+        try {
+            transactionTemplate.executeWithoutResult(estado -> insertar(aceptadas));
+            lotes.increment();
+            guardadas.add(aceptadas.size());
+            return aceptadas.size();
+        } catch (DataIntegrityViolationException e) {
+            // Se aíslan las filas inválidas insertando de a una
+        } catch (RuntimeException e) {
+            log.warn("Error transitorio en la ingesta de solicitudes, se reintentará", e);
+            return 0;
+        }
+        for (int i = 0; i < aceptadas.size(); i++) {
+            SolicitudAceptada aceptada = aceptadas.get(i);
+            try {
+                try {
+                    transactionTemplate.executeWithoutResult(estado -> insertar(List.of(aceptada)));
+                    guardadas.increment();
+                } catch (DataIntegrityViolationException f) {
+                    jdbcTemplate.update(INSERTAR_INGESTA, aceptada.seguimiento(), null,
+                            Timestamp.from(aceptada.fecha()), recortar(causa(f), 400));
+                    rechazadas.increment();
+                }
+            } catch (RuntimeException f) {
+                log.warn("Error transitorio en la ingesta de solicitudes, se reintentará", f);
+                return i;
+            }
+        }
+        return aceptadas.size();
+    }
+
+    private void insertar(List<SolicitudAceptada> aceptadas) {
+        String sql = INSERTAR_SOLICITUDES + String.join(", ", Collections.nCopies(aceptadas.size(), INSERTAR_SOLICITUD));
+        KeyHolder claves = new GeneratedKeyHolder();
+        jdbcTemplate.update(conexion -> {
+            PreparedStatement sentencia = conexion.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
+            int indice = 1;
+            for (SolicitudAceptada aceptada : aceptadas) {
+                SolicitudRecurso solicitud = aceptada.solicitud();
+                sentencia.setString(indice++, solicitud.getTitulo());
+                sentencia.setString(indice++, solicitud.getDetalle());
+                sentencia.setInt(indice++, solicitud.getBombero().getId());
+                sentencia.setByte(indice++, solicitud.getEstado().getCodigo());
+                sentencia.setInt(indice++, solicitud.getRecurso().getId());
+                sentencia.setTimestamp(indice++, Timestamp.from(aceptada.fecha()));
+            }
+            return sentencia;
+        }, claves);
+
+        List<Map<String, Object>> ids = claves.getKeyList();
+        if (ids.size() != aceptadas.size()) {
+            throw new IllegalStateException("La base de datos no devolvió los IDs generados del lote");
+        }
+        List<Object[]> filas = new ArrayList<>(aceptadas.size());
+        for (int i = 0; i < aceptadas.size(); i++) {
+            Number id = (Number) ids.get(i).values().iterator().next();
+            filas.add(new Object[]{aceptadas.get(i).seguimiento(), id.intValue(), Timestamp.from(aceptadas.get(i).fecha()), null});
+        }
+        jdbcTemplate.batchUpdate(INSERTAR_INGESTA, filas);
+    }
+
+    /**
+     * Anota en el diario que el lote quedó persistido y elimina los segmentos que ya no tienen solicitudes
+     * pendientes. La confirmación no espera al disco: si se pierde, la recuperación descarta igualmente las
+     * solicitudes que ya figuran en {@code ingesta_solicitud}.
+     */
+    private void confirmar(List<SolicitudAceptada> aceptadas) throws IOException {
+        List<String> seguimientos = aceptadas.stream().map(SolicitudAceptada::seguimiento).toList();
+        synchronized (bloqueoDiario) {
+            long ultimo = diario.escribir(CONFIRMADAS, String.join(",", seguimientos).getBytes(StandardCharsets.UTF_8));
+            for (String seguimiento : seguimientos) {
+                Long lsn = enCola.get(seguimiento);
+                if (lsn != null) {
+                    sinConfirmar.remove(lsn);
+                }
+            }
+            diario.liberarHasta(sinConfirmar.isEmpty() ? ultimo : sinConfirmar.first());
+        }
+    }
+
+    private SolicitudAceptada leer(byte[] datos) {
+        try {
+            SolicitudAceptada aceptada = objectMapper.readValue(datos, SolicitudAceptada.class);
+            aceptada.solicitud().setFechaCreacion(aceptada.fecha());
+            return aceptada;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Registro del diario de ingesta ilegible", e);
+        }
+    }
+
+    private static String causa(Throwable error) {
+        Throwable raiz = error;
+        while (raiz.getCause() != null) {
+            raiz = raiz.getCause();
+        }
+        return String.valueOf(raiz.getMessage());
+    }
+
+    private static String recortar(String texto, int largo) {
+        return texto.length() <= largo ? texto : texto.substring(0, largo);
+    }
+}
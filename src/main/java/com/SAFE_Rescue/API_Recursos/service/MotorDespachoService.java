@@ -0,0 +1,175 @@
+package com.SAFE_Rescue.API_Recursos.service;
+
+import com.SAFE_Rescue.API_Recursos.excepcion.CodigoError;
+import com.SAFE_Rescue.API_Recursos.excepcion.NoEncontradoException;
+import com.SAFE_Rescue.API_Recursos.fragmento.Fragmentos;
+import com.SAFE_Rescue.API_Recursos.indice.CandidatoRecurso;
+import com.SAFE_Rescue.API_Recursos.indice.IndiceRecursos;
+import com.SAFE_Rescue.API_Recursos.invalidacion.BusInvalidacion;
+import com.SAFE_Rescue.API_Recursos.invalidacion.EntidadCacheada;
+import com.SAFE_Rescue.API_Recursos.modelo.Estado;
+import com.SAFE_Rescue.API_Recursos.modelo.Recurso;
+import com.SAFE_Rescue.API_Recursos.modelo.SolicitudRecurso;
+import com.SAFE_Rescue.API_Recursos.repository.RecursoRepository;
+import com.SAFE_Rescue.API_Recursos.repository.SolicitudRecursoRepository;
+import com.SAFE_Rescue.API_Recursos.util.Transacciones;
+import jakarta.transaction.Transactional;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+
+/**
+ * Motor de despacho que selecciona y reserva el mejor recurso disponible para una solicitud.
+ * <p>
+ * Los candidatos se obtienen del {@link IndiceRecursos} sin consultar la base de datos.
+ * Se ordenan primero por prioridad de estado, luego por el {@link PuntajeRecurso} configurado,
+ * evaluado sobre los candidatos con mayor cantidad de cada partición.
+ * La reserva es atómica en memoria y se confirma en la base de datos con una actualización condicional.
+ * Con {@link Fragmentos} activos la solicitud se lee y se escribe en su fragmento, después de reservar el recurso.
+ * </p>
+ */
+@Service
+public class MotorDespachoService {
+
+    /**
+     * Estados que permiten asignar un recurso, en orden de preferencia.
+     */
+    public static final List<Estado> ESTADOS_ASIGNABLES = List.of(Estado.DISPONIBLE, Estado.ACTIVO);
+
+    /**
+     * Estado en que queda un recurso reservado para una solicitud.
+     */
+    public static final Estado ESTADO_RESERVADO = Estado.RESERVADO;
+
+    /**
+     * Estado al que vuelve el recurso que una solicitud tenía reservado cuando se le asigna otro.
+     */
+    public static final Estado ESTADO_LIBERADO = Estado.DISPONIBLE;
+
+    private static final int VENTANA_CANDIDATOS = 32;
+    private static final int MAX_INTENTOS = 5;
+
+    // REPOSITORIOS INYECTADOS
+    @Autowired private RecursoRepository recursoRepository;
+    @Autowired private SolicitudRecursoRepository solicitudRecursoRepository;
+
+    // SERVICIOS INYECTADOS
+    @Autowired private HistorialRecursoService historialRecursoService;
+
+    // COMPONENTES INYECTADOS
+    @Autowired private IndiceRecursos indiceRecursos;
+    @Autowired private PuntajeRecurso puntajeRecurso;
+    @Autowired private BusInvalidacion busInvalidacion;
+    @Autowired private Fragmentos fragmentos;
+
+    /**
+     * Selecciona el mejor recurso disponible del tipo indicado, lo reserva y lo asigna a la solicitud.
+     * Si la solicitud ya tenía un recurso reservado, lo libera (vuelve a {@link #ESTADO_LIBERADO}).
+     * @param solicitudRecursoId ID de la solicitud
+     * @param tipoRecursoId ID del tipo de recurso requerido
+     * @return Recurso reservado y asignado
+     * @throws NoSuchElementException Si no existe la solicitud o no hay recursos disponibles del tipo
+     */
+    @Transactional
+    public Recurso asignarMejorRecurso(Integer solicitudRecursoId, Integer tipoRecursoId) {
+        SolicitudRecurso solicitudRecurso = buscar(solicitudRecursoId)
+                .orElseThrow(() -> new NoEncontradoException(CodigoError.SOLICITUD_NO_ENCONTRADA, "Solicitud Recurso no encontrada"));
+        Recurso anterior = solicitudRecurso.getRecurso();
+
+        for (int intento = 0; intento < MAX_INTENTOS; intento++) {
+            Optional<CandidatoRecurso> seleccionado = seleccionar(solicitudRecurso, tipoRecursoId);
+            if (seleccionado.isEmpty()) {
+                break;
+            }
+            CandidatoRecurso candidato = seleccionado.get();
+            if (!indiceRecursos.reservar(candidato, ESTADO_RESERVADO)) {
+                continue;
+            }
+
+            int actualizados;
+            try {
+                actualizados = recursoRepository.actualizarEstadoSiCoincide(candidato.id(), candidato.estado(), ESTADO_RESERVADO);
+            } catch (RuntimeException e) {
+                indiceRecursos.restaurar(candidato);
+                throw e;
+            }
+            if (actualizados == 0) {
+                // El estado en la base de datos no coincide con el índice: se resincroniza y se prueba otro.
+                // No se registra restauración: revertir dejaría en el índice el candidato ya desactualizado
+                recursoRepository.findById(candidato.id())
+                        .ifPresentOrElse(indiceRecursos::actualizar, () -> indiceRecursos.eliminar(candidato.id()));
+                continue;
+            }
+            Transacciones.alRevertir(() -> indiceRecursos.restaurar(candidato));
+
+            Recurso recurso = recursoRepository.findById(candidato.id())
+                    .orElseThrow(() -> new NoEncontradoException(CodigoError.RECURSO_NO_ENCONTRADO, "Recurso no encontrado"));
+            Transacciones.alConfirmar(() -> {
+                historialRecursoService.registrar(candidato.id(), candidato.cantidad(),
+                        candidato.cantidad(), candidato.estado(), ESTADO_RESERVADO);
+                busInvalidacion.publicar(EntidadCacheada.RECURSO, candidato.id(), false);
+            });
+            liberar(anterior, candidato.id());
+            // Al final: en un fragmento adicional la escritura no participa de la transacción
+            solicitudRecurso.setRecurso(recurso);
+            guardar(solicitudRecurso);
+            return recurso;
+        }
+        throw new NoEncontradoException(CodigoError.SIN_RECURSOS_DISPONIBLES, "No hay recursos disponibles del tipo de recurso con ID: " + tipoRecursoId);
+    }
+
+    /**
+     * Selecciona el mejor candidato del tipo indicado sin reservarlo.
+     * @param solicitudRecurso Solicitud a atender
+     * @param tipoRecursoId ID del tipo de recurso requerido
+     * @return Mejor candidato, o vacío si no hay recursos asignables
+     */
+    public Optional<CandidatoRecurso> seleccionar(SolicitudRecurso solicitudRecurso, Integer tipoRecursoId) {
+        for (Estado estado : ESTADOS_ASIGNABLES) {
+            CandidatoRecurso mejor = null;
+            double mejorPuntaje = Double.NEGATIVE_INFINITY;
+            for (CandidatoRecurso candidato : indiceRecursos.mejores(tipoRecursoId, estado, VENTANA_CANDIDATOS)) {
+                double puntaje = puntajeRecurso.puntuar(solicitudRecurso, candidato);
+                if (puntaje > mejorPuntaje) {
+                    mejor = candidato;
+                    mejorPuntaje = puntaje;
+                }
+            }
+            if (mejor != null) {
+                return Optional.of(mejor);
+            }
+        }
+        return Optional.empty();
+    }
+
+    // MÉTODOS PRIVADOS
+
+    private Optional<SolicitudRecurso> buscar(Integer id) {
+        return fragmentos.activos() ? solicitudRecursoRepository.buscarEnFragmento(id) : solicitudRecursoRepository.findById(id);
+    }
+
+    private SolicitudRecurso guardar(SolicitudRecurso solicitudRecurso) {
+        return fragmentos.activos() ? solicitudRecursoRepository.guardarEnFragmento(solicitudRecurso) : solicitudRecursoRepository.save(solicitudRecurso);
+    }
+
+    /**
+     * Libera el recurso que la solicitud tenía reservado antes de un nuevo despacho. Solo cambia su estado si
+     * sigue reservado; el índice se actualiza al confirmar la transacción.
+     */
+    private void liberar(Recurso anterior, Integer nuevoId) {
+        if (anterior == null || anterior.getId() == null || anterior.getId().equals(nuevoId)
+                || recursoRepository.actualizarEstadoSiCoincide(anterior.getId(), ESTADO_RESERVADO, ESTADO_LIBERADO) == 0) {
+            return;
+        }
+        Integer id = anterior.getId();
+        Integer cantidad = anterior.getCantidad();
+        Transacciones.alConfirmar(() -> {
+            recursoRepository.findById(id).ifPresentOrElse(indiceRecursos::actualizar, () -> indiceRecursos.eliminar(id));
+            historialRecursoService.registrar(id, cantidad, cantidad, ESTADO_RESERVADO, ESTADO_LIBERADO);
+            busInvalidacion.publicar(EntidadCacheada.RECURSO, id, false);
+        });
+    }
+}
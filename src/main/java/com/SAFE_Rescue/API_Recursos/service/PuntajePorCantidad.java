@@ -0,0 +1,17 @@
+package com.SAFE_Rescue.API_Recursos.service;
+
+import com.SAFE_Rescue.API_Recursos.indice.CandidatoRecurso;
+import com.SAFE_Rescue.API_Recursos.modelo.SolicitudRecurso;
+import org.springframework.stereotype.Component;
+
+/**
+ * Puntaje por defecto del motor de despacho: prefiere el recurso con mayor cantidad disponible.
+ */
+@Component
+public class PuntajePorCantidad implements PuntajeRecurso {
+
+    @Override
+    public double puntuar(SolicitudRecurso solicitudRecurso, CandidatoRecurso candidato) {
+        return candidato.cantidad();
+    }
+}
@@ -0,0 +1,25 @@
+package com.SAFE_Rescue.API_Recursos.service;
+
+import com.SAFE_Rescue.API_Recursos.indice.CandidatoRecurso;
+import com.SAFE_Rescue.API_Recursos.modelo.SolicitudRecurso;
+
+/**
+ * Función de puntaje usada por el motor de despacho para ordenar candidatos.
+ * <p>
+ * Para reemplazar el criterio por defecto basta con registrar otro bean que implemente
+ * esta interfaz y marcarlo con {@code @Primary}.
+ * </p>
+ *
+ * @see MotorDespachoService
+ */
+@FunctionalInterface
+public interface PuntajeRecurso {
+
+    /**
+     * Calcula el puntaje de un candidato para una solicitud. Mayor puntaje es mejor.
+     * @param solicitudRecurso Solicitud que se quiere atender
+     * @param candidato Recurso candidato
+     * @return Puntaje del candidato
+     */
+    double puntuar(SolicitudRecurso solicitudRecurso, CandidatoRecurso candidato);
+}
@@ -1,15 +1,27 @@
 package com.SAFE_Rescue.API_Recursos.service;
 
+import com.SAFE_Rescue.API_Recursos.excepcion.CodigoError;
+import com.SAFE_Rescue.API_Recursos.excepcion.DatosInvalidosException;
+import com.SAFE_Rescue.API_Recursos.excepcion.NoEncontradoException;
+import com.SAFE_Rescue.API_Recursos.indice.IndiceRecursos;
+import com.SAFE_Rescue.API_Recursos.invalidacion.BusInvalidacion;
+import com.SAFE_Rescue.API_Recursos.invalidacion.EntidadCacheada;
+import com.SAFE_Rescue.API_Recursos.modelo.Estado;
 import com.SAFE_Rescue.API_Recursos.modelo.Recurso;
 import com.SAFE_Rescue.API_Recursos.modelo.TipoRecurso;
+import com.SAFE_Rescue.API_Recursos.repository.ProyeccionRepository;
 import com.SAFE_Rescue.API_Recursos.repository.RecursoRepository;
 import com.SAFE_Rescue.API_Recursos.repository.TipoRecursoRepository;
+import com.SAFE_Rescue.API_Recursos.util.Copias;
+import com.SAFE_Rescue.API_Recursos.util.SingleFlight;
+import com.SAFE_Rescue.API_Recursos.util.Transacciones;
 import jakarta.transaction.Transactional;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
-
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 
 /**
@@ -24,10 +36,18 @@ public class RecursoService {
     // REPOSITORIOS INYECTADOS
     @Autowired private RecursoRepository recursoRepository;
     @Autowired private TipoRecursoRepository tipoRecursoRepository;
+    @Autowired private ProyeccionRepository proyeccionRepository;
 
     // SERVICIOS INYECTADOS
     @Autowired private TipoRecursoService tipoRecursoService;
+    @Autowired private HistorialRecursoService historialRecursoService;
+
+    // COMPONENTES INYECTADOS
+    @Autowired private IndiceRecursos indiceRecursos;
+    @Autowired private BusInvalidacion busInvalidacion;
 
+    // CONSULTAS EN CURSO (COALESCENCIA DE findById)
+    private final SingleFlight<Integer, Recurso> consultasPorId = new SingleFlight<>(Copias::recurso);
 
     // MÉTODOS CRUD PRINCIPALES
 
@@ -39,15 +59,44 @@ public class RecursoService {
         return recursoRepository.findAll();
     }
 
+    /**
+     * Obtiene todos los recursos con solo los campos indicados, consultando únicamente esas columnas.
+     * @param campos Campos separados por coma (ej: "id,nombre,tipoRecurso.nombre")
+     * @return Lista de mapas con los campos solicitados
+     * @throws IllegalArgumentException Si algún campo no existe
+     */
+    public List<Map<String, Object>> findAll(String campos) {
+        return proyeccionRepository.proyectar(Recurso.class, campos);
+    }
+
     /**
      * Busca un recurso por su ID único.
+     * Las búsquedas concurrentes del mismo ID comparten una única consulta a la base de datos; cada una recibe
+     * su propia instancia, por lo que el resultado no debe usarse para modificar la entidad.
      * @param id Identificador del recurso
      * @return Recurso encontrado
      * @throws NoSuchElementException Si no se encuentra el recurso
      */
     public Recurso findById(Integer id) {
-        return recursoRepository.findById(id)
-                .orElseThrow(() -> new NoSuchElementException("No se encontró recurso con ID: " + id));
+        return consultasPorId.ejecutar(id, () -> recursoRepository.findById(id)
+                .orElseThrow(() -> new NoEncontradoException(CodigoError.RECURSO_NO_ENCONTRADO, "No se encontró recurso con ID: " + id)));
+    }
+
+    /**
+     * Busca varios recursos por ID en una sola consulta, incluyendo su tipo de recurso.
+     * @param ids Identificadores de los recursos
+     * @return Recursos encontrados, en cualquier orden; los IDs inexistentes se omiten
+     */
+    public List<Recurso> findAllById(Collection<Integer> ids) {
+        return ids.isEmpty() ? List.of() : recursoRepository.findAllConTipoByIdIn(ids);
+    }
+
+    /**
+     * Obtiene las métricas de coalescencia de las búsquedas por ID.
+     * @return Mapa con llamadas, ejecuciones, coalescidas y tasa de coalescencia
+     */
+    public Map<String, Object> estadisticasCoalescencia() {
+        return consultasPorId.estadisticas();
     }
 
     /**
@@ -55,21 +104,24 @@ public class RecursoService {
      * Realiza validaciones y guarda relaciones con otros componentes.
      * @param recurso Datos del recurso a guardar
      * @return Recurso guardado con ID generado
-     * @throws RuntimeException Si ocurre algún error durante el proceso
+     * @throws IllegalArgumentException Si el recurso no pasa las validaciones
      */
     public Recurso save(Recurso recurso) {
-        try {
-            // Validación y persistencia de relaciones principales
-            TipoRecurso tipoRecursoGuardado = tipoRecursoService.save(recurso.getTipoRecurso());
+        validarRecurso(recurso);
 
-            recurso.setTipoRecurso(tipoRecursoGuardado);
+        // Persistencia de relaciones principales
+        TipoRecurso tipoRecursoGuardado = tipoRecursoService.save(recurso.getTipoRecurso());
 
-            validarRecurso(recurso);
+        recurso.setTipoRecurso(tipoRecursoGuardado);
 
-            return recursoRepository.save(recurso);
-        } catch (Exception e) {
-            throw new RuntimeException("Error al guardar el recurso: " + e.getMessage(), e);
-        }
+        Recurso recursoGuardado = recursoRepository.save(recurso);
+        Transacciones.alConfirmar(() -> {
+            indiceRecursos.actualizar(recursoGuardado);
+            busInvalidacion.publicar(EntidadCacheada.RECURSO, recursoGuardado.getId(), false);
+            historialRecursoService.registrar(recursoGuardado.getId(), null, recursoGuardado.getCantidad(),
+                    null, recursoGuardado.getEstado());
+        });
+        return recursoGuardado;
     }
 
     /**
@@ -79,54 +131,50 @@ public class RecursoService {
      * @return Recurso actualizado
      * @throws IllegalArgumentException Si el recurso proporcionado es nulo
      * @throws NoSuchElementException Si no se encuentra el recurso a actualizar
-     * @throws RuntimeException Si ocurre algún error durante la actualización
      */
     public Recurso update(Recurso recurso, Integer id) {
         if (recurso == null) {
-            throw new IllegalArgumentException("El recurso no puede ser nulo");
+            throw new DatosInvalidosException(CodigoError.DATOS_INVALIDOS, "El recurso no puede ser nulo");
         }
 
         Recurso recursoExistente = recursoRepository.findById(id)
-                .orElseThrow(() -> new NoSuchElementException("Recurso no encontrado con ID: " + id));
+                .orElseThrow(() -> new NoEncontradoException(CodigoError.RECURSO_NO_ENCONTRADO, "Recurso no encontrado con ID: " + id));
+        Integer cantidadAnterior = recursoExistente.getCantidad();
+        Estado estadoAnterior = recursoExistente.getEstado();
 
-        try {
-            if (recurso.getTipoRecurso() != null) {
-                recursoExistente.setTipoRecurso(recurso.getTipoRecurso());
-            }
-
-            if (recurso.getNombre() != null) {
-                if (recurso.getNombre().length() > 50) {
-                    throw new IllegalArgumentException("El Nombre no puede exceder los 50 caracteres");
-                } else {
-                    recursoExistente.setNombre(recurso.getNombre());
-                }
-            }
+        if (recurso.getTipoRecurso() != null) {
+            recursoExistente.setTipoRecurso(recurso.getTipoRecurso());
+        }
 
-            if (recurso.getCantidad() != 0) {
-                if (String.valueOf(recurso.getCantidad()).length() > 9) {
-                    throw new RuntimeException("El valor cantidad excede máximo de caracteres (9)");
-                } else {
-                    recursoExistente.setCantidad(recurso.getCantidad());
-                }
+        if (recurso.getNombre() != null) {
+            if (recurso.getNombre().length() > 50) {
+                throw new DatosInvalidosException(CodigoError.DATOS_INVALIDOS, "El Nombre no puede exceder los 50 caracteres");
+            } else {
+                recursoExistente.setNombre(recurso.getNombre());
             }
+        }
 
-            if (recurso.getEstado() != null) {
-                if (recurso.getEstado().length() > 50) {
-                    throw new IllegalArgumentException("El Estado no puede exceder los 50 caracteres");
-                } else {
-                    recursoExistente.setEstado(recurso.getEstado());
-                }
+        if (recurso.getCantidad() != 0) {
+            if (String.valueOf(recurso.getCantidad()).length() > 9) {
+                throw new DatosInvalidosException(CodigoError.DATOS_INVALIDOS, "El valor cantidad excede máximo de caracteres (9)");
+            } else {
+                recursoExistente.setCantidad(recurso.getCantidad());
             }
+        }
 
-            validarRecurso(recursoExistente);
-            return recursoRepository.save(recursoExistente);
-        }catch (IllegalArgumentException e) {
-            throw new IllegalArgumentException("Error al actualizar el recurso: " + e.getMessage());
-        } catch (NoSuchElementException  f) {
-            throw new NoSuchElementException("Error al actualizar el recurso: " + f.getMessage());
-        } catch (Exception g) {
-            throw new RuntimeException("Error al actualizar el recurso: " + g.getMessage());
+        if (recurso.getEstado() != null) {
+            recursoExistente.setEstado(recurso.getEstado());
         }
+
+        validarRecurso(recursoExistente);
+        Recurso recursoActualizado = recursoRepository.save(recursoExistente);
+        Transacciones.alConfirmar(() -> {
+            indiceRecursos.actualizar(recursoActualizado);
+            busInvalidacion.publicar(EntidadCacheada.RECURSO, id, false);
+            historialRecursoService.registrar(id, cantidadAnterior, recursoActualizado.getCantidad(),
+                    estadoAnterior, recursoActualizado.getEstado());
+        });
+        return recursoActualizado;
     }
 
     /**
@@ -136,9 +184,13 @@ public class RecursoService {
      */
     public void delete(Integer id) {
         if (!recursoRepository.existsById(id)) {
-            throw new NoSuchElementException("No se encontró recurso con ID: " + id);
+            throw new NoEncontradoException(CodigoError.RECURSO_NO_ENCONTRADO, "No se encontró recurso con ID: " + id);
         }
         recursoRepository.deleteById(id);
+        Transacciones.alConfirmar(() -> {
+            indiceRecursos.eliminar(id);
+            busInvalidacion.publicar(EntidadCacheada.RECURSO, id, true);
+        });
     }
 
 
@@ -151,42 +203,32 @@ public class RecursoService {
      */
     public void validarRecurso(Recurso recurso) {
 
-        try{
-            if (recurso.getCantidad() <= 0) {
-                throw new IllegalArgumentException("La Cantidad debe ser un número positivo");
-            } else {
-                if (String.valueOf(recurso.getCantidad()).length() > 9) {
-                    throw new IllegalArgumentException("El valor cantidad excede máximo de caracteres (9)");
-                }
-            }
-
-            if (recurso.getNombre() != null) {
-                if (recurso.getNombre().length() > 50) {
-                    throw new IllegalArgumentException("El valor nombre del recurso excede máximo de caracteres (50)");
-                }
-            } else {
-                throw new IllegalArgumentException("El nombre del recurso es requerido");
+        if (recurso.getCantidad() <= 0) {
+            throw new DatosInvalidosException(CodigoError.DATOS_INVALIDOS, "La Cantidad debe ser un número positivo");
+        } else {
+            if (String.valueOf(recurso.getCantidad()).length() > 9) {
+                throw new DatosInvalidosException(CodigoError.DATOS_INVALIDOS, "El valor cantidad excede máximo de caracteres (9)");
             }
+        }
 
-            if (recurso.getEstado() != null) {
-                if (recurso.getEstado().length() > 50) {
-                    throw new IllegalArgumentException("El nombre Estado del recurso excede máximo de caracteres (50)");
-                }
-            } else {
-                throw new IllegalArgumentException("El nombre del Estado es requerido");
+        if (recurso.getNombre() != null) {
+            if (recurso.getNombre().length() > 50) {
+                throw new DatosInvalidosException(CodigoError.DATOS_INVALIDOS, "El valor nombre del recurso excede máximo de caracteres (50)");
             }
+        } else {
+            throw new DatosInvalidosException(CodigoError.DATOS_INVALIDOS, "El nombre del recurso es requerido");
+        }
 
-            if (recurso.getTipoRecurso() == null) {
-                throw new IllegalArgumentException("El tipo de Recurso no puede ser nulo");
-            }else{
-                validarTipoRecurso(recurso.getTipoRecurso());
-            }
+        if (recurso.getEstado() == null) {
+            throw new DatosInvalidosException(CodigoError.DATOS_INVALIDOS, "El nombre del Estado es requerido");
+        }
 
-        }catch (IllegalArgumentException e) {
-            throw new IllegalArgumentException("Error al validar el vehículo: " + e.getMessage());
-        }catch (Exception f) {
-            throw new RuntimeException("Error al validar el vehículo: " + f.getMessage());
+        if (recurso.getTipoRecurso() == null) {
+            throw new DatosInvalidosException(CodigoError.DATOS_INVALIDOS, "El tipo de Recurso no puede ser nulo");
+        }else{
+            validarTipoRecurso(recurso.getTipoRecurso());
         }
+
     }
 
     /**
@@ -196,19 +238,13 @@ public class RecursoService {
      */
     public void validarTipoRecurso(TipoRecurso tipoRecurso) {
 
-        try{
-            if (tipoRecurso.getNombre() == null || tipoRecurso.getNombre().trim().isEmpty()) {
-                throw new IllegalArgumentException("El nombre del Tipo recurso es requerido");
-            }
-            if (tipoRecurso.getNombre().length() > 50) {
-                throw new IllegalArgumentException("El nombre no puede exceder los 50 caracteres");
-            }
-
-        }catch (IllegalArgumentException e) {
-            throw new IllegalArgumentException("Error al validar el Tipo Recurso: " + e.getMessage());
-        }catch (Exception f) {
-            throw new RuntimeException("Error al validar el Tipo Recurso: " + f.getMessage());
+        if (tipoRecurso.getNombre() == null || tipoRecurso.getNombre().trim().isEmpty()) {
+            throw new DatosInvalidosException(CodigoError.DATOS_INVALIDOS, "El nombre del Tipo recurso es requerido");
         }
+        if (tipoRecurso.getNombre().length() > 50) {
+            throw new DatosInvalidosException(CodigoError.DATOS_INVALIDOS, "El nombre no puede exceder los 50 caracteres");
+        }
+
     }
 
     // MÉTODOS DE ASIGNACIÓN DE RELACIONES
@@ -220,11 +256,15 @@ public class RecursoService {
      */
     public void asignarTipoRecurso(Integer recursoId, Integer tipoRecursoId) {
         Recurso recurso = recursoRepository.findById(recursoId)
-                .orElseThrow(() -> new RuntimeException("Recurso no encontrado"));
+                .orElseThrow(() -> new NoEncontradoException(CodigoError.RECURSO_NO_ENCONTRADO, "Recurso no encontrado"));
         TipoRecurso tipoRecurso = tipoRecursoRepository.findById(tipoRecursoId)
-                .orElseThrow(() -> new RuntimeException("Tipo Recurso no encontrado"));
+                .orElseThrow(() -> new NoEncontradoException(CodigoError.TIPO_RECURSO_NO_ENCONTRADO, "Tipo Recurso no encontrado"));
         recurso.setTipoRecurso(tipoRecurso);
         recursoRepository.save(recurso);
+        Transacciones.alConfirmar(() -> {
+            indiceRecursos.actualizar(recurso);
+            busInvalidacion.publicar(EntidadCacheada.RECURSO, recursoId, false);
+        });
     }
 
 }
\ No newline at end of file
@@ -1,24 +1,53 @@
 package com.SAFE_Rescue.API_Recursos.service;
 
+import com.SAFE_Rescue.API_Recursos.excepcion.CodigoError;
+import com.SAFE_Rescue.API_Recursos.excepcion.DatosInvalidosException;
+import com.SAFE_Rescue.API_Recursos.excepcion.NoEncontradoException;
+import com.SAFE_Rescue.API_Recursos.fragmento.Fragmentos;
+import com.SAFE_Rescue.API_Recursos.indice.DirectorioBomberos;
 import com.SAFE_Rescue.API_Recursos.modelo.Bombero;
+import com.SAFE_Rescue.API_Recursos.modelo.Pagina;
 import com.SAFE_Rescue.API_Recursos.modelo.Recurso;
 import com.SAFE_Rescue.API_Recursos.modelo.SolicitudRecurso;
 import com.SAFE_Rescue.API_Recursos.modelo.TipoRecurso;
 import com.SAFE_Rescue.API_Recursos.repository.BomberoRepository;
+import com.SAFE_Rescue.API_Recursos.repository.ProyeccionRepository;
 import com.SAFE_Rescue.API_Recursos.repository.RecursoRepository;
 import com.SAFE_Rescue.API_Recursos.repository.SolicitudRecursoRepository;
-import jakarta.persistence.EntityNotFoundException;
+import com.SAFE_Rescue.API_Recursos.util.Copias;
+import com.SAFE_Rescue.API_Recursos.util.SingleFlight;
+import jakarta.transaction.Transactional;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Servicio para gestionar operaciones relacionadas con solicitudes de recursos
  * <p>
  * Proporciona métodos para CRUD de compañías, validación de reglas de negocio
  * </p>
+ * <p>
+ * Con {@link Fragmentos} activos, el CRUD, las asignaciones (individuales, por lotes y del mejor recurso) y los
+ * listados se dirigen al fragmento de cada solicitud; la proyección por campos consulta todos los fragmentos y
+ * combina los resultados.
+ * </p>
  */
 @Service
 public class SolicitudRecursoService {
@@ -34,6 +63,39 @@ public class SolicitudRecursoService {
     @Autowired
     private RecursoRepository recursoRepository;
 
+    @Autowired
+    private ProyeccionRepository proyeccionRepository;
+
+    // SERVICIOS INYECTADOS
+
+    @Autowired
+    private MotorDespachoService motorDespachoService;
+
+    // COMPONENTES INYECTADOS
+
+    @Autowired
+    private DirectorioBomberos directorioBomberos;
+
+    @Autowired
+    private Fragmentos fragmentos;
+
+    private static final int ASIGNACIONES_MAXIMAS = 1000;
+    private static final int TAMANIO_PAGINA_MAXIMO = 200;
+    private static final int VENTANA_PAGINACION_MAXIMA = 10_000;
+    private static final Sort RECIENTES_PRIMERO = Sort.by(Sort.Order.desc("fechaCreacion"), Sort.Order.desc("id"));
+
+    // CONSULTAS EN CURSO (COALESCENCIA DE findById)
+
+    private final SingleFlight<Integer, SolicitudRecurso> consultasPorId = new SingleFlight<>(Copias::solicitudRecurso);
+
+    /**
+     * Asignación de un recurso y/o un bombero a una solicitud, para la asignación por lotes.
+     * @param solicitudId ID de la solicitud
+     * @param recursoId ID del recurso a asignar (nulo para no cambiarlo)
+     * @param bomberoId ID del bombero a asignar (nulo para no cambiarlo)
+     */
+    public record Asignacion(Integer solicitudId, Integer recursoId, Integer bomberoId) {
+    }
 
     // MÉTODOS CRUD PRINCIPALES
 
@@ -43,19 +105,87 @@ public class SolicitudRecursoService {
      * @return Lista de todas las solicitudes
      */
     public List<SolicitudRecurso> findAll() {
-        return solicitudRecursoRepository.findAll();
+        return fragmentos.activos() ? solicitudRecursoRepository.buscarTodasEnFragmentos() : solicitudRecursoRepository.findAll();
+    }
+
+    /**
+     * Obtiene una página de solicitudes, de la más reciente a la más antigua.
+     * Sin región, con fragmentos activos, se consultan todos los fragmentos en paralelo y se combinan las páginas.
+     * @param region Región a filtrar (nula para todas)
+     * @param pagina Número de página, desde 0
+     * @param tamanio Tamaño de página (máximo 200)
+     * @return Página de solicitudes con el total
+     * @throws IllegalArgumentException Si la página o el tamaño no son válidos
+     */
+    public Pagina<SolicitudRecurso> listar(String region, int pagina, int tamanio) {
+        if (pagina < 0 || tamanio < 1 || tamanio > TAMANIO_PAGINA_MAXIMO) {
+            throw new DatosInvalidosException(CodigoError.DATOS_INVALIDOS, "La página debe ser positiva y el tamaño entre 1 y " + TAMANIO_PAGINA_MAXIMO);
+        }
+        if ((long) (pagina + 1) * tamanio > VENTANA_PAGINACION_MAXIMA) {
+            throw new DatosInvalidosException(CodigoError.DATOS_INVALIDOS, "No se pueden paginar más allá de las primeras " + VENTANA_PAGINACION_MAXIMA + " solicitudes");
+        }
+        String normalizada = region == null || region.isBlank() ? null : Fragmentos.normalizarRegion(region);
+        if (fragmentos.activos()) {
+            return solicitudRecursoRepository.listarEnFragmentos(normalizada, pagina, tamanio);
+        }
+        PageRequest pageRequest = PageRequest.of(pagina, tamanio, RECIENTES_PRIMERO);
+        Page<SolicitudRecurso> resultado = normalizada == null
+                ? solicitudRecursoRepository.findAll(pageRequest)
+                : solicitudRecursoRepository.findByRegion(normalizada, pageRequest);
+        return new Pagina<>(resultado.getContent(), pagina, tamanio, resultado.getTotalElements());
+    }
+
+    /**
+     * Obtiene todos los solicitudes con solo los campos indicados, consultando únicamente esas columnas.
+     * Con fragmentos activos se leen las solicitudes de todos los fragmentos en paralelo y se proyectan en
+     * memoria, ordenadas por ID como en la consulta de la base de datos principal.
+     * @param campos Campos separados por coma (ej: "id,titulo,bombero.nombre,recurso.tipoRecurso.nombre")
+     * @return Lista de mapas con los campos solicitados
+     * @throws IllegalArgumentException Si algún campo no existe
+     */
+    public List<Map<String, Object>> findAll(String campos) {
+        if (fragmentos.activos()) {
+            return proyeccionRepository.proyectar(SolicitudRecurso.class, campos, () -> solicitudRecursoRepository.buscarTodasEnFragmentos()
+                    .stream().sorted(Comparator.comparing(SolicitudRecurso::getId)).toList());
+        }
+        return proyeccionRepository.proyectar(SolicitudRecurso.class, campos);
     }
 
     /**
      * Busca una solicitud por su ID.
+     * Las búsquedas concurrentes del mismo ID comparten una única consulta a la base de datos; cada una recibe
+     * su propia instancia, por lo que el resultado no debe usarse para modificar la entidad.
      *
      * @param id Identificador único de la solicitud
      * @return La solicitud encontrada
      * @throws NoSuchElementException Si no se encuentra la solicitud
      */
     public SolicitudRecurso findById(Integer id) {
-        return solicitudRecursoRepository.findById(id)
-                .orElseThrow(() -> new NoSuchElementException("Solicitud de recurso no encontrada con ID: " + id));
+        return consultasPorId.ejecutar(id, () -> buscar(id)
+                .orElseThrow(() -> new NoEncontradoException(CodigoError.SOLICITUD_NO_ENCONTRADA, "Solicitud de recurso no encontrada con ID: " + id)));
+    }
+
+    /**
+     * Busca varias solicitudes por ID con su bombero, recurso y tipo de recurso.
+     * Sin fragmentos es una sola consulta; con fragmentos, una por cada fragmento que generó alguno de los IDs.
+     *
+     * @param ids Identificadores de las solicitudes
+     * @return Solicitudes encontradas, en cualquier orden; los IDs inexistentes se omiten
+     */
+    public List<SolicitudRecurso> findAllById(Collection<Integer> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return fragmentos.activos() ? solicitudRecursoRepository.buscarVariasEnFragmentos(ids) : solicitudRecursoRepository.findAllConRelacionesByIdIn(ids);
+    }
+
+    /**
+     * Obtiene las métricas de coalescencia de las búsquedas por ID.
+     *
+     * @return Mapa con llamadas, ejecuciones, coalescidas y tasa de coalescencia
+     */
+    public Map<String, Object> estadisticasCoalescencia() {
+        return consultasPorId.estadisticas();
     }
 
     /**
@@ -64,17 +194,13 @@ public class SolicitudRecursoService {
      * @param solicitudRecurso solicitud a guardar
      * @return solicitud guardada con ID generado
      * @throws IllegalArgumentException Si la solicitud no pasa las validaciones
-     * @throws RuntimeException         Si ocurre un error al guardar o validar la ubicación
      */
     public SolicitudRecurso save(SolicitudRecurso solicitudRecurso) {
-        try {
-            validarSolicitud(solicitudRecurso);
-            return solicitudRecursoRepository.save(solicitudRecurso);
-        } catch (EntityNotFoundException e) {
-            throw new RuntimeException("Error al guardar la Solicitud Recurso: " + e.getMessage());
-        } catch (Exception ex) {
-            throw new RuntimeException("Error inesperado: " + ex.getMessage());
+        validarSolicitud(solicitudRecurso);
+        if (solicitudRecurso.getRegion() != null) {
+            solicitudRecurso.setRegion(solicitudRecurso.getRegion().isBlank() ? null : Fragmentos.normalizarRegion(solicitudRecurso.getRegion()));
         }
+        return guardar(solicitudRecurso);
     }
 
     /**
@@ -87,29 +213,25 @@ public class SolicitudRecursoService {
      * @throws IllegalArgumentException Si los datos no pasan las validaciones
      */
     public SolicitudRecurso update(SolicitudRecurso solicitudRecurso, Integer id) {
-        SolicitudRecurso antiguaSolicitudRecurso = solicitudRecursoRepository.findById(id)
-                .orElseThrow(() -> new NoSuchElementException("Solicitud de recurso no encontrada con ID: " + id));
+        SolicitudRecurso antiguaSolicitudRecurso = buscar(id)
+                .orElseThrow(() -> new NoEncontradoException(CodigoError.SOLICITUD_NO_ENCONTRADA, "Solicitud de recurso no encontrada con ID: " + id));
 
 
         if (solicitudRecurso.getTitulo() != null) {
             if (solicitudRecurso.getTitulo().length() > 50) {
-                throw new IllegalArgumentException("El titulo no puede exceder los 50 caracteres");
+                throw new DatosInvalidosException(CodigoError.DATOS_INVALIDOS, "El titulo no puede exceder los 50 caracteres");
             } else {
                 antiguaSolicitudRecurso.setTitulo(solicitudRecurso.getTitulo());
             }
         }
 
         if (solicitudRecurso.getEstado() != null) {
-            if (solicitudRecurso.getEstado().length() > 50) {
-                throw new IllegalArgumentException("El estado no puede exceder los 50 caracteres");
-            } else {
-                antiguaSolicitudRecurso.setEstado(solicitudRecurso.getEstado());
-            }
+            antiguaSolicitudRecurso.setEstado(solicitudRecurso.getEstado());
         }
 
         if (solicitudRecurso.getDetalle() != null) {
             if (solicitudRecurso.getDetalle().length() > 400) {
-                throw new IllegalArgumentException("El Detalle no puede exceder los 400 caracteres");
+                throw new DatosInvalidosException(CodigoError.DATOS_INVALIDOS, "El Detalle no puede exceder los 400 caracteres");
             } else {
                 antiguaSolicitudRecurso.setDetalle(solicitudRecurso.getDetalle());
             }
@@ -124,7 +246,7 @@ public class SolicitudRecursoService {
             antiguaSolicitudRecurso.setRecurso(solicitudRecurso.getRecurso());
         }
 
-        return solicitudRecursoRepository.save(antiguaSolicitudRecurso);
+        return guardar(antiguaSolicitudRecurso);
     }
 
     /**
@@ -134,8 +256,14 @@ public class SolicitudRecursoService {
      * @throws NoSuchElementException Si no se encuentra la solicitud
      */
     public void delete(Integer id) {
+        if (fragmentos.activos()) {
+            if (!solicitudRecursoRepository.eliminarEnFragmento(id)) {
+                throw new NoEncontradoException(CodigoError.SOLICITUD_NO_ENCONTRADA, "Solicitud de recurso no encontrada con ID: " + id);
+            }
+            return;
+        }
         if (!solicitudRecursoRepository.existsById(id)) {
-            throw new NoSuchElementException("Solicitud de recurso no encontrada con ID: " + id);
+            throw new NoEncontradoException(CodigoError.SOLICITUD_NO_ENCONTRADA, "Solicitud de recurso no encontrada con ID: " + id);
         }
         solicitudRecursoRepository.deleteById(id);
     }
@@ -151,27 +279,27 @@ public class SolicitudRecursoService {
      */
     public void validarSolicitud(SolicitudRecurso solicitudRecurso) {
         if (solicitudRecurso.getTitulo() == null || solicitudRecurso.getTitulo().trim().isEmpty()) {
-            throw new IllegalArgumentException("El Titulo de la solicitud recurso es requerido");
+            throw new DatosInvalidosException(CodigoError.DATOS_INVALIDOS, "El Titulo de la solicitud recurso es requerido");
         }
 
         if (solicitudRecurso.getDetalle() == null || solicitudRecurso.getDetalle().trim().isEmpty()) {
-            throw new IllegalArgumentException("El Detalle de la solicitud recurso es requerido");
+            throw new DatosInvalidosException(CodigoError.DATOS_INVALIDOS, "El Detalle de la solicitud recurso es requerido");
         }
 
-        if (solicitudRecurso.getEstado() == null || solicitudRecurso.getEstado().trim().isEmpty()) {
-            throw new IllegalArgumentException("El estado solicitud recurso es requerido");
+        if (solicitudRecurso.getEstado() == null) {
+            throw new DatosInvalidosException(CodigoError.DATOS_INVALIDOS, "El estado solicitud recurso es requerido");
         }
 
         if (solicitudRecurso.getDetalle().length() > 400) {
-            throw new IllegalArgumentException("El Detalle no puede exceder los 400 caracteres");
+            throw new DatosInvalidosException(CodigoError.DATOS_INVALIDOS, "El Detalle no puede exceder los 400 caracteres");
         }
 
         if (solicitudRecurso.getTitulo().length() > 50) {
-            throw new IllegalArgumentException("El Titulo no puede exceder los 50 caracteres");
+            throw new DatosInvalidosException(CodigoError.DATOS_INVALIDOS, "El Titulo no puede exceder los 50 caracteres");
         }
 
-        if (solicitudRecurso.getEstado().length() > 50) {
-            throw new IllegalArgumentException("El Estado no puede exceder los 50 caracteres");
+        if (solicitudRecurso.getRegion() != null && solicitudRecurso.getRegion().trim().length() > 30) {
+            throw new DatosInvalidosException(CodigoError.DATOS_INVALIDOS, "La Region no puede exceder los 30 caracteres");
         }
 
         validarBombero(solicitudRecurso.getBombero());
@@ -187,35 +315,35 @@ public class SolicitudRecursoService {
     public void validarBombero(Bombero bombero) {
 
         if (bombero.getTelefono() <= 0) {
-            throw new IllegalArgumentException("El Telefono debe ser un número positivo");
+            throw new DatosInvalidosException(CodigoError.DATOS_INVALIDOS, "El Telefono debe ser un número positivo");
         } else {
             if (String.valueOf(bombero.getTelefono()).length() > 9) {
-                throw new RuntimeException("El valor telefono excede máximo de caracteres (9)");
+                throw new DatosInvalidosException(CodigoError.DATOS_INVALIDOS, "El valor telefono excede máximo de caracteres (9)");
             }
         }
 
         if (bombero.getNombre() != null) {
             if (bombero.getNombre().length() > 50) {
-                throw new RuntimeException("El valor nombre excede máximo de caracteres (50)");
+                throw new DatosInvalidosException(CodigoError.DATOS_INVALIDOS, "El valor nombre excede máximo de caracteres (50)");
             }
         } else {
-            throw new IllegalArgumentException("El nombre es requerido");
+            throw new DatosInvalidosException(CodigoError.DATOS_INVALIDOS, "El nombre es requerido");
         }
 
         if (bombero.getAPaterno() != null) {
             if (bombero.getAPaterno().length() > 50) {
-                throw new RuntimeException("El valor Apellido Paterno excede máximo de caracteres (50)");
+                throw new DatosInvalidosException(CodigoError.DATOS_INVALIDOS, "El valor Apellido Paterno excede máximo de caracteres (50)");
             }
         } else {
-            throw new IllegalArgumentException("El Apellido Paterno es requerido");
+            throw new DatosInvalidosException(CodigoError.DATOS_INVALIDOS, "El Apellido Paterno es requerido");
         }
 
         if (bombero.getAMaterno() != null) {
             if (bombero.getAMaterno().length() > 50) {
-                throw new RuntimeException("El valor Apellido Materno excede máximo de caracteres (50)");
+                throw new DatosInvalidosException(CodigoError.DATOS_INVALIDOS, "El valor Apellido Materno excede máximo de caracteres (50)");
             }
         } else {
-            throw new IllegalArgumentException("El Apellido Materno es requerido");
+            throw new DatosInvalidosException(CodigoError.DATOS_INVALIDOS, "El Apellido Materno es requerido");
         }
 
     }
@@ -229,19 +357,19 @@ public class SolicitudRecursoService {
     public void validarRecurso(Recurso recurso) {
 
         if (recurso.getCantidad() <= 0) {
-            throw new IllegalArgumentException("La Cantidad debe ser un número positivo");
+            throw new DatosInvalidosException(CodigoError.DATOS_INVALIDOS, "La Cantidad debe ser un número positivo");
         } else {
             if (String.valueOf(recurso.getCantidad()).length() > 9) {
-                throw new RuntimeException("El valor cantidad excede máximo de caracteres (9)");
+                throw new DatosInvalidosException(CodigoError.DATOS_INVALIDOS, "El valor cantidad excede máximo de caracteres (9)");
             }
         }
 
         if (recurso.getNombre() != null) {
             if (recurso.getNombre().length() > 50) {
-                throw new RuntimeException("El valor nombre del recurso excede máximo de caracteres (50)");
+                throw new DatosInvalidosException(CodigoError.DATOS_INVALIDOS, "El valor nombre del recurso excede máximo de caracteres (50)");
             }
         } else {
-            throw new IllegalArgumentException("El nombre del recurso es requerido");
+            throw new DatosInvalidosException(CodigoError.DATOS_INVALIDOS, "El nombre del recurso es requerido");
         }
 
     }
@@ -254,28 +382,143 @@ public class SolicitudRecursoService {
      * @param recursoId ID del recurso
      */
     public void asignarRecurso(Integer solicitudRecursoId, Integer recursoId) {
-        SolicitudRecurso solicitudRecurso = solicitudRecursoRepository.findById(solicitudRecursoId)
-                .orElseThrow(() -> new RuntimeException("Solicitud Recurso no encontrada"));
+        SolicitudRecurso solicitudRecurso = buscar(solicitudRecursoId)
+                .orElseThrow(() -> new NoEncontradoException(CodigoError.SOLICITUD_NO_ENCONTRADA, "Solicitud Recurso no encontrada"));
         Recurso recurso = recursoRepository.findById(recursoId)
-                .orElseThrow(() -> new RuntimeException("Recurso no encontrado"));
+                .orElseThrow(() -> new NoEncontradoException(CodigoError.RECURSO_NO_ENCONTRADO, "Recurso no encontrado"));
         solicitudRecurso.setRecurso(recurso);
-        solicitudRecursoRepository.save(solicitudRecurso);
+        guardar(solicitudRecurso);
     }
 
     /**
-     * Asigna un Bombero a una Solicitud de recurso
+     * Asigna un Bombero a una Solicitud de recurso.
+     * La existencia del bombero se verifica en el directorio en memoria; la asignación usa una referencia
+     * por ID, sin consultar la fila del bombero.
      * @param solicitudRecursoId ID de la Solicitud Recurso
      * @param bomberoId ID del bombero
      */
     public void asignarBombero(Integer solicitudRecursoId, Integer bomberoId) {
-        SolicitudRecurso solicitudRecurso = solicitudRecursoRepository.findById(solicitudRecursoId)
-                .orElseThrow(() -> new RuntimeException("Solicitud Recurso no encontrada"));
-        Bombero bombero = bomberoRepository.findById(bomberoId)
-                .orElseThrow(() -> new RuntimeException("Bombero no encontrado"));
-        solicitudRecurso.setBombero(bombero);
-        solicitudRecursoRepository.save(solicitudRecurso);
+        SolicitudRecurso solicitudRecurso = buscar(solicitudRecursoId)
+                .orElseThrow(() -> new NoEncontradoException(CodigoError.SOLICITUD_NO_ENCONTRADA, "Solicitud Recurso no encontrada"));
+        if (bomberoId == null || directorioBomberos.buscarPorId(bomberoId).isEmpty()) {
+            throw new NoEncontradoException(CodigoError.BOMBERO_NO_ENCONTRADO, "Bombero no encontrado");
+        }
+        solicitudRecurso.setBombero(bomberoRepository.getReferenceById(bomberoId));
+        guardar(solicitudRecurso);
     }
 
-}
+    /**
+     * Asigna recursos y bomberos a varias solicitudes en una sola transacción.
+     * <p>
+     * Las solicitudes, recursos y bomberos referenciados se cargan con una consulta IN por entidad; los
+     * cambios se aplican sobre las entidades administradas y se escriben al confirmar, agrupados en lotes
+     * JDBC ({@code hibernate.jdbc.batch_size}). Si falta alguna entidad no se aplica ninguna asignación.
+     * </p>
+     * <p>
+     * Con fragmentos activos las solicitudes se leen con una consulta por fragmento y se escriben con un lote
+     * JDBC por fragmento; cada fragmento confirma sus asignaciones por separado.
+     * </p>
+     * @param asignaciones Asignaciones a aplicar (máximo 1000, sin solicitudes repetidas)
+     * @return Cantidad de solicitudes actualizadas
+     * @throws IllegalArgumentException Si la lista está vacía, es demasiado grande, repite solicitudes
+     *                                  o alguna asignación no indica qué asignar
+     * @throws NoSuchElementException   Si no existe alguna solicitud, recurso o bombero referenciado
+     */
+    @Transactional
+    public int asignarLote(List<Asignacion> asignaciones) {
+        validarAsignaciones(asignaciones);
+
+        Set<Integer> idsSolicitudes = ids(asignaciones, Asignacion::solicitudId);
+        Map<Integer, SolicitudRecurso> solicitudes = porId(fragmentos.activos()
+                ? solicitudRecursoRepository.buscarVariasEnFragmentos(idsSolicitudes)
+                : solicitudRecursoRepository.findAllConRelacionesByIdIn(idsSolicitudes), SolicitudRecurso::getId);
+        Set<Integer> idsRecursos = ids(asignaciones, Asignacion::recursoId);
+        Map<Integer, Recurso> recursos = idsRecursos.isEmpty() ? Map.of()
+                : porId(recursoRepository.findAllConTipoByIdIn(idsRecursos), Recurso::getId);
+        Set<Integer> idsBomberos = ids(asignaciones, Asignacion::bomberoId);
+        Map<Integer, Bombero> bomberos = idsBomberos.isEmpty() ? Map.of()
+                : porId(bomberoRepository.findAllById(idsBomberos), Bombero::getId);
+
+        List<String> faltantes = new ArrayList<>();
+        faltantes(idsSolicitudes, solicitudes, "solicitudes", faltantes);
+        faltantes(idsRecursos, recursos, "recursos", faltantes);
+        faltantes(idsBomberos, bomberos, "bomberos", faltantes);
+        if (!faltantes.isEmpty()) {
+            throw new NoEncontradoException(CodigoError.NO_ENCONTRADO, "No se encontraron " + String.join("; ", faltantes));
+        }
+
+        for (Asignacion asignacion : asignaciones) {
+            SolicitudRecurso solicitud = solicitudes.get(asignacion.solicitudId());
+            if (asignacion.recursoId() != null) {
+                solicitud.setRecurso(recursos.get(asignacion.recursoId()));
+            }
+            if (asignacion.bomberoId() != null) {
+                solicitud.setBombero(bomberos.get(asignacion.bomberoId()));
+            }
+        }
+        if (fragmentos.activos()) {
+            solicitudRecursoRepository.asignarEnFragmentos(solicitudes.values());
+        }
+        return asignaciones.size();
+    }
+
+    /**
+     * Selecciona, reserva y asigna el mejor recurso disponible de un tipo a una Solicitud de recurso
+     * @param solicitudRecursoId ID de la Solicitud Recurso
+     * @param tipoRecursoId ID del tipo de recurso requerido
+     * @return Recurso asignado
+     * @throws NoSuchElementException Si no existe la solicitud o no hay recursos disponibles del tipo
+     */
+    public Recurso asignarMejorRecurso(Integer solicitudRecursoId, Integer tipoRecursoId) {
+        return motorDespachoService.asignarMejorRecurso(solicitudRecursoId, tipoRecursoId);
+    }
+
+    // MÉTODOS PRIVADOS
+
+    private Optional<SolicitudRecurso> buscar(Integer id) {
+        return fragmentos.activos() ? solicitudRecursoRepository.buscarEnFragmento(id) : solicitudRecursoRepository.findById(id);
+    }
+
+    private SolicitudRecurso guardar(SolicitudRecurso solicitudRecurso) {
+        return fragmentos.activos() ? solicitudRecursoRepository.guardarEnFragmento(solicitudRecurso) : solicitudRecursoRepository.save(solicitudRecurso);
+    }
+
+    private static void validarAsignaciones(List<Asignacion> asignaciones) {
+        if (asignaciones == null || asignaciones.isEmpty()) {
+            throw new DatosInvalidosException(CodigoError.DATOS_INVALIDOS, "Debe indicar al menos una asignación");
+        }
+        if (asignaciones.size() > ASIGNACIONES_MAXIMAS) {
+            throw new DatosInvalidosException(CodigoError.DATOS_INVALIDOS, "No se pueden asignar más de " + ASIGNACIONES_MAXIMAS + " solicitudes por lote");
+        }
+        Set<Integer> vistas = new HashSet<>();
+        for (Asignacion asignacion : asignaciones) {
+            if (asignacion == null || asignacion.solicitudId() == null) {
+                throw new DatosInvalidosException(CodigoError.DATOS_INVALIDOS, "Cada asignación debe indicar solicitudId");
+            }
+            if (asignacion.recursoId() == null && asignacion.bomberoId() == null) {
+                throw new DatosInvalidosException(CodigoError.DATOS_INVALIDOS, "La asignación de la solicitud " + asignacion.solicitudId()
+                        + " debe indicar recursoId o bomberoId");
+            }
+            if (!vistas.add(asignacion.solicitudId())) {
+                throw new DatosInvalidosException(CodigoError.DATOS_INVALIDOS, "La solicitud " + asignacion.solicitudId() + " está repetida en el lote");
+            }
+        }
+    }
+
+    private static Set<Integer> ids(List<Asignacion> asignaciones, Function<Asignacion, Integer> id) {
+        return asignaciones.stream().map(id).filter(Objects::nonNull).collect(Collectors.toCollection(TreeSet::new));
+    }
 
+    private static <T> Map<Integer, T> porId(List<T> entidades, Function<T, Integer> id) {
+        Map<Integer, T> mapa = new HashMap<>(entidades.size() * 2);
+        entidades.forEach(entidad -> mapa.put(id.apply(entidad), entidad));
+        return mapa;
+    }
 
+    private static void faltantes(Set<Integer> ids, Map<Integer, ?> encontrados, String entidad, List<String> faltantes) {
+        List<Integer> sinEncontrar = ids.stream().filter(id -> !encontrados.containsKey(id)).toList();
+        if (!sinEncontrar.isEmpty()) {
+            faltantes.add(entidad + " con ID " + sinEncontrar);
+        }
+    }
+}
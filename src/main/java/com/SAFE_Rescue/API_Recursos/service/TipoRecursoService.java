@@ -1,12 +1,17 @@
 package com.SAFE_Rescue.API_Recursos.service;
 
+import com.SAFE_Rescue.API_Recursos.excepcion.CodigoError;
+import com.SAFE_Rescue.API_Recursos.excepcion.DatosInvalidosException;
+import com.SAFE_Rescue.API_Recursos.excepcion.NoEncontradoException;
 import com.SAFE_Rescue.API_Recursos.modelo.TipoRecurso;
+import com.SAFE_Rescue.API_Recursos.repository.ProyeccionRepository;
 import com.SAFE_Rescue.API_Recursos.repository.TipoRecursoRepository;
-import jakarta.persistence.EntityNotFoundException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 
 /**
@@ -21,6 +26,9 @@ public class TipoRecursoService {
     @Autowired
     private TipoRecursoRepository tipoRecursoRepository;
 
+    @Autowired
+    private ProyeccionRepository proyeccionRepository;
+
     // MÉTODOS CRUD PRINCIPALES
     /**
      * Obtiene todos los tipos de recursos registrados.
@@ -30,6 +38,16 @@ public class TipoRecursoService {
         return tipoRecursoRepository.findAll();
     }
 
+    /**
+     * Obtiene todos los tipos de recursos con solo los campos indicados, consultando únicamente esas columnas.
+     * @param campos Campos separados por coma (ej: "id,nombre")
+     * @return Lista de mapas con los campos solicitados
+     * @throws IllegalArgumentException Si algún campo no existe
+     */
+    public List<Map<String, Object>> findAll(String campos) {
+        return proyeccionRepository.proyectar(TipoRecurso.class, campos);
+    }
+
     /**
      * Busca un tipo de recursos por su ID.
      * @param id Identificador único del tipo de recursos
@@ -38,7 +56,16 @@ public class TipoRecursoService {
      */
     public TipoRecurso findById(Integer id) {
         return tipoRecursoRepository.findById(id)
-                .orElseThrow(() -> new NoSuchElementException("Tipo de recursos no encontrado con ID: " + id));
+                .orElseThrow(() -> new NoEncontradoException(CodigoError.TIPO_RECURSO_NO_ENCONTRADO, "Tipo de recursos no encontrado con ID: " + id));
+    }
+
+    /**
+     * Busca varios tipos de recursos por ID en una sola consulta.
+     * @param ids Identificadores de los tipos de recursos
+     * @return Tipos encontrados, en cualquier orden; los IDs inexistentes se omiten
+     */
+    public List<TipoRecurso> findAllById(Collection<Integer> ids) {
+        return ids.isEmpty() ? List.of() : tipoRecursoRepository.findAllById(ids);
     }
 
     /**
@@ -48,14 +75,8 @@ public class TipoRecursoService {
      * @throws IllegalArgumentException Si el tipo de recursos no pasa las validaciones
      */
     public TipoRecurso save(TipoRecurso tipoRecurso) {
-        try{
-            validarTipoRecurso(tipoRecurso);
-            return tipoRecursoRepository.save(tipoRecurso);
-        } catch (EntityNotFoundException e) {
-            throw new RuntimeException("Error al guardar el Tipo recursos: " + e.getMessage());
-        } catch (Exception ex) {
-            throw new RuntimeException("Error inesperado: " + ex.getMessage());
-        }
+        validarTipoRecurso(tipoRecurso);
+        return tipoRecursoRepository.save(tipoRecurso);
     }
 
     /**
@@ -68,11 +89,11 @@ public class TipoRecursoService {
      */
     public TipoRecurso update(TipoRecurso tipoRecurso, Integer id) {
         TipoRecurso tipoExistente = tipoRecursoRepository.findById(id)
-                .orElseThrow(() -> new NoSuchElementException("Tipo de recursos no encontrado con ID: " + id));
+                .orElseThrow(() -> new NoEncontradoException(CodigoError.TIPO_RECURSO_NO_ENCONTRADO, "Tipo de recursos no encontrado con ID: " + id));
 
         if (tipoRecurso.getNombre() != null) {
             if (tipoRecurso.getNombre().length() > 50) {
-                throw new IllegalArgumentException("El nombre no puede exceder los 50 caracteres");
+                throw new DatosInvalidosException(CodigoError.DATOS_INVALIDOS, "El nombre no puede exceder los 50 caracteres");
             } else {
                 tipoExistente.setNombre(tipoRecurso.getNombre());
             }
@@ -88,7 +109,7 @@ public class TipoRecursoService {
      */
     public void delete(Integer id) {
         if (!tipoRecursoRepository.existsById(id)) {
-            throw new NoSuchElementException("Tipo de recurso no encontrado con ID: " + id);
+            throw new NoEncontradoException(CodigoError.TIPO_RECURSO_NO_ENCONTRADO, "Tipo de recurso no encontrado con ID: " + id);
         }
         tipoRecursoRepository.deleteById(id);
     }
@@ -102,10 +123,10 @@ public class TipoRecursoService {
      */
     public void validarTipoRecurso(TipoRecurso tipoRecurso) {
         if (tipoRecurso.getNombre() == null || tipoRecurso.getNombre().trim().isEmpty()) {
-            throw new IllegalArgumentException("El nombre del Tipo recurso es requerido");
+            throw new DatosInvalidosException(CodigoError.DATOS_INVALIDOS, "El nombre del Tipo recurso es requerido");
         }
         if (tipoRecurso.getNombre().length() > 50) {
-            throw new IllegalArgumentException("El nombre no puede exceder los 50 caracteres");
+            throw new DatosInvalidosException(CodigoError.DATOS_INVALIDOS, "El nombre no puede exceder los 50 caracteres");
         }
     }
 
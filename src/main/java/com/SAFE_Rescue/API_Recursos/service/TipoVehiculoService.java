@@ -1,12 +1,17 @@
 package com.SAFE_Rescue.API_Recursos.service;
 
+import com.SAFE_Rescue.API_Recursos.excepcion.CodigoError;
+import com.SAFE_Rescue.API_Recursos.excepcion.DatosInvalidosException;
+import com.SAFE_Rescue.API_Recursos.excepcion.NoEncontradoException;
 import com.SAFE_Rescue.API_Recursos.modelo.TipoVehiculo;
+import com.SAFE_Rescue.API_Recursos.repository.ProyeccionRepository;
 import com.SAFE_Rescue.API_Recursos.repository.TipoVehiculoRepository;
-import jakarta.persistence.EntityNotFoundException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 
 /**
@@ -21,6 +26,9 @@ public class TipoVehiculoService {
     @Autowired
     private TipoVehiculoRepository tipoVehiculoRepository;
 
+    @Autowired
+    private ProyeccionRepository proyeccionRepository;
+
     // MÉTODOS CRUD PRINCIPALES
     /**
      * Obtiene todos los tipos de Vehiculo registrados.
@@ -30,6 +38,16 @@ public class TipoVehiculoService {
         return tipoVehiculoRepository.findAll();
     }
 
+    /**
+     * Obtiene todos los tipos de vehículos con solo los campos indicados, consultando únicamente esas columnas.
+     * @param campos Campos separados por coma (ej: "id,nombre")
+     * @return Lista de mapas con los campos solicitados
+     * @throws IllegalArgumentException Si algún campo no existe
+     */
+    public List<Map<String, Object>> findAll(String campos) {
+        return proyeccionRepository.proyectar(TipoVehiculo.class, campos);
+    }
+
     /**
      * Busca un tipo de Vehiculos por su ID.
      * @param id Identificador único del tipo de Vehiculos
@@ -38,7 +56,16 @@ public class TipoVehiculoService {
      */
     public TipoVehiculo findById(Integer id) {
         return tipoVehiculoRepository.findById(id)
-                .orElseThrow(() -> new NoSuchElementException("Tipo de Vehiculos no encontrado con ID: " + id));
+                .orElseThrow(() -> new NoEncontradoException(CodigoError.TIPO_VEHICULO_NO_ENCONTRADO, "Tipo de Vehiculos no encontrado con ID: " + id));
+    }
+
+    /**
+     * Busca varios tipos de vehículo por ID en una sola consulta.
+     * @param ids Identificadores de los tipos de vehículo
+     * @return Tipos encontrados, en cualquier orden; los IDs inexistentes se omiten
+     */
+    public List<TipoVehiculo> findAllById(Collection<Integer> ids) {
+        return ids.isEmpty() ? List.of() : tipoVehiculoRepository.findAllById(ids);
     }
 
     /**
@@ -48,14 +75,8 @@ public class TipoVehiculoService {
      * @throws IllegalArgumentException Si el tipo de Vehiculo no pasa las validaciones
      */
     public TipoVehiculo save(TipoVehiculo tipoVehiculo) {
-        try{
-            validarTipoVehiculo(tipoVehiculo);
-            return tipoVehiculoRepository.save(tipoVehiculo);
-        } catch (EntityNotFoundException e) {
-            throw new RuntimeException("Error al guardar el Tipo Vehiculo: " + e.getMessage());
-        } catch (Exception ex) {
-            throw new RuntimeException("Error inesperado: " + ex.getMessage());
-        }
+        validarTipoVehiculo(tipoVehiculo);
+        return tipoVehiculoRepository.save(tipoVehiculo);
     }
 
     /**
@@ -68,11 +89,11 @@ public class TipoVehiculoService {
      */
     public TipoVehiculo update(TipoVehiculo tipoVehiculo, Integer id) {
         TipoVehiculo tipoExistente = tipoVehiculoRepository.findById(id)
-                .orElseThrow(() -> new NoSuchElementException("Tipo de Vehiculo no encontrado con ID: " + id));
+                .orElseThrow(() -> new NoEncontradoException(CodigoError.TIPO_VEHICULO_NO_ENCONTRADO, "Tipo de Vehiculo no encontrado con ID: " + id));
 
         if (tipoVehiculo.getNombre() != null) {
             if (tipoVehiculo.getNombre().length() > 50) {
-                throw new IllegalArgumentException("El nombre no puede exceder los 50 caracteres");
+                throw new DatosInvalidosException(CodigoError.DATOS_INVALIDOS, "El nombre no puede exceder los 50 caracteres");
             } else {
                 tipoExistente.setNombre(tipoVehiculo.getNombre());
             }
@@ -88,7 +109,7 @@ public class TipoVehiculoService {
      */
     public void delete(Integer id) {
         if (!tipoVehiculoRepository.existsById(id)) {
-            throw new NoSuchElementException("Tipo de Vehiculo no encontrado con ID: " + id);
+            throw new NoEncontradoException(CodigoError.TIPO_VEHICULO_NO_ENCONTRADO, "Tipo de Vehiculo no encontrado con ID: " + id);
         }
         tipoVehiculoRepository.deleteById(id);
     }
@@ -102,10 +123,10 @@ public class TipoVehiculoService {
      */
     public void validarTipoVehiculo(TipoVehiculo tipoVehiculo) {
         if (tipoVehiculo.getNombre() == null || tipoVehiculo.getNombre().trim().isEmpty()) {
-            throw new IllegalArgumentException("El nombre del Tipo Vehiculo es requerido");
+            throw new DatosInvalidosException(CodigoError.DATOS_INVALIDOS, "El nombre del Tipo Vehiculo es requerido");
         }
         if (tipoVehiculo.getNombre().length() > 50) {
-            throw new IllegalArgumentException("El nombre no puede exceder los 50 caracteres");
+            throw new DatosInvalidosException(CodigoError.DATOS_INVALIDOS, "El nombre no puede exceder los 50 caracteres");
         }
     }
 
@@ -1,16 +1,30 @@
 package com.SAFE_Rescue.API_Recursos.service;
 
+import com.SAFE_Rescue.API_Recursos.excepcion.CodigoError;
+import com.SAFE_Rescue.API_Recursos.excepcion.DatosInvalidosException;
+import com.SAFE_Rescue.API_Recursos.excepcion.NoEncontradoException;
+import com.SAFE_Rescue.API_Recursos.indice.DisponibilidadVehiculos;
+import com.SAFE_Rescue.API_Recursos.indice.IndiceVehiculos;
+import com.SAFE_Rescue.API_Recursos.invalidacion.BusInvalidacion;
+import com.SAFE_Rescue.API_Recursos.invalidacion.EntidadCacheada;
+import com.SAFE_Rescue.API_Recursos.modelo.Estado;
 import com.SAFE_Rescue.API_Recursos.modelo.TipoRecurso;
 import com.SAFE_Rescue.API_Recursos.modelo.TipoVehiculo;
 import com.SAFE_Rescue.API_Recursos.modelo.Vehiculo;
+import com.SAFE_Rescue.API_Recursos.repository.ProyeccionRepository;
 import com.SAFE_Rescue.API_Recursos.repository.TipoVehiculoRepository;
 import com.SAFE_Rescue.API_Recursos.repository.VehiculoRepository;
+import com.SAFE_Rescue.API_Recursos.util.Copias;
+import com.SAFE_Rescue.API_Recursos.util.SingleFlight;
+import com.SAFE_Rescue.API_Recursos.util.Transacciones;
 import jakarta.transaction.Transactional;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 
 /**
@@ -25,10 +39,18 @@ public class VehiculoService {
     // REPOSITORIOS INYECTADOS
     @Autowired private VehiculoRepository vehiculoRepository;
     @Autowired private TipoVehiculoRepository tipoVehiculoRepository;
+    @Autowired private ProyeccionRepository proyeccionRepository;
 
     // SERVICIOS INYECTADOS
     @Autowired private TipoVehiculoService tipoVehiculoService;
 
+    // COMPONENTES INYECTADOS
+    @Autowired private IndiceVehiculos indiceVehiculos;
+    @Autowired private BusInvalidacion busInvalidacion;
+
+    // CONSULTAS EN CURSO (COALESCENCIA DE findById)
+    private final SingleFlight<Integer, Vehiculo> consultasPorId = new SingleFlight<>(Copias::vehiculo);
+
     // MÉTODOS CRUD PRINCIPALES
 
     /**
@@ -39,15 +61,55 @@ public class VehiculoService {
         return vehiculoRepository.findAll();
     }
 
+    /**
+     * Obtiene todos los vehiculos con solo los campos indicados, consultando únicamente esas columnas.
+     * @param campos Campos separados por coma (ej: "id,patente,estado,tipoVehiculo.nombre")
+     * @return Lista de mapas con los campos solicitados
+     * @throws IllegalArgumentException Si algún campo no existe
+     */
+    public List<Map<String, Object>> findAll(String campos) {
+        return proyeccionRepository.proyectar(Vehiculo.class, campos);
+    }
+
     /**
      * Busca un vehiculo por su ID único.
+     * Las búsquedas concurrentes del mismo ID comparten una única consulta a la base de datos; cada una recibe
+     * su propia instancia, por lo que el resultado no debe usarse para modificar la entidad.
      * @param id Identificador del vehiculo
      * @return Vehiculo encontrado
      * @throws NoSuchElementException Si no se encuentra el vehiculo
      */
     public Vehiculo findById(Integer id) {
-        return vehiculoRepository.findById(id)
-                .orElseThrow(() -> new NoSuchElementException("No se encontró vehiculo con ID: " + id));
+        return consultasPorId.ejecutar(id, () -> vehiculoRepository.findById(id)
+                .orElseThrow(() -> new NoEncontradoException(CodigoError.VEHICULO_NO_ENCONTRADO, "No se encontró vehiculo con ID: " + id)));
+    }
+
+    /**
+     * Busca varios vehículos por ID en una sola consulta, incluyendo su tipo de vehículo.
+     * @param ids Identificadores de los vehículos
+     * @return Vehículos encontrados, en cualquier orden; los IDs inexistentes se omiten
+     */
+    public List<Vehiculo> findAllById(Collection<Integer> ids) {
+        return ids.isEmpty() ? List.of() : vehiculoRepository.findAllConTipoByIdIn(ids);
+    }
+
+    /**
+     * Consulta los vehículos de un tipo y estado en el índice de disponibilidad, sin acceder a la base de datos.
+     * @param tipoVehiculoId Identificador del tipo de vehículo
+     * @param estado Estado buscado (por ejemplo "Operativo")
+     * @param limite Cantidad máxima de IDs a devolver
+     * @return Total de vehículos y primeros IDs encontrados
+     */
+    public DisponibilidadVehiculos disponibles(Integer tipoVehiculoId, Estado estado, int limite) {
+        return indiceVehiculos.disponibles(tipoVehiculoId, estado, limite);
+    }
+
+    /**
+     * Obtiene las métricas de coalescencia de las búsquedas por ID.
+     * @return Mapa con llamadas, ejecuciones, coalescidas y tasa de coalescencia
+     */
+    public Map<String, Object> estadisticasCoalescencia() {
+        return consultasPorId.estadisticas();
     }
 
     /**
@@ -55,22 +117,22 @@ public class VehiculoService {
      * Realiza validaciones y guarda relaciones con otros componentes.
      * @param vehiculo Datos del vehiculo a guardar
      * @return Vehiculo guardado con ID generado
-     * @throws RuntimeException Si ocurre algún error durante el proceso
+     * @throws IllegalArgumentException Si el vehiculo no pasa las validaciones
      */
     public Vehiculo save(Vehiculo vehiculo) {
-        try {
-
-            // Validación y persistencia de relaciones principales
-            TipoVehiculo tipoVehiculoGuardado = tipoVehiculoService.save(vehiculo.getTipoVehiculo());
+        validarVehiculo(vehiculo);
 
-            vehiculo.setTipoVehiculo(tipoVehiculoGuardado);
+        // Persistencia de relaciones principales
+        TipoVehiculo tipoVehiculoGuardado = tipoVehiculoService.save(vehiculo.getTipoVehiculo());
 
-            validarVehiculo(vehiculo);
+        vehiculo.setTipoVehiculo(tipoVehiculoGuardado);
 
-            return vehiculoRepository.save(vehiculo);
-        } catch (Exception e) {
-            throw new RuntimeException("Error al guardar el vehiculo: " + e.getMessage(), e);
-        }
+        Vehiculo vehiculoGuardado = vehiculoRepository.save(vehiculo);
+        Transacciones.alConfirmar(() -> {
+            indiceVehiculos.actualizar(vehiculoGuardado);
+            busInvalidacion.publicar(EntidadCacheada.VEHICULO, vehiculoGuardado.getId(), false);
+        });
+        return vehiculoGuardado;
     }
 
     /**
@@ -80,78 +142,69 @@ public class VehiculoService {
      * @return Vehiculo actualizado
      * @throws IllegalArgumentException Si el vehiculo proporcionado es nulo
      * @throws NoSuchElementException Si no se encuentra el vehiculo a actualizar
-     * @throws RuntimeException Si ocurre algún error durante la actualización
      */
     public Vehiculo update(Vehiculo vehiculo, Integer id) {
         if (vehiculo == null) {
-            throw new IllegalArgumentException("El vehiculo no puede ser nulo");
+            throw new DatosInvalidosException(CodigoError.DATOS_INVALIDOS, "El vehiculo no puede ser nulo");
         }
 
         Vehiculo vehiculoExistente = vehiculoRepository.findById(id)
-                .orElseThrow(() -> new NoSuchElementException("Vehiculo no encontrado con ID: " + id));
+                .orElseThrow(() -> new NoEncontradoException(CodigoError.VEHICULO_NO_ENCONTRADO, "Vehiculo no encontrado con ID: " + id));
 
-        try {
-
-            if (vehiculo.getTipoVehiculo() != null) {
-                vehiculoExistente.setTipoVehiculo(vehiculo.getTipoVehiculo());
-            }
+        if (vehiculo.getTipoVehiculo() != null) {
+            vehiculoExistente.setTipoVehiculo(vehiculo.getTipoVehiculo());
+        }
 
-            if (vehiculo.getMarca() != null) {
-                if (vehiculo.getMarca().length() > 50) {
-                    throw new IllegalArgumentException("El Marca no puede exceder los 50 caracteres");
-                } else {
-                    vehiculoExistente.setMarca(vehiculo.getMarca());
-                }
+        if (vehiculo.getMarca() != null) {
+            if (vehiculo.getMarca().length() > 50) {
+                throw new DatosInvalidosException(CodigoError.DATOS_INVALIDOS, "El Marca no puede exceder los 50 caracteres");
+            } else {
+                vehiculoExistente.setMarca(vehiculo.getMarca());
             }
+        }
 
-            if (vehiculo.getModelo() != null) {
-                if (vehiculo.getModelo().length() > 50) {
-                    throw new IllegalArgumentException("El Modelo no puede exceder los 50 caracteres");
-                } else {
-                    vehiculoExistente.setModelo(vehiculo.getModelo());
-                }
+        if (vehiculo.getModelo() != null) {
+            if (vehiculo.getModelo().length() > 50) {
+                throw new DatosInvalidosException(CodigoError.DATOS_INVALIDOS, "El Modelo no puede exceder los 50 caracteres");
+            } else {
+                vehiculoExistente.setModelo(vehiculo.getModelo());
             }
+        }
 
-            if (vehiculo.getEstado() != null) {
-                if (vehiculo.getEstado().length() > 50) {
-                    throw new IllegalArgumentException("El Estado no puede exceder los 50 caracteres");
-                } else {
-                    vehiculoExistente.setEstado(vehiculo.getEstado());
-                }
-            }
+        if (vehiculo.getEstado() != null) {
+            vehiculoExistente.setEstado(vehiculo.getEstado());
+        }
 
-            if (vehiculo.getConductor() != null) {
-                if (vehiculo.getConductor().length() > 50) {
-                    throw new IllegalArgumentException("El Conductor no puede exceder los 50 caracteres");
-                } else {
-                    vehiculoExistente.setConductor(vehiculo.getConductor());
-                }
+        if (vehiculo.getConductor() != null) {
+            if (vehiculo.getConductor().length() > 50) {
+                throw new DatosInvalidosException(CodigoError.DATOS_INVALIDOS, "El Conductor no puede exceder los 50 caracteres");
+            } else {
+                vehiculoExistente.setConductor(vehiculo.getConductor());
             }
+        }
 
-            if (vehiculo.getPatente() != null) {
-                if (vehiculo.getPatente().length() > 6) {
-                    throw new IllegalArgumentException("La patente no puede exceder los 6 caracteres");
-                } else {
-                    if (vehiculoRepository.existsByPatente(vehiculo.getPatente())) {
-                        throw new RuntimeException("La Patente ya existe");
-                    }else{
-                    vehiculoExistente.setPatente(vehiculo.getPatente());
-                    }
+        if (vehiculo.getPatente() != null) {
+            if (vehiculo.getPatente().length() > 6) {
+                throw new DatosInvalidosException(CodigoError.DATOS_INVALIDOS, "La patente no puede exceder los 6 caracteres");
+            } else {
+                if (vehiculoRepository.existsByPatente(vehiculo.getPatente())) {
+                    throw new DatosInvalidosException(CodigoError.DATOS_INVALIDOS, "La Patente ya existe");
+                }else{
+                vehiculoExistente.setPatente(vehiculo.getPatente());
                 }
             }
+        }
 
-            if (vehiculo.getTipoVehiculo() != null) {
-                validarTipoVehiculo(vehiculo.getTipoVehiculo());
-            }
-
-            return vehiculoRepository.save(vehiculoExistente);
-        }catch (IllegalArgumentException e) {
-            throw new IllegalArgumentException("Error al actualizar el vehículo: " + e.getMessage());
-        } catch (NoSuchElementException  f) {
-            throw new NoSuchElementException("Error al actualizar el vehículo: " + f.getMessage());
-        } catch (Exception g) {
-            throw new RuntimeException("Error al actualizar el vehículo: " + g.getMessage());
+        if (vehiculo.getTipoVehiculo() != null) {
+            validarTipoVehiculo(vehiculo.getTipoVehiculo());
         }
+
+        Vehiculo vehiculoActualizado = vehiculoRepository.save(vehiculoExistente);
+        Transacciones.alConfirmar(() -> {
+            indiceVehiculos.actualizar(vehiculoActualizado);
+            busInvalidacion.publicar(EntidadCacheada.VEHICULO, id, false);
+        });
+        return vehiculoActualizado;
     }
 
     /**
@@ -161,9 +214,13 @@ public class VehiculoService {
      */
     public void delete(Integer id) {
         if (!vehiculoRepository.existsById(id)) {
-            throw new NoSuchElementException("No se encontró vehiculo con ID: " + id);
+            throw new NoEncontradoException(CodigoError.VEHICULO_NO_ENCONTRADO, "No se encontró vehiculo con ID: " + id);
         }
         vehiculoRepository.deleteById(id);
+        Transacciones.alConfirmar(() -> {
+            indiceVehiculos.eliminar(id);
+            busInvalidacion.publicar(EntidadCacheada.VEHICULO, id, true);
+        });
     }
 
 
@@ -176,57 +233,50 @@ public class VehiculoService {
      */
     public void validarVehiculo(Vehiculo vehiculo) {
 
-        try {
-            if (vehiculoRepository.existsByPatente(vehiculo.getPatente())) {
-                throw new RuntimeException("La Patente ya existe");
-            }
+        if (vehiculoRepository.existsByPatente(vehiculo.getPatente())) {
+            throw new DatosInvalidosException(CodigoError.DATOS_INVALIDOS, "La Patente ya existe");
+        }
 
-            if (vehiculo.getMarca() != null) {
-                if (vehiculo.getMarca().length() > 50) {
-                    throw new IllegalArgumentException("La Marca no puede exceder los 50 caracteres");
-                }
-            }else{
-                throw new IllegalArgumentException("La marca no puede ser nula");
+        if (vehiculo.getMarca() != null) {
+            if (vehiculo.getMarca().length() > 50) {
+                throw new DatosInvalidosException(CodigoError.DATOS_INVALIDOS, "La Marca no puede exceder los 50 caracteres");
             }
+        }else{
+            throw new DatosInvalidosException(CodigoError.DATOS_INVALIDOS, "La marca no puede ser nula");
+        }
 
-            if (vehiculo.getModelo() != null) {
-                if (vehiculo.getModelo().length() > 50) {
-                    throw new IllegalArgumentException("El Modelo no puede exceder los 50 caracteres");
-                }
-            }else{
-                throw new IllegalArgumentException("El modelo no puede ser nulo");
+        if (vehiculo.getModelo() != null) {
+            if (vehiculo.getModelo().length() > 50) {
+                throw new DatosInvalidosException(CodigoError.DATOS_INVALIDOS, "El Modelo no puede exceder los 50 caracteres");
             }
+        }else{
+            throw new DatosInvalidosException(CodigoError.DATOS_INVALIDOS, "El modelo no puede ser nulo");
+        }
 
-            if (vehiculo.getEstado() != null) {
-                if (vehiculo.getEstado().length() > 50) {
-                    throw new IllegalArgumentException("El Estado no puede exceder los 50 caracteres");
-                }
-            }else{
-                throw new IllegalArgumentException("El estado no puede ser nulo");
-            }
+        if (vehiculo.getEstado() == null) {
+            throw new DatosInvalidosException(CodigoError.DATOS_INVALIDOS, "El estado no puede ser nulo");
+        }
 
-            if (vehiculo.getConductor() != null) {
-                if (vehiculo.getConductor().length() > 50) {
-                    throw new IllegalArgumentException("El Conductor no puede exceder los 50 caracteres");
-                }
-            }else{
-                throw new IllegalArgumentException("El conductor no pude ser nulo");
+        if (vehiculo.getConductor() != null) {
+            if (vehiculo.getConductor().length() > 50) {
+                throw new DatosInvalidosException(CodigoError.DATOS_INVALIDOS, "El Conductor no puede exceder los 50 caracteres");
             }
+        }else{
+            throw new DatosInvalidosException(CodigoError.DATOS_INVALIDOS, "El conductor no pude ser nulo");
+        }
 
-            if (vehiculo.getPatente() != null) {
-                if (vehiculo.getPatente().length() > 6) {
-                    throw new IllegalArgumentException("La patente no puede exceder los 6 caracteres");
-                }
-            }else{
-                throw new IllegalArgumentException("La patente no pude ser nula");
+        if (vehiculo.getPatente() != null) {
+            if (vehiculo.getPatente().length() > 6) {
+                throw new DatosInvalidosException(CodigoError.DATOS_INVALIDOS, "La patente no puede exceder los 6 caracteres");
             }
+        }else{
+            throw new DatosInvalidosException(CodigoError.DATOS_INVALIDOS, "La patente no pude ser nula");
+        }
 
-            validarTipoVehiculo(vehiculo.getTipoVehiculo());
-        }catch (IllegalArgumentException e) {
-            throw new IllegalArgumentException("Error al validar el vehículo: " + e.getMessage());
-        }catch (Exception f) {
-            throw new RuntimeException("Error al validar el vehículo: " + f.getMessage());
+        if (vehiculo.getTipoVehiculo() == null) {
+            throw new DatosInvalidosException(CodigoError.DATOS_INVALIDOS, "El tipo de Vehiculo no puede ser nulo");
         }
+        validarTipoVehiculo(vehiculo.getTipoVehiculo());
     }
 
     /**
@@ -236,10 +286,10 @@ public class VehiculoService {
      */
     private void validarTipoVehiculo(TipoVehiculo tipoVehiculo) {
         if (tipoVehiculo.getNombre() == null || tipoVehiculo.getNombre().trim().isEmpty()) {
-            throw new IllegalArgumentException("El nombre del Tipo Vehiculo es requerido");
+            throw new DatosInvalidosException(CodigoError.DATOS_INVALIDOS, "El nombre del Tipo Vehiculo es requerido");
         }
         if (tipoVehiculo.getNombre().length() > 50) {
-            throw new IllegalArgumentException("El nombre no puede exceder los 50 caracteres");
+            throw new DatosInvalidosException(CodigoError.DATOS_INVALIDOS, "El nombre no puede exceder los 50 caracteres");
         }
 
 
@@ -254,11 +304,15 @@ public class VehiculoService {
      */
     public void asignarTipoVehiculo(Integer vehiculoId, Integer tipoVehiculoId) {
         Vehiculo vehiculo = vehiculoRepository.findById(vehiculoId)
-                .orElseThrow(() -> new RuntimeException("Vehiculo no encontrado"));
+                .orElseThrow(() -> new NoEncontradoException(CodigoError.VEHICULO_NO_ENCONTRADO, "Vehiculo no encontrado"));
         TipoVehiculo tipoVehiculo = tipoVehiculoRepository.findById(tipoVehiculoId)
-                .orElseThrow(() -> new RuntimeException("Tipo vehiculo no encontrado"));
+                .orElseThrow(() -> new NoEncontradoException(CodigoError.TIPO_VEHICULO_NO_ENCONTRADO, "Tipo vehiculo no encontrado"));
         vehiculo.setTipoVehiculo(tipoVehiculo);
         vehiculoRepository.save(vehiculo);
+        Transacciones.alConfirmar(() -> {
+            indiceVehiculos.actualizar(vehiculo);
+            busInvalidacion.publicar(EntidadCacheada.VEHICULO, vehiculoId, false);
+        });
     }
 
 }
@@ -0,0 +1,38 @@
+package com.SAFE_Rescue.API_Recursos.util;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * Identifica al actor de la solicitud HTTP en curso para los registros de auditoría.
+ * <p>
+ * El actor se toma del encabezado {@value #ENCABEZADO}; si no hay solicitud en curso o no se envió
+ * el encabezado, se usa {@value #SISTEMA}.
+ * </p>
+ */
+public final class Actor {
+
+    public static final String ENCABEZADO = "X-Usuario";
+    public static final String SISTEMA = "sistema";
+    private static final int LARGO_MAXIMO = 50;
+
+    private Actor() {
+    }
+
+    /**
+     * Obtiene el actor de la solicitud en curso.
+     * @return Nombre del actor, truncado a 50 caracteres
+     */
+    public static String actual() {
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes atributos) {
+            HttpServletRequest solicitud = atributos.getRequest();
+            String usuario = solicitud.getHeader(ENCABEZADO);
+            if (usuario != null && !usuario.isBlank()) {
+                usuario = usuario.trim();
+                return usuario.length() > LARGO_MAXIMO ? usuario.substring(0, LARGO_MAXIMO) : usuario;
+            }
+        }
+        return SISTEMA;
+    }
+}
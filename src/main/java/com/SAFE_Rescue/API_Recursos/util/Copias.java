@@ -0,0 +1,67 @@
+package com.SAFE_Rescue.API_Recursos.util;
+
+import com.SAFE_Rescue.API_Recursos.modelo.Bombero;
+import com.SAFE_Rescue.API_Recursos.modelo.Recurso;
+import com.SAFE_Rescue.API_Recursos.modelo.SolicitudRecurso;
+import com.SAFE_Rescue.API_Recursos.modelo.TipoRecurso;
+import com.SAFE_Rescue.API_Recursos.modelo.TipoVehiculo;
+import com.SAFE_Rescue.API_Recursos.modelo.Vehiculo;
+
+/**
+ * Copias independientes de entidades, con sus asociaciones también copiadas.
+ * <p>
+ * La copia no está asociada a ningún contexto de persistencia: modificarla no cambia la entidad original ni
+ * se escribe en la base de datos. La usa {@link SingleFlight} para que cada llamada coalescida reciba su
+ * propia instancia.
+ * </p>
+ */
+public final class Copias {
+
+    private Copias() {
+    }
+
+    /**
+     * Copia un recurso junto con su tipo de recurso.
+     * @param recurso Recurso a copiar (puede ser null)
+     * @return Copia del recurso, o null
+     */
+    public static Recurso recurso(Recurso recurso) {
+        if (recurso == null) {
+            return null;
+        }
+        TipoRecurso tipo = recurso.getTipoRecurso();
+        return new Recurso(recurso.getId(), recurso.getNombre(), recurso.getCantidad(), recurso.getEstado(),
+                tipo == null ? null : new TipoRecurso(tipo.getId(), tipo.getNombre()));
+    }
+
+    /**
+     * Copia un vehículo junto con su tipo de vehículo.
+     * @param vehiculo Vehículo a copiar (puede ser null)
+     * @return Copia del vehículo, o null
+     */
+    public static Vehiculo vehiculo(Vehiculo vehiculo) {
+        if (vehiculo == null) {
+            return null;
+        }
+        TipoVehiculo tipo = vehiculo.getTipoVehiculo();
+        return new Vehiculo(vehiculo.getId(), vehiculo.getMarca(), vehiculo.getModelo(), vehiculo.getPatente(),
+                vehiculo.getConductor(), vehiculo.getEstado(),
+                tipo == null ? null : new TipoVehiculo(tipo.getId(), tipo.getNombre()));
+    }
+
+    /**
+     * Copia una solicitud de recurso junto con su bombero y su recurso.
+     * @param solicitud Solicitud a copiar (puede ser null)
+     * @return Copia de la solicitud, o null
+     */
+    public static SolicitudRecurso solicitudRecurso(SolicitudRecurso solicitud) {
+        if (solicitud == null) {
+            return null;
+        }
+        Bombero bombero = solicitud.getBombero();
+        return new SolicitudRecurso(solicitud.getId(), solicitud.getTitulo(), solicitud.getDetalle(),
+                bombero == null ? null : new Bombero(bombero.getId(), bombero.getNombre(), bombero.getAPaterno(),
+                        bombero.getAMaterno(), bombero.getTelefono()),
+                solicitud.getEstado(), recurso(solicitud.getRecurso()), solicitud.getFechaCreacion(), solicitud.getRegion());
+    }
+}
@@ -0,0 +1,75 @@
+package com.SAFE_Rescue.API_Recursos.util;
+
+import com.SAFE_Rescue.API_Recursos.excepcion.CodigoError;
+import com.SAFE_Rescue.API_Recursos.excepcion.DatosInvalidosException;
+import com.SAFE_Rescue.API_Recursos.modelo.ResultadoLote;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Utilidades para las búsquedas por lista de IDs ({@code GET ...?ids=1,2,3}).
+ * <p>
+ * Los IDs repetidos se consultan una sola vez, con una única consulta por lote, y el resultado se vuelve a
+ * ordenar según la lista pedida, que la consulta {@code IN} no respeta.
+ * </p>
+ */
+public final class Lotes {
+
+    /**
+     * Cantidad máxima de IDs por búsqueda.
+     */
+    public static final int MAXIMO_IDS = 1000;
+
+    private Lotes() {
+    }
+
+    /**
+     * Busca los elementos de una lista de IDs y los devuelve en el orden pedido.
+     * @param ids IDs pedidos, posiblemente repetidos
+     * @param consulta Consulta que recibe los IDs sin repetir y devuelve los elementos encontrados en cualquier orden
+     * @param id Obtiene el ID de un elemento
+     * @return Elementos alineados con los IDs pedidos y los IDs que no existen
+     * @throws DatosInvalidosException Si la lista está vacía, contiene IDs nulos o supera {@value #MAXIMO_IDS} IDs
+     */
+    public static <T> ResultadoLote<T> buscar(List<Integer> ids, Function<Collection<Integer>, List<T>> consulta,
+                                              Function<T, Integer> id) {
+        Set<Integer> distintos = distintos(ids);
+        Map<Integer, T> encontrados = new HashMap<>();
+        for (T elemento : consulta.apply(distintos)) {
+            encontrados.put(id.apply(elemento), elemento);
+        }
+        List<T> resultados = new ArrayList<>(ids.size());
+        for (Integer pedido : ids) {
+            resultados.add(encontrados.get(pedido));
+        }
+        List<Integer> noEncontrados = new ArrayList<>();
+        for (Integer pedido : distintos) {
+            if (!encontrados.containsKey(pedido)) {
+                noEncontrados.add(pedido);
+            }
+        }
+        return new ResultadoLote<>(resultados, noEncontrados);
+    }
+
+    // MÉTODOS PRIVADOS
+
+    private static Set<Integer> distintos(List<Integer> ids) {
+        if (ids == null || ids.isEmpty()) {
+            throw new DatosInvalidosException(CodigoError.DATOS_INVALIDOS, "Debe indicar al menos un ID");
+        }
+        if (ids.size() > MAXIMO_IDS) {
+            throw new DatosInvalidosException(CodigoError.DATOS_INVALIDOS, "No se pueden buscar más de " + MAXIMO_IDS + " IDs a la vez");
+        }
+        if (ids.contains(null)) {
+            throw new DatosInvalidosException(CodigoError.DATOS_INVALIDOS, "La lista de IDs contiene valores vacíos");
+        }
+        return new LinkedHashSet<>(ids);
+    }
+}
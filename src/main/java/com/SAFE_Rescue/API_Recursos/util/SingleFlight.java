@@ -0,0 +1,119 @@
+package com.SAFE_Rescue.API_Recursos.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * Coalescencia de consultas concurrentes idénticas ("single-flight").
+ * <p>
+ * Cuando varios hilos solicitan la misma clave al mismo tiempo, solo el primero ejecuta la carga
+ * y el resto espera su resultado (o su excepción). La ruta rápida no usa bloqueos: el registro de
+ * la consulta en curso se hace con {@link ConcurrentHashMap#putIfAbsent}, y la entrada se elimina
+ * al terminar, por lo que no se guarda ningún resultado más allá de la consulta compartida.
+ * </p>
+ * <p>
+ * Con una función de copia, quien ejecuta la carga se queda con el valor original y cada llamada en espera
+ * recibe su propia copia, hecha a partir de una instantánea tomada en el hilo que cargó. Es necesaria cuando
+ * el valor es mutable o pertenece a un contexto de persistencia, como una entidad JPA.
+ * </p>
+ *
+ * @param <K> Tipo de la clave de la consulta
+ * @param <V> Tipo del valor cargado
+ */
+public final class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> enCurso = new ConcurrentHashMap<>();
+    private final LongAdder llamadas = new LongAdder();
+    private final LongAdder coalescidas = new LongAdder();
+    private final UnaryOperator<V> copia;
+
+    /**
+     * Crea una coalescencia que entrega el mismo valor a todas las llamadas; solo para valores inmutables.
+     */
+    public SingleFlight() {
+        this(UnaryOperator.identity());
+    }
+
+    /**
+     * Crea una coalescencia que entrega a cada llamada en espera una copia propia del valor cargado.
+     * @param copia Función que copia el valor sin compartir estado mutable con el original
+     */
+    public SingleFlight(UnaryOperator<V> copia) {
+        this.copia = copia;
+    }
+
+    /**
+     * Ejecuta la carga para la clave indicada, compartiendo la ejecución con otras llamadas
+     * concurrentes para la misma clave.
+     * @param clave Clave de la consulta
+     * @param carga Función que obtiene el valor (por ejemplo, un SELECT por ID)
+     * @return Valor cargado
+     * @throws RuntimeException La misma excepción lanzada por la carga compartida
+     */
+    public V ejecutar(K clave, Supplier<V> carga) {
+        llamadas.increment();
+        CompletableFuture<V> existente = enCurso.get(clave);
+        if (existente == null) {
+            CompletableFuture<V> propia = new CompletableFuture<>();
+            existente = enCurso.putIfAbsent(clave, propia);
+            if (existente == null) {
+                return cargar(clave, propia, carga);
+            }
+        }
+        coalescidas.increment();
+        return esperar(existente);
+    }
+
+    /**
+     * Obtiene las métricas de coalescencia acumuladas.
+     * @return Mapa con llamadas, ejecuciones, coalescidas, tasa de coalescencia y consultas en curso
+     */
+    public Map<String, Object> estadisticas() {
+        long totalLlamadas = llamadas.sum();
+        long totalCoalescidas = coalescidas.sum();
+        Map<String, Object> estadisticas = new LinkedHashMap<>();
+        estadisticas.put("llamadas", totalLlamadas);
+        estadisticas.put("ejecuciones", totalLlamadas - totalCoalescidas);
+        estadisticas.put("coalescidas", totalCoalescidas);
+        estadisticas.put("tasaCoalescencia", totalLlamadas == 0 ? 0.0 : (double) totalCoalescidas / totalLlamadas);
+        estadisticas.put("enCurso", enCurso.size());
+        return estadisticas;
+    }
+
+    // MÉTODOS PRIVADOS
+
+    private V cargar(K clave, CompletableFuture<V> propia, Supplier<V> carga) {
+        try {
+            V valor = carga.get();
+            propia.complete(valor == null ? null : copia.apply(valor));
+            return valor;
+        } catch (RuntimeException | Error e) {
+            propia.completeExceptionally(e);
+            throw e;
+        } finally {
+            enCurso.remove(clave, propia);
+        }
+    }
+
+    private V esperar(CompletableFuture<V> futuro) {
+        try {
+            V instantanea = futuro.join();
+            return instantanea == null ? null : copia.apply(instantanea);
+        } catch (CompletionException e) {
+            Throwable causa = e.getCause();
+            if (causa instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (causa instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
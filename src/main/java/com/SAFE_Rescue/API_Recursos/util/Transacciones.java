@@ -0,0 +1,53 @@
+package com.SAFE_Rescue.API_Recursos.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Utilidades para ejecutar acciones según el resultado de la transacción en curso.
+ * <p>
+ * Se usa para mantener estructuras en memoria (índices, cachés) alineadas con lo que realmente
+ * quedó confirmado en la base de datos. Si no hay una transacción activa, la acción se ejecuta de inmediato.
+ * </p>
+ */
+public final class Transacciones {
+
+    private Transacciones() {
+    }
+
+    /**
+     * Ejecuta la acción cuando la transacción actual se confirma.
+     * @param accion Acción a ejecutar
+     */
+    public static void alConfirmar(Runnable accion) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            accion.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                accion.run();
+            }
+        });
+    }
+
+    /**
+     * Ejecuta la acción si la transacción actual se revierte.
+     * Sin transacción activa no hay nada que revertir y la acción se descarta.
+     * @param accion Acción a ejecutar
+     */
+    public static void alRevertir(Runnable accion) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    accion.run();
+                }
+            }
+        });
+    }
+}
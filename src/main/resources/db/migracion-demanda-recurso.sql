@@ -0,0 +1,25 @@
+-- Tablas de la agregación de demanda por tipo de recurso (DemandaRecurso, su tabla de secuencia y MarcaAgregacion).
+-- Debe ejecutarse una vez antes de iniciar con el perfil prod (ddl-auto=validate). La primera ejecución de la
+-- agregación recorre todas las solicitudes existentes desde el ID 0 de cada fragmento.
+
+CREATE TABLE demanda_recurso (
+    id BIGINT NOT NULL,
+    granularidad ENUM('DIA', 'HORA') NOT NULL,
+    inicio DATETIME(6) NOT NULL,
+    tipo_recurso_id INT NOT NULL,
+    solicitudes BIGINT NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_demanda_recurso_intervalo UNIQUE (granularidad, inicio, tipo_recurso_id)
+) ENGINE=InnoDB;
+
+CREATE TABLE demanda_recurso_seq (
+    next_val BIGINT
+) ENGINE=InnoDB;
+INSERT INTO demanda_recurso_seq VALUES (1);
+
+-- Una fila por proceso de agregación (demanda_recurso y demanda_recurso_fragmento_N)
+CREATE TABLE marca_agregacion (
+    nombre VARCHAR(50) NOT NULL,
+    ultimo_id INT NOT NULL,
+    PRIMARY KEY (nombre)
+) ENGINE=InnoDB;
@@ -0,0 +1,34 @@
+-- Migración única de las columnas estado (VARCHAR(50)) al código TINYINT del catálogo Estado.
+-- ddl-auto=update no cambia el tipo de columnas existentes, por lo que debe ejecutarse una vez
+-- sobre bases de datos creadas antes del catálogo. Los valores fuera del catálogo quedan en NULL
+-- y deben corregirse antes del último paso (NOT NULL).
+
+-- Recurso
+ALTER TABLE recurso ADD COLUMN estado_codigo TINYINT NULL;
+UPDATE recurso SET estado_codigo = CASE LOWER(TRIM(estado))
+    WHEN 'disponible' THEN 1 WHEN 'activo' THEN 2 WHEN 'reservado' THEN 3 WHEN 'agotado' THEN 4
+    WHEN 'operativo' THEN 5 WHEN 'en mantención' THEN 6 WHEN 'en mantencion' THEN 6 WHEN 'fuera de servicio' THEN 7
+    WHEN 'pendiente' THEN 8 WHEN 'en proceso' THEN 9 WHEN 'completada' THEN 10 WHEN 'rechazada' THEN 11
+END;
+ALTER TABLE recurso DROP COLUMN estado;
+ALTER TABLE recurso CHANGE estado_codigo estado TINYINT NOT NULL;
+
+-- Vehiculo
+ALTER TABLE vehiculo ADD COLUMN estado_codigo TINYINT NULL;
+UPDATE vehiculo SET estado_codigo = CASE LOWER(TRIM(estado))
+    WHEN 'disponible' THEN 1 WHEN 'activo' THEN 2 WHEN 'reservado' THEN 3 WHEN 'agotado' THEN 4
+    WHEN 'operativo' THEN 5 WHEN 'en mantención' THEN 6 WHEN 'en mantencion' THEN 6 WHEN 'fuera de servicio' THEN 7
+    WHEN 'pendiente' THEN 8 WHEN 'en proceso' THEN 9 WHEN 'completada' THEN 10 WHEN 'rechazada' THEN 11
+END;
+ALTER TABLE vehiculo DROP COLUMN estado;
+ALTER TABLE vehiculo CHANGE estado_codigo estado TINYINT NOT NULL;
+
+-- Solicitud de recurso
+ALTER TABLE solicitud_recurso ADD COLUMN estado_codigo TINYINT NULL;
+UPDATE solicitud_recurso SET estado_codigo = CASE LOWER(TRIM(estado))
+    WHEN 'disponible' THEN 1 WHEN 'activo' THEN 2 WHEN 'reservado' THEN 3 WHEN 'agotado' THEN 4
+    WHEN 'operativo' THEN 5 WHEN 'en mantención' THEN 6 WHEN 'en mantencion' THEN 6 WHEN 'fuera de servicio' THEN 7
+    WHEN 'pendiente' THEN 8 WHEN 'en proceso' THEN 9 WHEN 'completada' THEN 10 WHEN 'rechazada' THEN 11
+END;
+ALTER TABLE solicitud_recurso DROP COLUMN estado;
+ALTER TABLE solicitud_recurso CHANGE estado_codigo estado TINYINT NOT NULL;
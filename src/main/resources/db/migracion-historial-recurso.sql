@@ -0,0 +1,24 @@
+-- Tabla de historial de cambios de recursos (HistorialRecurso) y su tabla de secuencia.
+-- MySQL no tiene secuencias: Hibernate las emula con una tabla de una fila que reserva bloques de 50 IDs
+-- (allocationSize), lo que permite insertar el historial por lotes. Debe ejecutarse una vez antes de iniciar
+-- con el perfil prod (ddl-auto=validate).
+
+CREATE TABLE historial_recurso (
+    id BIGINT NOT NULL,
+    recurso_id INT NOT NULL,
+    fecha DATETIME(6) NOT NULL,
+    actor VARCHAR(50) NOT NULL,
+    cantidad_anterior INT NULL,
+    cantidad_nueva INT NULL,
+    estado_anterior TINYINT NULL,
+    estado_nuevo TINYINT NULL,
+    PRIMARY KEY (id)
+) ENGINE=InnoDB;
+
+-- Sin clave foránea a recurso: el historial se conserva al eliminar el recurso
+CREATE INDEX idx_historial_recurso_fecha ON historial_recurso (recurso_id, fecha);
+
+CREATE TABLE historial_recurso_seq (
+    next_val BIGINT
+) ENGINE=InnoDB;
+INSERT INTO historial_recurso_seq VALUES (1);
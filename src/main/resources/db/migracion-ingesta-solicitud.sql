@@ -0,0 +1,10 @@
+-- Tabla de seguimiento de la ingesta asíncrona de solicitudes (IngestaSolicitud).
+-- Debe ejecutarse una vez antes de iniciar con el perfil prod (ddl-auto=validate).
+
+CREATE TABLE ingesta_solicitud (
+    seguimiento VARCHAR(36) NOT NULL,
+    solicitud_id INT NULL,
+    fecha DATETIME(6) NOT NULL,
+    error VARCHAR(400) NULL,
+    PRIMARY KEY (seguimiento)
+) ENGINE=InnoDB;
@@ -0,0 +1,8 @@
+-- Columnas fecha_creacion y region de solicitud_recurso, con sus índices para los listados por fecha y por región.
+-- Debe ejecutarse una vez sobre bases de datos creadas antes de esos campos; el perfil prod usa ddl-auto=validate
+-- y no las crea. Las solicitudes existentes quedan sin fecha de creación ni región (fragmento 0).
+
+ALTER TABLE solicitud_recurso ADD COLUMN fecha_creacion DATETIME(6) NULL;
+ALTER TABLE solicitud_recurso ADD COLUMN region VARCHAR(30) NULL;
+CREATE INDEX idx_solicitud_recurso_fecha_creacion ON solicitud_recurso (fecha_creacion);
+CREATE INDEX idx_solicitud_recurso_region_fecha ON solicitud_recurso (region, fecha_creacion);
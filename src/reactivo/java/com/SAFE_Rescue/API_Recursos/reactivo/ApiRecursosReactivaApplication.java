@@ -0,0 +1,46 @@
+package com.SAFE_Rescue.API_Recursos.reactivo;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.data.jpa.JpaRepositoriesAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceTransactionManagerAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+
+/**
+ * Variante reactiva (WebFlux y R2DBC) de los endpoints de lectura de /api-recursos/v1.
+ * <p>
+ * Sirve las mismas rutas GET de recursos, vehículos, solicitudes de recursos y sus tipos con las mismas
+ * respuestas JSON, sin ocupar un hilo por solicitud mientras se espera a la base de datos. Las listas se
+ * transmiten fila a fila con contrapresión: la base de datos entrega filas al ritmo en que se escriben en la
+ * conexión HTTP. Las escrituras, las proyecciones con {@code ?fields=} y los índices en memoria siguen en la
+ * aplicación principal; las solicitudes se leen solo de la base de datos principal (sin fragmentos).
+ * </p>
+ * <p>
+ * Se compila solo con el perfil Maven {@code reactivo} (fuentes en src/reactivo), que agrega WebFlux y R2DBC;
+ * la aplicación principal se construye sin ellos.
+ * </p>
+ * <pre>
+ *   mvn -Preactivo -DskipTests package
+ *   java -cp API_Recursos.jar -Dloader.main=com.SAFE_Rescue.API_Recursos.reactivo.ApiRecursosReactivaApplication \
+ *        org.springframework.boot.loader.launch.PropertiesLauncher
+ * </pre>
+ * La configuración está en application-reactivo.properties (puerto 8083 y URL R2DBC).
+ */
+@SpringBootApplication(exclude = {DataSourceAutoConfiguration.class, DataSourceTransactionManagerAutoConfiguration.class,
+        HibernateJpaAutoConfiguration.class, JpaRepositoriesAutoConfiguration.class})
+public class ApiRecursosReactivaApplication {
+
+    /**
+     * Perfil con la configuración de la variante reactiva.
+     */
+    public static final String PERFIL = "reactivo";
+
+    public static void main(String[] args) {
+        SpringApplication application = new SpringApplication(ApiRecursosReactivaApplication.class);
+        application.setWebApplicationType(WebApplicationType.REACTIVE);
+        application.setAdditionalProfiles(PERFIL);
+        application.run(args);
+    }
+}
@@ -0,0 +1,52 @@
+package com.SAFE_Rescue.API_Recursos.reactivo.config;
+
+import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.convert.ReadingConverter;
+import org.springframework.data.r2dbc.convert.R2dbcCustomConversions;
+import org.springframework.data.r2dbc.dialect.DialectResolver;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.util.List;
+
+/**
+ * Configuración del servidor y de R2DBC de la variante reactiva.
+ */
+@Configuration
+public class ConfiguracionReactiva {
+
+    /**
+     * Servidor Netty. Tomcat también está en el classpath (por la aplicación principal) y Spring Boot lo
+     * preferiría; en Netty cada solicitud en espera no ocupa un hilo.
+     * @return Fábrica del servidor Netty
+     */
+    @Bean
+    public NettyReactiveWebServerFactory servidorNetty() {
+        return new NettyReactiveWebServerFactory();
+    }
+
+    /**
+     * Conversiones de lectura adicionales a las del dialecto.
+     * Las columnas {@code Instant} que Hibernate crea como TIMESTAMP WITH TIME ZONE (H2) llegan como
+     * {@link OffsetDateTime}; las DATETIME de MySQL llegan como LocalDateTime, ya soportado por Spring Data.
+     * @param connectionFactory Fábrica de conexiones, para obtener el dialecto
+     * @return Conversiones personalizadas
+     */
+    @Bean
+    public R2dbcCustomConversions r2dbcCustomConversions(ConnectionFactory connectionFactory) {
+        return R2dbcCustomConversions.of(DialectResolver.getDialect(connectionFactory), List.of(new InstanteConZona()));
+    }
+
+    @ReadingConverter
+    static class InstanteConZona implements Converter<OffsetDateTime, Instant> {
+
+        @Override
+        public Instant convert(OffsetDateTime fecha) {
+            return fecha.toInstant();
+        }
+    }
+}
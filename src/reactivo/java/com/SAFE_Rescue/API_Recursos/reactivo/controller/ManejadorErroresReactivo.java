@@ -0,0 +1,66 @@
+package com.SAFE_Rescue.API_Recursos.reactivo.controller;
+
+import com.SAFE_Rescue.API_Recursos.excepcion.CodigoError;
+import com.SAFE_Rescue.API_Recursos.excepcion.ErrorDominio;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.server.ServerWebInputException;
+
+import java.net.URI;
+import java.util.NoSuchElementException;
+
+/**
+ * Traduce las excepciones de los controladores reactivos a las mismas respuestas {@link ProblemDetail}
+ * que ManejadorErrores en la aplicación principal (estado, título, detalle, instancia y propiedad {@code codigo}).
+ */
+@RestControllerAdvice
+public class ManejadorErroresReactivo {
+
+    private static final Logger log = LoggerFactory.getLogger(ManejadorErroresReactivo.class);
+
+    /**
+     * Responde a elementos no encontrados.
+     */
+    @ExceptionHandler(NoSuchElementException.class)
+    public ProblemDetail noEncontrado(NoSuchElementException e, ServerHttpRequest request) {
+        return responder(codigo(e, CodigoError.NO_ENCONTRADO), e.getMessage(), request);
+    }
+
+    /**
+     * Responde a parámetros faltantes o con tipo incorrecto.
+     */
+    @ExceptionHandler(ServerWebInputException.class)
+    public ProblemDetail solicitudMalformada(ServerWebInputException e, ServerHttpRequest request) {
+        String detalle = e.getMethodParameter() != null && e.getMethodParameter().getParameterName() != null
+                ? "Valor inválido para el parámetro " + e.getMethodParameter().getParameterName()
+                : "La solicitud no es válida";
+        return responder(CodigoError.SOLICITUD_MALFORMADA, detalle, request);
+    }
+
+    /**
+     * Responde a cualquier otro error sin exponer su mensaje.
+     */
+    @ExceptionHandler(RuntimeException.class)
+    public ProblemDetail errorInterno(RuntimeException e, ServerHttpRequest request) {
+        log.error("Error interno en {} {}", request.getMethod(), request.getPath(), e);
+        return responder(CodigoError.ERROR_INTERNO, "Error interno del servidor.", request);
+    }
+
+    // MÉTODOS PRIVADOS
+
+    private static ProblemDetail responder(CodigoError codigo, String detalle, ServerHttpRequest request) {
+        ProblemDetail problema = ProblemDetail.forStatusAndDetail(codigo.getEstado(), detalle);
+        problema.setTitle(codigo.getTitulo());
+        problema.setInstance(URI.create(request.getPath().value()));
+        problema.setProperty("codigo", codigo.name());
+        return problema;
+    }
+
+    private static CodigoError codigo(RuntimeException e, CodigoError porDefecto) {
+        return e instanceof ErrorDominio error ? error.getCodigo() : porDefecto;
+    }
+}
@@ -0,0 +1,57 @@
+package com.SAFE_Rescue.API_Recursos.reactivo.controller;
+
+import com.SAFE_Rescue.API_Recursos.excepcion.CodigoError;
+import com.SAFE_Rescue.API_Recursos.excepcion.NoEncontradoException;
+import com.SAFE_Rescue.API_Recursos.modelo.Recurso;
+import com.SAFE_Rescue.API_Recursos.reactivo.modelo.FilaRecurso;
+import com.SAFE_Rescue.API_Recursos.reactivo.repository.RecursoReactivoRepository;
+import io.swagger.v3.oas.annotations.Operation;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Controlador reactivo de lectura de recursos.
+ * Expone las mismas rutas GET que RecursoController.
+ */
+@RestController
+@RequestMapping("/api-recursos/v1/recursos")
+public class RecursoReactivoController {
+
+    // REPOSITORIOS INYECTADOS
+    @Autowired
+    private RecursoReactivoRepository recursoRepository;
+
+    @Value("${app.reactivo.lote:256}")
+    private int lote;
+
+    /**
+     * Transmite todos los recursos como arreglo JSON o, con Accept application/x-ndjson, uno por línea.
+     * @return Flujo de recursos. A diferencia de la aplicación principal, sin registros responde 200 con
+     * una lista vacía en lugar de 204, porque el estado se envía antes de conocer el final del flujo
+     */
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    @Operation(summary = "Obtener todos los recursos", description = "Transmite los recursos con contrapresión.")
+    public Flux<Recurso> listar() {
+        return recursoRepository.findAll().limitRate(lote).map(FilaRecurso::aModelo);
+    }
+
+    /**
+     * Busca un recurso por su ID.
+     * @param id ID a buscar
+     * @return Recurso encontrado, o error 404 si no existe
+     */
+    @GetMapping("/{id}")
+    @Operation(summary = "Buscar un recurso por ID")
+    public Mono<Recurso> buscar(@PathVariable Integer id) {
+        return recursoRepository.findById(id)
+                .map(FilaRecurso::aModelo)
+                .switchIfEmpty(Mono.error(() -> new NoEncontradoException(CodigoError.RECURSO_NO_ENCONTRADO, "No se encontró recurso con ID: " + id)));
+    }
+}
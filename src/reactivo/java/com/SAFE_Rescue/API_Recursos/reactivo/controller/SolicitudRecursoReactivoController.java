@@ -0,0 +1,57 @@
+package com.SAFE_Rescue.API_Recursos.reactivo.controller;
+
+import com.SAFE_Rescue.API_Recursos.excepcion.CodigoError;
+import com.SAFE_Rescue.API_Recursos.excepcion.NoEncontradoException;
+import com.SAFE_Rescue.API_Recursos.modelo.SolicitudRecurso;
+import com.SAFE_Rescue.API_Recursos.reactivo.modelo.FilaSolicitudRecurso;
+import com.SAFE_Rescue.API_Recursos.reactivo.repository.SolicitudRecursoReactivoRepository;
+import io.swagger.v3.oas.annotations.Operation;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Controlador reactivo de lectura de solicitudes de recursos.
+ * Expone las mismas rutas GET que SolicitudRecursoController.
+ */
+@RestController
+@RequestMapping("/api-recursos/v1/solicitudes-recursos")
+public class SolicitudRecursoReactivoController {
+
+    // REPOSITORIOS INYECTADOS
+    @Autowired
+    private SolicitudRecursoReactivoRepository solicitudRecursoRepository;
+
+    @Value("${app.reactivo.lote:256}")
+    private int lote;
+
+    /**
+     * Transmite todas las solicitudes de recursos como arreglo JSON o, con Accept application/x-ndjson, una por línea.
+     * @return Flujo de solicitudes de recursos. A diferencia de la aplicación principal, sin registros responde 200 con
+     * una lista vacía en lugar de 204, porque el estado se envía antes de conocer el final del flujo
+     */
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    @Operation(summary = "Obtener todas las solicitudes de recursos", description = "Transmite las solicitudes de recursos con contrapresión.")
+    public Flux<SolicitudRecurso> listar() {
+        return solicitudRecursoRepository.findAll().limitRate(lote).map(FilaSolicitudRecurso::aModelo);
+    }
+
+    /**
+     * Busca una solicitud de recurso por su ID.
+     * @param id ID a buscar
+     * @return Solicitud encontrada, o error 404 si no existe
+     */
+    @GetMapping("/{id}")
+    @Operation(summary = "Buscar una solicitud de recurso por ID")
+    public Mono<SolicitudRecurso> buscar(@PathVariable Integer id) {
+        return solicitudRecursoRepository.findById(id)
+                .map(FilaSolicitudRecurso::aModelo)
+                .switchIfEmpty(Mono.error(() -> new NoEncontradoException(CodigoError.SOLICITUD_NO_ENCONTRADA, "Solicitud de recurso no encontrada con ID: " + id)));
+    }
+}
@@ -0,0 +1,57 @@
+package com.SAFE_Rescue.API_Recursos.reactivo.controller;
+
+import com.SAFE_Rescue.API_Recursos.excepcion.CodigoError;
+import com.SAFE_Rescue.API_Recursos.excepcion.NoEncontradoException;
+import com.SAFE_Rescue.API_Recursos.modelo.TipoRecurso;
+import com.SAFE_Rescue.API_Recursos.reactivo.modelo.FilaTipoRecurso;
+import com.SAFE_Rescue.API_Recursos.reactivo.repository.TipoRecursoReactivoRepository;
+import io.swagger.v3.oas.annotations.Operation;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Controlador reactivo de lectura de tipos de recursos.
+ * Expone las mismas rutas GET que TipoRecursoController.
+ */
+@RestController
+@RequestMapping("/api-recursos/v1/tipos-recursos")
+public class TipoRecursoReactivoController {
+
+    // REPOSITORIOS INYECTADOS
+    @Autowired
+    private TipoRecursoReactivoRepository tipoRecursoRepository;
+
+    @Value("${app.reactivo.lote:256}")
+    private int lote;
+
+    /**
+     * Transmite todos los tipos de recursos como arreglo JSON o, con Accept application/x-ndjson, uno por línea.
+     * @return Flujo de tipos de recursos. A diferencia de la aplicación principal, sin registros responde 200 con
+     * una lista vacía en lugar de 204, porque el estado se envía antes de conocer el final del flujo
+     */
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    @Operation(summary = "Obtener todos los tipos de recursos", description = "Transmite los tipos de recursos con contrapresión.")
+    public Flux<TipoRecurso> listar() {
+        return tipoRecursoRepository.findAll().limitRate(lote).map(FilaTipoRecurso::aModelo);
+    }
+
+    /**
+     * Busca un tipo de recurso por su ID.
+     * @param id ID a buscar
+     * @return Tipo de recurso encontrado, o error 404 si no existe
+     */
+    @GetMapping("/{id}")
+    @Operation(summary = "Buscar un tipo de recurso por ID")
+    public Mono<TipoRecurso> buscar(@PathVariable Integer id) {
+        return tipoRecursoRepository.findById(id)
+                .map(FilaTipoRecurso::aModelo)
+                .switchIfEmpty(Mono.error(() -> new NoEncontradoException(CodigoError.TIPO_RECURSO_NO_ENCONTRADO, "Tipo de recursos no encontrado con ID: " + id)));
+    }
+}
@@ -0,0 +1,57 @@
+package com.SAFE_Rescue.API_Recursos.reactivo.controller;
+
+import com.SAFE_Rescue.API_Recursos.excepcion.CodigoError;
+import com.SAFE_Rescue.API_Recursos.excepcion.NoEncontradoException;
+import com.SAFE_Rescue.API_Recursos.modelo.TipoVehiculo;
+import com.SAFE_Rescue.API_Recursos.reactivo.modelo.FilaTipoVehiculo;
+import com.SAFE_Rescue.API_Recursos.reactivo.repository.TipoVehiculoReactivoRepository;
+import io.swagger.v3.oas.annotations.Operation;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Controlador reactivo de lectura de tipos de vehículos.
+ * Expone las mismas rutas GET que TipoVehiculoController.
+ */
+@RestController
+@RequestMapping("/api-recursos/v1/tipos-vehiculos")
+public class TipoVehiculoReactivoController {
+
+    // REPOSITORIOS INYECTADOS
+    @Autowired
+    private TipoVehiculoReactivoRepository tipoVehiculoRepository;
+
+    @Value("${app.reactivo.lote:256}")
+    private int lote;
+
+    /**
+     * Transmite todos los tipos de vehículos como arreglo JSON o, con Accept application/x-ndjson, uno por línea.
+     * @return Flujo de tipos de vehículos. A diferencia de la aplicación principal, sin registros responde 200 con
+     * una lista vacía en lugar de 204, porque el estado se envía antes de conocer el final del flujo
+     */
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    @Operation(summary = "Obtener todos los tipos de vehículos", description = "Transmite los tipos de vehículos con contrapresión.")
+    public Flux<TipoVehiculo> listar() {
+        return tipoVehiculoRepository.findAll().limitRate(lote).map(FilaTipoVehiculo::aModelo);
+    }
+
+    /**
+     * Busca un tipo de vehículo por su ID.
+     * @param id ID a buscar
+     * @return Tipo de vehículo encontrado, o error 404 si no existe
+     */
+    @GetMapping("/{id}")
+    @Operation(summary = "Buscar un tipo de vehículo por ID")
+    public Mono<TipoVehiculo> buscar(@PathVariable Integer id) {
+        return tipoVehiculoRepository.findById(id)
+                .map(FilaTipoVehiculo::aModelo)
+                .switchIfEmpty(Mono.error(() -> new NoEncontradoException(CodigoError.TIPO_VEHICULO_NO_ENCONTRADO, "Tipo de Vehiculos no encontrado con ID: " + id)));
+    }
+}
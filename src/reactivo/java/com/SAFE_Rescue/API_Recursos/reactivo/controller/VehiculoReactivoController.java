@@ -0,0 +1,57 @@
+package com.SAFE_Rescue.API_Recursos.reactivo.controller;
+
+import com.SAFE_Rescue.API_Recursos.excepcion.CodigoError;
+import com.SAFE_Rescue.API_Recursos.excepcion.NoEncontradoException;
+import com.SAFE_Rescue.API_Recursos.modelo.Vehiculo;
+import com.SAFE_Rescue.API_Recursos.reactivo.modelo.FilaVehiculo;
+import com.SAFE_Rescue.API_Recursos.reactivo.repository.VehiculoReactivoRepository;
+import io.swagger.v3.oas.annotations.Operation;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Controlador reactivo de lectura de vehículos.
+ * Expone las mismas rutas GET que VehiculoController.
+ */
+@RestController
+@RequestMapping("/api-recursos/v1/vehiculos")
+public class VehiculoReactivoController {
+
+    // REPOSITORIOS INYECTADOS
+    @Autowired
+    private VehiculoReactivoRepository vehiculoRepository;
+
+    @Value("${app.reactivo.lote:256}")
+    private int lote;
+
+    /**
+     * Transmite todos los vehículos como arreglo JSON o, con Accept application/x-ndjson, uno por línea.
+     * @return Flujo de vehículos. A diferencia de la aplicación principal, sin registros responde 200 con
+     * una lista vacía en lugar de 204, porque el estado se envía antes de conocer el final del flujo
+     */
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    @Operation(summary = "Obtener todos los vehículos", description = "Transmite los vehículos con contrapresión.")
+    public Flux<Vehiculo> listar() {
+        return vehiculoRepository.findAll().limitRate(lote).map(FilaVehiculo::aModelo);
+    }
+
+    /**
+     * Busca un vehículo por su ID.
+     * @param id ID a buscar
+     * @return Vehículo encontrado, o error 404 si no existe
+     */
+    @GetMapping("/{id}")
+    @Operation(summary = "Buscar un vehículo por ID")
+    public Mono<Vehiculo> buscar(@PathVariable Integer id) {
+        return vehiculoRepository.findById(id)
+                .map(FilaVehiculo::aModelo)
+                .switchIfEmpty(Mono.error(() -> new NoEncontradoException(CodigoError.VEHICULO_NO_ENCONTRADO, "No se encontró vehiculo con ID: " + id)));
+    }
+}
@@ -0,0 +1,37 @@
+package com.SAFE_Rescue.API_Recursos.reactivo.modelo;
+
+import com.SAFE_Rescue.API_Recursos.modelo.Estado;
+import com.SAFE_Rescue.API_Recursos.modelo.Recurso;
+import com.SAFE_Rescue.API_Recursos.modelo.TipoRecurso;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+/**
+ * Fila de recurso unida con su tipo de recurso, leída con R2DBC en una sola consulta.
+ * R2DBC no resuelve relaciones, por eso las columnas del tipo vienen en la misma fila.
+ * @param id Identificador del recurso
+ * @param nombre Nombre del recurso
+ * @param cantidad Cantidad disponible
+ * @param estado Código del estado (columna TINYINT)
+ * @param tipoRecursoId ID del tipo de recurso, o null si no tiene
+ * @param tipoRecursoNombre Nombre del tipo de recurso
+ */
+@Table("recurso")
+public record FilaRecurso(@Id Integer id, String nombre, Integer cantidad, Byte estado,
+                          Integer tipoRecursoId, String tipoRecursoNombre) {
+
+    /**
+     * Columnas de la consulta, con los alias que esperan los componentes del registro.
+     */
+    public static final String COLUMNAS = "r.id, r.nombre, r.cantidad, r.estado, "
+            + "t.id AS tipo_recurso_id, t.nombre_tipo AS tipo_recurso_nombre";
+
+    /**
+     * Convierte la fila en la entidad que devuelve la API.
+     * @return Recurso con su tipo de recurso
+     */
+    public Recurso aModelo() {
+        TipoRecurso tipoRecurso = tipoRecursoId == null ? null : new TipoRecurso(tipoRecursoId, tipoRecursoNombre);
+        return new Recurso(id, nombre, cantidad, estado == null ? null : Estado.desdeCodigo(estado), tipoRecurso);
+    }
+}
@@ -0,0 +1,71 @@
+package com.SAFE_Rescue.API_Recursos.reactivo.modelo;
+
+import com.SAFE_Rescue.API_Recursos.modelo.Bombero;
+import com.SAFE_Rescue.API_Recursos.modelo.Estado;
+import com.SAFE_Rescue.API_Recursos.modelo.SolicitudRecurso;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.Instant;
+
+/**
+ * Fila de solicitud de recurso unida con su bombero, su recurso y el tipo del recurso, leída con R2DBC
+ * en una sola consulta.
+ * @param id Identificador de la solicitud
+ * @param titulo Título de la solicitud
+ * @param detalle Detalle de la solicitud
+ * @param estado Código del estado de la solicitud
+ * @param fechaCreacion Fecha de creación
+ * @param region Región de origen
+ * @param bomberoId ID del bombero, o null si no tiene
+ * @param bomberoNombre Nombre del bombero
+ * @param bomberoAPaterno Apellido paterno del bombero
+ * @param bomberoAMaterno Apellido materno del bombero
+ * @param bomberoTelefono Teléfono del bombero
+ * @param recursoId ID del recurso, o null si no tiene
+ * @param recursoNombre Nombre del recurso
+ * @param recursoCantidad Cantidad del recurso
+ * @param recursoEstado Código del estado del recurso
+ * @param tipoRecursoId ID del tipo del recurso
+ * @param tipoRecursoNombre Nombre del tipo del recurso
+ */
+@Table("solicitud_recurso")
+public record FilaSolicitudRecurso(@Id Integer id, String titulo, String detalle, Byte estado, Instant fechaCreacion,
+                                   String region, Integer bomberoId, String bomberoNombre,
+                                   @Column("bombero_a_paterno") String bomberoAPaterno,
+                                   @Column("bombero_a_materno") String bomberoAMaterno,
+                                   Integer bomberoTelefono, Integer recursoId, String recursoNombre,
+                                   Integer recursoCantidad, Byte recursoEstado, Integer tipoRecursoId,
+                                   String tipoRecursoNombre) {
+
+    /**
+     * Columnas de la consulta, con los alias que esperan los componentes del registro.
+     */
+    public static final String COLUMNAS = "s.id, s.titulo, s.detalle, s.estado, s.fecha_creacion, s.region, "
+            + "b.id AS bombero_id, b.nombre AS bombero_nombre, b.a_paterno AS bombero_a_paterno, "
+            + "b.a_materno AS bombero_a_materno, b.telefono AS bombero_telefono, "
+            + "r.id AS recurso_id, r.nombre AS recurso_nombre, r.cantidad AS recurso_cantidad, "
+            + "r.estado AS recurso_estado, t.id AS tipo_recurso_id, t.nombre_tipo AS tipo_recurso_nombre";
+
+    /**
+     * Tablas unidas de la consulta.
+     */
+    public static final String TABLAS = "solicitud_recurso s "
+            + "LEFT JOIN bombero b ON b.id = s.bombero_id "
+            + "LEFT JOIN recurso r ON r.id = s.recurso_id "
+            + "LEFT JOIN tipo_recurso t ON t.id = r.tipo_recurso_id";
+
+    /**
+     * Convierte la fila en la entidad que devuelve la API.
+     * @return Solicitud con su bombero y su recurso
+     */
+    public SolicitudRecurso aModelo() {
+        Bombero bombero = bomberoId == null ? null
+                : new Bombero(bomberoId, bomberoNombre, bomberoAPaterno, bomberoAMaterno, bomberoTelefono);
+        FilaRecurso recurso = recursoId == null ? null
+                : new FilaRecurso(recursoId, recursoNombre, recursoCantidad, recursoEstado, tipoRecursoId, tipoRecursoNombre);
+        return new SolicitudRecurso(id, titulo, detalle, bombero, estado == null ? null : Estado.desdeCodigo(estado),
+                recurso == null ? null : recurso.aModelo(), fechaCreacion, region);
+    }
+}
@@ -0,0 +1,23 @@
+package com.SAFE_Rescue.API_Recursos.reactivo.modelo;
+
+import com.SAFE_Rescue.API_Recursos.modelo.TipoRecurso;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+/**
+ * Fila de la tabla tipo_recurso leída con R2DBC.
+ * @param id Identificador del tipo de recurso
+ * @param nombre Nombre del tipo de recurso
+ */
+@Table("tipo_recurso")
+public record FilaTipoRecurso(@Id Integer id, @Column("nombre_tipo") String nombre) {
+
+    /**
+     * Convierte la fila en la entidad que devuelve la API.
+     * @return Tipo de recurso
+     */
+    public TipoRecurso aModelo() {
+        return new TipoRecurso(id, nombre);
+    }
+}
@@ -0,0 +1,23 @@
+package com.SAFE_Rescue.API_Recursos.reactivo.modelo;
+
+import com.SAFE_Rescue.API_Recursos.modelo.TipoVehiculo;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+/**
+ * Fila de la tabla tipo_vehiculo leída con R2DBC.
+ * @param id Identificador del tipo de vehículo
+ * @param nombre Nombre del tipo de vehículo
+ */
+@Table("tipo_vehiculo")
+public record FilaTipoVehiculo(@Id Integer id, @Column("nombre_tipo") String nombre) {
+
+    /**
+     * Convierte la fila en la entidad que devuelve la API.
+     * @return Tipo de vehículo
+     */
+    public TipoVehiculo aModelo() {
+        return new TipoVehiculo(id, nombre);
+    }
+}
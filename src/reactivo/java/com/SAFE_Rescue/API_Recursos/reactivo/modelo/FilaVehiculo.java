@@ -0,0 +1,39 @@
+package com.SAFE_Rescue.API_Recursos.reactivo.modelo;
+
+import com.SAFE_Rescue.API_Recursos.modelo.Estado;
+import com.SAFE_Rescue.API_Recursos.modelo.TipoVehiculo;
+import com.SAFE_Rescue.API_Recursos.modelo.Vehiculo;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Table;
+
+/**
+ * Fila de vehículo unida con su tipo de vehículo, leída con R2DBC en una sola consulta.
+ * @param id Identificador del vehículo
+ * @param marca Marca del vehículo
+ * @param modelo Modelo del vehículo
+ * @param patente Patente del vehículo
+ * @param conductor Conductor asignado
+ * @param estado Código del estado (columna TINYINT)
+ * @param tipoVehiculoId ID del tipo de vehículo, o null si no tiene
+ * @param tipoVehiculoNombre Nombre del tipo de vehículo
+ */
+@Table("vehiculo")
+public record FilaVehiculo(@Id Integer id, String marca, String modelo, String patente, String conductor,
+                           Byte estado, Integer tipoVehiculoId, String tipoVehiculoNombre) {
+
+    /**
+     * Columnas de la consulta, con los alias que esperan los componentes del registro.
+     */
+    public static final String COLUMNAS = "v.id, v.marca, v.modelo, v.patente, v.conductor, v.estado, "
+            + "t.id AS tipo_vehiculo_id, t.nombre_tipo AS tipo_vehiculo_nombre";
+
+    /**
+     * Convierte la fila en la entidad que devuelve la API.
+     * @return Vehículo con su tipo de vehículo
+     */
+    public Vehiculo aModelo() {
+        TipoVehiculo tipoVehiculo = tipoVehiculoId == null ? null : new TipoVehiculo(tipoVehiculoId, tipoVehiculoNombre);
+        return new Vehiculo(id, marca, modelo, patente, conductor,
+                estado == null ? null : Estado.desdeCodigo(estado), tipoVehiculo);
+    }
+}
@@ -0,0 +1,36 @@
+package com.SAFE_Rescue.API_Recursos.reactivo.repository;
+
+import com.SAFE_Rescue.API_Recursos.reactivo.modelo.FilaRecurso;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Repositorio reactivo de recursos, equivalente a RecursoRepository para lectura.
+ * Las búsquedas incluyen el tipo de recurso unido en la misma consulta.
+ */
+@Repository
+public interface RecursoReactivoRepository extends R2dbcRepository<FilaRecurso, Integer> {
+
+    String CONSULTA = "SELECT " + FilaRecurso.COLUMNAS
+            + " FROM recurso r LEFT JOIN tipo_recurso t ON t.id = r.tipo_recurso_id";
+
+    /**
+     * Obtiene todos los recursos con su tipo, ordenados por ID.
+     * @return Flujo de recursos
+     */
+    @Override
+    @Query(CONSULTA + " ORDER BY r.id")
+    Flux<FilaRecurso> findAll();
+
+    /**
+     * Busca un recurso con su tipo.
+     * @param id ID del recurso
+     * @return Recurso encontrado, o vacío si no existe
+     */
+    @Override
+    @Query(CONSULTA + " WHERE r.id = :id")
+    Mono<FilaRecurso> findById(Integer id);
+}
@@ -0,0 +1,36 @@
+package com.SAFE_Rescue.API_Recursos.reactivo.repository;
+
+import com.SAFE_Rescue.API_Recursos.reactivo.modelo.FilaSolicitudRecurso;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Repositorio reactivo de solicitudes de recursos, equivalente a SolicitudRecursoRepository para lectura.
+ * Las búsquedas incluyen el bombero, el recurso y su tipo unidos en la misma consulta.
+ * Solo lee la base de datos principal (fragmento 0).
+ */
+@Repository
+public interface SolicitudRecursoReactivoRepository extends R2dbcRepository<FilaSolicitudRecurso, Integer> {
+
+    String CONSULTA = "SELECT " + FilaSolicitudRecurso.COLUMNAS + " FROM " + FilaSolicitudRecurso.TABLAS;
+
+    /**
+     * Obtiene todas las solicitudes con sus relaciones, ordenadas por ID.
+     * @return Flujo de solicitudes
+     */
+    @Override
+    @Query(CONSULTA + " ORDER BY s.id")
+    Flux<FilaSolicitudRecurso> findAll();
+
+    /**
+     * Busca una solicitud con sus relaciones.
+     * @param id ID de la solicitud
+     * @return Solicitud encontrada, o vacía si no existe
+     */
+    @Override
+    @Query(CONSULTA + " WHERE s.id = :id")
+    Mono<FilaSolicitudRecurso> findById(Integer id);
+}
@@ -0,0 +1,13 @@
+package com.SAFE_Rescue.API_Recursos.reactivo.repository;
+
+import com.SAFE_Rescue.API_Recursos.reactivo.modelo.FilaTipoRecurso;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repositorio reactivo de tipos de recursos, equivalente a TipoRecursoRepository.
+ */
+@Repository
+public interface TipoRecursoReactivoRepository extends R2dbcRepository<FilaTipoRecurso, Integer> {
+
+}
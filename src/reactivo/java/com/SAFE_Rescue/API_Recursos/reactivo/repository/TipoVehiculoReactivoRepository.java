@@ -0,0 +1,13 @@
+package com.SAFE_Rescue.API_Recursos.reactivo.repository;
+
+import com.SAFE_Rescue.API_Recursos.reactivo.modelo.FilaTipoVehiculo;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repositorio reactivo de tipos de vehículos, equivalente a TipoVehiculoRepository.
+ */
+@Repository
+public interface TipoVehiculoReactivoRepository extends R2dbcRepository<FilaTipoVehiculo, Integer> {
+
+}
@@ -0,0 +1,36 @@
+package com.SAFE_Rescue.API_Recursos.reactivo.repository;
+
+import com.SAFE_Rescue.API_Recursos.reactivo.modelo.FilaVehiculo;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Repositorio reactivo de vehículos, equivalente a VehiculoRepository para lectura.
+ * Las búsquedas incluyen el tipo de vehículo unido en la misma consulta.
+ */
+@Repository
+public interface VehiculoReactivoRepository extends R2dbcRepository<FilaVehiculo, Integer> {
+
+    String CONSULTA = "SELECT " + FilaVehiculo.COLUMNAS
+            + " FROM vehiculo v LEFT JOIN tipo_vehiculo t ON t.id = v.tipo_vehiculo_id";
+
+    /**
+     * Obtiene todos los vehículos con su tipo, ordenados por ID.
+     * @return Flujo de vehículos
+     */
+    @Override
+    @Query(CONSULTA + " ORDER BY v.id")
+    Flux<FilaVehiculo> findAll();
+
+    /**
+     * Busca un vehículo con su tipo.
+     * @param id ID del vehículo
+     * @return Vehículo encontrado, o vacío si no existe
+     */
+    @Override
+    @Query(CONSULTA + " WHERE v.id = :id")
+    Mono<FilaVehiculo> findById(Integer id);
+}
@@ -0,0 +1,216 @@
+package com.SAFE_Rescue.API_Recursos.benchmark;
+
+import com.SAFE_Rescue.API_Recursos.ApiRecursosApplication;
+import com.SAFE_Rescue.API_Recursos.reactivo.ApiRecursosReactivaApplication;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.AutoConfigurationExcludeFilter;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackage;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.data.r2dbc.R2dbcDataAutoConfiguration;
+import org.springframework.boot.autoconfigure.data.r2dbc.R2dbcRepositoriesAutoConfiguration;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcTransactionManagerAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.context.TypeExcludeFilter;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntFunction;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Benchmark de la variante reactiva: compara los endpoints de lectura de la aplicación principal (Spring MVC
+ * sobre Tomcat y JPA) con los de ApiRecursosReactivaApplication (WebFlux sobre Netty y R2DBC) a distinta
+ * concurrencia. Ambas aplicaciones se levantan en esta JVM contra la misma base H2 en memoria, cargada con el
+ * generador masivo, y con pools de 10 conexiones. Informa solicitudes por segundo, latencias p50 y p99,
+ * errores y el pico de hilos de la JVM durante cada caso.
+ * Excluido de la ejecución normal; se ejecuta con {@code mvn test -Preactivo,benchmark}.
+ */
+@Tag("benchmark")
+public class LecturaReactivaBenchmarkTest {
+
+    private static final String BASE_DATOS = "lectura_reactiva";
+    private static final int RECURSOS = 20_000;
+    private static final int SOLICITUDES = 20_000;
+    private static final int CONEXIONES = 10;
+    private static final int[] CONCURRENCIA = {16, 128, 512};
+    private static final int SOLICITUDES_HTTP = 10_000;
+    private static final int SOLICITUDES_LISTA = 100;
+    private static final int CALENTAMIENTO = 1_000;
+
+    private static ConfigurableApplicationContext mvc;
+    private static ConfigurableApplicationContext reactiva;
+    private static HttpClient cliente;
+    private static ExecutorService hilosCliente;
+
+    /**
+     * Levanta ambas aplicaciones; la principal crea el esquema y carga los datos.
+     */
+    @BeforeAll
+    public static void iniciar() {
+        mvc = new SpringApplicationBuilder(AplicacionPrincipal.class).run(
+                "--server.port=0",
+                "--logging.level.root=WARN",
+                "--spring.jpa.show-sql=false",
+                "--spring.datasource.url=jdbc:h2:mem:" + BASE_DATOS + ";DB_CLOSE_DELAY=-1",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.hikari.maximum-pool-size=" + CONEXIONES,
+                "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                "--spring.jpa.hibernate.ddl-auto=create",
+                "--app.seed.modo=masivo",
+                "--app.seed.tipos-recurso=20",
+                "--app.seed.tipos-vehiculo=10",
+                "--app.seed.bomberos=1000",
+                "--app.seed.recursos=" + RECURSOS,
+                "--app.seed.vehiculos=5000",
+                "--app.seed.solicitudes=" + SOLICITUDES);
+        reactiva = new SpringApplicationBuilder(ApiRecursosReactivaApplication.class)
+                .web(WebApplicationType.REACTIVE)
+                .profiles(ApiRecursosReactivaApplication.PERFIL)
+                .run("--server.port=0",
+                        "--logging.level.root=WARN",
+                        "--spring.r2dbc.url=r2dbc:h2:mem:///" + BASE_DATOS,
+                        "--spring.r2dbc.username=sa",
+                        "--spring.r2dbc.pool.initial-size=" + CONEXIONES,
+                        "--spring.r2dbc.pool.max-size=" + CONEXIONES);
+        hilosCliente = Executors.newFixedThreadPool(8);
+        cliente = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).executor(hilosCliente).build();
+    }
+
+    @AfterAll
+    public static void detener() {
+        reactiva.close();
+        mvc.close();
+        hilosCliente.shutdownNow();
+    }
+
+    /**
+     * Mide búsquedas por ID y listas completas en ambas aplicaciones, verificando antes que responden lo mismo.
+     */
+    @Test
+    public void lecturaTest() throws Exception {
+        Map<String, String> aplicaciones = new LinkedHashMap<>();
+        aplicaciones.put("mvc", base(mvc));
+        aplicaciones.put("reactiva", base(reactiva));
+
+        ObjectMapper mapper = new ObjectMapper();
+        for (String ruta : new String[]{"/recursos/7", "/solicitudes-recursos/7", "/tipos-recursos"}) {
+            assertEquals(mapper.readTree(obtener(aplicaciones.get("mvc") + ruta)),
+                    mapper.readTree(obtener(aplicaciones.get("reactiva") + ruta)), ruta);
+        }
+
+        Map<String, IntFunction<String>> casos = new LinkedHashMap<>();
+        casos.put("recursos/{id}", i -> "/recursos/" + (1 + ThreadLocalRandom.current().nextInt(RECURSOS)));
+        casos.put("solicitudes/{id}", i -> "/solicitudes-recursos/" + (1 + ThreadLocalRandom.current().nextInt(SOLICITUDES)));
+        casos.put("recursos (lista)", i -> "/recursos");
+
+        ThreadMXBean hilos = ManagementFactory.getThreadMXBean();
+        System.out.printf("%n%-9s %-17s %6s %8s %10s %9s %9s %8s %6s%n", "app", "endpoint", "conc.",
+                "solic.", "solic./s", "p50 ms", "p99 ms", "errores", "hilos");
+        for (Map.Entry<String, IntFunction<String>> caso : casos.entrySet()) {
+            boolean lista = caso.getKey().contains("lista");
+            for (int concurrencia : CONCURRENCIA) {
+                if (lista && concurrencia > CONCURRENCIA[1]) {
+                    continue;
+                }
+                for (Map.Entry<String, String> aplicacion : aplicaciones.entrySet()) {
+                    int total = lista ? SOLICITUDES_LISTA : SOLICITUDES_HTTP;
+                    ejecutar(aplicacion.getValue(), caso.getValue(), Math.min(CALENTAMIENTO, total), concurrencia);
+                    hilos.resetPeakThreadCount();
+                    Resultado resultado = ejecutar(aplicacion.getValue(), caso.getValue(), total, concurrencia);
+                    System.out.printf("%-9s %-17s %6d %,8d %,10.0f %9.2f %9.2f %8d %6d%n", aplicacion.getKey(),
+                            caso.getKey(), concurrencia, total, total / (resultado.nanos() / 1e9),
+                            resultado.percentil(50), resultado.percentil(99), resultado.errores(), hilos.getPeakThreadCount());
+                    assertEquals(0, resultado.errores(), aplicacion.getKey() + " " + caso.getKey());
+                }
+            }
+        }
+    }
+
+    // MÉTODOS AUXILIARES
+
+    private record Resultado(long nanos, long[] latencias, int errores) {
+
+        double percentil(int p) {
+            return latencias[Math.min(latencias.length - 1, latencias.length * p / 100)] / 1e6;
+        }
+    }
+
+    private static Resultado ejecutar(String base, IntFunction<String> rutas, int total, int concurrencia) throws InterruptedException {
+        long[] latencias = new long[total];
+        AtomicInteger errores = new AtomicInteger();
+        Semaphore enVuelo = new Semaphore(concurrencia);
+        CountDownLatch pendientes = new CountDownLatch(total);
+        long inicio = System.nanoTime();
+        for (int i = 0; i < total; i++) {
+            enVuelo.acquire();
+            int indice = i;
+            long envio = System.nanoTime();
+            HttpRequest request = HttpRequest.newBuilder(URI.create(base + rutas.apply(i))).GET().build();
+            cliente.sendAsync(request, HttpResponse.BodyHandlers.discarding()).whenComplete((respuesta, error) -> {
+                latencias[indice] = System.nanoTime() - envio;
+                if (error != null || respuesta.statusCode() != 200) {
+                    errores.incrementAndGet();
+                }
+                enVuelo.release();
+                pendientes.countDown();
+            });
+        }
+        pendientes.await();
+        long nanos = System.nanoTime() - inicio;
+        Arrays.sort(latencias);
+        return new Resultado(nanos, latencias, errores.get());
+    }
+
+    private static String obtener(String url) throws Exception {
+        HttpResponse<String> respuesta = cliente.send(HttpRequest.newBuilder(URI.create(url)).GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+        assertEquals(200, respuesta.statusCode(), url);
+        return respuesta.body();
+    }
+
+    private static String base(ConfigurableApplicationContext contexto) {
+        return "http://localhost:" + contexto.getEnvironment().getProperty("local.server.port") + "/api-recursos/v1";
+    }
+
+    /**
+     * La aplicación principal tal como se ejecuta sin el perfil Maven reactivo: con el perfil, el paquete reactivo
+     * y la autoconfiguración R2DBC también quedan en su classpath, por lo que aquí se excluyen.
+     */
+    @SpringBootConfiguration
+    @AutoConfigurationPackage(basePackageClasses = ApiRecursosApplication.class)
+    @EnableAutoConfiguration(exclude = {R2dbcAutoConfiguration.class, R2dbcDataAutoConfiguration.class,
+            R2dbcRepositoriesAutoConfiguration.class, R2dbcTransactionManagerAutoConfiguration.class})
+    @ComponentScan(basePackageClasses = ApiRecursosApplication.class, excludeFilters = {
+            @ComponentScan.Filter(type = FilterType.CUSTOM, classes = TypeExcludeFilter.class),
+            @ComponentScan.Filter(type = FilterType.CUSTOM, classes = AutoConfigurationExcludeFilter.class),
+            @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = ApiRecursosApplication.class),
+            @ComponentScan.Filter(type = FilterType.REGEX, pattern = "com\\.SAFE_Rescue\\.API_Recursos\\.reactivo\\..*")})
+    @EnableScheduling
+    static class AplicacionPrincipal {
+    }
+}
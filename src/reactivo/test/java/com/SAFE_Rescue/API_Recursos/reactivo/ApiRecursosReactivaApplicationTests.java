@@ -0,0 +1,191 @@
+package com.SAFE_Rescue.API_Recursos.reactivo;
+
+import com.SAFE_Rescue.API_Recursos.modelo.Recurso;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Clase de pruebas de integración para la variante reactiva de lectura.
+ * Levanta Netty en un puerto aleatorio contra una base H2 en memoria accedida con R2DBC.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.main.web-application-type=reactive",
+        "spring.r2dbc.url=r2dbc:h2:mem:///reactivo;DB_CLOSE_DELAY=-1",
+        "spring.r2dbc.username=sa",
+        "app.reactivo.lote=50"
+})
+@ActiveProfiles(ApiRecursosReactivaApplication.PERFIL)
+public class ApiRecursosReactivaApplicationTests {
+
+    private static final int RECURSOS = 300;
+
+    private static final List<String> ESQUEMA = List.of(
+            "CREATE TABLE IF NOT EXISTS tipo_recurso (id INT AUTO_INCREMENT PRIMARY KEY, nombre_tipo VARCHAR(50) NOT NULL)",
+            "CREATE TABLE IF NOT EXISTS tipo_vehiculo (id INT AUTO_INCREMENT PRIMARY KEY, nombre_tipo VARCHAR(50) NOT NULL)",
+            "CREATE TABLE IF NOT EXISTS bombero (id INT AUTO_INCREMENT PRIMARY KEY, nombre VARCHAR(50) NOT NULL, "
+                    + "a_paterno VARCHAR(50) NOT NULL, a_materno VARCHAR(50) NOT NULL, telefono INT NOT NULL)",
+            "CREATE TABLE IF NOT EXISTS recurso (id INT AUTO_INCREMENT PRIMARY KEY, nombre VARCHAR(50) NOT NULL, "
+                    + "cantidad INT NOT NULL, estado TINYINT NOT NULL, tipo_recurso_id INT)",
+            "CREATE TABLE IF NOT EXISTS vehiculo (id INT AUTO_INCREMENT PRIMARY KEY, marca VARCHAR(50) NOT NULL, "
+                    + "modelo VARCHAR(50) NOT NULL, patente VARCHAR(6) NOT NULL, conductor VARCHAR(50) NOT NULL, "
+                    + "estado TINYINT NOT NULL, tipo_vehiculo_id INT)",
+            "CREATE TABLE IF NOT EXISTS solicitud_recurso (id INT AUTO_INCREMENT PRIMARY KEY, titulo VARCHAR(50) NOT NULL, "
+                    + "detalle VARCHAR(400) NOT NULL, bombero_id INT, estado TINYINT NOT NULL, recurso_id INT, "
+                    + "fecha_creacion TIMESTAMP(6) WITH TIME ZONE, region VARCHAR(30))");
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    /**
+     * Configura el entorno de pruebas antes de cada prueba.
+     * Crea el esquema si no existe y carga tipos, recursos, un vehículo, un bombero y una solicitud.
+     */
+    @BeforeEach
+    public void setUp() {
+        for (String sentencia : ESQUEMA) {
+            ejecutar(sentencia);
+        }
+        for (String tabla : List.of("solicitud_recurso", "vehiculo", "recurso", "bombero", "tipo_vehiculo", "tipo_recurso")) {
+            ejecutar("DELETE FROM " + tabla);
+        }
+        ejecutar("INSERT INTO tipo_recurso (id, nombre_tipo) VALUES (1, 'Rescate')");
+        for (int i = 1; i <= RECURSOS; i++) {
+            ejecutar("INSERT INTO recurso (id, nombre, cantidad, estado, tipo_recurso_id) VALUES (" + i + ", 'Recurso " + i + "', " + (1000 + i) + ", 1, 1)");
+        }
+        ejecutar("INSERT INTO vehiculo (id, marca, modelo, patente, conductor, estado, tipo_vehiculo_id) VALUES (1, 'Toyota', 'Hilux', 'AB1234', 'Juan', 5, NULL)");
+        ejecutar("INSERT INTO bombero (id, nombre, a_paterno, a_materno, telefono) VALUES (1, 'Ana', 'Rojas', 'Soto', 987654321)");
+        ejecutar("INSERT INTO solicitud_recurso (id, titulo, detalle, bombero_id, estado, recurso_id, fecha_creacion, region) "
+                + "VALUES (1, 'Botiquín', 'Urgente', 1, 8, 2, TIMESTAMP WITH TIME ZONE '2025-01-01 12:00:00+00', 'norte')");
+    }
+
+    /**
+     * Prueba que verifica que una lista más larga que el lote se transmite completa, en orden y con su tipo.
+     */
+    @Test
+    public void listarTest() {
+        // Act
+        List<Recurso> recursos = webTestClient.get().uri("/api-recursos/v1/recursos")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_JSON)
+                .expectBodyList(Recurso.class)
+                .returnResult().getResponseBody();
+
+        // Assert
+        assertNotNull(recursos);
+        assertEquals(RECURSOS, recursos.size());
+        assertEquals(1, recursos.get(0).getId());
+        assertEquals(RECURSOS, recursos.get(RECURSOS - 1).getId());
+        assertEquals("Rescate", recursos.get(0).getTipoRecurso().getNombre());
+    }
+
+    /**
+     * Prueba que verifica la transmisión de una solicitud por línea con Accept application/x-ndjson.
+     */
+    @Test
+    public void listarTest_Ndjson() {
+        // Act & Assert
+        webTestClient.get().uri("/api-recursos/v1/solicitudes-recursos")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .expectBody(String.class)
+                .value(cuerpo -> {
+                    assertEquals(1, cuerpo.strip().lines().count());
+                    assertTrue(cuerpo.contains("\"region\":\"norte\""));
+                });
+    }
+
+    /**
+     * Prueba que verifica que una lista sin registros responde con un arreglo vacío.
+     */
+    @Test
+    public void listarTest_SinRegistros() {
+        // Act & Assert
+        webTestClient.get().uri("/api-recursos/v1/tipos-vehiculos")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().json("[]");
+    }
+
+    /**
+     * Prueba que verifica que la búsqueda por ID devuelve la solicitud con su bombero, su recurso y el tipo
+     * del recurso, con la misma forma JSON que la aplicación principal.
+     */
+    @Test
+    public void buscarTest() {
+        // Act & Assert
+        webTestClient.get().uri("/api-recursos/v1/solicitudes-recursos/1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.titulo").isEqualTo("Botiquín")
+                .jsonPath("$.estado").isEqualTo("Pendiente")
+                .jsonPath("$.fechaCreacion").isEqualTo("2025-01-01T12:00:00Z")
+                .jsonPath("$.bombero.nombre").isEqualTo("Ana")
+                .jsonPath("$.recurso.id").isEqualTo(2)
+                .jsonPath("$.recurso.tipoRecurso.nombre").isEqualTo("Rescate");
+    }
+
+    /**
+     * Prueba que verifica que un vehículo sin tipo se devuelve con tipo nulo.
+     */
+    @Test
+    public void buscarTest_SinTipo() {
+        // Act & Assert
+        webTestClient.get().uri("/api-recursos/v1/vehiculos/1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.patente").isEqualTo("AB1234")
+                .jsonPath("$.estado").isEqualTo("Operativo")
+                .jsonPath("$.tipoVehiculo").doesNotExist();
+    }
+
+    /**
+     * Prueba que verifica la respuesta de error de un ID inexistente.
+     */
+    @Test
+    public void buscarTest_NoEncontrado() {
+        // Act & Assert
+        webTestClient.get().uri("/api-recursos/v1/tipos-recursos/99")
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.codigo").isEqualTo("TIPO_RECURSO_NO_ENCONTRADO")
+                .jsonPath("$.instance").isEqualTo("/api-recursos/v1/tipos-recursos/99");
+    }
+
+    /**
+     * Prueba que verifica la respuesta de error de un ID que no es numérico.
+     */
+    @Test
+    public void buscarTest_IdInvalido() {
+        // Act & Assert
+        webTestClient.get().uri("/api-recursos/v1/recursos/abc")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.codigo").isEqualTo("SOLICITUD_MALFORMADA");
+    }
+
+    // MÉTODOS AUXILIARES
+
+    private void ejecutar(String sentencia) {
+        databaseClient.sql(sentencia).then().block();
+    }
+}
@@ -0,0 +1,123 @@
+package com.SAFE_Rescue.API_Recursos;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Prueba de humo del ejecutable nativo (perfil Maven "native", fase verify).
+ * <p>
+ * Inicia el binario nativo y, si está disponible, el jar de la JVM contra una base H2 en memoria, mide el
+ * tiempo hasta la primera respuesta exitosa y la memoria residente (VmRSS) tras esa respuesta, e imprime
+ * la comparación. Solo se ejecuta cuando se indica la ruta del binario con {@code -Darranque.binario}.
+ * </p>
+ */
+@EnabledIfSystemProperty(named = "arranque.binario", matches = ".+")
+public class ArranqueNativoIT {
+
+    private static final String PRIMERA_SOLICITUD = "/api-recursos/v1/tipos-recursos";
+    private static final Duration TIEMPO_MAXIMO = Duration.ofSeconds(120);
+
+    private final HttpClient cliente = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+
+    /**
+     * Prueba que verifica que el binario nativo arranca y responde, comparándolo con la JVM.
+     */
+    @Test
+    public void arranqueNativoTest() throws Exception {
+        Medicion nativo = medir("nativo", List.of(System.getProperty("arranque.binario")));
+        System.out.println(nativo);
+
+        String jar = System.getProperty("arranque.jar", "");
+        if (!jar.isBlank() && new File(jar).exists()) {
+            Medicion jvm = medir("jvm", List.of(Path.of(System.getProperty("java.home"), "bin", "java").toString(), "-jar", jar));
+            System.out.println(jvm);
+            System.out.printf("Primera solicitud: nativo %.1fx más rápido; RSS: nativo %.1f%% de la JVM%n",
+                    (double) jvm.primeraSolicitudMs() / Math.max(1, nativo.primeraSolicitudMs()),
+                    100.0 * nativo.rssKb() / Math.max(1, jvm.rssKb()));
+        }
+    }
+
+    // MÉTODOS AUXILIARES
+
+    private Medicion medir(String nombre, List<String> comando) throws Exception {
+        int puerto = puertoLibre();
+        List<String> argumentos = new ArrayList<>(comando);
+        argumentos.addAll(List.of(
+                "--server.port=" + puerto,
+                "--spring.datasource.url=jdbc:h2:mem:humo;MODE=MySQL;DB_CLOSE_DELAY=-1",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                "--spring.jpa.hibernate.ddl-auto=create"));
+
+        long inicio = System.nanoTime();
+        Process proceso = new ProcessBuilder(argumentos)
+                .redirectErrorStream(true)
+                .redirectOutput(Files.createTempFile("arranque-" + nombre, ".log").toFile())
+                .start();
+        try {
+            HttpRequest solicitud = HttpRequest.newBuilder(URI.create("http://localhost:" + puerto + PRIMERA_SOLICITUD)).GET().build();
+            while (true) {
+                assertTrue(proceso.isAlive(), "El proceso " + nombre + " terminó antes de responder");
+                assertTrue(System.nanoTime() - inicio < TIEMPO_MAXIMO.toNanos(), "El proceso " + nombre + " no respondió a tiempo");
+                try {
+                    if (cliente.send(solicitud, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                        break;
+                    }
+                } catch (IOException e) {
+                    // Aún no acepta conexiones
+                }
+                Thread.sleep(10);
+            }
+            long primeraSolicitudMs = (System.nanoTime() - inicio) / 1_000_000;
+            return new Medicion(nombre, primeraSolicitudMs, rssKb(proceso.pid()));
+        } finally {
+            proceso.destroy();
+            proceso.waitFor();
+        }
+    }
+
+    private static int puertoLibre() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    /**
+     * Memoria residente del proceso en KB, leída de /proc (Linux); -1 si no está disponible.
+     */
+    private static long rssKb(long pid) throws IOException {
+        Path estado = Path.of("/proc", String.valueOf(pid), "status");
+        if (!Files.exists(estado)) {
+            return -1;
+        }
+        return Files.readAllLines(estado).stream()
+                .filter(linea -> linea.startsWith("VmRSS:"))
+                .map(linea -> Long.parseLong(linea.replaceAll("\\D", "")))
+                .findFirst()
+                .orElse(-1L);
+    }
+
+    private record Medicion(String nombre, long primeraSolicitudMs, long rssKb) {
+
+        @Override
+        public String toString() {
+            return String.format("%-6s primera solicitud %,6d ms  RSS %,9d KB", nombre, primeraSolicitudMs, rssKb);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.SAFE_Rescue.API_Recursos;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Clase de pruebas unitarias para GeneradorDatosMasivos.
+ * Verifica el tamaño de los lotes, la unicidad de columnas UNIQUE y la reproducibilidad con semilla fija.
+ */
+public class GeneradorDatosMasivosTest {
+
+    private Map<String, List<Object[]>> filasPorTabla;
+    private Map<String, Integer> lotesPorTabla;
+
+    /**
+     * Configura el entorno de pruebas antes de cada prueba.
+     */
+    @BeforeEach
+    public void setUp() {
+        filasPorTabla = new ConcurrentHashMap<>();
+        lotesPorTabla = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Prueba que verifica que cada tabla se inserta en lotes del tamaño configurado.
+     */
+    @Test
+    public void generarTest_Lotes() {
+        // Act
+        generar(42);
+
+        // Assert
+        assertEquals(3, filasPorTabla.get("tipo_recurso").size());
+        assertEquals(2500, filasPorTabla.get("recurso").size());
+        assertEquals(3, lotesPorTabla.get("recurso"));
+        assertEquals(2, lotesPorTabla.get("solicitud_recurso"));
+    }
+
+    /**
+     * Prueba que verifica la unicidad de cantidades, patentes y teléfonos, y que las claves foráneas
+     * apuntan a filas generadas.
+     */
+    @Test
+    public void generarTest_Restricciones() {
+        // Act
+        generar(42);
+
+        // Assert
+        assertEquals(2500, columna("recurso", 2).stream().distinct().count());
+        assertEquals(700, columna("vehiculo", 3).stream().distinct().count());
+        assertEquals(200, columna("bombero", 4).stream().distinct().count());
+        columna("vehiculo", 3).forEach(patente -> assertEquals(6, patente.toString().length()));
+        columna("recurso", 4).forEach(tipo -> assertTrue((Integer) tipo >= 1 && (Integer) tipo <= 3));
+        columna("solicitud_recurso", 5).forEach(recurso -> assertTrue((Integer) recurso >= 1 && (Integer) recurso <= 2500));
+    }
+
+    /**
+     * Prueba que verifica que la misma semilla produce los mismos datos aunque los lotes se procesen en paralelo.
+     */
+    @Test
+    public void generarTest_Reproducible() {
+        // Act
+        generar(7);
+        List<String> primera = contenido("solicitud_recurso");
+        filasPorTabla.clear();
+        generar(7);
+        List<String> segunda = contenido("solicitud_recurso");
+        filasPorTabla.clear();
+        generar(8);
+        List<String> otraSemilla = contenido("solicitud_recurso");
+
+        // Assert
+        assertEquals(primera, segunda);
+        assertNotEquals(primera, otraSemilla);
+    }
+
+    // MÉTODOS AUXILIARES
+
+    @SuppressWarnings("unchecked")
+    private void generar(long semilla) {
+        JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenAnswer(invocacion -> {
+            String sql = invocacion.getArgument(0);
+            String tabla = sql.split(" ")[2];
+            List<Object[]> filas = invocacion.getArgument(1);
+            filasPorTabla.computeIfAbsent(tabla, t -> Collections.synchronizedList(new ArrayList<>())).addAll(filas);
+            lotesPorTabla.merge(tabla, 1, Integer::sum);
+            return new int[filas.size()];
+        });
+
+        GeneradorDatosMasivos generador = new GeneradorDatosMasivos();
+        ReflectionTestUtils.setField(generador, "jdbcTemplate", jdbcTemplate);
+        ReflectionTestUtils.setField(generador, "semilla", semilla);
+        ReflectionTestUtils.setField(generador, "lote", 1000);
+        ReflectionTestUtils.setField(generador, "hilos", 4);
+        ReflectionTestUtils.setField(generador, "tiposRecurso", 3);
+        ReflectionTestUtils.setField(generador, "tiposVehiculo", 2);
+        ReflectionTestUtils.setField(generador, "bomberos", 200);
+        ReflectionTestUtils.setField(generador, "recursos", 2500);
+        ReflectionTestUtils.setField(generador, "vehiculos", 700);
+        ReflectionTestUtils.setField(generador, "solicitudes", 1500);
+        ReflectionTestUtils.setField(generador, "finHistoria", "2025-06-01T00:00:00Z");
+        generador.generar();
+    }
+
+    private List<Object> columna(String tabla, int indice) {
+        return filasPorTabla.get(tabla).stream().map(fila -> fila[indice]).toList();
+    }
+
+    private List<String> contenido(String tabla) {
+        return filasPorTabla.get(tabla).stream()
+                .sorted(Comparator.comparing(fila -> (Integer) fila[0]))
+                .map(Arrays::toString)
+                .toList();
+    }
+}
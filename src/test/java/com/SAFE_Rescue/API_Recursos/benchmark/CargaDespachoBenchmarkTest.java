@@ -0,0 +1,563 @@
+package com.SAFE_Rescue.API_Recursos.benchmark;
+
+import com.SAFE_Rescue.API_Recursos.ApiRecursosApplication;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Prueba de carga con tráfico de despacho: levanta la aplicación en esta JVM sobre una base H2 en memoria cargada
+ * con el generador masivo y la recorre por HTTP con {@code carga.usuarios} usuarios concurrentes, cada uno
+ * enviando su siguiente solicitud al recibir la anterior. Cada solicitud se elige al azar según una mezcla de
+ * operaciones (listar, obtener, crear, actualizar y asignar) y de controladores (solicitudes, recursos,
+ * vehículos y sus tipos). Informa por operación solicitudes por segundo, latencias p50, p90, p99 y máxima y
+ * tasa de errores, y las compara con una línea base guardada.
+ * <p>
+ * Propiedades (-D), con sus valores por defecto:
+ * <ul>
+ *     <li>{@code carga.mezcla=obtener:55,listar:5,crear:10,actualizar:15,asignar:15} y
+ *     {@code carga.controladores=solicitudes-recursos:40,recursos:30,vehiculos:15,tipos-recursos:10,tipos-vehiculos:5}:
+ *     pesos relativos; el peso de una operación es el de su tipo por el de su controlador.</li>
+ *     <li>{@code carga.usuarios=32}, {@code carga.calentamiento-s=10}, {@code carga.duracion-s=30}.</li>
+ *     <li>{@code carga.recursos=50000}, {@code carga.vehiculos=10000}, {@code carga.solicitudes=100000},
+ *     {@code carga.bomberos=5000}: filas iniciales.</li>
+ *     <li>{@code carga.linea-base=src/test/resources/benchmark/carga-linea-base.json}: resultado con el que se
+ *     compara; {@code carga.guardar-linea-base=true} lo reemplaza por el de esta ejecución.</li>
+ *     <li>{@code carga.tolerancia=0.20}: variación de solicitudes por segundo o de p99 que se informa como
+ *     empeoramiento; con {@code carga.fallar-si-empeora=true} la prueba falla si alguna operación empeora.</li>
+ *     <li>{@code carga.errores-max=0}: tasa de errores tolerada antes de fallar.</li>
+ * </ul>
+ * Cada ejecución deja su resultado en {@code target/carga/resultado.json}. Las líneas base solo son comparables
+ * entre ejecuciones con la misma máquina, mezcla y volumen de datos, que se guardan junto al resultado.
+ * </p>
+ * Excluido de la ejecución normal; se ejecuta con {@code mvn test -Pbenchmark -Dtest=CargaDespachoBenchmarkTest}.
+ */
+@Tag("benchmark")
+public class CargaDespachoBenchmarkTest {
+
+    private static final String MEZCLA = System.getProperty("carga.mezcla", "obtener:55,listar:5,crear:10,actualizar:15,asignar:15");
+    private static final String CONTROLADORES = System.getProperty("carga.controladores",
+            "solicitudes-recursos:40,recursos:30,vehiculos:15,tipos-recursos:10,tipos-vehiculos:5");
+    private static final int USUARIOS = Integer.getInteger("carga.usuarios", 32);
+    private static final int CALENTAMIENTO_S = Integer.getInteger("carga.calentamiento-s", 10);
+    private static final int DURACION_S = Integer.getInteger("carga.duracion-s", 30);
+    private static final int RECURSOS = Integer.getInteger("carga.recursos", 50_000);
+    private static final int VEHICULOS = Integer.getInteger("carga.vehiculos", 10_000);
+    private static final int SOLICITUDES = Integer.getInteger("carga.solicitudes", 100_000);
+    private static final int BOMBEROS = Integer.getInteger("carga.bomberos", 5_000);
+    private static final int TIPOS_RECURSO = 50;
+    private static final int TIPOS_VEHICULO = 20;
+    private static final Path LINEA_BASE = Path.of(System.getProperty("carga.linea-base", "src/test/resources/benchmark/carga-linea-base.json"));
+    private static final Path RESULTADO = Path.of("target/carga/resultado.json");
+    private static final double TOLERANCIA = Double.parseDouble(System.getProperty("carga.tolerancia", "0.20"));
+    private static final double ERRORES_MAX = Double.parseDouble(System.getProperty("carga.errores-max", "0"));
+    private static final int LOTE_ASIGNACIONES = 20;
+    private static final int PAGINAS = 10;
+    private static final int MUESTRA = 200;
+    private static final int CANTIDAD_MAXIMA = 999_999_999;
+    private static final int TAMANIO_PAGINA = 50;
+
+    private final ObjectMapper mapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    private final AtomicInteger secuencia = new AtomicInteger();
+    private HttpClient cliente;
+    private String base;
+    private List<JsonNode> tiposRecurso;
+    private List<JsonNode> tiposVehiculo;
+    private List<JsonNode> bomberos;
+    private List<JsonNode> recursos;
+
+    /**
+     * Operación de la mezcla: nombre ("controlador.tipo"), peso y generador de solicitudes HTTP.
+     */
+    private record Operacion(String nombre, double peso, Supplier<HttpRequest> solicitud) {
+    }
+
+    /**
+     * Latencias de una operación en un hilo, en nanosegundos, y sus errores por código de estado (0 si la
+     * solicitud no obtuvo respuesta).
+     */
+    private static final class Muestras {
+        long[] latencias = new long[1024];
+        int cantidad;
+        final Map<Integer, Integer> errores = new TreeMap<>();
+
+        void agregar(long nanos) {
+            if (cantidad == latencias.length) {
+                latencias = Arrays.copyOf(latencias, cantidad * 2);
+            }
+            latencias[cantidad++] = nanos;
+        }
+
+        void agregar(Muestras otras) {
+            for (int i = 0; i < otras.cantidad; i++) {
+                agregar(otras.latencias[i]);
+            }
+            otras.errores.forEach((estado, cantidad) -> errores.merge(estado, cantidad, Integer::sum));
+        }
+
+        int totalErrores() {
+            return errores.values().stream().mapToInt(Integer::intValue).sum();
+        }
+    }
+
+    /**
+     * Ejecuta la mezcla configurada, informa el resultado y lo compara con la línea base.
+     */
+    @Test
+    public void cargaTest() throws Exception {
+        try (ConfigurableApplicationContext contexto = iniciar()) {
+            base = "http://localhost:" + contexto.getEnvironment().getProperty("local.server.port") + "/api-recursos/v1";
+            ExecutorService hilosCliente = Executors.newFixedThreadPool(4);
+            try {
+                cliente = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).executor(hilosCliente)
+                        .connectTimeout(Duration.ofSeconds(5)).build();
+                tiposRecurso = listar("/tipos-recursos");
+                tiposVehiculo = listar("/tipos-vehiculos");
+                bomberos = muestra("/bomberos", BOMBEROS);
+                recursos = muestra("/recursos", RECURSOS);
+
+                List<Operacion> operaciones = operaciones();
+                System.out.printf("%nCarga: %d usuarios, %d s (+%d s de calentamiento), mezcla %s, controladores %s%n",
+                        USUARIOS, DURACION_S, CALENTAMIENTO_S, MEZCLA, CONTROLADORES);
+                for (Operacion operacion : operaciones) {
+                    System.out.printf("  %-32s %5.1f%%%n", operacion.nombre(), operacion.peso() * 100);
+                }
+
+                Map<String, Muestras> muestras = ejecutar(operaciones);
+                Map<String, Object> resultado = resultado(muestras);
+                informar(resultado);
+                guardar(resultado, RESULTADO);
+                List<String> empeoran = comparar(resultado);
+                if (Boolean.getBoolean("carga.guardar-linea-base")) {
+                    guardar(resultado, LINEA_BASE);
+                    System.out.println("Línea base guardada en " + LINEA_BASE);
+                }
+
+                @SuppressWarnings("unchecked")
+                Map<String, Object> total = (Map<String, Object>) resultado.get("total");
+                assertTrue((double) total.get("tasaErrores") <= ERRORES_MAX, "Tasa de errores " + total.get("tasaErrores"));
+                if (Boolean.getBoolean("carga.fallar-si-empeora")) {
+                    assertEquals(List.of(), empeoran, "Operaciones que empeoran respecto de la línea base");
+                }
+            } finally {
+                hilosCliente.shutdownNow();
+            }
+        }
+    }
+
+    // MÉTODOS AUXILIARES
+
+    private static ConfigurableApplicationContext iniciar() {
+        long inicio = System.nanoTime();
+        ConfigurableApplicationContext contexto = new SpringApplicationBuilder(ApiRecursosApplication.class).run(
+                "--server.port=0",
+                "--logging.level.root=WARN",
+                "--spring.jpa.show-sql=false",
+                "--spring.datasource.url=jdbc:h2:mem:carga_despacho;DB_CLOSE_DELAY=-1",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.hikari.maximum-pool-size=16",
+                "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                "--spring.jpa.hibernate.ddl-auto=create",
+                "--app.seed.modo=masivo",
+                "--app.seed.tipos-recurso=" + TIPOS_RECURSO,
+                "--app.seed.tipos-vehiculo=" + TIPOS_VEHICULO,
+                "--app.seed.bomberos=" + BOMBEROS,
+                "--app.seed.recursos=" + RECURSOS,
+                "--app.seed.vehiculos=" + VEHICULOS,
+                "--app.seed.solicitudes=" + SOLICITUDES);
+        System.out.printf("%nAplicación lista con datos cargados en %.1f s%n", (System.nanoTime() - inicio) / 1e9);
+        return contexto;
+    }
+
+    /**
+     * Combina los pesos de tipos de operación y de controladores. Las combinaciones que un controlador no
+     * ofrece (los tipos no tienen asignaciones) no reciben peso.
+     */
+    private List<Operacion> operaciones() {
+        Map<String, Double> tipos = pesos(MEZCLA, List.of("listar", "obtener", "crear", "actualizar", "asignar"));
+        Map<String, Double> controladores = pesos(CONTROLADORES,
+                List.of("solicitudes-recursos", "recursos", "vehiculos", "tipos-recursos", "tipos-vehiculos"));
+        Map<String, Supplier<HttpRequest>> disponibles = solicitudes();
+
+        Map<String, Double> combinados = new LinkedHashMap<>();
+        for (Map.Entry<String, Double> controlador : controladores.entrySet()) {
+            for (Map.Entry<String, Double> tipo : tipos.entrySet()) {
+                String nombre = controlador.getKey() + "." + tipo.getKey();
+                if (disponibles.containsKey(nombre) && controlador.getValue() * tipo.getValue() > 0) {
+                    combinados.put(nombre, controlador.getValue() * tipo.getValue());
+                }
+            }
+        }
+        double suma = combinados.values().stream().mapToDouble(Double::doubleValue).sum();
+        assertTrue(suma > 0, "La mezcla no incluye ninguna operación");
+        List<Operacion> operaciones = new ArrayList<>();
+        combinados.forEach((nombre, peso) -> operaciones.add(new Operacion(nombre, peso / suma, disponibles.get(nombre))));
+        return operaciones;
+    }
+
+    private static Map<String, Double> pesos(String texto, List<String> validos) {
+        Map<String, Double> pesos = new LinkedHashMap<>();
+        for (String par : texto.split(",")) {
+            String[] partes = par.trim().split(":");
+            if (partes.length != 2 || !validos.contains(partes[0].trim())) {
+                throw new IllegalArgumentException("Peso inválido '" + par + "'; se esperaba nombre:peso con nombre en " + validos);
+            }
+            pesos.put(partes[0].trim(), Double.parseDouble(partes[1].trim()));
+        }
+        return pesos;
+    }
+
+    /**
+     * Solicitudes de cada operación sobre los datos generados: los IDs iniciales son consecutivos desde 1.
+     */
+    private Map<String, Supplier<HttpRequest>> solicitudes() {
+        Map<String, Supplier<HttpRequest>> solicitudes = new HashMap<>();
+
+        solicitudes.put("solicitudes-recursos.listar", () -> get("/solicitudes-recursos/pagina?pagina=" + azar(PAGINAS - 1) + "&tamanio=" + TAMANIO_PAGINA));
+        solicitudes.put("solicitudes-recursos.obtener", () -> get("/solicitudes-recursos/" + azar(SOLICITUDES)));
+        solicitudes.put("solicitudes-recursos.crear", () -> enviar("POST", "/solicitudes-recursos", Map.of(
+                "titulo", "Solicitud " + secuencia.incrementAndGet(),
+                "detalle", "Generada por la prueba de carga",
+                "bombero", elegir(bomberos),
+                "estado", "Pendiente",
+                "recurso", elegir(recursos))));
+        solicitudes.put("solicitudes-recursos.actualizar", () -> enviar("PUT", "/solicitudes-recursos/" + azar(SOLICITUDES), Map.of(
+                "estado", ThreadLocalRandom.current().nextBoolean() ? "En Proceso" : "Pendiente",
+                "detalle", "Actualizada por la prueba de carga")));
+        solicitudes.put("solicitudes-recursos.asignar", () -> switch (ThreadLocalRandom.current().nextInt(3)) {
+            case 0 -> enviar("POST", "/solicitudes-recursos/" + azar(SOLICITUDES) + "/asignar-recurso/" + azar(RECURSOS), null);
+            case 1 -> enviar("POST", "/solicitudes-recursos/" + azar(SOLICITUDES) + "/asignar-bombero/" + azar(BOMBEROS), null);
+            default -> enviar("POST", "/solicitudes-recursos/asignaciones", asignaciones());
+        });
+
+        solicitudes.put("recursos.listar", () -> get("/recursos?fields=id,nombre,estado"));
+        solicitudes.put("recursos.obtener", () -> get("/recursos/" + azar(RECURSOS)));
+        solicitudes.put("recursos.crear", () -> enviar("POST", "/recursos", Map.of(
+                "nombre", "Recurso " + secuencia.incrementAndGet(),
+                "cantidad", cantidad(),
+                "estado", "Disponible",
+                "tipoRecurso", elegir(tiposRecurso))));
+        solicitudes.put("recursos.actualizar", () -> enviar("PUT", "/recursos/" + azar(RECURSOS), Map.of(
+                "cantidad", cantidad(),
+                "estado", ThreadLocalRandom.current().nextBoolean() ? "Disponible" : "Activo")));
+        solicitudes.put("recursos.asignar", () -> enviar("POST", "/recursos/" + azar(RECURSOS) + "/asignar-tipo-recurso/"
+                + elegir(tiposRecurso).get("id").asInt(), null));
+
+        solicitudes.put("vehiculos.listar", () -> get("/vehiculos?fields=id,patente,estado"));
+        solicitudes.put("vehiculos.obtener", () -> get("/vehiculos/" + azar(VEHICULOS)));
+        solicitudes.put("vehiculos.crear", () -> enviar("POST", "/vehiculos", Map.of(
+                "marca", "Renault",
+                "modelo", "Midlum",
+                "patente", patente(secuencia.incrementAndGet()),
+                "conductor", "Conductor de carga",
+                "estado", "Operativo",
+                "tipoVehiculo", elegir(tiposVehiculo))));
+        // Sin patente: cambiarla obliga a validar que no exista
+        solicitudes.put("vehiculos.actualizar", () -> enviar("PUT", "/vehiculos/" + azar(VEHICULOS), Map.of(
+                "conductor", "Conductor " + azar(1_000),
+                "estado", ThreadLocalRandom.current().nextBoolean() ? "Operativo" : "En Mantención")));
+        solicitudes.put("vehiculos.asignar", () -> enviar("POST", "/vehiculos/" + azar(VEHICULOS) + "/asignar-tipo-vehiculo/"
+                + elegir(tiposVehiculo).get("id").asInt(), null));
+
+        solicitudes.put("tipos-recursos.listar", () -> get("/tipos-recursos"));
+        solicitudes.put("tipos-recursos.obtener", () -> get("/tipos-recursos/" + elegir(tiposRecurso).get("id").asInt()));
+        solicitudes.put("tipos-recursos.crear", () -> enviar("POST", "/tipos-recursos", Map.of("nombre", "Tipo " + secuencia.incrementAndGet())));
+        solicitudes.put("tipos-recursos.actualizar", () -> {
+            JsonNode tipo = elegir(tiposRecurso);
+            return enviar("PUT", "/tipos-recursos/" + tipo.get("id").asInt(), tipo);
+        });
+
+        solicitudes.put("tipos-vehiculos.listar", () -> get("/tipos-vehiculos"));
+        solicitudes.put("tipos-vehiculos.obtener", () -> get("/tipos-vehiculos/" + elegir(tiposVehiculo).get("id").asInt()));
+        solicitudes.put("tipos-vehiculos.crear", () -> enviar("POST", "/tipos-vehiculos", Map.of("nombre", "Tipo " + secuencia.incrementAndGet())));
+        solicitudes.put("tipos-vehiculos.actualizar", () -> {
+            JsonNode tipo = elegir(tiposVehiculo);
+            return enviar("PUT", "/tipos-vehiculos/" + tipo.get("id").asInt(), tipo);
+        });
+        return solicitudes;
+    }
+
+    /**
+     * Lanza los usuarios, descarta lo medido durante el calentamiento y combina las muestras de todos los hilos.
+     */
+    private Map<String, Muestras> ejecutar(List<Operacion> operaciones) throws Exception {
+        double[] acumulados = new double[operaciones.size()];
+        double acumulado = 0;
+        for (int i = 0; i < operaciones.size(); i++) {
+            acumulado += operaciones.get(i).peso();
+            acumulados[i] = acumulado;
+        }
+        long inicioMedicion = System.nanoTime() + CALENTAMIENTO_S * 1_000_000_000L;
+        long fin = inicioMedicion + DURACION_S * 1_000_000_000L;
+
+        ExecutorService usuarios = Executors.newFixedThreadPool(USUARIOS);
+        List<Future<Map<String, Muestras>>> resultados = new ArrayList<>();
+        for (int u = 0; u < USUARIOS; u++) {
+            resultados.add(usuarios.submit(() -> {
+                Map<String, Muestras> propias = new HashMap<>();
+                long ahora;
+                while ((ahora = System.nanoTime()) < fin) {
+                    double sorteo = ThreadLocalRandom.current().nextDouble() * acumulados[acumulados.length - 1];
+                    int indice = 0;
+                    while (indice < acumulados.length - 1 && sorteo >= acumulados[indice]) {
+                        indice++;
+                    }
+                    Operacion operacion = operaciones.get(indice);
+                    int estado;
+                    try {
+                        estado = cliente.send(operacion.solicitud().get(), HttpResponse.BodyHandlers.discarding()).statusCode();
+                    } catch (IOException e) {
+                        estado = 0;
+                    }
+                    long latencia = System.nanoTime() - ahora;
+                    if (ahora >= inicioMedicion) {
+                        Muestras muestras = propias.computeIfAbsent(operacion.nombre(), n -> new Muestras());
+                        muestras.agregar(latencia);
+                        if (estado < 200 || estado >= 300) {
+                            muestras.errores.merge(estado, 1, Integer::sum);
+                        }
+                    }
+                }
+                return propias;
+            }));
+        }
+        usuarios.shutdown();
+
+        Map<String, Muestras> combinadas = new LinkedHashMap<>();
+        for (Operacion operacion : operaciones) {
+            combinadas.put(operacion.nombre(), new Muestras());
+        }
+        for (Future<Map<String, Muestras>> resultado : resultados) {
+            resultado.get().forEach((nombre, muestras) -> combinadas.get(nombre).agregar(muestras));
+        }
+        return combinadas;
+    }
+
+    private Map<String, Object> resultado(Map<String, Muestras> muestras) {
+        Map<String, Object> entorno = new LinkedHashMap<>();
+        entorno.put("procesadores", Runtime.getRuntime().availableProcessors());
+        entorno.put("java", System.getProperty("java.version"));
+        entorno.put("baseDatos", "h2");
+        entorno.put("usuarios", USUARIOS);
+        entorno.put("duracionS", DURACION_S);
+        entorno.put("mezcla", MEZCLA);
+        entorno.put("controladores", CONTROLADORES);
+        Map<String, Object> datos = new LinkedHashMap<>();
+        datos.put("recursos", RECURSOS);
+        datos.put("vehiculos", VEHICULOS);
+        datos.put("solicitudes", SOLICITUDES);
+        datos.put("bomberos", BOMBEROS);
+        entorno.put("datos", datos);
+
+        Map<String, Object> operaciones = new LinkedHashMap<>();
+        Muestras todas = new Muestras();
+        muestras.forEach((nombre, propias) -> {
+            operaciones.put(nombre, resumen(propias));
+            todas.agregar(propias);
+        });
+
+        Map<String, Object> resultado = new LinkedHashMap<>();
+        resultado.put("fecha", Instant.now().toString());
+        resultado.put("entorno", entorno);
+        resultado.put("operaciones", operaciones);
+        resultado.put("total", resumen(todas));
+        return resultado;
+    }
+
+    private static Map<String, Object> resumen(Muestras muestras) {
+        long[] latencias = Arrays.copyOf(muestras.latencias, muestras.cantidad);
+        Arrays.sort(latencias);
+        Map<String, Object> resumen = new LinkedHashMap<>();
+        resumen.put("solicitudes", latencias.length);
+        resumen.put("porSegundo", redondear((double) latencias.length / DURACION_S));
+        resumen.put("p50Ms", percentil(latencias, 50));
+        resumen.put("p90Ms", percentil(latencias, 90));
+        resumen.put("p99Ms", percentil(latencias, 99));
+        resumen.put("maximoMs", latencias.length == 0 ? 0.0 : redondear(latencias[latencias.length - 1] / 1e6));
+        resumen.put("errores", muestras.totalErrores());
+        resumen.put("tasaErrores", latencias.length == 0 ? 0.0 : (double) muestras.totalErrores() / latencias.length);
+        resumen.put("erroresPorEstado", muestras.errores);
+        return resumen;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void informar(Map<String, Object> resultado) {
+        System.out.printf("%n%-32s %8s %9s %8s %8s %8s %9s %8s%n", "operación", "solic.", "solic./s",
+                "p50 ms", "p90 ms", "p99 ms", "máx. ms", "% error");
+        Map<String, Object> operaciones = (Map<String, Object>) resultado.get("operaciones");
+        operaciones.forEach((nombre, resumen) -> fila(nombre, (Map<String, Object>) resumen));
+        fila("TOTAL", (Map<String, Object>) resultado.get("total"));
+    }
+
+    private static void fila(String nombre, Map<String, Object> resumen) {
+        System.out.printf("%-32s %,8d %,9.1f %8.2f %8.2f %8.2f %9.2f %7.2f%% %s%n", nombre, resumen.get("solicitudes"),
+                resumen.get("porSegundo"), resumen.get("p50Ms"), resumen.get("p90Ms"), resumen.get("p99Ms"),
+                resumen.get("maximoMs"), (double) resumen.get("tasaErrores") * 100,
+                ((Map<?, ?>) resumen.get("erroresPorEstado")).isEmpty() ? "" : resumen.get("erroresPorEstado"));
+    }
+
+    /**
+     * Compara cada operación con la línea base e informa las que empeoran más que la tolerancia en solicitudes
+     * por segundo o en p99, o que aumentan su tasa de errores.
+     * @return Operaciones que empeoran
+     */
+    @SuppressWarnings("unchecked")
+    private List<String> comparar(Map<String, Object> resultado) throws IOException {
+        if (!Files.exists(LINEA_BASE)) {
+            System.out.println("\nSin línea base en " + LINEA_BASE + " (-Dcarga.guardar-linea-base=true la crea)");
+            return List.of();
+        }
+        JsonNode lineaBase = mapper.readTree(LINEA_BASE.toFile());
+        if (!lineaBase.get("entorno").equals(mapper.valueToTree(resultado.get("entorno")))) {
+            System.out.println("\nAdvertencia: la línea base se midió con otro entorno, mezcla o volumen de datos: " + lineaBase.get("entorno"));
+        }
+        System.out.printf("%nComparación con %s (%s)%n%-32s %21s %8s %21s %8s %s%n", LINEA_BASE, lineaBase.get("fecha").asText(),
+                "operación", "solic./s base→actual", "Δ", "p99 ms base→actual", "Δ", "");
+        List<String> empeoran = new ArrayList<>();
+        Map<String, Object> actuales = new LinkedHashMap<>((Map<String, Object>) resultado.get("operaciones"));
+        actuales.put("TOTAL", resultado.get("total"));
+        for (Map.Entry<String, Object> actual : actuales.entrySet()) {
+            JsonNode anterior = actual.getKey().equals("TOTAL") ? lineaBase.get("total") : lineaBase.path("operaciones").get(actual.getKey());
+            if (anterior == null) {
+                continue;
+            }
+            Map<String, Object> resumen = (Map<String, Object>) actual.getValue();
+            double porSegundo = (double) resumen.get("porSegundo");
+            double p99 = (double) resumen.get("p99Ms");
+            double variacionPorSegundo = variacion(anterior.get("porSegundo").asDouble(), porSegundo);
+            double variacionP99 = variacion(anterior.get("p99Ms").asDouble(), p99);
+            boolean empeora = variacionPorSegundo < -TOLERANCIA || variacionP99 > TOLERANCIA
+                    || (double) resumen.get("tasaErrores") > anterior.get("tasaErrores").asDouble();
+            if (empeora) {
+                empeoran.add(actual.getKey());
+            }
+            System.out.printf("%-32s %9.1f → %9.1f %+7.1f%% %9.2f → %9.2f %+7.1f%% %s%n", actual.getKey(),
+                    anterior.get("porSegundo").asDouble(), porSegundo, variacionPorSegundo * 100,
+                    anterior.get("p99Ms").asDouble(), p99, variacionP99 * 100, empeora ? "EMPEORA" : "");
+        }
+        return empeoran;
+    }
+
+    private void guardar(Map<String, Object> resultado, Path archivo) throws IOException {
+        if (archivo.getParent() != null) {
+            Files.createDirectories(archivo.getParent());
+        }
+        mapper.writeValue(archivo.toFile(), resultado);
+    }
+
+    /**
+     * Lee una lista completa o el resultado de una búsqueda por IDs (como único elemento).
+     */
+    private List<JsonNode> listar(String ruta) throws Exception {
+        HttpResponse<String> respuesta = cliente.send(get(ruta), HttpResponse.BodyHandlers.ofString());
+        assertEquals(200, respuesta.statusCode(), ruta);
+        List<JsonNode> elementos = new ArrayList<>();
+        mapper.readTree(respuesta.body()).forEach(elementos::add);
+        return elementos;
+    }
+
+    /**
+     * Primeros elementos generados de un controlador, completos, para usarlos como referencias en los cuerpos
+     * que el servicio valida campo por campo (bombero y recurso de una solicitud).
+     */
+    private List<JsonNode> muestra(String ruta, int total) throws Exception {
+        String ids = String.join(",", IntStream.rangeClosed(1, Math.min(MUESTRA, total)).mapToObj(String::valueOf).toList());
+        HttpResponse<String> respuesta = cliente.send(get(ruta + "?ids=" + ids), HttpResponse.BodyHandlers.ofString());
+        assertEquals(200, respuesta.statusCode(), ruta);
+        List<JsonNode> elementos = new ArrayList<>();
+        mapper.readTree(respuesta.body()).get("resultados").forEach(elementos::add);
+        return elementos;
+    }
+
+    private List<Map<String, Integer>> asignaciones() {
+        int primera = azar(SOLICITUDES - LOTE_ASIGNACIONES);
+        List<Map<String, Integer>> asignaciones = new ArrayList<>();
+        for (int i = 0; i < LOTE_ASIGNACIONES; i++) {
+            asignaciones.add(Map.of("solicitudId", primera + i, "recursoId", azar(RECURSOS), "bomberoId", azar(BOMBEROS)));
+        }
+        return asignaciones;
+    }
+
+    private HttpRequest get(String ruta) {
+        return HttpRequest.newBuilder(URI.create(base + ruta)).timeout(Duration.ofSeconds(30)).GET().build();
+    }
+
+    private HttpRequest enviar(String metodo, String ruta, Object cuerpo) {
+        try {
+            return HttpRequest.newBuilder(URI.create(base + ruta)).timeout(Duration.ofSeconds(30))
+                    .header("Content-Type", "application/json")
+                    .method(metodo, cuerpo == null ? HttpRequest.BodyPublishers.noBody()
+                            : HttpRequest.BodyPublishers.ofByteArray(mapper.writeValueAsBytes(cuerpo)))
+                    .build();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Patente única de 6 caracteres para vehículos creados por la prueba: "C" seguida de la secuencia en base 36,
+     * distinta de las del generador masivo, que comienzan con "V".
+     */
+    private static String patente(int numero) {
+        String sufijo = Integer.toString(numero, 36).toUpperCase();
+        return "C" + "0".repeat(Math.max(0, 5 - sufijo.length())) + sufijo;
+    }
+
+    /**
+     * Cantidad única para recursos creados o actualizados (la columna es UNIQUE): descendiendo desde el máximo de
+     * 9 dígitos, lejos de las que reparte el generador masivo para estos volúmenes.
+     */
+    private int cantidad() {
+        return CANTIDAD_MAXIMA - secuencia.incrementAndGet();
+    }
+
+    private static int azar(int maximo) {
+        return 1 + ThreadLocalRandom.current().nextInt(maximo);
+    }
+
+    private static <T> T elegir(List<T> elementos) {
+        return elementos.get(ThreadLocalRandom.current().nextInt(elementos.size()));
+    }
+
+    private static double percentil(long[] ordenadas, int p) {
+        return ordenadas.length == 0 ? 0.0 : redondear(ordenadas[Math.min(ordenadas.length - 1, ordenadas.length * p / 100)] / 1e6);
+    }
+
+    private static double variacion(double anterior, double actual) {
+        return anterior == 0 ? 0 : (actual - anterior) / anterior;
+    }
+
+    private static double redondear(double valor) {
+        return Math.round(valor * 100) / 100.0;
+    }
+}
@@ -0,0 +1,78 @@
+package com.SAFE_Rescue.API_Recursos.benchmark;
+
+import com.SAFE_Rescue.API_Recursos.diario.Diario;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Benchmark del diario: mide registros durables por segundo (cada {@code agregar} espera su {@code fsync})
+ * con distinta cantidad de hilos, y cuántos registros confirma cada sincronización por grupos.
+ * Excluido de la ejecución normal; se ejecuta con {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+public class DiarioBenchmarkTest {
+
+    private static final int REGISTROS = 100_000;
+    private static final int TAMANIO_REGISTRO = 256;
+    private static final int SEGMENTO = 64 * 1024 * 1024;
+
+    @TempDir
+    private Path directorio;
+
+    /**
+     * Mide el rendimiento de agregar con 1 a 64 hilos concurrentes.
+     */
+    @Test
+    public void agregarTest() throws Exception {
+        System.out.printf("%n%-6s %12s %14s %14s %10s%n", "hilos", "registros", "registros/s", "registros/sync", "MB/s");
+        for (int hilos : new int[]{1, 4, 16, 64}) {
+            int porHilo = (hilos == 1 ? REGISTROS / 20 : REGISTROS) / hilos;
+            try (Diario diario = new Diario(directorio.resolve("hilos-" + hilos), SEGMENTO)) {
+                long nanos = ejecutar(diario, hilos, porHilo);
+                Map<String, Object> estadisticas = diario.estadisticas();
+                long total = (long) hilos * porHilo;
+                double segundos = nanos / 1e9;
+                System.out.printf("%-6d %,12d %,14.0f %14s %10.1f%n", hilos, total, total / segundos,
+                        estadisticas.get("registrosPorSincronizacion"),
+                        total * (TAMANIO_REGISTRO + 9) / segundos / (1024 * 1024));
+                assertEquals(total, estadisticas.get("registros"));
+            }
+        }
+    }
+
+    // MÉTODOS AUXILIARES
+
+    private static long ejecutar(Diario diario, int hilos, int porHilo) throws Exception {
+        ExecutorService ejecutor = Executors.newFixedThreadPool(hilos);
+        try {
+            byte[] datos = new byte[TAMANIO_REGISTRO];
+            long inicio = System.nanoTime();
+            List<Future<?>> tareas = new ArrayList<>(hilos);
+            for (int h = 0; h < hilos; h++) {
+                tareas.add(ejecutor.submit(() -> {
+                    for (int i = 0; i < porHilo; i++) {
+                        diario.agregar((byte) 'A', datos);
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> tarea : tareas) {
+                tarea.get();
+            }
+            return System.nanoTime() - inicio;
+        } finally {
+            ejecutor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.SAFE_Rescue.API_Recursos.benchmark;
+
+import com.SAFE_Rescue.API_Recursos.modelo.*;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import net.datafaker.Faker;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.msgpack.jackson.dataformat.MessagePackFactory;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Benchmark de formatos de respuesta: compara tamaño (sin comprimir y con gzip) y CPU de codificación y
+ * decodificación de JSON, Smile, CBOR y MessagePack sobre listas de entidades como las que devuelven los
+ * controladores. Excluido de la ejecución normal; se ejecuta con {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+public class FormatosRespuestaBenchmarkTest {
+
+    private static final int ELEMENTOS = 2_000;
+    private static final int CALENTAMIENTO = 30;
+    private static final int ITERACIONES = 60;
+
+    /**
+     * Mide cada formato sobre las listas de recursos, vehículos y solicitudes.
+     */
+    @Test
+    public void formatosTest() throws Exception {
+        Map<String, ObjectMapper> formatos = new LinkedHashMap<>();
+        formatos.put("json", mapper(new JsonFactory()));
+        formatos.put("smile", mapper(new SmileFactory()));
+        formatos.put("cbor", mapper(new CBORFactory()));
+        formatos.put("msgpack", mapper(new MessagePackFactory()));
+
+        Faker faker = new Faker(Locale.ENGLISH, new Random(42));
+        medir("Recurso", recursos(faker), new TypeReference<List<Recurso>>() {}, formatos);
+        medir("Vehiculo", vehiculos(faker), new TypeReference<List<Vehiculo>>() {}, formatos);
+        medir("SolicitudRecurso", solicitudes(faker), new TypeReference<List<SolicitudRecurso>>() {}, formatos);
+    }
+
+    // MÉTODOS AUXILIARES
+
+    private <T> void medir(String entidad, List<T> datos, TypeReference<List<T>> tipo, Map<String, ObjectMapper> formatos) throws IOException {
+        System.out.printf("%n%s x %,d%n%-8s %12s %12s %8s %14s %14s%n", entidad, datos.size(),
+                "formato", "bytes", "gzip", "gzip %", "codificar us", "decodificar us");
+        for (Map.Entry<String, ObjectMapper> formato : formatos.entrySet()) {
+            ObjectMapper mapper = formato.getValue();
+            byte[] bytes = mapper.writeValueAsBytes(datos);
+            assertEquals(datos, mapper.readValue(bytes, tipo));
+
+            for (int i = 0; i < CALENTAMIENTO; i++) {
+                mapper.readValue(mapper.writeValueAsBytes(datos), tipo);
+            }
+            long inicio = System.nanoTime();
+            for (int i = 0; i < ITERACIONES; i++) {
+                mapper.writeValueAsBytes(datos);
+            }
+            long codificar = (System.nanoTime() - inicio) / ITERACIONES / 1_000;
+            inicio = System.nanoTime();
+            for (int i = 0; i < ITERACIONES; i++) {
+                mapper.readValue(bytes, tipo);
+            }
+            long decodificar = (System.nanoTime() - inicio) / ITERACIONES / 1_000;
+
+            int comprimido = gzip(bytes);
+            System.out.printf("%-8s %,12d %,12d %7.1f%% %,14d %,14d%n", formato.getKey(), bytes.length, comprimido,
+                    100.0 * comprimido / bytes.length, codificar, decodificar);
+        }
+    }
+
+    private static ObjectMapper mapper(JsonFactory factory) {
+        return Jackson2ObjectMapperBuilder.json().factory(factory).build();
+    }
+
+    private static int gzip(byte[] bytes) throws IOException {
+        ByteArrayOutputStream salida = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(salida)) {
+            gzip.write(bytes);
+        }
+        return salida.size();
+    }
+
+    private static List<Recurso> recursos(Faker faker) {
+        List<Recurso> recursos = new ArrayList<>();
+        for (int i = 1; i <= ELEMENTOS; i++) {
+            recursos.add(new Recurso(i, faker.commerce().productName(), faker.number().numberBetween(1, 9999),
+                    Estado.DISPONIBLE, new TipoRecurso(i % 20 + 1, faker.commerce().department())));
+        }
+        return recursos;
+    }
+
+    private static List<Vehiculo> vehiculos(Faker faker) {
+        List<Vehiculo> vehiculos = new ArrayList<>();
+        for (int i = 1; i <= ELEMENTOS; i++) {
+            vehiculos.add(new Vehiculo(i, faker.vehicle().make(), faker.vehicle().model(), String.format("V%05d", i),
+                    faker.name().firstName(), Estado.OPERATIVO, new TipoVehiculo(i % 5 + 1, faker.vehicle().carType())));
+        }
+        return vehiculos;
+    }
+
+    private static List<SolicitudRecurso> solicitudes(Faker faker) {
+        List<Recurso> recursos = recursos(faker);
+        List<SolicitudRecurso> solicitudes = new ArrayList<>();
+        for (int i = 1; i <= ELEMENTOS; i++) {
+            Bombero bombero = new Bombero(i % 100 + 1, faker.name().firstName(), faker.name().lastName(),
+                    faker.name().lastName(), 900_000_000 + i % 100);
+            solicitudes.add(new SolicitudRecurso(i, faker.book().title(), faker.lorem().sentence(20), bombero,
+                    Estado.PENDIENTE, recursos.get(i - 1), null, null));
+        }
+        return solicitudes;
+    }
+}
@@ -0,0 +1,261 @@
+package com.SAFE_Rescue.API_Recursos.benchmark;
+
+import com.SAFE_Rescue.API_Recursos.ApiRecursosApplication;
+import com.SAFE_Rescue.API_Recursos.service.RecursoService;
+import com.SAFE_Rescue.API_Recursos.service.SolicitudRecursoService;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Benchmark del pool de conexiones y de las opciones de lotes del driver: recorre tamaños de pool de HikariCP
+ * y escritura con y sin lotes JDBC, y para cada combinación ejecuta una mezcla de las rutas más usadas de los
+ * servicios (búsqueda por ID de recursos y solicitudes, búsqueda por lote, página de solicitudes y asignación
+ * por lote) desde {@value #HILOS} hilos. Informa operaciones por segundo, latencias p50 y p99 y la p99 de las
+ * escrituras, y al final la combinación con mayor rendimiento y la de menor p99.
+ * <p>
+ * Por defecto usa una base H2 en memoria, donde solo influyen el tamaño del pool y el tamaño de lote de
+ * Hibernate. Con {@code -Dbenchmark.url=jdbc:mysql://...} (y {@code benchmark.usuario}, {@code benchmark.clave})
+ * corre sobre MySQL con el perfil prod y además compara las opciones del driver (sentencias preparadas en el
+ * servidor y en caché, rewriteBatchedStatements). La base indicada se recrea y se carga con el generador masivo.
+ * </p>
+ * Excluido de la ejecución normal; se ejecuta con {@code mvn test -Pbenchmark}.
+ */
+@Tag("benchmark")
+public class PoolConexionesBenchmarkTest {
+
+    private static final int RECURSOS = 20_000;
+    private static final int SOLICITUDES = 20_000;
+    private static final int BOMBEROS = 1_000;
+    private static final int HILOS = 32;
+    private static final int[] POOLS = {4, 8, 16, 32};
+    private static final long CALENTAMIENTO_MS = 2_000;
+    private static final long MEDICION_MS = 5_000;
+    private static final int LOTE_IDS = 50;
+    private static final int LOTE_ASIGNACIONES = 20;
+
+    private static final String URL = System.getProperty("benchmark.url", "jdbc:h2:mem:pool_conexiones;DB_CLOSE_DELAY=-1");
+    private static final boolean MYSQL = URL.startsWith("jdbc:mysql:");
+
+    /**
+     * Combinación de pool y opciones de lotes a medir.
+     */
+    private record Configuracion(int pool, boolean lotes, boolean cacheSentencias) {
+
+        String nombre() {
+            return "pool=" + pool + (lotes ? " lotes" : " sin-lotes") + (MYSQL ? (cacheSentencias ? " cache" : " sin-cache") : "");
+        }
+
+        List<String> argumentos() {
+            List<String> argumentos = new ArrayList<>(List.of(
+                    "--spring.datasource.hikari.maximum-pool-size=" + pool,
+                    "--spring.datasource.hikari.minimum-idle=" + pool,
+                    "--spring.jpa.properties.hibernate.jdbc.batch_size=" + (lotes ? 50 : 1)));
+            if (MYSQL) {
+                String propiedades = "--spring.datasource.hikari.data-source-properties.";
+                argumentos.add(propiedades + "rewriteBatchedStatements=" + lotes);
+                argumentos.add(propiedades + "useServerPrepStmts=" + cacheSentencias);
+                argumentos.add(propiedades + "cachePrepStmts=" + cacheSentencias);
+            }
+            return argumentos;
+        }
+    }
+
+    private enum Operacion { RECURSO_POR_ID, SOLICITUD_POR_ID, LOTE_RECURSOS, PAGINA_SOLICITUDES, ASIGNAR_LOTE }
+
+    /**
+     * Recorre todas las combinaciones sobre la misma base de datos, cargada una sola vez.
+     */
+    @Test
+    public void poolConexionesTest() throws Exception {
+        cargarDatos();
+
+        List<Configuracion> configuraciones = new ArrayList<>();
+        for (int pool : POOLS) {
+            for (boolean lotes : new boolean[]{false, true}) {
+                if (MYSQL) {
+                    configuraciones.add(new Configuracion(pool, lotes, false));
+                }
+                configuraciones.add(new Configuracion(pool, lotes, true));
+            }
+        }
+
+        System.out.printf("%n%-28s %10s %9s %9s %13s %8s%n", "configuración", "ops/s", "p50 ms", "p99 ms", "p99 escr. ms", "errores");
+        Configuracion mejorRendimiento = null;
+        Configuracion mejorLatencia = null;
+        double maximo = 0;
+        double minimo = Double.MAX_VALUE;
+        for (Configuracion configuracion : configuraciones) {
+            try (ConfigurableApplicationContext contexto = iniciar(configuracion.argumentos(), false)) {
+                medir(contexto, CALENTAMIENTO_MS);
+                Resultado resultado = medir(contexto, MEDICION_MS);
+                double opsPorSegundo = resultado.operaciones() / (MEDICION_MS / 1e3);
+                System.out.printf("%-28s %,10.0f %9.2f %9.2f %13.2f %8d%n", configuracion.nombre(), opsPorSegundo,
+                        resultado.percentil(resultado.todas(), 50), resultado.percentil(resultado.todas(), 99),
+                        resultado.percentil(resultado.escrituras(), 99), resultado.errores());
+                assertEquals(0, resultado.errores(), configuracion.nombre());
+                if (opsPorSegundo > maximo) {
+                    maximo = opsPorSegundo;
+                    mejorRendimiento = configuracion;
+                }
+                double p99 = resultado.percentil(resultado.todas(), 99);
+                if (p99 < minimo) {
+                    minimo = p99;
+                    mejorLatencia = configuracion;
+                }
+            }
+        }
+        System.out.printf("%nMayor rendimiento: %s (%,.0f ops/s)%nMenor p99: %s (%.2f ms)%n",
+                mejorRendimiento.nombre(), maximo, mejorLatencia.nombre(), minimo);
+    }
+
+    // MÉTODOS AUXILIARES
+
+    private record Resultado(long operaciones, long[] todas, long[] escrituras, int errores) {
+
+        double percentil(long[] latencias, int p) {
+            return latencias.length == 0 ? 0 : latencias[Math.min(latencias.length - 1, latencias.length * p / 100)] / 1e6;
+        }
+    }
+
+    private static void cargarDatos() {
+        List<String> argumentos = new ArrayList<>(List.of(
+                "--spring.jpa.hibernate.ddl-auto=create",
+                "--app.seed.modo=masivo",
+                "--app.seed.tipos-recurso=20",
+                "--app.seed.tipos-vehiculo=10",
+                "--app.seed.bomberos=" + BOMBEROS,
+                "--app.seed.recursos=" + RECURSOS,
+                "--app.seed.vehiculos=1000",
+                "--app.seed.solicitudes=" + SOLICITUDES));
+        iniciar(argumentos, true).close();
+    }
+
+    /**
+     * Levanta la aplicación sin servidor web. En H2 usa el perfil dev con la URL del benchmark; en MySQL, el perfil
+     * prod (la carga de datos necesita además el perfil dev, que es el que registra DataLoader).
+     */
+    private static ConfigurableApplicationContext iniciar(List<String> configuracion, boolean cargarDatos) {
+        List<String> argumentos = new ArrayList<>(List.of(
+                "--spring.main.web-application-type=none",
+                "--logging.level.root=WARN",
+                "--spring.jpa.show-sql=false",
+                "--spring.datasource.url=" + URL,
+                "--spring.datasource.username=" + System.getProperty("benchmark.usuario", MYSQL ? "root" : "sa"),
+                "--spring.datasource.password=" + System.getProperty("benchmark.clave", ""),
+                "--spring.jpa.properties.hibernate.dialect=" + (MYSQL ? "org.hibernate.dialect.MySQL8Dialect" : "org.hibernate.dialect.H2Dialect")));
+        if (MYSQL) {
+            argumentos.add("--spring.profiles.active=" + (cargarDatos ? "prod,dev" : "prod"));
+        } else if (!cargarDatos) {
+            argumentos.add("--spring.jpa.hibernate.ddl-auto=none");
+        }
+        argumentos.addAll(configuracion);
+        return new SpringApplicationBuilder(ApiRecursosApplication.class).run(argumentos.toArray(String[]::new));
+    }
+
+    /**
+     * Ejecuta la mezcla de operaciones durante el tiempo indicado. Cada hilo asigna solo solicitudes de su propio
+     * tramo de IDs, para medir el pool y los lotes y no la espera por bloqueos de filas.
+     */
+    private static Resultado medir(ConfigurableApplicationContext contexto, long milisegundos) throws Exception {
+        RecursoService recursoService = contexto.getBean(RecursoService.class);
+        SolicitudRecursoService solicitudRecursoService = contexto.getBean(SolicitudRecursoService.class);
+        long fin = System.nanoTime() + milisegundos * 1_000_000;
+        ExecutorService ejecutor = Executors.newFixedThreadPool(HILOS);
+        try {
+            List<Future<long[][]>> hilos = new ArrayList<>();
+            for (int h = 0; h < HILOS; h++) {
+                int tramo = SOLICITUDES / HILOS;
+                int desde = 1 + h * tramo;
+                hilos.add(ejecutor.submit(() -> {
+                    long[] todas = new long[1 << 17];
+                    long[] escrituras = new long[1 << 15];
+                    int cantidad = 0;
+                    int cantidadEscrituras = 0;
+                    int errores = 0;
+                    ThreadLocalRandom aleatorio = ThreadLocalRandom.current();
+                    while (System.nanoTime() < fin && cantidad < todas.length && cantidadEscrituras < escrituras.length) {
+                        Operacion operacion = elegir(aleatorio.nextInt(100));
+                        long inicio = System.nanoTime();
+                        try {
+                            switch (operacion) {
+                                case RECURSO_POR_ID -> recursoService.findById(1 + aleatorio.nextInt(RECURSOS));
+                                case SOLICITUD_POR_ID -> solicitudRecursoService.findById(1 + aleatorio.nextInt(SOLICITUDES));
+                                case LOTE_RECURSOS -> recursoService.findAllById(aleatorio.ints(LOTE_IDS, 1, RECURSOS + 1).boxed().toList());
+                                case PAGINA_SOLICITUDES -> solicitudRecursoService.listar(null, aleatorio.nextInt(20), 50);
+                                case ASIGNAR_LOTE -> {
+                                    List<SolicitudRecursoService.Asignacion> asignaciones = new ArrayList<>();
+                                    int primera = desde + aleatorio.nextInt(tramo - LOTE_ASIGNACIONES);
+                                    for (int i = 0; i < LOTE_ASIGNACIONES; i++) {
+                                        asignaciones.add(new SolicitudRecursoService.Asignacion(primera + i,
+                                                1 + aleatorio.nextInt(RECURSOS), 1 + aleatorio.nextInt(BOMBEROS)));
+                                    }
+                                    solicitudRecursoService.asignarLote(asignaciones);
+                                }
+                            }
+                        } catch (RuntimeException e) {
+                            errores++;
+                        }
+                        long latencia = System.nanoTime() - inicio;
+                        todas[cantidad++] = latencia;
+                        if (operacion == Operacion.ASIGNAR_LOTE) {
+                            escrituras[cantidadEscrituras++] = latencia;
+                        }
+                    }
+                    return new long[][]{Arrays.copyOf(todas, cantidad), Arrays.copyOf(escrituras, cantidadEscrituras), {errores}};
+                }));
+            }
+            List<long[]> todas = new ArrayList<>();
+            List<long[]> escrituras = new ArrayList<>();
+            int errores = 0;
+            for (Future<long[][]> hilo : hilos) {
+                long[][] parcial = hilo.get();
+                todas.add(parcial[0]);
+                escrituras.add(parcial[1]);
+                errores += (int) parcial[2][0];
+            }
+            long[] unidas = unir(todas);
+            return new Resultado(unidas.length, unidas, unir(escrituras), errores);
+        } finally {
+            ejecutor.shutdownNow();
+        }
+    }
+
+    /**
+     * Mezcla: 40% recurso por ID, 25% solicitud por ID, 15% lote de recursos, 10% página y 10% asignación por lote.
+     */
+    private static Operacion elegir(int porcentaje) {
+        if (porcentaje < 40) {
+            return Operacion.RECURSO_POR_ID;
+        }
+        if (porcentaje < 65) {
+            return Operacion.SOLICITUD_POR_ID;
+        }
+        if (porcentaje < 80) {
+            return Operacion.LOTE_RECURSOS;
+        }
+        return porcentaje < 90 ? Operacion.PAGINA_SOLICITUDES : Operacion.ASIGNAR_LOTE;
+    }
+
+    private static long[] unir(List<long[]> partes) {
+        long[] unidas = new long[partes.stream().mapToInt(parte -> parte.length).sum()];
+        int posicion = 0;
+        for (long[] parte : partes) {
+            System.arraycopy(parte, 0, unidas, posicion, parte.length);
+            posicion += parte.length;
+        }
+        Arrays.sort(unidas);
+        return unidas;
+    }
+}
@@ -0,0 +1,49 @@
+package com.SAFE_Rescue.API_Recursos.config;
+
+import com.SAFE_Rescue.API_Recursos.modelo.Estado;
+import com.SAFE_Rescue.API_Recursos.modelo.EstadoConverter;
+import com.SAFE_Rescue.API_Recursos.modelo.Recurso;
+import com.SAFE_Rescue.API_Recursos.modelo.SolicitudRecurso;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Clase de pruebas unitarias para PistasNativas.
+ * Verifica que los tipos usados por reflexión en la imagen nativa quedan registrados.
+ */
+public class PistasNativasTest {
+
+    private RuntimeHints hints;
+
+    /**
+     * Configura el entorno de pruebas antes de cada prueba.
+     */
+    @BeforeEach
+    public void setUp() {
+        hints = new RuntimeHints();
+        new PistasNativas().registerHints(hints, getClass().getClassLoader());
+    }
+
+    /**
+     * Prueba que verifica las pistas de reflexión de los accesores de las entidades.
+     */
+    @Test
+    public void registerHintsTest_Entidades() throws Exception {
+        assertTrue(RuntimeHintsPredicates.reflection().onMethod(Recurso.class.getMethod("getCantidad")).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onMethod(SolicitudRecurso.class.getMethod("setRecurso", Recurso.class)).test(hints));
+    }
+
+    /**
+     * Prueba que verifica las pistas del catálogo de estados y su convertidor JPA.
+     */
+    @Test
+    public void registerHintsTest_Estado() throws Exception {
+        assertTrue(RuntimeHintsPredicates.reflection().onMethod(Estado.class.getMethod("desdeEtiqueta", String.class)).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onConstructor(EstadoConverter.class.getConstructor()).test(hints));
+        assertTrue(RuntimeHintsPredicates.resource().forResource("META-INF/resources/webjars/swagger-ui/5.2.0/index.html").test(hints));
+    }
+}
@@ -0,0 +1,88 @@
+package com.SAFE_Rescue.API_Recursos.controller;
+
+import com.SAFE_Rescue.API_Recursos.excepcion.CodigoError;
+import com.SAFE_Rescue.API_Recursos.excepcion.DatosInvalidosException;
+import com.SAFE_Rescue.API_Recursos.modelo.Bombero;
+import com.SAFE_Rescue.API_Recursos.service.BomberoService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Clase de prueba para el controlador BomberoController.
+ * Verifica las búsquedas de bomberos por ID, teléfono y nombre.
+ */
+@WebMvcTest(BomberoController.class)
+public class BomberoControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private BomberoService bomberoService;
+
+    private final Bombero bombero = new Bombero(1, "Juan", "Pérez", "García", 911111111);
+
+    /**
+     * Prueba que verifica la búsqueda de un bombero por ID.
+     */
+    @Test
+    public void buscarBomberoTest() throws Exception {
+        // Arrange
+        when(bomberoService.findById(1)).thenReturn(bombero);
+        when(bomberoService.findById(2)).thenThrow(new NoSuchElementException());
+
+        // Act & Assert
+        mockMvc.perform(get("/api-recursos/v1/bomberos/1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.nombre").value("Juan"));
+        mockMvc.perform(get("/api-recursos/v1/bomberos/2"))
+                .andExpect(status().isNotFound());
+    }
+
+    /**
+     * Prueba que verifica la búsqueda de un bombero por teléfono.
+     */
+    @Test
+    public void buscarPorTelefonoTest() throws Exception {
+        // Arrange
+        when(bomberoService.findByTelefono(911111111)).thenReturn(bombero);
+        when(bomberoService.findByTelefono(900000000)).thenThrow(new NoSuchElementException());
+
+        // Act & Assert
+        mockMvc.perform(get("/api-recursos/v1/bomberos/telefono/911111111"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(1));
+        mockMvc.perform(get("/api-recursos/v1/bomberos/telefono/900000000"))
+                .andExpect(status().isNotFound());
+    }
+
+    /**
+     * Prueba que verifica la búsqueda por nombre, sin resultados y con parámetros inválidos.
+     */
+    @Test
+    public void buscarTest() throws Exception {
+        // Arrange
+        when(bomberoService.buscar("perez", 20)).thenReturn(List.of(bombero));
+        when(bomberoService.buscar("nadie", 20)).thenReturn(List.of());
+        when(bomberoService.buscar("perez", 0)).thenThrow(new DatosInvalidosException(CodigoError.DATOS_INVALIDOS, "El límite debe estar entre 1 y 100"));
+
+        // Act & Assert
+        mockMvc.perform(get("/api-recursos/v1/bomberos").param("q", "perez"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].telefono").value(911111111));
+        mockMvc.perform(get("/api-recursos/v1/bomberos").param("q", "nadie"))
+                .andExpect(status().isNoContent());
+        mockMvc.perform(get("/api-recursos/v1/bomberos").param("q", "perez").param("limite", "0"))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,105 @@
+package com.SAFE_Rescue.API_Recursos.controller;
+
+import com.SAFE_Rescue.API_Recursos.modelo.DemandaRecurso;
+import com.SAFE_Rescue.API_Recursos.modelo.Granularidad;
+import com.SAFE_Rescue.API_Recursos.service.DemandaRecursoService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Clase de prueba para el controlador DemandaRecursoController.
+ * Verifica la consulta de la demanda agregada y la ejecución manual de la agregación.
+ */
+@WebMvcTest(DemandaRecursoController.class)
+public class DemandaRecursoControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private DemandaRecursoService demandaRecursoService;
+
+    /**
+     * Prueba que verifica la consulta de la demanda diaria de un tipo de recurso.
+     * Asegura que se devuelve un estado 200 OK con los intervalos.
+     */
+    @Test
+    public void demandaTest() throws Exception {
+        // Arrange
+        Instant desde = Instant.parse("2025-05-01T00:00:00Z");
+        Instant hasta = Instant.parse("2025-05-31T00:00:00Z");
+        when(demandaRecursoService.buscar(Granularidad.DIA, 3, desde, hasta)).thenReturn(List.of(
+                new DemandaRecurso(1L, Granularidad.DIA, Instant.parse("2025-05-10T00:00:00Z"), 3, 42L)));
+
+        // Act & Assert
+        mockMvc.perform(get("/api-recursos/v1/demanda-recursos")
+                        .param("granularidad", "DIA")
+                        .param("tipoRecursoId", "3")
+                        .param("desde", desde.toString())
+                        .param("hasta", hasta.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].inicio").value("2025-05-10T00:00:00Z"))
+                .andExpect(jsonPath("$[0].tipoRecursoId").value(3))
+                .andExpect(jsonPath("$[0].solicitudes").value(42));
+    }
+
+    /**
+     * Prueba que verifica la ejecución manual de la agregación.
+     * Asegura que se devuelve un estado 200 OK con la cantidad de solicitudes procesadas.
+     */
+    @Test
+    public void agregarTest() throws Exception {
+        // Arrange
+        when(demandaRecursoService.agregar()).thenReturn(17);
+
+        // Act & Assert
+        mockMvc.perform(post("/api-recursos/v1/demanda-recursos/agregar"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.procesadas").value(17));
+    }
+
+    // ERRORES
+
+    /**
+     * Prueba que verifica el comportamiento cuando no hay demanda en el rango.
+     * Asegura que se devuelve un estado 204 NO CONTENT.
+     */
+    @Test
+    public void demandaTest_SinDemanda() throws Exception {
+        // Arrange
+        when(demandaRecursoService.buscar(eq(Granularidad.HORA), isNull(), any(Instant.class), any(Instant.class)))
+                .thenReturn(Collections.emptyList());
+
+        // Act & Assert
+        mockMvc.perform(get("/api-recursos/v1/demanda-recursos"))
+                .andExpect(status().isNoContent());
+    }
+
+    /**
+     * Prueba que verifica el rechazo de una granularidad desconocida o un rango invertido.
+     * Asegura que se devuelve un estado 400 BAD REQUEST.
+     */
+    @Test
+    public void demandaTest_ParametrosInvalidos() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api-recursos/v1/demanda-recursos").param("granularidad", "SEMANA"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api-recursos/v1/demanda-recursos")
+                        .param("desde", "2025-05-02T00:00:00Z")
+                        .param("hasta", "2025-05-01T00:00:00Z"))
+                .andExpect(status().isBadRequest());
+        verifyNoInteractions(demandaRecursoService);
+    }
+}
@@ -0,0 +1,187 @@
+package com.SAFE_Rescue.API_Recursos.controller;
+
+import com.SAFE_Rescue.API_Recursos.excepcion.CodigoError;
+import com.SAFE_Rescue.API_Recursos.excepcion.DatosInvalidosException;
+import com.SAFE_Rescue.API_Recursos.excepcion.NoEncontradoException;
+import com.SAFE_Rescue.API_Recursos.service.TipoRecursoService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Clase de prueba para ManejadorErrores.
+ * Verifica la traducción de excepciones a respuestas de error estructuradas, los contadores por código
+ * y que las excepciones de dominio no capturan la traza de la pila.
+ */
+@WebMvcTest(TipoRecursoController.class)
+public class ManejadorErroresTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ManejadorErrores manejadorErrores;
+
+    @MockitoBean
+    private TipoRecursoService tipoRecursoService;
+
+    /**
+     * Prueba que verifica que una excepción de dominio se responde con su código, título, detalle e instancia.
+     */
+    @Test
+    public void noEncontradoTest() throws Exception {
+        // Arrange
+        when(tipoRecursoService.findById(7))
+                .thenThrow(new NoEncontradoException(CodigoError.TIPO_RECURSO_NO_ENCONTRADO, "Tipo de recursos no encontrado con ID: 7"));
+
+        // Act & Assert
+        mockMvc.perform(get("/api-recursos/v1/tipos-recursos/{id}", 7))
+                .andExpect(status().isNotFound())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_PROBLEM_JSON))
+                .andExpect(jsonPath("$.status").value(404))
+                .andExpect(jsonPath("$.title").value("Tipo de recurso no encontrado"))
+                .andExpect(jsonPath("$.detail").value("Tipo de recursos no encontrado con ID: 7"))
+                .andExpect(jsonPath("$.instance").value("/api-recursos/v1/tipos-recursos/7"))
+                .andExpect(jsonPath("$.codigo").value("TIPO_RECURSO_NO_ENCONTRADO"));
+    }
+
+    /**
+     * Prueba que verifica que las excepciones estándar sin código se clasifican por su tipo.
+     */
+    @Test
+    public void excepcionesEstandarTest() throws Exception {
+        // Arrange
+        when(tipoRecursoService.findById(1)).thenThrow(new NoSuchElementException("No existe"));
+        doThrow(new DatosInvalidosException(CodigoError.DATOS_INVALIDOS, "Nombre inválido")).when(tipoRecursoService).delete(2);
+        doThrow(new DataIntegrityViolationException("Duplicate entry")).when(tipoRecursoService).delete(3);
+
+        // Act & Assert
+        mockMvc.perform(get("/api-recursos/v1/tipos-recursos/{id}", 1))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.codigo").value("NO_ENCONTRADO"));
+        mockMvc.perform(delete("/api-recursos/v1/tipos-recursos/{id}", 2))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.codigo").value("DATOS_INVALIDOS"))
+                .andExpect(jsonPath("$.detail").value("Nombre inválido"));
+        mockMvc.perform(delete("/api-recursos/v1/tipos-recursos/{id}", 3))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.codigo").value("CONFLICTO_DATOS"));
+    }
+
+    /**
+     * Prueba que verifica que un error inesperado responde 500 sin exponer su mensaje.
+     */
+    @Test
+    public void errorInternoTest() throws Exception {
+        // Arrange
+        when(tipoRecursoService.findAll()).thenThrow(new IllegalStateException("Conexión rechazada por db-01"));
+
+        // Act & Assert
+        mockMvc.perform(get("/api-recursos/v1/tipos-recursos"))
+                .andExpect(status().isInternalServerError())
+                .andExpect(jsonPath("$.codigo").value("ERROR_INTERNO"))
+                .andExpect(jsonPath("$.detail").value("Error interno del servidor."));
+    }
+
+    /**
+     * Prueba que verifica que una ResponseStatusException conserva su estado en lugar de responder 500.
+     */
+    @Test
+    public void respuestaHttpTest_ConservaEstado() throws Exception {
+        // Arrange
+        when(tipoRecursoService.findById(6)).thenThrow(new ResponseStatusException(HttpStatus.CONFLICT, "Tipo bloqueado"));
+
+        // Act & Assert
+        mockMvc.perform(get("/api-recursos/v1/tipos-recursos/{id}", 6))
+                .andExpect(status().isConflict())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_PROBLEM_JSON))
+                .andExpect(jsonPath("$.status").value(409))
+                .andExpect(jsonPath("$.detail").value("Tipo bloqueado"))
+                .andExpect(jsonPath("$.instance").value("/api-recursos/v1/tipos-recursos/6"));
+    }
+
+    /**
+     * Prueba que verifica que una IllegalArgumentException ajena a las validaciones (por ejemplo, de Spring Data
+     * o Hibernate) responde 500 sin exponer su mensaje.
+     */
+    @Test
+    public void errorInternoTest_IllegalArgumentDelFramework() throws Exception {
+        // Arrange
+        when(tipoRecursoService.findById(4)).thenThrow(new IllegalArgumentException("The given id must not be null"));
+
+        // Act & Assert
+        mockMvc.perform(get("/api-recursos/v1/tipos-recursos/{id}", 4))
+                .andExpect(status().isInternalServerError())
+                .andExpect(jsonPath("$.codigo").value("ERROR_INTERNO"))
+                .andExpect(jsonPath("$.detail").value("Error interno del servidor."));
+    }
+
+    /**
+     * Prueba que verifica que un cuerpo ilegible o un parámetro con tipo incorrecto responden 400.
+     */
+    @Test
+    public void solicitudMalformadaTest() throws Exception {
+        // Act & Assert
+        mockMvc.perform(post("/api-recursos/v1/tipos-recursos")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"nombre\":"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.codigo").value("SOLICITUD_MALFORMADA"));
+        mockMvc.perform(get("/api-recursos/v1/tipos-recursos/{id}", "abc"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.codigo").value("SOLICITUD_MALFORMADA"))
+                .andExpect(jsonPath("$.detail").value("Valor inválido para el parámetro id: abc"));
+        verify(tipoRecursoService, never()).save(any());
+    }
+
+    /**
+     * Prueba que verifica que cada respuesta de error incrementa el contador de su código.
+     */
+    @Test
+    public void estadisticasTest() throws Exception {
+        // Arrange
+        long antes = noEncontrados();
+        when(tipoRecursoService.findById(5)).thenThrow(new NoEncontradoException(CodigoError.NO_ENCONTRADO, "No existe"));
+
+        // Act
+        mockMvc.perform(get("/api-recursos/v1/tipos-recursos/{id}", 5));
+        mockMvc.perform(get("/api-recursos/v1/tipos-recursos/{id}", 5));
+
+        // Assert
+        assertEquals(antes + 2, noEncontrados());
+    }
+
+    /**
+     * Prueba que verifica que las excepciones de dominio no capturan la traza de la pila.
+     */
+    @Test
+    public void trazaTest() {
+        // Act
+        DatosInvalidosException error = new DatosInvalidosException(CodigoError.DATOS_INVALIDOS, "Dato inválido");
+
+        // Assert
+        assertEquals(0, error.getStackTrace().length);
+        assertEquals(CodigoError.DATOS_INVALIDOS, error.getCodigo());
+        assertInstanceOf(IllegalArgumentException.class, error);
+    }
+
+    @SuppressWarnings("unchecked")
+    private long noEncontrados() {
+        return ((Map<String, Long>) manejadorErrores.estadisticas().get("porCodigo")).get("NO_ENCONTRADO");
+    }
+}
@@ -0,0 +1,189 @@
+package com.SAFE_Rescue.API_Recursos.controller;
+
+import com.SAFE_Rescue.API_Recursos.config.ReporteArranque;
+import com.SAFE_Rescue.API_Recursos.instrumentacion.RegistroSentencias;
+import com.SAFE_Rescue.API_Recursos.invalidacion.BusInvalidacion;
+import com.SAFE_Rescue.API_Recursos.service.BomberoService;
+import com.SAFE_Rescue.API_Recursos.service.HistorialRecursoService;
+import com.SAFE_Rescue.API_Recursos.service.IngestaSolicitudService;
+import com.SAFE_Rescue.API_Recursos.service.RecursoService;
+import com.SAFE_Rescue.API_Recursos.service.SolicitudRecursoService;
+import com.SAFE_Rescue.API_Recursos.service.VehiculoService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Map;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Clase de prueba para el controlador MetricasController.
+ * Verifica que las métricas internas de los servicios se exponen correctamente.
+ */
+@WebMvcTest(MetricasController.class)
+public class MetricasControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private RecursoService recursoService;
+
+    @MockitoBean
+    private VehiculoService vehiculoService;
+
+    @MockitoBean
+    private SolicitudRecursoService solicitudRecursoService;
+
+    @MockitoBean
+    private HistorialRecursoService historialRecursoService;
+
+    @MockitoBean
+    private IngestaSolicitudService ingestaSolicitudService;
+
+    @MockitoBean
+    private BomberoService bomberoService;
+
+    @MockitoBean
+    private ReporteArranque reporteArranque;
+
+    @MockitoBean
+    private BusInvalidacion busInvalidacion;
+
+    @MockitoBean
+    private RegistroSentencias registroSentencias;
+
+    /**
+     * Prueba que verifica la obtención de las métricas de coalescencia.
+     * Asegura que se devuelve un estado 200 OK con las métricas de cada servicio.
+     */
+    @Test
+    public void coalescenciaTest() throws Exception {
+        // Arrange
+        when(recursoService.estadisticasCoalescencia()).thenReturn(Map.of("llamadas", 10, "coalescidas", 4));
+        when(vehiculoService.estadisticasCoalescencia()).thenReturn(Map.of("llamadas", 3, "coalescidas", 0));
+        when(solicitudRecursoService.estadisticasCoalescencia()).thenReturn(Map.of("llamadas", 0, "coalescidas", 0));
+
+        // Act & Assert
+        mockMvc.perform(get("/api-recursos/v1/metricas/coalescencia"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.recursos.coalescidas").value(4))
+                .andExpect(jsonPath("$.vehiculos.llamadas").value(3))
+                .andExpect(jsonPath("$.solicitudesRecursos.llamadas").value(0));
+    }
+
+    /**
+     * Prueba que verifica la obtención del reporte de arranque.
+     * Asegura que se devuelve un estado 200 OK con los tiempos registrados.
+     */
+    @Test
+    public void arranqueTest() throws Exception {
+        // Arrange
+        when(reporteArranque.reporte()).thenReturn(Map.of("disponible", true, "arranqueMs", 1500));
+
+        // Act & Assert
+        mockMvc.perform(get("/api-recursos/v1/metricas/arranque"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.disponible").value(true))
+                .andExpect(jsonPath("$.arranqueMs").value(1500));
+    }
+
+    /**
+     * Prueba que verifica la obtención de las métricas del historial de recursos.
+     * Asegura que se devuelve un estado 200 OK con los contadores de escritura.
+     */
+    @Test
+    public void historialTest() throws Exception {
+        // Arrange
+        when(historialRecursoService.estadisticas()).thenReturn(Map.of("registrados", 12, "escritos", 10, "pendientes", 2));
+
+        // Act & Assert
+        mockMvc.perform(get("/api-recursos/v1/metricas/historial"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.escritos").value(10))
+                .andExpect(jsonPath("$.pendientes").value(2));
+    }
+
+    /**
+     * Prueba que verifica la obtención de las métricas de la ingesta asíncrona.
+     * Asegura que se devuelve un estado 200 OK con los contadores de la ingesta.
+     */
+    @Test
+    public void ingestaTest() throws Exception {
+        // Arrange
+        when(ingestaSolicitudService.estadisticas()).thenReturn(Map.of("activa", true, "aceptadas", 250, "saturadas", 3));
+
+        // Act & Assert
+        mockMvc.perform(get("/api-recursos/v1/metricas/ingesta"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.aceptadas").value(250))
+                .andExpect(jsonPath("$.saturadas").value(3));
+    }
+
+    /**
+     * Prueba que verifica la obtención de las métricas del directorio de bomberos.
+     */
+    @Test
+    public void bomberosTest() throws Exception {
+        // Arrange
+        when(bomberoService.estadisticas()).thenReturn(Map.of("tamanio", 40, "aciertos", 900, "consultasBaseDatos", 1));
+
+        // Act & Assert
+        mockMvc.perform(get("/api-recursos/v1/metricas/bomberos"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.aciertos").value(900))
+                .andExpect(jsonPath("$.consultasBaseDatos").value(1));
+    }
+
+    /**
+     * Prueba que verifica que las métricas de errores cuentan las respuestas de error por código.
+     */
+    @Test
+    public void erroresTest() throws Exception {
+        // Arrange
+        when(bomberoService.estadisticas()).thenThrow(new IllegalStateException("Directorio no disponible"));
+        mockMvc.perform(get("/api-recursos/v1/metricas/bomberos"))
+                .andExpect(status().isInternalServerError());
+
+        // Act & Assert
+        mockMvc.perform(get("/api-recursos/v1/metricas/errores"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.porCodigo.ERROR_INTERNO").value(1))
+                .andExpect(jsonPath("$.porCodigo.NO_ENCONTRADO").value(0));
+    }
+
+    /**
+     * Prueba que verifica la obtención de las métricas del bus de invalidación.
+     */
+    @Test
+    public void invalidacionTest() throws Exception {
+        // Arrange
+        when(busInvalidacion.estadisticas()).thenReturn(Map.of("publicadas", 7, "aplicadas", 5, "descartadas", 1));
+
+        // Act & Assert
+        mockMvc.perform(get("/api-recursos/v1/metricas/invalidacion"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.publicadas").value(7))
+                .andExpect(jsonPath("$.descartadas").value(1));
+    }
+
+    /**
+     * Prueba que verifica la obtención del reporte de sentencias SQL.
+     */
+    @Test
+    public void sqlTest() throws Exception {
+        // Arrange
+        when(registroSentencias.estadisticas()).thenReturn(Map.of("habilitado", true, "ejecuciones", 42, "posiblesN1", 1));
+
+        // Act & Assert
+        mockMvc.perform(get("/api-recursos/v1/metricas/sql"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.ejecuciones").value(42))
+                .andExpect(jsonPath("$.posiblesN1").value(1));
+    }
+}
@@ -0,0 +1,362 @@
+package com.SAFE_Rescue.API_Recursos.controller;
+
+import com.SAFE_Rescue.API_Recursos.instrumentacion.PresupuestoSql;
+import com.SAFE_Rescue.API_Recursos.modelo.Bombero;
+import com.SAFE_Rescue.API_Recursos.modelo.Estado;
+import com.SAFE_Rescue.API_Recursos.modelo.Recurso;
+import com.SAFE_Rescue.API_Recursos.modelo.SolicitudRecurso;
+import com.SAFE_Rescue.API_Recursos.modelo.TipoRecurso;
+import com.SAFE_Rescue.API_Recursos.modelo.TipoVehiculo;
+import com.SAFE_Rescue.API_Recursos.modelo.Vehiculo;
+import com.SAFE_Rescue.API_Recursos.repository.BomberoRepository;
+import com.SAFE_Rescue.API_Recursos.repository.RecursoRepository;
+import com.SAFE_Rescue.API_Recursos.repository.SolicitudRecursoRepository;
+import com.SAFE_Rescue.API_Recursos.repository.TipoRecursoRepository;
+import com.SAFE_Rescue.API_Recursos.repository.TipoVehiculoRepository;
+import com.SAFE_Rescue.API_Recursos.repository.VehiculoRepository;
+import com.SAFE_Rescue.API_Recursos.service.SolicitudRecursoService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Clase de pruebas de integración con el presupuesto de sentencias SQL de cada endpoint.
+ * Llama a los controladores con MockMvc sobre la base de datos de pruebas y falla si un endpoint ejecuta más
+ * sentencias que las declaradas con {@link PresupuestoSql}, como ocurre al agregar una asociación que se carga
+ * fila a fila. Los presupuestos de listas no dependen de la cantidad de filas: una lista que crece con los
+ * datos es un N+1. Al cambiar las consultas de un endpoint a propósito, se ajusta aquí su presupuesto.
+ * <p>
+ * Usa una base de datos H2 embebida propia del contexto. Las pruebas no se ejecutan dentro de una transacción
+ * que se revierta, porque la caché de primer nivel de esa transacción ocultaría las consultas que se miden;
+ * en su lugar, cada prueba vacía al terminar las tablas que escribe.
+ * </p>
+ */
+@SpringBootTest(properties = {"app.sql.instrumentacion=true", "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"})
+@AutoConfigureTestDatabase
+@AutoConfigureMockMvc
+public class PresupuestoConsultasTest {
+
+    private static final int LOTE = 20;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TipoRecursoRepository tipoRecursoRepository;
+
+    @Autowired
+    private RecursoRepository recursoRepository;
+
+    @Autowired
+    private TipoVehiculoRepository tipoVehiculoRepository;
+
+    @Autowired
+    private VehiculoRepository vehiculoRepository;
+
+    @Autowired
+    private BomberoRepository bomberoRepository;
+
+    @Autowired
+    private SolicitudRecursoRepository solicitudRecursoRepository;
+
+    private final Random random = new Random();
+    private final List<SolicitudRecurso> solicitudes = new ArrayList<>();
+    private TipoRecurso tipoRecurso;
+    private Recurso recurso;
+    private TipoVehiculo tipoVehiculo;
+    private Vehiculo vehiculo;
+    private Bombero bombero;
+
+    /**
+     * Configura el entorno de pruebas antes de cada prueba.
+     * Crea un registro de cada entidad y un lote de solicitudes con su recurso y bombero, fuera de la medición.
+     */
+    @BeforeEach
+    public void setUp() {
+        tipoRecurso = tipoRecursoRepository.save(new TipoRecurso(null, "Agua"));
+        recurso = recursoRepository.save(new Recurso(null, "Estanque", numero(), Estado.DISPONIBLE, tipoRecurso));
+        tipoVehiculo = tipoVehiculoRepository.save(new TipoVehiculo(null, "Carro bomba"));
+        vehiculo = vehiculoRepository.save(new Vehiculo(null, "Renault", "Midlum", patente(), "Juan Pérez", Estado.OPERATIVO, tipoVehiculo));
+        bombero = bomberoRepository.save(new Bombero(null, "Ana", "Soto", "Rojas", numero()));
+        solicitudes.clear();
+        for (int i = 0; i < LOTE; i++) {
+            Recurso recursoSolicitud = recursoRepository.save(new Recurso(null, "Botiquín " + i, numero(), Estado.DISPONIBLE, tipoRecurso));
+            Bombero bomberoSolicitud = bomberoRepository.save(new Bombero(null, "Luis", "Díaz", "Vera", numero()));
+            solicitudes.add(solicitudRecursoRepository.save(new SolicitudRecurso(null, "Solicitud " + i, "Detalle",
+                    bomberoSolicitud, Estado.PENDIENTE, recursoSolicitud, null, null)));
+        }
+    }
+
+    /**
+     * Elimina las filas creadas por la prueba, incluidas las que crean los endpoints de inserción.
+     */
+    @AfterEach
+    public void tearDown() {
+        solicitudRecursoRepository.deleteAllInBatch();
+        recursoRepository.deleteAllInBatch();
+        bomberoRepository.deleteAllInBatch();
+        vehiculoRepository.deleteAllInBatch();
+        tipoVehiculoRepository.deleteAllInBatch();
+        tipoRecursoRepository.deleteAllInBatch();
+    }
+
+    // RECURSOS
+
+    @Test
+    @PresupuestoSql(1)
+    public void recursosListarTest() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api-recursos/v1/recursos")).andExpect(status().isOk());
+    }
+
+    @Test
+    @PresupuestoSql(1)
+    public void recursosBuscarPorIdsTest() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api-recursos/v1/recursos").param("ids", ids(solicitudes.stream().map(s -> s.getRecurso().getId()).toList())))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @PresupuestoSql(1)
+    public void recursosBuscarTest() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api-recursos/v1/recursos/{id}", recurso.getId())).andExpect(status().isOk());
+    }
+
+    @Test
+    @PresupuestoSql(2)
+    public void recursosAgregarTest() throws Exception {
+        // Act & Assert
+        mockMvc.perform(post("/api-recursos/v1/recursos").contentType(MediaType.APPLICATION_JSON)
+                        .content(json(new Recurso(null, "Manguera", numero(), Estado.DISPONIBLE, tipoRecurso))))
+                .andExpect(status().isCreated());
+    }
+
+    @Test
+    @PresupuestoSql(2)
+    public void recursosActualizarTest() throws Exception {
+        // Act & Assert
+        mockMvc.perform(put("/api-recursos/v1/recursos/{id}", recurso.getId()).contentType(MediaType.APPLICATION_JSON)
+                        .content(json(new Recurso(null, "Estanque grande", numero(), Estado.ACTIVO, tipoRecurso))))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @PresupuestoSql(1)
+    public void recursosAsignarTipoTest() throws Exception {
+        // Act & Assert
+        mockMvc.perform(post("/api-recursos/v1/recursos/{recursoId}/asignar-tipo-recurso/{tipoRecursoId}", recurso.getId(), tipoRecurso.getId()))
+                .andExpect(status().isOk());
+    }
+
+    // VEHÍCULOS
+
+    @Test
+    @PresupuestoSql(1)
+    public void vehiculosListarTest() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api-recursos/v1/vehiculos")).andExpect(status().isOk());
+    }
+
+    @Test
+    @PresupuestoSql(1)
+    public void vehiculosBuscarTest() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api-recursos/v1/vehiculos/{id}", vehiculo.getId())).andExpect(status().isOk());
+    }
+
+    @Test
+    @PresupuestoSql(3)
+    public void vehiculosAgregarTest() throws Exception {
+        // Act & Assert
+        mockMvc.perform(post("/api-recursos/v1/vehiculos").contentType(MediaType.APPLICATION_JSON)
+                        .content(json(new Vehiculo(null, "Iveco", "Eurocargo", patente(), "Pedro Soto", Estado.OPERATIVO, tipoVehiculo))))
+                .andExpect(status().isCreated());
+    }
+
+    // existsByPatente vacía los cambios pendientes antes de consultar: el UPDATE se envía dos veces
+    @Test
+    @PresupuestoSql(4)
+    public void vehiculosActualizarTest() throws Exception {
+        // Act & Assert
+        mockMvc.perform(put("/api-recursos/v1/vehiculos/{id}", vehiculo.getId()).contentType(MediaType.APPLICATION_JSON)
+                        .content(json(new Vehiculo(null, "Renault", "Midlum", patente(), "María Díaz", Estado.EN_MANTENCION, tipoVehiculo))))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @PresupuestoSql(1)
+    public void vehiculosAsignarTipoTest() throws Exception {
+        // Act & Assert
+        mockMvc.perform(post("/api-recursos/v1/vehiculos/{vehiculoId}/asignar-tipo-vehiculo/{tipoVehiculoId}", vehiculo.getId(), tipoVehiculo.getId()))
+                .andExpect(status().isOk());
+    }
+
+    // TIPOS DE RECURSOS Y DE VEHÍCULOS
+
+    @Test
+    @PresupuestoSql(1)
+    public void tiposRecursosListarTest() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api-recursos/v1/tipos-recursos")).andExpect(status().isOk());
+    }
+
+    @Test
+    @PresupuestoSql(2)
+    public void tiposRecursosActualizarTest() throws Exception {
+        // Act & Assert
+        mockMvc.perform(put("/api-recursos/v1/tipos-recursos/{id}", tipoRecurso.getId()).contentType(MediaType.APPLICATION_JSON)
+                        .content(json(new TipoRecurso(null, "Agua potable"))))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @PresupuestoSql(1)
+    public void tiposVehiculosListarTest() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api-recursos/v1/tipos-vehiculos")).andExpect(status().isOk());
+    }
+
+    @Test
+    @PresupuestoSql(1)
+    public void tiposVehiculosAgregarTest() throws Exception {
+        // Act & Assert
+        mockMvc.perform(post("/api-recursos/v1/tipos-vehiculos").contentType(MediaType.APPLICATION_JSON)
+                        .content(json(new TipoVehiculo(null, "Escala"))))
+                .andExpect(status().isCreated());
+    }
+
+    // BOMBEROS
+
+    @Test
+    @PresupuestoSql(1)
+    public void bomberosBuscarTest() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api-recursos/v1/bomberos/{id}", bombero.getId())).andExpect(status().isOk());
+    }
+
+    @Test
+    @PresupuestoSql(1)
+    public void bomberosBuscarPorIdsTest() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api-recursos/v1/bomberos").param("ids", ids(solicitudes.stream().map(s -> s.getBombero().getId()).toList())))
+                .andExpect(status().isOk());
+    }
+
+    // SOLICITUDES DE RECURSOS
+
+    @Test
+    @PresupuestoSql(1)
+    public void solicitudesListarTest() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api-recursos/v1/solicitudes-recursos")).andExpect(status().isOk());
+    }
+
+    @Test
+    @PresupuestoSql(2)
+    public void solicitudesPaginaTest() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api-recursos/v1/solicitudes-recursos/pagina").param("tamanio", "50")).andExpect(status().isOk());
+    }
+
+    @Test
+    @PresupuestoSql(1)
+    public void solicitudesBuscarPorIdsTest() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api-recursos/v1/solicitudes-recursos").param("ids", ids(solicitudes.stream().map(SolicitudRecurso::getId).toList())))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @PresupuestoSql(1)
+    public void solicitudesBuscarTest() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api-recursos/v1/solicitudes-recursos/{id}", solicitudes.get(0).getId())).andExpect(status().isOk());
+    }
+
+    @Test
+    @PresupuestoSql(1)
+    public void solicitudesAgregarTest() throws Exception {
+        // Act & Assert
+        mockMvc.perform(post("/api-recursos/v1/solicitudes-recursos").contentType(MediaType.APPLICATION_JSON)
+                        .content(json(new SolicitudRecurso(null, "Solicitud nueva", "Detalle", bombero, Estado.PENDIENTE, recurso, null, null))))
+                .andExpect(status().isCreated());
+    }
+
+    @Test
+    @PresupuestoSql(2)
+    public void solicitudesActualizarTest() throws Exception {
+        // Act & Assert
+        mockMvc.perform(put("/api-recursos/v1/solicitudes-recursos/{id}", solicitudes.get(0).getId()).contentType(MediaType.APPLICATION_JSON)
+                        .content(json(new SolicitudRecurso(null, "Solicitud editada", "Detalle", bombero, Estado.EN_PROCESO, recurso, null, null))))
+                .andExpect(status().isOk());
+    }
+
+    // Recurso, UPDATE y la relectura de la solicitud con sus relaciones para la respuesta
+    @Test
+    @PresupuestoSql(3)
+    public void solicitudesAsignarRecursoTest() throws Exception {
+        // Act & Assert
+        mockMvc.perform(post("/api-recursos/v1/solicitudes-recursos/{solicitudRecursoId}/asignar-recurso/{recursoId}", solicitudes.get(0).getId(), recurso.getId()))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @PresupuestoSql(3)
+    public void solicitudesAsignarBomberoTest() throws Exception {
+        // Act & Assert
+        mockMvc.perform(post("/api-recursos/v1/solicitudes-recursos/{solicitudRecursoId}/asignar-bombero/{bomberoId}", solicitudes.get(0).getId(), bombero.getId()))
+                .andExpect(status().isOk());
+    }
+
+    // Una consulta IN por entidad y un único UPDATE en lotes, sin importar la cantidad de asignaciones
+    @Test
+    @PresupuestoSql(4)
+    public void solicitudesAsignarLoteTest() throws Exception {
+        // Arrange
+        List<SolicitudRecursoService.Asignacion> asignaciones = solicitudes.stream()
+                .map(solicitud -> new SolicitudRecursoService.Asignacion(solicitud.getId(), recurso.getId(), bombero.getId()))
+                .toList();
+
+        // Act & Assert
+        mockMvc.perform(post("/api-recursos/v1/solicitudes-recursos/asignaciones").contentType(MediaType.APPLICATION_JSON)
+                        .content(json(asignaciones)))
+                .andExpect(status().isOk());
+    }
+
+    // MÉTODOS AUXILIARES
+
+    private String json(Object valor) throws Exception {
+        return objectMapper.writeValueAsString(valor);
+    }
+
+    private static String ids(List<Integer> ids) {
+        return String.join(",", ids.stream().map(String::valueOf).toList());
+    }
+
+    private int numero() {
+        return 100_000_000 + random.nextInt(800_000_000);
+    }
+
+    private String patente() {
+        return "P" + (10_000 + random.nextInt(90_000));
+    }
+}
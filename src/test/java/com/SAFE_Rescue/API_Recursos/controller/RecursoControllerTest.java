@@ -1,23 +1,37 @@
 package com.SAFE_Rescue.API_Recursos.controller;
 
+import com.SAFE_Rescue.API_Recursos.excepcion.CodigoError;
+import com.SAFE_Rescue.API_Recursos.excepcion.DatosInvalidosException;
+import com.SAFE_Rescue.API_Recursos.excepcion.NoEncontradoException;
+import com.SAFE_Rescue.API_Recursos.modelo.Estado;
+import com.SAFE_Rescue.API_Recursos.modelo.HistorialRecurso;
 import com.SAFE_Rescue.API_Recursos.modelo.Recurso;
 import com.SAFE_Rescue.API_Recursos.modelo.TipoRecurso;
+import com.SAFE_Rescue.API_Recursos.service.HistorialRecursoService;
 import com.SAFE_Rescue.API_Recursos.service.RecursoService;
+import com.SAFE_Rescue.API_Recursos.config.MsgPackHttpMessageConverter;
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 import net.datafaker.Faker;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.msgpack.jackson.dataformat.MessagePackFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.Instant;
 import java.util.Collections;
 import java.util.List;
-import java.util.NoSuchElementException;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -36,6 +50,9 @@ public class RecursoControllerTest {
     @MockitoBean
     private RecursoService recursoService;
 
+    @MockitoBean
+    private HistorialRecursoService historialRecursoService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -54,7 +71,7 @@ public class RecursoControllerTest {
         recurso.setId(1);
         recurso.setNombre(faker.commerce().productName());
         recurso.setCantidad(faker.number().numberBetween(1, 100));
-        recurso.setEstado("Activo");
+        recurso.setEstado(Estado.ACTIVO);
         recurso.setTipoRecurso(new TipoRecurso(1, faker.commerce().department()));
         id = recurso.getId();
     }
@@ -74,11 +91,67 @@ public class RecursoControllerTest {
                 .andExpect(jsonPath("$[0].id").value(recurso.getId()))
                 .andExpect(jsonPath("$[0].nombre").value(recurso.getNombre()))
                 .andExpect(jsonPath("$[0].cantidad").value(recurso.getCantidad()))
-                .andExpect(jsonPath("$[0].estado").value(recurso.getEstado()))
+                .andExpect(jsonPath("$[0].estado").value(recurso.getEstado().getEtiqueta()))
                 .andExpect(jsonPath("$[0].tipoRecurso.id").value(recurso.getTipoRecurso().getId()))
                 .andExpect(jsonPath("$[0].tipoRecurso.nombre").value(recurso.getTipoRecurso().getNombre()));
     }
 
+    /**
+     * Prueba que verifica la búsqueda por lista de IDs.
+     * Asegura que los IDs repetidos se consultan una vez y que la respuesta respeta el orden pedido,
+     * con null y en noEncontrados los IDs inexistentes.
+     */
+    @Test
+    public void buscarRecursosTest() throws Exception {
+        // Arrange
+        Recurso otro = new Recurso(3, "Escalera", 5, Estado.DISPONIBLE, recurso.getTipoRecurso());
+        when(recursoService.findAllById(anyCollection())).thenReturn(List.of(recurso, otro));
+
+        // Act & Assert
+        mockMvc.perform(get("/api-recursos/v1/recursos").param("ids", "3,1,99,3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.resultados.length()").value(4))
+                .andExpect(jsonPath("$.resultados[0].id").value(3))
+                .andExpect(jsonPath("$.resultados[1].id").value(1))
+                .andExpect(jsonPath("$.resultados[2]").isEmpty())
+                .andExpect(jsonPath("$.resultados[3].nombre").value("Escalera"))
+                .andExpect(jsonPath("$.noEncontrados").value(99));
+        verify(recursoService, times(1)).findAllById(argThat(ids -> List.copyOf(ids).equals(List.of(3, 1, 99))));
+    }
+
+    /**
+     * Prueba que verifica la negociación de formatos binarios (Smile, CBOR y MessagePack) según el encabezado Accept.
+     * Asegura que cada respuesta usa el tipo de contenido pedido y se decodifica a la misma lista de recursos.
+     */
+    @Test
+    public void listarRecursosTest_FormatosBinarios() throws Exception {
+        // Arrange
+        when(recursoService.findAll()).thenReturn(List.of(recurso));
+        TypeReference<List<Recurso>> tipoLista = new TypeReference<>() {};
+
+        // Act & Assert
+        byte[] smile = mockMvc.perform(get("/api-recursos/v1/recursos").accept("application/x-jackson-smile"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-jackson-smile"))
+                .andReturn().getResponse().getContentAsByteArray();
+        assertEquals(List.of(recurso), new ObjectMapper(new SmileFactory()).readValue(smile, tipoLista));
+
+        byte[] cbor = mockMvc.perform(get("/api-recursos/v1/recursos").accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+        assertEquals(List.of(recurso), new ObjectMapper(new CBORFactory()).readValue(cbor, tipoLista));
+
+        byte[] msgpack = mockMvc.perform(get("/api-recursos/v1/recursos").accept(MsgPackHttpMessageConverter.APPLICATION_MSGPACK))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MsgPackHttpMessageConverter.APPLICATION_MSGPACK))
+                .andReturn().getResponse().getContentAsByteArray();
+        assertEquals(List.of(recurso), new ObjectMapper(new MessagePackFactory()).readValue(msgpack, tipoLista));
+
+        mockMvc.perform(get("/api-recursos/v1/recursos"))
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON));
+    }
+
     /**
      * Prueba que verifica la búsqueda de un recurso existente por su ID.
      * Asegura que se devuelve un estado 200 OK y el recurso encontrado.
@@ -94,7 +167,7 @@ public class RecursoControllerTest {
                 .andExpect(jsonPath("$.id").value(recurso.getId()))
                 .andExpect(jsonPath("$.nombre").value(recurso.getNombre()))
                 .andExpect(jsonPath("$.cantidad").value(recurso.getCantidad()))
-                .andExpect(jsonPath("$.estado").value(recurso.getEstado()))
+                .andExpect(jsonPath("$.estado").value(recurso.getEstado().getEtiqueta()))
                 .andExpect(jsonPath("$.tipoRecurso.id").value(recurso.getTipoRecurso().getId()))
                 .andExpect(jsonPath("$.tipoRecurso.nombre").value(recurso.getTipoRecurso().getNombre()));
     }
@@ -148,8 +221,46 @@ public class RecursoControllerTest {
                 .andExpect(content().string("Recurso eliminado con éxito."));
     }
 
+    /**
+     * Prueba que verifica la consulta del historial de un recurso en un rango de fechas.
+     * Asegura que se devuelve un estado 200 OK con los cambios registrados.
+     */
+    @Test
+    public void historialRecursoTest() throws Exception {
+        // Arrange
+        Instant desde = Instant.parse("2025-01-01T00:00:00Z");
+        Instant hasta = Instant.parse("2025-01-02T00:00:00Z");
+        HistorialRecurso cambio = new HistorialRecurso(1L, id, desde.plusSeconds(60), "operador",
+                10, 7, Estado.DISPONIBLE, Estado.RESERVADO);
+        when(historialRecursoService.buscar(id, desde, hasta)).thenReturn(List.of(cambio));
+
+        // Act & Assert
+        mockMvc.perform(get("/api-recursos/v1/recursos/{id}/historial", id)
+                        .param("desde", desde.toString())
+                        .param("hasta", hasta.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].actor").value("operador"))
+                .andExpect(jsonPath("$[0].cantidadAnterior").value(10))
+                .andExpect(jsonPath("$[0].cantidadNueva").value(7))
+                .andExpect(jsonPath("$[0].estadoNuevo").value(Estado.RESERVADO.getEtiqueta()));
+    }
+
     // ERRORES
 
+    /**
+     * Prueba que verifica el rechazo de un rango de fechas invertido en el historial.
+     * Asegura que se devuelve un estado 400 BAD REQUEST sin consultar el servicio.
+     */
+    @Test
+    public void historialRecursoTest_RangoInvalido() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/api-recursos/v1/recursos/{id}/historial", id)
+                        .param("desde", "2025-01-02T00:00:00Z")
+                        .param("hasta", "2025-01-01T00:00:00Z"))
+                .andExpect(status().isBadRequest());
+        verifyNoInteractions(historialRecursoService);
+    }
+
     /**
      * Prueba que verifica el comportamiento cuando no hay recursos registrados.
      * Asegura que se devuelve un estado 204 NO CONTENT.
@@ -171,12 +282,13 @@ public class RecursoControllerTest {
     @Test
     public void buscarRecursoTest_RecursoNoExistente() throws Exception {
         // Arrange
-        when(recursoService.findById(id)).thenThrow(new NoSuchElementException("Recurso no encontrado"));
+        when(recursoService.findById(id)).thenThrow(new NoEncontradoException(CodigoError.RECURSO_NO_ENCONTRADO, "Recurso no encontrado"));
 
         // Act & Assert
         mockMvc.perform(get("/api-recursos/v1/recursos/{id}", id))
                 .andExpect(status().isNotFound())
-                .andExpect(content().string("Recurso no encontrado"));
+                .andExpect(jsonPath("$.codigo").value("RECURSO_NO_ENCONTRADO"))
+                .andExpect(jsonPath("$.detail").value("Recurso no encontrado"));
     }
 
     /**
@@ -186,14 +298,15 @@ public class RecursoControllerTest {
     @Test
     public void agregarRecursoTest_Error() throws Exception {
         // Arrange
-        when(recursoService.save(any(Recurso.class))).thenThrow(new RuntimeException("Error al crear el recurso"));
+        when(recursoService.save(any(Recurso.class))).thenThrow(new DatosInvalidosException(CodigoError.DATOS_INVALIDOS, "Error al crear el recurso"));
 
         // Act & Assert
         mockMvc.perform(post("/api-recursos/v1/recursos")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(recurso))) // Convertir Recurso a JSON
                 .andExpect(status().isBadRequest())
-                .andExpect(content().string("Error al crear el recurso"));
+                .andExpect(jsonPath("$.codigo").value("DATOS_INVALIDOS"))
+                .andExpect(jsonPath("$.detail").value("Error al crear el recurso"));
     }
 
     /**
@@ -203,14 +316,15 @@ public class RecursoControllerTest {
     @Test
     public void actualizarRecursoTest_RecursoNoExistente() throws Exception {
         // Arrange
-        when(recursoService.update(any(Recurso.class), eq(id))).thenThrow(new NoSuchElementException("Recurso no encontrado"));
+        when(recursoService.update(any(Recurso.class), eq(id))).thenThrow(new NoEncontradoException(CodigoError.RECURSO_NO_ENCONTRADO, "Recurso no encontrado"));
 
         // Act & Assert
         mockMvc.perform(put("/api-recursos/v1/recursos/{id}", id)
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(recurso))) // Convertir Recurso a JSON
                 .andExpect(status().isNotFound())
-                .andExpect(content().string("Recurso no encontrado"));
+                .andExpect(jsonPath("$.codigo").value("RECURSO_NO_ENCONTRADO"))
+                .andExpect(jsonPath("$.detail").value("Recurso no encontrado"));
     }
 
     /**
@@ -220,12 +334,13 @@ public class RecursoControllerTest {
     @Test
     public void eliminarRecursoTest_RecursoNoExistente() throws Exception {
         // Arrange
-        doThrow(new NoSuchElementException("Recurso no encontrado")).when(recursoService).delete(id);
+        doThrow(new NoEncontradoException(CodigoError.RECURSO_NO_ENCONTRADO, "Recurso no encontrado")).when(recursoService).delete(id);
 
         // Act & Assert
         mockMvc.perform(delete("/api-recursos/v1/recursos/{id}", id))
                 .andExpect(status().isNotFound())
-                .andExpect(content().string("Recurso no encontrado"));
+                .andExpect(jsonPath("$.codigo").value("RECURSO_NO_ENCONTRADO"))
+                .andExpect(jsonPath("$.detail").value("Recurso no encontrado"));
     }
 
     /**
@@ -237,11 +352,12 @@ public class RecursoControllerTest {
         // Arrange
         Integer recursoId = 1;
         Integer tipoRecursoId = 1;
-        doThrow(new RuntimeException("Recurso no encontrado")).when(recursoService).asignarTipoRecurso(recursoId, tipoRecursoId);
+        doThrow(new NoEncontradoException(CodigoError.RECURSO_NO_ENCONTRADO, "Recurso no encontrado")).when(recursoService).asignarTipoRecurso(recursoId, tipoRecursoId);
 
         // Act & Assert
         mockMvc.perform(post("/api-recursos/v1/recursos/{recursoId}/asignar-tipo-recurso/{tipoRecursoId}", recursoId, tipoRecursoId))
                 .andExpect(status().isNotFound())
-                .andExpect(content().string("Recurso no encontrado"));
+                .andExpect(jsonPath("$.codigo").value("RECURSO_NO_ENCONTRADO"))
+                .andExpect(jsonPath("$.detail").value("Recurso no encontrado"));
     }
 }
\ No newline at end of file
@@ -1,9 +1,16 @@
 package com.SAFE_Rescue.API_Recursos.controller;
 
+import com.SAFE_Rescue.API_Recursos.excepcion.CodigoError;
+import com.SAFE_Rescue.API_Recursos.excepcion.DatosInvalidosException;
+import com.SAFE_Rescue.API_Recursos.excepcion.NoEncontradoException;
+import com.SAFE_Rescue.API_Recursos.excepcion.ServicioSaturadoException;
 import com.SAFE_Rescue.API_Recursos.modelo.Bombero;
+import com.SAFE_Rescue.API_Recursos.modelo.Estado;
+import com.SAFE_Rescue.API_Recursos.modelo.Pagina;
 import com.SAFE_Rescue.API_Recursos.modelo.Recurso;
 import com.SAFE_Rescue.API_Recursos.modelo.SolicitudRecurso;
 import com.SAFE_Rescue.API_Recursos.modelo.TipoRecurso;
+import com.SAFE_Rescue.API_Recursos.service.IngestaSolicitudService;
 import com.SAFE_Rescue.API_Recursos.service.SolicitudRecursoService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import net.datafaker.Faker;
@@ -18,10 +25,13 @@ import org.springframework.test.web.servlet.MockMvc;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.NoSuchElementException;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Random;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -40,6 +50,9 @@ public class SolicitudRecursoControllerTest {
     @MockitoBean
     private SolicitudRecursoService solicitudRecursoService;
 
+    @MockitoBean
+    private IngestaSolicitudService ingestaSolicitudService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -57,10 +70,10 @@ public class SolicitudRecursoControllerTest {
         solicitudRecurso = new SolicitudRecurso();
         solicitudRecurso.setId(1);
         solicitudRecurso.setTitulo(faker.company().name());
-        solicitudRecurso.setEstado("Pendiente");
+        solicitudRecurso.setEstado(Estado.PENDIENTE);
         solicitudRecurso.setDetalle(faker.lorem().sentence());
         solicitudRecurso.setBombero(new Bombero(1,faker.name().firstName(), faker.name().lastName(), faker.name().lastName(), faker.number().numberBetween(100000000, 999999999)));
-        solicitudRecurso.setRecurso(new Recurso(1,faker.commerce().productName(),faker.number().numberBetween(1, 100),"Activo",new TipoRecurso(1, faker.commerce().department())));
+        solicitudRecurso.setRecurso(new Recurso(1,faker.commerce().productName(),faker.number().numberBetween(1, 100),Estado.ACTIVO,new TipoRecurso(1, faker.commerce().department())));
         id = solicitudRecurso.getId();
     }
 
@@ -80,12 +93,64 @@ public class SolicitudRecursoControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$[0].id").value(solicitudRecurso.getId()))
                 .andExpect(jsonPath("$[0].titulo").value(solicitudRecurso.getTitulo()))
-                .andExpect(jsonPath("$[0].estado").value(solicitudRecurso.getEstado()))
+                .andExpect(jsonPath("$[0].estado").value(solicitudRecurso.getEstado().getEtiqueta()))
                 .andExpect(jsonPath("$[0].detalle").value(solicitudRecurso.getDetalle()))
                 .andExpect(jsonPath("$[0].bombero.nombre").value(solicitudRecurso.getBombero().getNombre()))
                 .andExpect(jsonPath("$[0].recurso.nombre").value(solicitudRecurso.getRecurso().getNombre()));
     }
 
+    /**
+     * Prueba que verifica la obtención de solicitudes con solo los campos pedidos en fields.
+     * Asegura que se devuelve un estado 200 OK con la proyección y no se carga la entidad completa.
+     */
+    @Test
+    public void listarSolicitudesTest_Fields() throws Exception {
+        // Arrange
+        Map<String, Object> proyeccion = Map.of("id", 1, "bombero", Map.of("nombre", "Ana"));
+        when(solicitudRecursoService.findAll("id,bombero.nombre")).thenReturn(List.of(proyeccion));
+
+        // Act & Assert
+        mockMvc.perform(get("/api-recursos/v1/solicitudes-recursos").param("fields", "id,bombero.nombre"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(1))
+                .andExpect(jsonPath("$[0].bombero.nombre").value("Ana"))
+                .andExpect(jsonPath("$[0].titulo").doesNotExist());
+        verify(solicitudRecursoService, never()).findAll();
+    }
+
+    /**
+     * Prueba que verifica la obtención de una página de solicitudes de una región.
+     */
+    @Test
+    public void listarPaginaTest() throws Exception {
+        // Arrange
+        when(solicitudRecursoService.listar("norte", 1, 20)).thenReturn(new Pagina<>(List.of(solicitudRecurso), 1, 20, 21));
+
+        // Act & Assert
+        mockMvc.perform(get("/api-recursos/v1/solicitudes-recursos/pagina")
+                        .param("region", "norte").param("pagina", "1").param("tamanio", "20"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.contenido[0].id").value(solicitudRecurso.getId()))
+                .andExpect(jsonPath("$.pagina").value(1))
+                .andExpect(jsonPath("$.total").value(21));
+    }
+
+    /**
+     * Prueba que verifica el rechazo de campos inexistentes en fields.
+     * Asegura que se devuelve un estado 400 BAD REQUEST con el mensaje de error.
+     */
+    @Test
+    public void listarSolicitudesTest_FieldsInvalido() throws Exception {
+        // Arrange
+        when(solicitudRecursoService.findAll(anyString())).thenThrow(new DatosInvalidosException(CodigoError.CAMPO_DESCONOCIDO, "Campo desconocido: clave"));
+
+        // Act & Assert
+        mockMvc.perform(get("/api-recursos/v1/solicitudes-recursos").param("fields", "clave"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.codigo").value("CAMPO_DESCONOCIDO"))
+                .andExpect(jsonPath("$.detail").value("Campo desconocido: clave"));
+    }
+
     /**
      * Prueba que verifica la búsqueda de una solicitud de recurso existente por su ID.
      * Asegura que se devuelve un estado 200 OK y la solicitud encontrada.
@@ -100,7 +165,7 @@ public class SolicitudRecursoControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.id").value(solicitudRecurso.getId()))
                 .andExpect(jsonPath("$.titulo").value(solicitudRecurso.getTitulo()))
-                .andExpect(jsonPath("$.estado").value(solicitudRecurso.getEstado()))
+                .andExpect(jsonPath("$.estado").value(solicitudRecurso.getEstado().getEtiqueta()))
                 .andExpect(jsonPath("$.detalle").value(solicitudRecurso.getDetalle()))
                 .andExpect(jsonPath("$.bombero.nombre").value(solicitudRecurso.getBombero().getNombre()))
                 .andExpect(jsonPath("$.recurso.nombre").value(solicitudRecurso.getRecurso().getNombre()));
@@ -123,6 +188,43 @@ public class SolicitudRecursoControllerTest {
                 .andExpect(content().string("Solicitud Recurso creada con éxito."));
     }
 
+    /**
+     * Prueba que verifica la creación de una solicitud con la ingesta asíncrona activa.
+     * Asegura que se devuelve un estado 202 ACCEPTED con el ID de seguimiento y su ubicación.
+     */
+    @Test
+    public void agregarSolicitudTest_IngestaAsincrona() throws Exception {
+        // Arrange
+        when(ingestaSolicitudService.activa()).thenReturn(true);
+        when(ingestaSolicitudService.aceptar(any(SolicitudRecurso.class))).thenReturn("seguimiento-1");
+
+        // Act & Assert
+        mockMvc.perform(post("/api-recursos/v1/solicitudes-recursos")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(solicitudRecurso)))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string("Location", "/api-recursos/v1/solicitudes-recursos/ingesta/seguimiento-1"))
+                .andExpect(jsonPath("$.seguimiento").value("seguimiento-1"));
+        verify(solicitudRecursoService, never()).save(any(SolicitudRecurso.class));
+    }
+
+    /**
+     * Prueba que verifica la consulta del estado de una solicitud en ingesta.
+     * Asegura que se devuelve un estado 200 OK con el ID de la solicitud guardada.
+     */
+    @Test
+    public void estadoIngestaTest() throws Exception {
+        // Arrange
+        when(ingestaSolicitudService.estado("seguimiento-1")).thenReturn(Optional.of(
+                Map.of("seguimiento", "seguimiento-1", "estado", "GUARDADA", "solicitudId", 42)));
+
+        // Act & Assert
+        mockMvc.perform(get("/api-recursos/v1/solicitudes-recursos/ingesta/{seguimiento}", "seguimiento-1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.estado").value("GUARDADA"))
+                .andExpect(jsonPath("$.solicitudId").value(42));
+    }
+
     /**
      * Prueba que verifica la actualización de una solicitud existente.
      * Asegura que se devuelve un estado 200 OK al actualizar correctamente.
@@ -178,12 +280,13 @@ public class SolicitudRecursoControllerTest {
     @Test
     public void buscarSolicitudTest_SolicitudNoExistente() throws Exception {
         // Arrange
-        when(solicitudRecursoService.findById(id)).thenThrow(new NoSuchElementException("Solicitud Recurso no encontrada"));
+        when(solicitudRecursoService.findById(id)).thenThrow(new NoEncontradoException(CodigoError.SOLICITUD_NO_ENCONTRADA, "Solicitud Recurso no encontrada"));
 
         // Act & Assert
         mockMvc.perform(get("/api-recursos/v1/solicitudes-recursos/{id}", id))
                 .andExpect(status().isNotFound())
-                .andExpect(content().string("Solicitud Recurso no encontrada"));
+                .andExpect(jsonPath("$.codigo").value("SOLICITUD_NO_ENCONTRADA"))
+                .andExpect(jsonPath("$.detail").value("Solicitud Recurso no encontrada"));
     }
 
     /**
@@ -193,14 +296,48 @@ public class SolicitudRecursoControllerTest {
     @Test
     public void agregarSolicitudTest_Error() throws Exception {
         // Arrange
-        when(solicitudRecursoService.save(any(SolicitudRecurso.class))).thenThrow(new RuntimeException("Error al crear la solicitud"));
+        when(solicitudRecursoService.save(any(SolicitudRecurso.class))).thenThrow(new DatosInvalidosException(CodigoError.DATOS_INVALIDOS, "Error al crear la solicitud"));
 
         // Act & Assert
         mockMvc.perform(post("/api-recursos/v1/solicitudes-recursos")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(solicitudRecurso))) // Convertir SolicitudRecurso a JSON
                 .andExpect(status().isBadRequest())
-                .andExpect(content().string("Error al crear la solicitud"));
+                .andExpect(jsonPath("$.codigo").value("DATOS_INVALIDOS"))
+                .andExpect(jsonPath("$.detail").value("Error al crear la solicitud"));
+    }
+
+    /**
+     * Prueba que verifica el rechazo por saturación de la ingesta asíncrona.
+     * Asegura que se devuelve un estado 503 SERVICE UNAVAILABLE con Retry-After.
+     */
+    @Test
+    public void agregarSolicitudTest_IngestaSaturada() throws Exception {
+        // Arrange
+        when(ingestaSolicitudService.activa()).thenReturn(true);
+        when(ingestaSolicitudService.aceptar(any(SolicitudRecurso.class)))
+                .thenThrow(new ServicioSaturadoException(CodigoError.INGESTA_SATURADA, "La cola de ingesta está llena, reintente más tarde"));
+
+        // Act & Assert
+        mockMvc.perform(post("/api-recursos/v1/solicitudes-recursos")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(solicitudRecurso)))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "1"));
+    }
+
+    /**
+     * Prueba que verifica la consulta de un ID de seguimiento inexistente.
+     * Asegura que se devuelve un estado 404 NOT FOUND.
+     */
+    @Test
+    public void estadoIngestaTest_NoExistente() throws Exception {
+        // Arrange
+        when(ingestaSolicitudService.estado(anyString())).thenReturn(Optional.empty());
+
+        // Act & Assert
+        mockMvc.perform(get("/api-recursos/v1/solicitudes-recursos/ingesta/{seguimiento}", "desconocido"))
+                .andExpect(status().isNotFound());
     }
 
     /**
@@ -210,14 +347,15 @@ public class SolicitudRecursoControllerTest {
     @Test
     public void actualizarSolicitudTest_SolicitudNoExistente() throws Exception {
         // Arrange
-        when(solicitudRecursoService.update(any(SolicitudRecurso.class), eq(id))).thenThrow(new NoSuchElementException("Solicitud Recurso no encontrada"));
+        when(solicitudRecursoService.update(any(SolicitudRecurso.class), eq(id))).thenThrow(new NoEncontradoException(CodigoError.SOLICITUD_NO_ENCONTRADA, "Solicitud Recurso no encontrada"));
 
         // Act & Assert
         mockMvc.perform(put("/api-recursos/v1/solicitudes-recursos/{id}", id)
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(solicitudRecurso))) // Convertir SolicitudRecurso a JSON
                 .andExpect(status().isNotFound())
-                .andExpect(content().string("Solicitud Recurso no encontrada"));
+                .andExpect(jsonPath("$.codigo").value("SOLICITUD_NO_ENCONTRADA"))
+                .andExpect(jsonPath("$.detail").value("Solicitud Recurso no encontrada"));
     }
 
     /**
@@ -227,12 +365,13 @@ public class SolicitudRecursoControllerTest {
     @Test
     public void eliminarSolicitudTest_SolicitudNoExistente() throws Exception {
         // Arrange
-        doThrow(new NoSuchElementException("Solicitud Recurso no encontrada")).when(solicitudRecursoService).delete(id);
+        doThrow(new NoEncontradoException(CodigoError.SOLICITUD_NO_ENCONTRADA, "Solicitud Recurso no encontrada")).when(solicitudRecursoService).delete(id);
 
         // Act & Assert
         mockMvc.perform(delete("/api-recursos/v1/solicitudes-recursos/{id}", id))
                 .andExpect(status().isNotFound())
-                .andExpect(content().string("Solicitud Recurso no encontrada"));
+                .andExpect(jsonPath("$.codigo").value("SOLICITUD_NO_ENCONTRADA"))
+                .andExpect(jsonPath("$.detail").value("Solicitud Recurso no encontrada"));
     }
 
     /**
@@ -243,11 +382,90 @@ public class SolicitudRecursoControllerTest {
     public void asignarRecursoTest_SolicitudNoEncontrada() throws Exception {
         Integer solicitudRecursoId = 1;
         Integer recursoId = 1;
-        doThrow(new RuntimeException("Solicitud Recurso no encontrada")).when(solicitudRecursoService).asignarRecurso(solicitudRecursoId, recursoId);
+        doThrow(new NoEncontradoException(CodigoError.SOLICITUD_NO_ENCONTRADA, "Solicitud Recurso no encontrada")).when(solicitudRecursoService).asignarRecurso(solicitudRecursoId, recursoId);
 
         // Act & Assert
         mockMvc.perform(post("/api-recursos/v1/solicitudes-recursos/{solicitudRecursoId}/asignar-recurso/{recursoId}", solicitudRecursoId, recursoId))
                 .andExpect(status().isNotFound())
-                .andExpect(content().string("Solicitud Recurso no encontrada"));
+                .andExpect(jsonPath("$.codigo").value("SOLICITUD_NO_ENCONTRADA"))
+                .andExpect(jsonPath("$.detail").value("Solicitud Recurso no encontrada"));
+    }
+
+    /**
+     * Prueba que verifica la asignación por lotes.
+     * Asegura que se devuelve un estado 200 OK con la cantidad de solicitudes actualizadas.
+     */
+    @Test
+    public void asignarLoteTest() throws Exception {
+        // Arrange
+        when(solicitudRecursoService.asignarLote(anyList())).thenReturn(2);
+
+        // Act & Assert
+        mockMvc.perform(post("/api-recursos/v1/solicitudes-recursos/asignaciones")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"solicitudId\":1,\"recursoId\":3,\"bomberoId\":4},{\"solicitudId\":2,\"bomberoId\":4}]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.asignadas").value(2));
+        verify(solicitudRecursoService).asignarLote(List.of(
+                new SolicitudRecursoService.Asignacion(1, 3, 4),
+                new SolicitudRecursoService.Asignacion(2, null, 4)));
+    }
+
+    /**
+     * Prueba que verifica los errores de la asignación por lotes.
+     * Asegura que un lote inválido devuelve 400 y una entidad inexistente devuelve 404.
+     */
+    @Test
+    public void asignarLoteTest_Errores() throws Exception {
+        // Arrange
+        when(solicitudRecursoService.asignarLote(anyList()))
+                .thenThrow(new DatosInvalidosException(CodigoError.DATOS_INVALIDOS, "La solicitud 1 está repetida en el lote"))
+                .thenThrow(new NoEncontradoException(CodigoError.NO_ENCONTRADO, "No se encontraron recursos con ID [9]"));
+
+        // Act & Assert
+        mockMvc.perform(post("/api-recursos/v1/solicitudes-recursos/asignaciones")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"solicitudId\":1,\"recursoId\":3},{\"solicitudId\":1,\"recursoId\":3}]"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(post("/api-recursos/v1/solicitudes-recursos/asignaciones")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"solicitudId\":1,\"recursoId\":9}]"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.codigo").value("NO_ENCONTRADO"))
+                .andExpect(jsonPath("$.detail").value("No se encontraron recursos con ID [9]"));
+    }
+
+    /**
+     * Prueba que verifica la asignación del mejor recurso disponible a una solicitud.
+     * Asegura que se devuelve un estado 200 OK con el recurso reservado.
+     */
+    @Test
+    public void asignarMejorRecursoTest() throws Exception {
+        // Arrange
+        Recurso recurso = solicitudRecurso.getRecurso();
+        when(solicitudRecursoService.asignarMejorRecurso(id, 1)).thenReturn(recurso);
+
+        // Act & Assert
+        mockMvc.perform(post("/api-recursos/v1/solicitudes-recursos/{solicitudRecursoId}/asignar-mejor-recurso/{tipoRecursoId}", id, 1))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(recurso.getId()))
+                .andExpect(jsonPath("$.nombre").value(recurso.getNombre()));
+    }
+
+    /**
+     * Prueba que verifica el comportamiento cuando no hay recursos disponibles del tipo solicitado.
+     * Asegura que se devuelve un estado 404 NOT FOUND.
+     */
+    @Test
+    public void asignarMejorRecursoTest_SinDisponibles() throws Exception {
+        // Arrange
+        when(solicitudRecursoService.asignarMejorRecurso(id, 1))
+                .thenThrow(new NoEncontradoException(CodigoError.SIN_RECURSOS_DISPONIBLES, "No hay recursos disponibles del tipo de recurso con ID: 1"));
+
+        // Act & Assert
+        mockMvc.perform(post("/api-recursos/v1/solicitudes-recursos/{solicitudRecursoId}/asignar-mejor-recurso/{tipoRecursoId}", id, 1))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.codigo").value("SIN_RECURSOS_DISPONIBLES"))
+                .andExpect(jsonPath("$.detail").value("No hay recursos disponibles del tipo de recurso con ID: 1"));
     }
-}
\ No newline at end of file
+}
@@ -1,5 +1,8 @@
 package com.SAFE_Rescue.API_Recursos.controller;
 
+import com.SAFE_Rescue.API_Recursos.excepcion.CodigoError;
+import com.SAFE_Rescue.API_Recursos.excepcion.DatosInvalidosException;
+import com.SAFE_Rescue.API_Recursos.excepcion.NoEncontradoException;
 import com.SAFE_Rescue.API_Recursos.modelo.TipoRecurso;
 import com.SAFE_Rescue.API_Recursos.service.TipoRecursoService;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -14,7 +17,6 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import java.util.Collections;
 import java.util.List;
-import java.util.NoSuchElementException;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
@@ -157,12 +159,13 @@ public class TipoRecursoControllerTest {
     @Test
     public void buscarTipoRecursoTest_TipoNoExistente() throws Exception {
         // Arrange
-        when(tipoRecursoService.findById(id)).thenThrow(new NoSuchElementException("Tipo Recurso no encontrado"));
+        when(tipoRecursoService.findById(id)).thenThrow(new NoEncontradoException(CodigoError.TIPO_RECURSO_NO_ENCONTRADO, "Tipo Recurso no encontrado"));
 
         // Act & Assert
         mockMvc.perform(get("/api-recursos/v1/tipos-recursos/{id}", id))
                 .andExpect(status().isNotFound())
-                .andExpect(content().string("Tipo Recurso no encontrado"));
+                .andExpect(jsonPath("$.codigo").value("TIPO_RECURSO_NO_ENCONTRADO"))
+                .andExpect(jsonPath("$.detail").value("Tipo Recurso no encontrado"));
     }
 
     /**
@@ -172,14 +175,15 @@ public class TipoRecursoControllerTest {
     @Test
     public void agregarTipoRecursoTest_Error() throws Exception {
         // Arrange
-        when(tipoRecursoService.save(any(TipoRecurso.class))).thenThrow(new RuntimeException("Error al crear el tipo de recurso"));
+        when(tipoRecursoService.save(any(TipoRecurso.class))).thenThrow(new DatosInvalidosException(CodigoError.DATOS_INVALIDOS, "Error al crear el tipo de recurso"));
 
         // Act & Assert
         mockMvc.perform(post("/api-recursos/v1/tipos-recursos")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(tipoRecurso)))
                 .andExpect(status().isBadRequest())
-                .andExpect(content().string("Error al crear el tipo de recurso"));
+                .andExpect(jsonPath("$.codigo").value("DATOS_INVALIDOS"))
+                .andExpect(jsonPath("$.detail").value("Error al crear el tipo de recurso"));
     }
 
     /**
@@ -189,14 +193,15 @@ public class TipoRecursoControllerTest {
     @Test
     public void actualizarTipoRecursoTest_TipoNoExistente() throws Exception {
         // Arrange
-        when(tipoRecursoService.update(any(TipoRecurso.class), eq(id))).thenThrow(new NoSuchElementException("Tipo Recurso no encontrado"));
+        when(tipoRecursoService.update(any(TipoRecurso.class), eq(id))).thenThrow(new NoEncontradoException(CodigoError.TIPO_RECURSO_NO_ENCONTRADO, "Tipo Recurso no encontrado"));
 
         // Act & Assert
         mockMvc.perform(put("/api-recursos/v1/tipos-recursos/{id}", id)
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(tipoRecurso)))
                 .andExpect(status().isNotFound())
-                .andExpect(content().string("Tipo Recurso no encontrado"));
+                .andExpect(jsonPath("$.codigo").value("TIPO_RECURSO_NO_ENCONTRADO"))
+                .andExpect(jsonPath("$.detail").value("Tipo Recurso no encontrado"));
     }
 
     /**
@@ -206,11 +211,12 @@ public class TipoRecursoControllerTest {
     @Test
     public void eliminarTipoRecursoTest_TipoNoExistente() throws Exception {
         // Arrange
-        doThrow(new NoSuchElementException("Tipo Recurso no encontrado")).when(tipoRecursoService).delete(id);
+        doThrow(new NoEncontradoException(CodigoError.TIPO_RECURSO_NO_ENCONTRADO, "Tipo Recurso no encontrado")).when(tipoRecursoService).delete(id);
 
         // Act & Assert
         mockMvc.perform(delete("/api-recursos/v1/tipos-recursos/{id}", id))
                 .andExpect(status().isNotFound())
-                .andExpect(content().string("Tipo Recurso no encontrado"));
+                .andExpect(jsonPath("$.codigo").value("TIPO_RECURSO_NO_ENCONTRADO"))
+                .andExpect(jsonPath("$.detail").value("Tipo Recurso no encontrado"));
     }
 }
\ No newline at end of file
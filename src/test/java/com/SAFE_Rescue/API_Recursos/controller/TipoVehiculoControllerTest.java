@@ -1,5 +1,8 @@
 package com.SAFE_Rescue.API_Recursos.controller;
 
+import com.SAFE_Rescue.API_Recursos.excepcion.CodigoError;
+import com.SAFE_Rescue.API_Recursos.excepcion.DatosInvalidosException;
+import com.SAFE_Rescue.API_Recursos.excepcion.NoEncontradoException;
 import com.SAFE_Rescue.API_Recursos.modelo.TipoVehiculo;
 import com.SAFE_Rescue.API_Recursos.service.TipoVehiculoService;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -14,7 +17,6 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import java.util.Collections;
 import java.util.List;
-import java.util.NoSuchElementException;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
@@ -157,12 +159,13 @@ public class TipoVehiculoControllerTest {
     @Test
     public void buscarTipoVehiculoTest_TipoNoExistente() throws Exception {
         // Arrange
-        when(tipoVehiculoService.findById(id)).thenThrow(new NoSuchElementException("Tipo Vehiculo no encontrado"));
+        when(tipoVehiculoService.findById(id)).thenThrow(new NoEncontradoException(CodigoError.TIPO_VEHICULO_NO_ENCONTRADO, "Tipo Vehiculo no encontrado"));
 
         // Act & Assert
         mockMvc.perform(get("/api-recursos/v1/tipos-vehiculos/{id}", id))
                 .andExpect(status().isNotFound())
-                .andExpect(content().string("Tipo Vehiculo no encontrado"));
+                .andExpect(jsonPath("$.codigo").value("TIPO_VEHICULO_NO_ENCONTRADO"))
+                .andExpect(jsonPath("$.detail").value("Tipo Vehiculo no encontrado"));
     }
 
     /**
@@ -172,14 +175,15 @@ public class TipoVehiculoControllerTest {
     @Test
     public void agregarTipoVehiculoTest_Error() throws Exception {
         // Arrange
-        when(tipoVehiculoService.save(any(TipoVehiculo.class))).thenThrow(new RuntimeException("Error al crear el tipo de Vehiculo"));
+        when(tipoVehiculoService.save(any(TipoVehiculo.class))).thenThrow(new DatosInvalidosException(CodigoError.DATOS_INVALIDOS, "Error al crear el tipo de Vehiculo"));
 
         // Act & Assert
         mockMvc.perform(post("/api-recursos/v1/tipos-vehiculos")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(tipoVehiculo)))
                 .andExpect(status().isBadRequest())
-                .andExpect(content().string("Error al crear el tipo de Vehiculo"));
+                .andExpect(jsonPath("$.codigo").value("DATOS_INVALIDOS"))
+                .andExpect(jsonPath("$.detail").value("Error al crear el tipo de Vehiculo"));
     }
 
     /**
@@ -189,14 +193,15 @@ public class TipoVehiculoControllerTest {
     @Test
     public void actualizarTipoVehiculoTest_TipoNoExistente() throws Exception {
         // Arrange
-        when(tipoVehiculoService.update(any(TipoVehiculo.class), eq(id))).thenThrow(new NoSuchElementException("Tipo Vehiculo no encontrado"));
+        when(tipoVehiculoService.update(any(TipoVehiculo.class), eq(id))).thenThrow(new NoEncontradoException(CodigoError.TIPO_VEHICULO_NO_ENCONTRADO, "Tipo Vehiculo no encontrado"));
 
         // Act & Assert
         mockMvc.perform(put("/api-recursos/v1/tipos-vehiculos/{id}", id)
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(tipoVehiculo)))
                 .andExpect(status().isNotFound())
-                .andExpect(content().string("Tipo Vehiculo no encontrado"));
+                .andExpect(jsonPath("$.codigo").value("TIPO_VEHICULO_NO_ENCONTRADO"))
+                .andExpect(jsonPath("$.detail").value("Tipo Vehiculo no encontrado"));
     }
 
     /**
@@ -206,11 +211,12 @@ public class TipoVehiculoControllerTest {
     @Test
     public void eliminarTipoVehiculoTest_TipoNoExistente() throws Exception {
         // Arrange
-        doThrow(new NoSuchElementException("Tipo Vehiculo no encontrado")).when(tipoVehiculoService).delete(id);
+        doThrow(new NoEncontradoException(CodigoError.TIPO_VEHICULO_NO_ENCONTRADO, "Tipo Vehiculo no encontrado")).when(tipoVehiculoService).delete(id);
 
         // Act & Assert
         mockMvc.perform(delete("/api-recursos/v1/tipos-vehiculos/{id}", id))
                 .andExpect(status().isNotFound())
-                .andExpect(content().string("Tipo Vehiculo no encontrado"));
+                .andExpect(jsonPath("$.codigo").value("TIPO_VEHICULO_NO_ENCONTRADO"))
+                .andExpect(jsonPath("$.detail").value("Tipo Vehiculo no encontrado"));
     }
 }
\ No newline at end of file
@@ -1,5 +1,10 @@
 package com.SAFE_Rescue.API_Recursos.controller;
 
+import com.SAFE_Rescue.API_Recursos.excepcion.CodigoError;
+import com.SAFE_Rescue.API_Recursos.excepcion.DatosInvalidosException;
+import com.SAFE_Rescue.API_Recursos.excepcion.NoEncontradoException;
+import com.SAFE_Rescue.API_Recursos.indice.DisponibilidadVehiculos;
+import com.SAFE_Rescue.API_Recursos.modelo.Estado;
 import com.SAFE_Rescue.API_Recursos.modelo.TipoVehiculo;
 import com.SAFE_Rescue.API_Recursos.modelo.Vehiculo;
 import com.SAFE_Rescue.API_Recursos.service.VehiculoService;
@@ -16,7 +21,6 @@ import org.springframework.test.web.servlet.MockMvc;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.NoSuchElementException;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
@@ -55,7 +59,7 @@ public class VehiculoControllerTest {
         vehiculo.setId(1);
         vehiculo.setMarca(faker.company().name());
         vehiculo.setModelo(faker.commerce().productName());
-        vehiculo.setEstado("Activo");
+        vehiculo.setEstado(Estado.ACTIVO);
         vehiculo.setConductor(faker.name().fullName());
         vehiculo.setPatente("ABC123");
         vehiculo.setTipoVehiculo(new TipoVehiculo(1, faker.commerce().department()));
@@ -81,7 +85,7 @@ public class VehiculoControllerTest {
                 .andExpect(jsonPath("$[0].modelo").value(vehiculo.getModelo()))
                 .andExpect(jsonPath("$[0].patente").value(vehiculo.getPatente()))
                 .andExpect(jsonPath("$[0].conductor").value(vehiculo.getConductor()))
-                .andExpect(jsonPath("$[0].estado").value(vehiculo.getEstado()))
+                .andExpect(jsonPath("$[0].estado").value(vehiculo.getEstado().getEtiqueta()))
                 .andExpect(jsonPath("$[0].tipoVehiculo.id").value(vehiculo.getTipoVehiculo().getId()))
                 .andExpect(jsonPath("$[0].tipoVehiculo.nombre").value(vehiculo.getTipoVehiculo().getNombre()));
     }
@@ -103,11 +107,29 @@ public class VehiculoControllerTest {
                 .andExpect(jsonPath("$.modelo").value(vehiculo.getModelo()))
                 .andExpect(jsonPath("$.patente").value(vehiculo.getPatente()))
                 .andExpect(jsonPath("$.conductor").value(vehiculo.getConductor()))
-                .andExpect(jsonPath("$.estado").value(vehiculo.getEstado()))
+                .andExpect(jsonPath("$.estado").value(vehiculo.getEstado().getEtiqueta()))
                 .andExpect(jsonPath("$.tipoVehiculo.id").value(vehiculo.getTipoVehiculo().getId()))
                 .andExpect(jsonPath("$.tipoVehiculo.nombre").value(vehiculo.getTipoVehiculo().getNombre()));
     }
 
+    /**
+     * Prueba que verifica que una lista de más de 1000 IDs o con valores no numéricos se rechaza
+     * con 400 Bad Request sin consultar el servicio.
+     */
+    @Test
+    public void buscarVehiculosTest_IdsInvalidos() throws Exception {
+        // Arrange
+        String demasiados = String.join(",", Collections.nCopies(1001, "1"));
+
+        // Act & Assert
+        mockMvc.perform(get("/api-recursos/v1/vehiculos").param("ids", demasiados))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.codigo").value("DATOS_INVALIDOS"));
+        mockMvc.perform(get("/api-recursos/v1/vehiculos").param("ids", "1,abc"))
+                .andExpect(status().isBadRequest());
+        verify(vehiculoService, never()).findAllById(any());
+    }
+
     /**
      * Prueba que verifica la creación de un nuevo vehículo.
      * Asegura que se devuelve un estado 201 CREATED al agregar un vehículo exitosamente.
@@ -180,12 +202,13 @@ public class VehiculoControllerTest {
     @Test
     public void buscarVehiculoTest_VehiculoNoExistente() throws Exception {
         // Arrange
-        when(vehiculoService.findById(id)).thenThrow(new NoSuchElementException("Vehiculo no encontrado"));
+        when(vehiculoService.findById(id)).thenThrow(new NoEncontradoException(CodigoError.VEHICULO_NO_ENCONTRADO, "Vehiculo no encontrado"));
 
         // Act & Assert
         mockMvc.perform(get("/api-recursos/v1/vehiculos/{id}", id))
                 .andExpect(status().isNotFound())
-                .andExpect(content().string("Vehiculo no encontrado"));
+                .andExpect(jsonPath("$.codigo").value("VEHICULO_NO_ENCONTRADO"))
+                .andExpect(jsonPath("$.detail").value("Vehiculo no encontrado"));
     }
 
     /**
@@ -195,14 +218,15 @@ public class VehiculoControllerTest {
     @Test
     public void agregarVehiculoTest_Error() throws Exception {
         // Arrange
-        when(vehiculoService.save(any(Vehiculo.class))).thenThrow(new RuntimeException("Error al crear el vehículo"));
+        when(vehiculoService.save(any(Vehiculo.class))).thenThrow(new DatosInvalidosException(CodigoError.DATOS_INVALIDOS, "Error al crear el vehículo"));
 
         // Act & Assert
         mockMvc.perform(post("/api-recursos/v1/vehiculos")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(vehiculo))) // Convertir Vehiculo a JSON
                 .andExpect(status().isBadRequest())
-                .andExpect(content().string("Error al crear el vehículo"));
+                .andExpect(jsonPath("$.codigo").value("DATOS_INVALIDOS"))
+                .andExpect(jsonPath("$.detail").value("Error al crear el vehículo"));
     }
 
     /**
@@ -212,14 +236,15 @@ public class VehiculoControllerTest {
     @Test
     public void actualizarVehiculoTest_VehiculoNoExistente() throws Exception {
         // Arrange
-        when(vehiculoService.update(any(Vehiculo.class), eq(id))).thenThrow(new NoSuchElementException("Vehiculo no encontrado"));
+        when(vehiculoService.update(any(Vehiculo.class), eq(id))).thenThrow(new NoEncontradoException(CodigoError.VEHICULO_NO_ENCONTRADO, "Vehiculo no encontrado"));
 
         // Act & Assert
         mockMvc.perform(put("/api-recursos/v1/vehiculos/{id}", id)
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(vehiculo))) // Convertir Vehiculo a JSON
                 .andExpect(status().isNotFound())
-                .andExpect(content().string("Vehiculo no encontrado"));
+                .andExpect(jsonPath("$.codigo").value("VEHICULO_NO_ENCONTRADO"))
+                .andExpect(jsonPath("$.detail").value("Vehiculo no encontrado"));
     }
 
     /**
@@ -229,12 +254,13 @@ public class VehiculoControllerTest {
     @Test
     public void eliminarVehiculoTest_VehiculoNoExistente() throws Exception {
         // Arrange
-        doThrow(new NoSuchElementException("Vehiculo no encontrado")).when(vehiculoService).delete(id);
+        doThrow(new NoEncontradoException(CodigoError.VEHICULO_NO_ENCONTRADO, "Vehiculo no encontrado")).when(vehiculoService).delete(id);
 
         // Act & Assert
         mockMvc.perform(delete("/api-recursos/v1/vehiculos/{id}", id))
                 .andExpect(status().isNotFound())
-                .andExpect(content().string("Vehiculo no encontrado"));
+                .andExpect(jsonPath("$.codigo").value("VEHICULO_NO_ENCONTRADO"))
+                .andExpect(jsonPath("$.detail").value("Vehiculo no encontrado"));
     }
 
     /**
@@ -245,11 +271,30 @@ public class VehiculoControllerTest {
     public void asignarTipoVehiculoTest_VehiculoNoEncontrado() throws Exception {
         Integer vehiculoId = 1;
         Integer tipoVehiculoId = 1;
-        doThrow(new RuntimeException("Vehiculo no encontrado")).when(vehiculoService).asignarTipoVehiculo(vehiculoId, tipoVehiculoId);
+        doThrow(new NoEncontradoException(CodigoError.VEHICULO_NO_ENCONTRADO, "Vehiculo no encontrado")).when(vehiculoService).asignarTipoVehiculo(vehiculoId, tipoVehiculoId);
 
         // Act & Assert
         mockMvc.perform(post("/api-recursos/v1/vehiculos/{vehiculoId}/asignar-tipo-vehiculo/{tipoVehiculoId}", vehiculoId, tipoVehiculoId))
                 .andExpect(status().isNotFound())
-                .andExpect(content().string("Vehiculo no encontrado"));
+                .andExpect(jsonPath("$.codigo").value("VEHICULO_NO_ENCONTRADO"))
+                .andExpect(jsonPath("$.detail").value("Vehiculo no encontrado"));
+    }
+
+    /**
+     * Prueba que verifica la consulta de vehículos disponibles por tipo y estado.
+     * Asegura que se devuelve un estado 200 OK con el total y los IDs.
+     */
+    @Test
+    public void disponiblesTest() throws Exception {
+        // Arrange
+        when(vehiculoService.disponibles(1, Estado.OPERATIVO, 100))
+                .thenReturn(new DisponibilidadVehiculos(1, Estado.OPERATIVO, 2, new int[]{4, 7}));
+
+        // Act & Assert
+        mockMvc.perform(get("/api-recursos/v1/vehiculos/disponibles").param("tipoVehiculoId", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(2))
+                .andExpect(jsonPath("$.ids[0]").value(4))
+                .andExpect(jsonPath("$.ids[1]").value(7));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,228 @@
+package com.SAFE_Rescue.API_Recursos.diario;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Clase de pruebas unitarias para Diario.
+ * Verifica la lectura de registros tras reabrir los segmentos, el descarte de registros incompletos o corruptos,
+ * la rotación y liberación de segmentos y la sincronización por grupos.
+ */
+public class DiarioTest {
+
+    private static final int SEGMENTO = 4096;
+
+    @TempDir
+    private Path directorio;
+
+    /**
+     * Prueba que verifica que los registros se recuperan en orden al reabrir el diario.
+     */
+    @Test
+    public void recorrerTest() throws IOException {
+        // Arrange
+        try (Diario diario = new Diario(directorio, SEGMENTO)) {
+            diario.agregar((byte) 'A', texto("uno"));
+            diario.agregar((byte) 'B', texto("dos"));
+        }
+
+        // Act
+        List<String> registros = new ArrayList<>();
+        try (Diario diario = new Diario(directorio, SEGMENTO)) {
+            diario.recorrer((lsn, tipo, datos) -> registros.add((char) tipo + ":" + new String(datos, StandardCharsets.UTF_8)));
+            diario.agregar((byte) 'A', texto("tres"));
+            diario.recorrer((lsn, tipo, datos) -> registros.add(new String(datos, StandardCharsets.UTF_8)));
+        }
+
+        // Assert
+        assertEquals(List.of("A:uno", "B:dos", "uno", "dos", "tres"), registros);
+    }
+
+    /**
+     * Prueba que verifica que un registro escrito a medias al final se descarta al reabrir
+     * y que la siguiente escritura lo reemplaza.
+     */
+    @Test
+    public void recorrerTest_RegistroIncompleto() throws IOException {
+        // Arrange
+        long tamanioValido;
+        try (Diario diario = new Diario(directorio, SEGMENTO)) {
+            diario.agregar((byte) 'A', texto("completo"));
+            tamanioValido = diario.tamanio();
+            diario.agregar((byte) 'A', texto("incompleto"));
+        }
+        // Simula una caída a mitad de escritura: los últimos bytes del registro no llegaron a disco
+        escribirEn(segmento(1), tamanioValido + 9 + "incompleto".length() - 3, new byte[3]);
+
+        // Act
+        List<String> registros = new ArrayList<>();
+        try (Diario diario = new Diario(directorio, SEGMENTO)) {
+            assertEquals(tamanioValido, diario.tamanio());
+            diario.agregar((byte) 'A', texto("nuevo"));
+        }
+        try (Diario diario = new Diario(directorio, SEGMENTO)) {
+            diario.recorrer((lsn, tipo, datos) -> registros.add(new String(datos, StandardCharsets.UTF_8)));
+        }
+
+        // Assert
+        assertEquals(List.of("completo", "nuevo"), registros);
+    }
+
+    /**
+     * Prueba que verifica que un registro con CRC inválido corta la lectura.
+     */
+    @Test
+    public void recorrerTest_Corrupto() throws IOException {
+        // Arrange
+        long inicioMalo;
+        try (Diario diario = new Diario(directorio, SEGMENTO)) {
+            diario.agregar((byte) 'A', texto("bueno"));
+            inicioMalo = diario.tamanio();
+            diario.agregar((byte) 'A', texto("malo"));
+        }
+        escribirEn(segmento(1), inicioMalo + 9, new byte[]{'X'});
+
+        // Act
+        List<String> registros = new ArrayList<>();
+        try (Diario diario = new Diario(directorio, SEGMENTO)) {
+            diario.recorrer((lsn, tipo, datos) -> registros.add(new String(datos, StandardCharsets.UTF_8)));
+        }
+
+        // Assert
+        assertEquals(List.of("bueno"), registros);
+    }
+
+    /**
+     * Prueba que verifica que el diario continúa en segmentos nuevos y los lee en orden.
+     */
+    @Test
+    public void escribirTest_Rotacion() throws IOException {
+        // Arrange
+        byte[] datos = new byte[1000];
+
+        // Act
+        List<Long> lsns = new ArrayList<>();
+        try (Diario diario = new Diario(directorio, SEGMENTO)) {
+            for (int i = 0; i < 10; i++) {
+                datos[0] = (byte) i;
+                lsns.add(diario.agregar((byte) 'A', datos));
+            }
+        }
+        List<Integer> leidos = new ArrayList<>();
+        List<Long> lsnsLeidos = new ArrayList<>();
+        try (Diario diario = new Diario(directorio, SEGMENTO)) {
+            diario.recorrer((lsn, tipo, contenido) -> {
+                leidos.add((int) contenido[0]);
+                lsnsLeidos.add(lsn);
+            });
+        }
+
+        // Assert
+        assertEquals(3, segmentos().size());
+        assertEquals(List.of(0, 1, 2, 3, 4, 5, 6, 7, 8, 9), leidos);
+        assertEquals(lsns, lsnsLeidos);
+    }
+
+    /**
+     * Prueba que verifica que liberar elimina solo los segmentos anteriores al LSN indicado.
+     */
+    @Test
+    public void liberarHastaTest() throws IOException {
+        // Arrange
+        try (Diario diario = new Diario(directorio, SEGMENTO)) {
+            byte[] datos = new byte[1000];
+            List<Long> lsns = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                lsns.add(diario.agregar((byte) 'A', datos));
+            }
+
+            // Act
+            diario.liberarHasta(lsns.get(5));
+            List<Long> conservados = new ArrayList<>();
+            diario.recorrer((lsn, tipo, contenido) -> conservados.add(lsn));
+            long inicio = diario.rotar();
+            diario.liberarHasta(inicio);
+
+            // Assert
+            assertEquals(lsns.subList(4, 10), conservados);
+            assertEquals(1, segmentos().size());
+            assertEquals(0, diario.tamanio());
+        }
+    }
+
+    /**
+     * Prueba que verifica que las escrituras concurrentes comparten sincronizaciones a disco sin perder registros.
+     */
+    @Test
+    public void agregarTest_Concurrente() throws Exception {
+        // Arrange
+        int hilos = 8;
+        int porHilo = 500;
+        ExecutorService ejecutor = Executors.newFixedThreadPool(hilos);
+        List<Long> lsns = Collections.synchronizedList(new ArrayList<>());
+
+        // Act
+        try (Diario diario = new Diario(directorio, 64 * 1024)) {
+            List<Future<?>> tareas = new ArrayList<>();
+            for (int h = 0; h < hilos; h++) {
+                tareas.add(ejecutor.submit(() -> {
+                    for (int i = 0; i < porHilo; i++) {
+                        lsns.add(diario.agregar((byte) 'A', new byte[32]));
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> tarea : tareas) {
+                tarea.get();
+            }
+            ejecutor.shutdown();
+
+            // Assert
+            assertEquals((long) hilos * porHilo, diario.estadisticas().get("registros"));
+            assertTrue((long) diario.estadisticas().get("sincronizaciones") <= hilos * porHilo);
+        }
+        List<Long> leidos = new ArrayList<>();
+        try (Diario diario = new Diario(directorio, 64 * 1024)) {
+            diario.recorrer((lsn, tipo, datos) -> leidos.add(lsn));
+        }
+        Collections.sort(lsns);
+        assertEquals(lsns, leidos);
+    }
+
+    private Path segmento(long numero) {
+        return directorio.resolve(String.format("%020d.seg", numero));
+    }
+
+    private List<Path> segmentos() throws IOException {
+        try (Stream<Path> archivos = Files.list(directorio)) {
+            return archivos.toList();
+        }
+    }
+
+    private static void escribirEn(Path archivo, long posicion, byte[] bytes) throws IOException {
+        try (FileChannel canal = FileChannel.open(archivo, StandardOpenOption.WRITE)) {
+            canal.write(ByteBuffer.wrap(bytes), posicion);
+        }
+    }
+
+    private static byte[] texto(String texto) {
+        return texto.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,351 @@
+package com.SAFE_Rescue.API_Recursos.fragmento;
+
+import com.SAFE_Rescue.API_Recursos.indice.IndiceRecursos;
+import com.SAFE_Rescue.API_Recursos.modelo.Bombero;
+import com.SAFE_Rescue.API_Recursos.modelo.DemandaRecurso;
+import com.SAFE_Rescue.API_Recursos.modelo.Estado;
+import com.SAFE_Rescue.API_Recursos.modelo.Granularidad;
+import com.SAFE_Rescue.API_Recursos.modelo.Pagina;
+import com.SAFE_Rescue.API_Recursos.modelo.Recurso;
+import com.SAFE_Rescue.API_Recursos.modelo.SolicitudRecurso;
+import com.SAFE_Rescue.API_Recursos.modelo.TipoRecurso;
+import com.SAFE_Rescue.API_Recursos.repository.BomberoRepository;
+import com.SAFE_Rescue.API_Recursos.repository.DemandaRecursoRepository;
+import com.SAFE_Rescue.API_Recursos.repository.MarcaAgregacionRepository;
+import com.SAFE_Rescue.API_Recursos.repository.RecursoRepository;
+import com.SAFE_Rescue.API_Recursos.repository.SolicitudRecursoRepository;
+import com.SAFE_Rescue.API_Recursos.repository.TipoRecursoRepository;
+import com.SAFE_Rescue.API_Recursos.service.DemandaRecursoService;
+import com.SAFE_Rescue.API_Recursos.service.SolicitudRecursoService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Clase de pruebas de integración para la fragmentación de solicitudes por región.
+ * Usa una base H2 embebida como base de datos principal (fragmento 0) y dos bases H2 en memoria como fragmentos 1 y 2.
+ */
+@SpringBootTest(properties = {
+        "app.fragmentos.urls=jdbc:h2:mem:fragmento1;MODE=MySQL;DB_CLOSE_DELAY=-1,jdbc:h2:mem:fragmento2;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "app.fragmentos.usuario=sa",
+        "app.fragmentos.regiones=norte:1,sur:2",
+        "app.demanda.intervalo-ms=3600000",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+@AutoConfigureTestDatabase
+public class FragmentosTest {
+
+    @Autowired
+    private Fragmentos fragmentos;
+
+    @Autowired
+    private SolicitudRecursoService solicitudRecursoService;
+
+    @Autowired
+    private DemandaRecursoService demandaRecursoService;
+
+    @Autowired
+    private MarcaAgregacionRepository marcaAgregacionRepository;
+
+    @Autowired
+    private DemandaRecursoRepository demandaRecursoRepository;
+
+    @Autowired
+    private SolicitudRecursoRepository solicitudRecursoRepository;
+
+    @Autowired
+    private BomberoRepository bomberoRepository;
+
+    @Autowired
+    private RecursoRepository recursoRepository;
+
+    @Autowired
+    private TipoRecursoRepository tipoRecursoRepository;
+
+    @Autowired
+    private IndiceRecursos indiceRecursos;
+
+    private Bombero bombero;
+    private Recurso recurso;
+
+    /**
+     * Configura el entorno de pruebas antes de cada prueba.
+     * Vacía los fragmentos adicionales y crea en la base de datos principal el bombero y el recurso referenciados.
+     */
+    @BeforeEach
+    public void setUp() {
+        fragmentos.jdbc(1).update("DELETE FROM solicitud_recurso");
+        fragmentos.jdbc(2).update("DELETE FROM solicitud_recurso");
+        Random random = new Random();
+        TipoRecurso tipoRecurso = tipoRecursoRepository.save(new TipoRecurso(null, "Agua"));
+        recurso = recursoRepository.save(new Recurso(null, "Estanque", 100_000_000 + random.nextInt(800_000_000),
+                Estado.DISPONIBLE, tipoRecurso));
+        bombero = bomberoRepository.save(new Bombero(null, "Ana", "Soto", "Rojas", 100_000_000 + random.nextInt(800_000_000)));
+    }
+
+    /**
+     * Elimina las filas creadas por la prueba en todos los fragmentos y en la base de datos principal.
+     */
+    @AfterEach
+    public void tearDown() {
+        fragmentos.jdbc(1).update("DELETE FROM solicitud_recurso");
+        fragmentos.jdbc(2).update("DELETE FROM solicitud_recurso");
+        solicitudRecursoRepository.deleteAllInBatch();
+        demandaRecursoRepository.deleteAllInBatch();
+        marcaAgregacionRepository.deleteAllInBatch();
+        recursoRepository.deleteAllInBatch();
+        bomberoRepository.deleteAllInBatch();
+        tipoRecursoRepository.deleteAllInBatch();
+    }
+
+    /**
+     * Prueba que verifica que cada región se guarda en su fragmento y que el ID identifica el fragmento.
+     */
+    @Test
+    public void saveTest_EnrutaPorRegion() {
+        // Act
+        SolicitudRecurso norte = solicitudRecursoService.save(solicitud("Norte", null));
+        SolicitudRecurso sur = solicitudRecursoService.save(solicitud("sur", null));
+
+        // Assert
+        assertTrue(fragmentos.activos());
+        assertEquals(3, fragmentos.cantidad());
+        assertEquals("norte", norte.getRegion());
+        assertEquals(1, fragmentos.paraId(norte.getId()));
+        assertEquals(2, fragmentos.paraId(sur.getId()));
+        assertEquals(1, fragmentos.jdbc(1).queryForObject("SELECT COUNT(*) FROM solicitud_recurso", Integer.class));
+        assertEquals(0, fragmentos.jdbc(0).queryForObject("SELECT COUNT(*) FROM solicitud_recurso WHERE id = ?", Integer.class, norte.getId()));
+    }
+
+    /**
+     * Prueba que verifica la búsqueda por ID en el fragmento, con el bombero y el recurso de la base principal.
+     */
+    @Test
+    public void findByIdTest() {
+        // Arrange
+        Integer id = solicitudRecursoService.save(solicitud("norte", null)).getId();
+
+        // Act
+        SolicitudRecurso encontrada = solicitudRecursoService.findById(id);
+
+        // Assert
+        assertEquals("Solicitud norte", encontrada.getTitulo());
+        assertEquals(Estado.PENDIENTE, encontrada.getEstado());
+        assertEquals(bombero.getTelefono(), encontrada.getBombero().getTelefono());
+        assertEquals("Agua", encontrada.getRecurso().getTipoRecurso().getNombre());
+        assertNotNull(encontrada.getFechaCreacion());
+    }
+
+    /**
+     * Prueba que verifica la búsqueda por lote en varios fragmentos, con sus relaciones resueltas.
+     */
+    @Test
+    public void findAllByIdTest() {
+        // Arrange
+        Integer norte = solicitudRecursoService.save(solicitud("norte", null)).getId();
+        Integer sur = solicitudRecursoService.save(solicitud("sur", null)).getId();
+
+        // Act
+        List<SolicitudRecurso> encontradas = solicitudRecursoService.findAllById(List.of(norte, sur, Integer.MAX_VALUE));
+
+        // Assert
+        assertEquals(2, encontradas.size());
+        assertTrue(encontradas.stream().allMatch(solicitud -> "Agua".equals(solicitud.getRecurso().getTipoRecurso().getNombre())));
+        assertTrue(encontradas.stream().allMatch(solicitud -> bombero.getTelefono().equals(solicitud.getBombero().getTelefono())));
+    }
+
+    /**
+     * Prueba que verifica la actualización y eliminación en el fragmento de la solicitud.
+     */
+    @Test
+    public void updateDeleteTest() {
+        // Arrange
+        Integer id = solicitudRecursoService.save(solicitud("sur", null)).getId();
+        SolicitudRecurso cambios = new SolicitudRecurso();
+        cambios.setTitulo("Actualizada");
+        cambios.setEstado(Estado.EN_PROCESO);
+
+        // Act
+        solicitudRecursoService.update(cambios, id);
+        SolicitudRecurso actualizada = solicitudRecursoService.findById(id);
+        solicitudRecursoService.delete(id);
+
+        // Assert
+        assertEquals("Actualizada", actualizada.getTitulo());
+        assertEquals(Estado.EN_PROCESO, actualizada.getEstado());
+        assertThrows(NoSuchElementException.class, () -> solicitudRecursoService.delete(id));
+    }
+
+    /**
+     * Prueba que verifica que el listado sin región combina los fragmentos en orden de fecha descendente
+     * y pagina sobre el resultado combinado.
+     */
+    @Test
+    public void listarTest_CombinaFragmentos() {
+        // Arrange
+        Instant base = Instant.parse("2100-01-01T00:00:00Z");
+        solicitudRecursoService.save(solicitud("norte", base.plusSeconds(1)));
+        solicitudRecursoService.save(solicitud("sur", base.plusSeconds(2)));
+        solicitudRecursoService.save(solicitud("norte", base.plusSeconds(3)));
+        solicitudRecursoService.save(solicitud("sur", base.plusSeconds(4)));
+        solicitudRecursoService.save(solicitud(null, base.plusSeconds(5)));
+        long esperado = fragmentos.jdbc(0).queryForObject("SELECT COUNT(*) FROM solicitud_recurso", Long.class) + 4;
+
+        // Act
+        Pagina<SolicitudRecurso> primera = solicitudRecursoService.listar(null, 0, 2);
+        Pagina<SolicitudRecurso> segunda = solicitudRecursoService.listar(null, 1, 2);
+
+        // Assert
+        assertEquals(esperado, primera.total());
+        assertEquals(List.of(base.plusSeconds(5), base.plusSeconds(4)), fechas(primera));
+        assertEquals(List.of(base.plusSeconds(3), base.plusSeconds(2)), fechas(segunda));
+        assertEquals("sur", primera.contenido().get(1).getRegion());
+    }
+
+    /**
+     * Prueba que verifica que el listado de una región consulta solo su fragmento.
+     */
+    @Test
+    public void listarTest_PorRegion() {
+        // Arrange
+        Instant base = Instant.parse("2100-01-01T00:00:00Z");
+        solicitudRecursoService.save(solicitud("norte", base.plusSeconds(1)));
+        solicitudRecursoService.save(solicitud("norte", base.plusSeconds(2)));
+        solicitudRecursoService.save(solicitud("sur", base.plusSeconds(3)));
+
+        // Act
+        Pagina<SolicitudRecurso> pagina = solicitudRecursoService.listar("NORTE", 0, 10);
+
+        // Assert
+        assertEquals(2, pagina.total());
+        assertEquals(List.of(base.plusSeconds(2), base.plusSeconds(1)), fechas(pagina));
+        assertThrows(IllegalArgumentException.class, () -> solicitudRecursoService.listar(null, 0, 500));
+    }
+
+    /**
+     * Prueba que verifica que la demanda agrega las solicitudes de todos los fragmentos, cada uno con su marca.
+     */
+    @Test
+    public void agregarDemandaTest_CadaFragmento() throws Exception {
+        // Arrange
+        Instant base = Instant.parse("2000-01-01T00:00:00Z");
+        solicitudRecursoService.save(solicitud("norte", base.plusSeconds(1)));
+        SolicitudRecurso sur = solicitudRecursoService.save(solicitud("sur", base.plusSeconds(2)));
+        solicitudRecursoService.save(solicitud(null, base.plusSeconds(3)));
+
+        // Act
+        long solicitudes = agregarDemanda(base, 3);
+
+        // Assert
+        assertEquals(3, solicitudes);
+        assertEquals(sur.getId(), marcaAgregacionRepository.findById(DemandaRecursoService.marca(2)).orElseThrow().getUltimoId());
+        assertTrue(marcaAgregacionRepository.findById(DemandaRecursoService.marca(1)).orElseThrow().getUltimoId() >= 1 << Fragmentos.BITS_POR_BLOQUE);
+    }
+
+    /**
+     * Prueba que verifica que la proyección por campos combina los fragmentos, ordenada por ID y con las
+     * relaciones leídas de la base de datos principal.
+     */
+    @Test
+    public void findAllCamposTest_CombinaFragmentos() {
+        // Arrange
+        Integer sur = solicitudRecursoService.save(solicitud("sur", null)).getId();
+        Integer norte = solicitudRecursoService.save(solicitud("norte", null)).getId();
+        Integer principal = solicitudRecursoService.save(solicitud(null, null)).getId();
+
+        // Act
+        List<Map<String, Object>> proyectadas = solicitudRecursoService.findAll("id,region,recurso.tipoRecurso.nombre");
+
+        // Assert
+        assertEquals(List.of(principal, norte, sur), proyectadas.stream().map(fila -> fila.get("id")).toList());
+        assertEquals("sur", proyectadas.get(2).get("region"));
+        assertEquals(Map.of("tipoRecurso", Map.of("nombre", "Agua")), proyectadas.get(1).get("recurso"));
+    }
+
+    /**
+     * Prueba que verifica que la asignación por lotes actualiza cada solicitud en su fragmento.
+     */
+    @Test
+    public void asignarLoteTest_CadaFragmento() {
+        // Arrange
+        Integer norte = solicitudRecursoService.save(solicitud("norte", null)).getId();
+        Integer sur = solicitudRecursoService.save(solicitud("sur", null)).getId();
+        Recurso otroRecurso = recursoRepository.save(new Recurso(null, "Bomba", 10, Estado.DISPONIBLE, recurso.getTipoRecurso()));
+        Bombero otroBombero = bomberoRepository.save(new Bombero(null, "Luis", "Díaz", "Vera", 100_000_000 + new Random().nextInt(800_000_000)));
+
+        // Act
+        int asignadas = solicitudRecursoService.asignarLote(List.of(
+                new SolicitudRecursoService.Asignacion(norte, otroRecurso.getId(), null),
+                new SolicitudRecursoService.Asignacion(sur, otroRecurso.getId(), otroBombero.getId())));
+
+        // Assert
+        assertEquals(2, asignadas);
+        assertEquals(otroRecurso.getId(), solicitudRecursoService.findById(norte).getRecurso().getId());
+        assertEquals(bombero.getId(), solicitudRecursoService.findById(norte).getBombero().getId());
+        assertEquals(otroBombero.getId(), solicitudRecursoService.findById(sur).getBombero().getId());
+        assertThrows(NoSuchElementException.class, () -> solicitudRecursoService.asignarLote(List.of(
+                new SolicitudRecursoService.Asignacion(Integer.MAX_VALUE, otroRecurso.getId(), null))));
+    }
+
+    /**
+     * Prueba que verifica que la asignación del mejor recurso lee y actualiza la solicitud en su fragmento.
+     */
+    @Test
+    public void asignarMejorRecursoTest_EnFragmento() {
+        // Arrange
+        Integer id = solicitudRecursoService.save(solicitud("sur", null)).getId();
+        Recurso mejor = recursoRepository.save(new Recurso(null, "Bomba", 999_999_999, Estado.DISPONIBLE, recurso.getTipoRecurso()));
+        indiceRecursos.actualizar(mejor);
+
+        // Act
+        Recurso asignado = solicitudRecursoService.asignarMejorRecurso(id, recurso.getTipoRecurso().getId());
+
+        // Assert
+        assertEquals(2, fragmentos.paraId(id));
+        assertEquals(mejor.getId(), asignado.getId());
+        assertEquals(mejor.getId(), solicitudRecursoService.findById(id).getRecurso().getId());
+        assertEquals(Estado.RESERVADO, recursoRepository.findById(mejor.getId()).orElseThrow().getEstado());
+        indiceRecursos.eliminar(mejor.getId());
+    }
+
+    // MÉTODOS AUXILIARES
+
+    /**
+     * Ejecuta la agregación hasta que la hora indicada sume las solicitudes esperadas del recurso de la prueba
+     * (la tarea programada puede tener la agregación en curso al arrancar).
+     */
+    private long agregarDemanda(Instant hora, long esperadas) throws InterruptedException {
+        long limite = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        long solicitudes;
+        do {
+            demandaRecursoService.agregar();
+            solicitudes = demandaRecursoService.buscar(Granularidad.HORA, recurso.getTipoRecurso().getId(), hora, hora)
+                    .stream().mapToLong(DemandaRecurso::getSolicitudes).sum();
+            if (solicitudes < esperadas) {
+                Thread.sleep(10);
+            }
+        } while (solicitudes < esperadas && System.nanoTime() < limite);
+        return solicitudes;
+    }
+
+    private SolicitudRecurso solicitud(String region, Instant fechaCreacion) {
+        return new SolicitudRecurso(null, "Solicitud " + region, "Detalle", bombero, Estado.PENDIENTE, recurso,
+                fechaCreacion, region);
+    }
+
+    private static List<Instant> fechas(Pagina<SolicitudRecurso> pagina) {
+        return pagina.contenido().stream().map(SolicitudRecurso::getFechaCreacion).toList();
+    }
+}
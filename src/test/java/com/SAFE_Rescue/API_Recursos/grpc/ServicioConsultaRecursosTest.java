@@ -0,0 +1,202 @@
+package com.SAFE_Rescue.API_Recursos.grpc;
+
+import com.SAFE_Rescue.API_Recursos.excepcion.CodigoError;
+import com.SAFE_Rescue.API_Recursos.excepcion.NoEncontradoException;
+import com.SAFE_Rescue.API_Recursos.grpc.v1.ConsultaLista;
+import com.SAFE_Rescue.API_Recursos.grpc.v1.ConsultaPorId;
+import com.SAFE_Rescue.API_Recursos.grpc.v1.ConsultaPorIds;
+import com.SAFE_Rescue.API_Recursos.grpc.v1.ConsultaRecursosGrpc;
+import com.SAFE_Rescue.API_Recursos.grpc.v1.Estado;
+import com.SAFE_Rescue.API_Recursos.grpc.v1.Recurso;
+import com.SAFE_Rescue.API_Recursos.grpc.v1.RecursosPorIds;
+import com.SAFE_Rescue.API_Recursos.grpc.v1.Vehiculo;
+import com.SAFE_Rescue.API_Recursos.modelo.TipoRecurso;
+import com.SAFE_Rescue.API_Recursos.service.RecursoService;
+import com.SAFE_Rescue.API_Recursos.service.VehiculoService;
+import io.grpc.ManagedChannel;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Clase de pruebas del servicio gRPC ConsultaRecursos.
+ * Levanta el servidor en proceso y lo consulta con un cliente generado desde consulta_recursos.proto.
+ */
+@SpringBootTest(properties = {
+        "app.grpc.habilitado=true",
+        "app.grpc.en-proceso=" + ServicioConsultaRecursosTest.SERVIDOR,
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+@AutoConfigureTestDatabase
+public class ServicioConsultaRecursosTest {
+
+    static final String SERVIDOR = "consulta-recursos-test";
+
+    @MockitoBean
+    private RecursoService recursoService;
+
+    @MockitoBean
+    private VehiculoService vehiculoService;
+
+    private ManagedChannel canal;
+    private ConsultaRecursosGrpc.ConsultaRecursosBlockingStub cliente;
+
+    @BeforeEach
+    public void setUp() {
+        canal = InProcessChannelBuilder.forName(SERVIDOR).directExecutor().build();
+        cliente = ConsultaRecursosGrpc.newBlockingStub(canal);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        canal.shutdownNow();
+    }
+
+    /**
+     * Prueba que verifica la conversión de un recurso con su tipo y su estado.
+     */
+    @Test
+    public void obtenerRecursoTest() {
+        // Arrange
+        when(recursoService.findById(7)).thenReturn(recurso(7));
+
+        // Act
+        Recurso recurso = cliente.obtenerRecurso(ConsultaPorId.newBuilder().setId(7).build());
+
+        // Assert
+        assertEquals(7, recurso.getId());
+        assertEquals("Recurso 7", recurso.getNombre());
+        assertEquals(107, recurso.getCantidad());
+        assertEquals(Estado.ESTADO_DISPONIBLE, recurso.getEstado());
+        assertEquals("Rescate", recurso.getTipoRecurso().getNombre());
+    }
+
+    /**
+     * Prueba que verifica que un ID inexistente responde NOT_FOUND con el mensaje del servicio.
+     */
+    @Test
+    public void obtenerRecursoTest_NoEncontrado() {
+        // Arrange
+        when(recursoService.findById(99))
+                .thenThrow(new NoEncontradoException(CodigoError.RECURSO_NO_ENCONTRADO, "No se encontró recurso con ID: 99"));
+
+        // Act
+        StatusRuntimeException error = assertThrows(StatusRuntimeException.class,
+                () -> cliente.obtenerRecurso(ConsultaPorId.newBuilder().setId(99).build()));
+
+        // Assert
+        assertEquals(Status.Code.NOT_FOUND, error.getStatus().getCode());
+        assertEquals("No se encontró recurso con ID: 99", error.getStatus().getDescription());
+    }
+
+    /**
+     * Prueba que verifica que el lote se resuelve con una sola consulta, en el orden pedido, sin repetidos
+     * y con los IDs inexistentes aparte.
+     */
+    @Test
+    public void obtenerRecursosTest() {
+        // Arrange
+        when(recursoService.findAllById(anyCollection())).thenReturn(List.of(recurso(1), recurso(3)));
+
+        // Act
+        RecursosPorIds respuesta = cliente.obtenerRecursos(ConsultaPorIds.newBuilder()
+                .addAllIds(List.of(3, 2, 1, 3)).build());
+
+        // Assert
+        assertEquals(List.of(3, 1), respuesta.getEncontradosList().stream().map(Recurso::getId).toList());
+        assertEquals(List.of(2), respuesta.getNoEncontradosList());
+        verify(recursoService, times(1)).findAllById(argThat(ids -> List.copyOf(ids).equals(List.of(3, 2, 1))));
+    }
+
+    /**
+     * Prueba que verifica que un lote sobre el máximo se rechaza sin consultar la base de datos.
+     */
+    @Test
+    public void obtenerRecursosTest_ExcedeMaximo() {
+        // Arrange
+        ConsultaPorIds consulta = ConsultaPorIds.newBuilder()
+                .addAllIds(IntStream.rangeClosed(1, ServicioConsultaRecursos.MAXIMO_IDS + 1).boxed().toList()).build();
+
+        // Act
+        StatusRuntimeException error = assertThrows(StatusRuntimeException.class, () -> cliente.obtenerRecursos(consulta));
+
+        // Assert
+        assertEquals(Status.Code.INVALID_ARGUMENT, error.getStatus().getCode());
+        verify(recursoService, never()).findAllById(anyCollection());
+    }
+
+    /**
+     * Prueba que verifica que una lista grande se transmite completa y en orden.
+     */
+    @Test
+    public void listarRecursosTest() {
+        // Arrange
+        List<com.SAFE_Rescue.API_Recursos.modelo.Recurso> recursos = new ArrayList<>();
+        for (int i = 1; i <= 5000; i++) {
+            recursos.add(recurso(i));
+        }
+        when(recursoService.findAll()).thenReturn(recursos);
+
+        // Act
+        List<Integer> ids = new ArrayList<>();
+        Iterator<Recurso> transmitidos = cliente.listarRecursos(ConsultaLista.getDefaultInstance());
+        transmitidos.forEachRemaining(recurso -> ids.add(recurso.getId()));
+
+        // Assert
+        assertEquals(5000, ids.size());
+        assertEquals(1, ids.get(0));
+        assertEquals(5000, ids.get(4999));
+    }
+
+    /**
+     * Prueba que verifica que un vehículo sin tipo se envía sin el campo tipo_vehiculo.
+     */
+    @Test
+    public void obtenerVehiculoTest_SinTipo() {
+        // Arrange
+        com.SAFE_Rescue.API_Recursos.modelo.Vehiculo vehiculo = new com.SAFE_Rescue.API_Recursos.modelo.Vehiculo();
+        vehiculo.setId(1);
+        vehiculo.setMarca("Toyota");
+        vehiculo.setModelo("Hilux");
+        vehiculo.setPatente("AB1234");
+        vehiculo.setConductor("Juan");
+        vehiculo.setEstado(com.SAFE_Rescue.API_Recursos.modelo.Estado.OPERATIVO);
+        when(vehiculoService.findById(1)).thenReturn(vehiculo);
+
+        // Act
+        Vehiculo respuesta = cliente.obtenerVehiculo(ConsultaPorId.newBuilder().setId(1).build());
+
+        // Assert
+        assertEquals("AB1234", respuesta.getPatente());
+        assertEquals(Estado.ESTADO_OPERATIVO, respuesta.getEstado());
+        assertFalse(respuesta.hasTipoVehiculo());
+    }
+
+    // MÉTODOS AUXILIARES
+
+    private static com.SAFE_Rescue.API_Recursos.modelo.Recurso recurso(int id) {
+        com.SAFE_Rescue.API_Recursos.modelo.Recurso recurso = new com.SAFE_Rescue.API_Recursos.modelo.Recurso();
+        recurso.setId(id);
+        recurso.setNombre("Recurso " + id);
+        recurso.setCantidad(100 + id);
+        recurso.setEstado(com.SAFE_Rescue.API_Recursos.modelo.Estado.DISPONIBLE);
+        recurso.setTipoRecurso(new TipoRecurso(1, "Rescate"));
+        return recurso;
+    }
+}
@@ -0,0 +1,165 @@
+package com.SAFE_Rescue.API_Recursos.indice;
+
+import com.SAFE_Rescue.API_Recursos.modelo.Bombero;
+import com.SAFE_Rescue.API_Recursos.repository.BomberoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Clase de pruebas unitarias para DirectorioBomberos.
+ * Verifica las búsquedas por ID, teléfono y nombre, el refresco incremental y la consulta a la base de datos
+ * solo para IDs posteriores al último conocido.
+ */
+public class DirectorioBomberosTest {
+
+    private DirectorioBomberos directorioBomberos;
+    private BomberoRepository bomberoRepository;
+
+    /**
+     * Configura el entorno de pruebas antes de cada prueba.
+     * Carga un directorio con tres bomberos.
+     */
+    @BeforeEach
+    public void setUp() {
+        bomberoRepository = mock(BomberoRepository.class);
+        directorioBomberos = new DirectorioBomberos();
+        ReflectionTestUtils.setField(directorioBomberos, "bomberoRepository", bomberoRepository);
+        ReflectionTestUtils.setField(directorioBomberos, "completoMs", 300_000L);
+        ReflectionTestUtils.setField(directorioBomberos, "lote", 2);
+        when(bomberoRepository.findAll()).thenReturn(List.of(
+                new Bombero(1, "Juan", "Pérez", "García", 911111111),
+                new Bombero(2, "Ana", "Muñoz", "Rojas", 922222222),
+                new Bombero(5, "José", "Pérez", "Soto", 955555555)));
+        directorioBomberos.cargar();
+        clearInvocations(bomberoRepository);
+    }
+
+    /**
+     * Prueba que verifica las búsquedas en memoria por ID y por teléfono.
+     */
+    @Test
+    public void buscarPorIdTest() {
+        // Act
+        Optional<Bombero> porId = directorioBomberos.buscarPorId(2);
+        Optional<Bombero> porTelefono = directorioBomberos.buscarPorTelefono(955555555);
+
+        // Assert
+        assertEquals("Ana", porId.orElseThrow().getNombre());
+        assertEquals(5, porTelefono.orElseThrow().getId());
+        assertTrue(directorioBomberos.buscarPorId(3).isEmpty());
+        assertTrue(directorioBomberos.buscarPorTelefono(900000000).isEmpty());
+        verifyNoInteractions(bomberoRepository);
+    }
+
+    /**
+     * Prueba que verifica que un ID posterior al último conocido se consulta una vez en la base de datos.
+     */
+    @Test
+    public void buscarPorIdTest_Posterior() {
+        // Arrange
+        when(bomberoRepository.findById(8)).thenReturn(Optional.of(new Bombero(8, "Luis", "Díaz", "Vera", 988888888)));
+
+        // Act
+        directorioBomberos.buscarPorId(8);
+        Optional<Bombero> segunda = directorioBomberos.buscarPorId(8);
+
+        // Assert
+        assertEquals("Luis", segunda.orElseThrow().getNombre());
+        verify(bomberoRepository, times(1)).findById(8);
+        assertEquals(1L, directorioBomberos.estadisticas().get("consultasBaseDatos"));
+    }
+
+    /**
+     * Prueba que verifica que la búsqueda por lote responde desde memoria y consulta juntos en la base de datos
+     * solo los IDs posteriores al último conocido.
+     */
+    @Test
+    public void buscarPorIdsTest() {
+        // Arrange
+        when(bomberoRepository.findAllById(List.of(8, 9))).thenReturn(List.of(new Bombero(8, "Luis", "Díaz", "Vera", 988888888)));
+
+        // Act
+        List<Bombero> encontrados = directorioBomberos.buscarPorIds(List.of(5, 3, 8, 1, 9));
+
+        // Assert
+        assertEquals(List.of(5, 1, 8), encontrados.stream().map(Bombero::getId).toList());
+        assertEquals("Luis", directorioBomberos.buscarPorId(8).orElseThrow().getNombre());
+        verify(bomberoRepository, times(1)).findAllById(List.of(8, 9));
+        verify(bomberoRepository, never()).findById(anyInt());
+    }
+
+    /**
+     * Prueba que verifica la búsqueda por nombre sin distinguir mayúsculas ni tildes.
+     */
+    @Test
+    public void buscarTest() {
+        // Act
+        List<Bombero> perez = directorioBomberos.buscar("PEREZ", 10);
+        List<Bombero> jose = directorioBomberos.buscar("jose perez", 10);
+        List<Bombero> limitados = directorioBomberos.buscar("perez", 1);
+
+        // Assert
+        assertEquals(List.of(1, 5), perez.stream().map(Bombero::getId).toList());
+        assertEquals(List.of(5), jose.stream().map(Bombero::getId).toList());
+        assertEquals(1, limitados.size());
+    }
+
+    /**
+     * Prueba que verifica que el refresco agrega por lotes los bomberos con ID mayor al último conocido.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    public void refrescarTest() {
+        // Arrange
+        when(bomberoRepository.findByIdGreaterThanOrderByIdAsc(eq(5), any(Limit.class))).thenReturn(List.of(
+                new Bombero(6, "Rosa", "Lagos", "Paz", 966666666),
+                new Bombero(7, "Raúl", "Lagos", "Ruiz", 977777777)));
+        when(bomberoRepository.findByIdGreaterThanOrderByIdAsc(eq(7), any(Limit.class))).thenReturn(List.of());
+
+        // Act
+        directorioBomberos.refrescar();
+
+        // Assert
+        assertEquals(5, directorioBomberos.tamanio());
+        assertEquals(7, directorioBomberos.buscarPorTelefono(977777777).orElseThrow().getId());
+        verify(bomberoRepository, never()).findAll();
+    }
+
+    /**
+     * Prueba que verifica que un cambio de teléfono y una eliminación actualizan los índices.
+     */
+    @Test
+    public void actualizarTest() {
+        // Act
+        directorioBomberos.actualizar(new Bombero(1, "Juan", "Pérez", "García", 900000001));
+        directorioBomberos.eliminar(2);
+
+        // Assert
+        assertTrue(directorioBomberos.buscarPorTelefono(911111111).isEmpty());
+        assertEquals(1, directorioBomberos.buscarPorTelefono(900000001).orElseThrow().getId());
+        assertTrue(directorioBomberos.buscarPorId(2).isEmpty());
+        assertEquals(5, directorioBomberos.buscarPorTelefono(955555555).orElseThrow().getId());
+        assertEquals(2, directorioBomberos.tamanio());
+    }
+
+    /**
+     * Prueba que verifica que las búsquedas devuelven copias que no alteran el directorio.
+     */
+    @Test
+    public void buscarPorIdTest_Copia() {
+        // Act
+        directorioBomberos.buscarPorId(1).orElseThrow().setNombre("Modificado");
+
+        // Assert
+        assertEquals("Juan", directorioBomberos.buscarPorId(1).orElseThrow().getNombre());
+    }
+}
@@ -0,0 +1,109 @@
+package com.SAFE_Rescue.API_Recursos.indice;
+
+import com.SAFE_Rescue.API_Recursos.invalidacion.EntidadCacheada;
+import com.SAFE_Rescue.API_Recursos.invalidacion.Invalidacion;
+import com.SAFE_Rescue.API_Recursos.modelo.Estado;
+import com.SAFE_Rescue.API_Recursos.modelo.Recurso;
+import com.SAFE_Rescue.API_Recursos.modelo.TipoRecurso;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Clase de pruebas unitarias para IndiceRecursos.
+ * Verifica el particionado por tipo y estado, el orden por cantidad y la reserva atómica.
+ */
+public class IndiceRecursosTest {
+
+    private IndiceRecursos indiceRecursos;
+
+    /**
+     * Configura el entorno de pruebas antes de cada prueba.
+     * Crea un índice con recursos de dos tipos y dos estados.
+     */
+    @BeforeEach
+    public void setUp() {
+        indiceRecursos = new IndiceRecursos();
+        indiceRecursos.actualizar(recurso(1, 1, Estado.DISPONIBLE, 10));
+        indiceRecursos.actualizar(recurso(2, 1, Estado.DISPONIBLE, 50));
+        indiceRecursos.actualizar(recurso(3, 1, Estado.ACTIVO, 80));
+        indiceRecursos.actualizar(recurso(4, 2, Estado.DISPONIBLE, 99));
+    }
+
+    /**
+     * Prueba que verifica que los mejores candidatos se devuelven por cantidad descendente y por partición.
+     */
+    @Test
+    public void mejoresTest() {
+        // Act
+        List<CandidatoRecurso> candidatos = indiceRecursos.mejores(1, Estado.DISPONIBLE, 10);
+
+        // Assert
+        assertEquals(2, candidatos.size());
+        assertEquals(2, candidatos.get(0).id());
+        assertEquals(1, candidatos.get(1).id());
+        assertTrue(indiceRecursos.mejores(3, Estado.DISPONIBLE, 10).isEmpty());
+    }
+
+    /**
+     * Prueba que verifica que un cambio de estado mueve el recurso de partición.
+     */
+    @Test
+    public void actualizarTest_CambioDeEstado() {
+        // Act
+        indiceRecursos.actualizar(recurso(2, 1, Estado.ACTIVO, 50));
+
+        // Assert
+        assertEquals(1, indiceRecursos.mejores(1, Estado.DISPONIBLE, 10).size());
+        assertEquals(2, indiceRecursos.mejores(1, Estado.ACTIVO, 10).size());
+        assertEquals(4, indiceRecursos.tamanio());
+    }
+
+    /**
+     * Prueba que verifica que un candidato solo puede reservarse una vez.
+     */
+    @Test
+    public void reservarTest() {
+        // Arrange
+        CandidatoRecurso candidato = indiceRecursos.mejores(1, Estado.DISPONIBLE, 1).get(0);
+
+        // Act & Assert
+        assertTrue(indiceRecursos.reservar(candidato, Estado.RESERVADO));
+        assertFalse(indiceRecursos.reservar(candidato, Estado.RESERVADO));
+        assertEquals(Estado.RESERVADO, indiceRecursos.buscar(candidato.id()).estado());
+        assertEquals(1, indiceRecursos.mejores(1, Estado.DISPONIBLE, 10).size());
+    }
+
+    /**
+     * Prueba que verifica que un recurso eliminado deja de ser candidato.
+     */
+    @Test
+    public void eliminarTest() {
+        // Act
+        indiceRecursos.eliminar(4);
+
+        // Assert
+        assertNull(indiceRecursos.buscar(4));
+        assertTrue(indiceRecursos.mejores(2, Estado.DISPONIBLE, 10).isEmpty());
+    }
+
+    /**
+     * Prueba que verifica que la eliminación publicada por otro nodo quita el recurso sin consultar la base de datos.
+     */
+    @Test
+    public void aplicarTest_Eliminado() {
+        // Act
+        indiceRecursos.aplicar(new Invalidacion(EntidadCacheada.RECURSO, 2, 1, 99, true));
+
+        // Assert
+        assertNull(indiceRecursos.buscar(2));
+        assertEquals(1, indiceRecursos.mejores(1, Estado.DISPONIBLE, 10).size());
+    }
+
+    private static Recurso recurso(int id, int tipoRecursoId, Estado estado, int cantidad) {
+        return new Recurso(id, "Recurso " + id, cantidad, estado, new TipoRecurso(tipoRecursoId, "Tipo " + tipoRecursoId));
+    }
+}
@@ -0,0 +1,94 @@
+package com.SAFE_Rescue.API_Recursos.indice;
+
+import com.SAFE_Rescue.API_Recursos.modelo.Estado;
+import com.SAFE_Rescue.API_Recursos.modelo.TipoVehiculo;
+import com.SAFE_Rescue.API_Recursos.modelo.Vehiculo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Clase de pruebas unitarias para IndiceVehiculos.
+ * Verifica la consulta por tipo y estado y la sincronización ante cambios.
+ */
+public class IndiceVehiculosTest {
+
+    private IndiceVehiculos indiceVehiculos;
+
+    /**
+     * Configura el entorno de pruebas antes de cada prueba.
+     * Crea un índice con vehículos de dos tipos y dos estados.
+     */
+    @BeforeEach
+    public void setUp() {
+        indiceVehiculos = new IndiceVehiculos();
+        indiceVehiculos.actualizar(vehiculo(3, 1, Estado.OPERATIVO));
+        indiceVehiculos.actualizar(vehiculo(1, 1, Estado.OPERATIVO));
+        indiceVehiculos.actualizar(vehiculo(2, 1, Estado.EN_MANTENCION));
+        indiceVehiculos.actualizar(vehiculo(200, 2, Estado.OPERATIVO));
+    }
+
+    /**
+     * Prueba que verifica la consulta de disponibilidad por tipo y estado.
+     */
+    @Test
+    public void disponiblesTest() {
+        // Act
+        DisponibilidadVehiculos disponibilidad = indiceVehiculos.disponibles(1, Estado.OPERATIVO, 10);
+
+        // Assert
+        assertEquals(2, disponibilidad.total());
+        assertArrayEquals(new int[]{1, 3}, disponibilidad.ids());
+        assertEquals(200, indiceVehiculos.primero(2, Estado.OPERATIVO));
+        assertEquals(-1, indiceVehiculos.primero(3, Estado.OPERATIVO));
+    }
+
+    /**
+     * Prueba que verifica que el límite restringe los IDs pero no el total.
+     */
+    @Test
+    public void disponiblesTest_Limite() {
+        // Act
+        DisponibilidadVehiculos disponibilidad = indiceVehiculos.disponibles(1, Estado.OPERATIVO, 1);
+
+        // Assert
+        assertEquals(2, disponibilidad.total());
+        assertArrayEquals(new int[]{1}, disponibilidad.ids());
+    }
+
+    /**
+     * Prueba que verifica que un cambio de estado mueve el vehículo de celda.
+     */
+    @Test
+    public void actualizarTest_CambioDeEstado() {
+        // Act
+        indiceVehiculos.actualizar(vehiculo(2, 1, Estado.OPERATIVO));
+
+        // Assert
+        assertEquals(3, indiceVehiculos.disponibles(1, Estado.OPERATIVO, 10).total());
+        assertEquals(0, indiceVehiculos.disponibles(1, Estado.EN_MANTENCION, 10).total());
+        assertEquals(4, indiceVehiculos.tamanio());
+    }
+
+    /**
+     * Prueba que verifica que un vehículo eliminado deja de estar disponible.
+     */
+    @Test
+    public void eliminarTest() {
+        // Act
+        indiceVehiculos.eliminar(200);
+
+        // Assert
+        assertEquals(0, indiceVehiculos.disponibles(2, Estado.OPERATIVO, 10).total());
+        assertEquals(3, indiceVehiculos.tamanio());
+    }
+
+    private static Vehiculo vehiculo(int id, int tipoVehiculoId, Estado estado) {
+        Vehiculo vehiculo = new Vehiculo();
+        vehiculo.setId(id);
+        vehiculo.setEstado(estado);
+        vehiculo.setTipoVehiculo(new TipoVehiculo(tipoVehiculoId, "Tipo " + tipoVehiculoId));
+        return vehiculo;
+    }
+}
@@ -0,0 +1,67 @@
+package com.SAFE_Rescue.API_Recursos.indice;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Clase de pruebas unitarias para MapaEnteros.
+ * Compara el mapa con un HashMap ante inserciones, reemplazos y eliminaciones aleatorias.
+ */
+public class MapaEnterosTest {
+
+    /**
+     * Prueba que verifica las operaciones básicas y el valor ausente.
+     */
+    @Test
+    public void ponerTest() {
+        // Arrange
+        MapaEnteros mapa = new MapaEnteros(2, -1);
+
+        // Act
+        mapa.poner(987654321, 0);
+        mapa.poner(123456789, 1);
+        mapa.poner(987654321, 2);
+        mapa.quitar(123456789);
+
+        // Assert
+        assertEquals(2, mapa.obtener(987654321));
+        assertEquals(-1, mapa.obtener(123456789));
+        assertEquals(1, mapa.tamanio());
+        assertThrows(IllegalArgumentException.class, () -> mapa.poner(Integer.MIN_VALUE, 0));
+    }
+
+    /**
+     * Prueba que verifica que el mapa coincide con un HashMap tras muchas operaciones aleatorias,
+     * incluidas eliminaciones que obligan a reubicar entradas con colisiones.
+     */
+    @Test
+    public void quitarTest_Aleatorio() {
+        // Arrange
+        Random aleatorio = new Random(42);
+        MapaEnteros mapa = new MapaEnteros(0, -1);
+        Map<Integer, Integer> esperado = new HashMap<>();
+
+        // Act
+        for (int i = 0; i < 200_000; i++) {
+            int clave = aleatorio.nextInt(5_000) - 2_500;
+            if (aleatorio.nextInt(3) == 0) {
+                mapa.quitar(clave);
+                esperado.remove(clave);
+            } else {
+                mapa.poner(clave, i);
+                esperado.put(clave, i);
+            }
+        }
+
+        // Assert
+        assertEquals(esperado.size(), mapa.tamanio());
+        for (int clave = -2_500; clave < 2_500; clave++) {
+            assertEquals(esperado.getOrDefault(clave, -1), mapa.obtener(clave));
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.SAFE_Rescue.API_Recursos.instrumentacion;
+
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.platform.commons.support.AnnotationSupport;
+import org.opentest4j.AssertionFailedError;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Aplica {@link PresupuestoSql}: abre una medición en {@link RegistroSentencias} al comenzar el cuerpo de la
+ * prueba y, al terminar, la compara con el presupuesto declarado en el método o en la clase.
+ */
+public class ExtensionPresupuestoSql implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+
+    private static final ExtensionContext.Namespace ESPACIO = ExtensionContext.Namespace.create(ExtensionPresupuestoSql.class);
+
+    @Override
+    public void beforeTestExecution(ExtensionContext contexto) {
+        if (presupuesto(contexto).isEmpty()) {
+            return;
+        }
+        RegistroSentencias registro = SpringExtension.getApplicationContext(contexto).getBean(RegistroSentencias.class);
+        if (!registro.isHabilitado()) {
+            throw new IllegalStateException("@PresupuestoSql requiere app.sql.instrumentacion=true en " + contexto.getRequiredTestClass().getSimpleName());
+        }
+        ExtensionContext.Store almacen = contexto.getStore(ESPACIO);
+        almacen.put(RegistroSentencias.class, registro);
+        almacen.put(Medicion.class, registro.abrir(contexto.getRequiredTestClass().getSimpleName() + "." + contexto.getRequiredTestMethod().getName()));
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext contexto) {
+        ExtensionContext.Store almacen = contexto.getStore(ESPACIO);
+        Medicion medicion = almacen.remove(Medicion.class, Medicion.class);
+        if (medicion == null) {
+            return;
+        }
+        almacen.remove(RegistroSentencias.class, RegistroSentencias.class).cerrar(medicion);
+        int maximo = presupuesto(contexto).orElseThrow().value();
+        if (medicion.getSentencias() > maximo) {
+            throw new AssertionFailedError(medicion.getNombre() + " ejecutó " + medicion.getSentencias()
+                    + " sentencias SQL; presupuesto: " + maximo + detalle(medicion), maximo, medicion.getSentencias());
+        }
+    }
+
+    // MÉTODOS PRIVADOS
+
+    private static Optional<PresupuestoSql> presupuesto(ExtensionContext contexto) {
+        return AnnotationSupport.findAnnotation(contexto.getRequiredTestMethod(), PresupuestoSql.class)
+                .or(() -> AnnotationSupport.findAnnotation(contexto.getRequiredTestClass(), PresupuestoSql.class));
+    }
+
+    private static String detalle(Medicion medicion) {
+        return medicion.getPorSentencia().entrySet().stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                .map(e -> "\n  " + e.getValue() + " x " + e.getKey())
+                .collect(Collectors.joining());
+    }
+}
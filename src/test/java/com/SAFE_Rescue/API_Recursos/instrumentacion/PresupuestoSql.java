@@ -0,0 +1,28 @@
+package com.SAFE_Rescue.API_Recursos.instrumentacion;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Máximo de sentencias SQL que puede ejecutar una prueba. Se mide solo el cuerpo de la prueba (no los
+ * métodos @BeforeEach) y en el hilo de la prueba, que es el que atiende las llamadas de MockMvc; la prueba
+ * falla listando las sentencias ejecutadas si supera el presupuesto. En una clase fija el presupuesto de
+ * todas sus pruebas, que cada método puede reemplazar.
+ * <p>
+ * Requiere un contexto de Spring con {@code app.sql.instrumentacion=true} (ver {@link RegistroSentencias}).
+ * </p>
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@ExtendWith(ExtensionPresupuestoSql.class)
+public @interface PresupuestoSql {
+
+    /**
+     * Sentencias permitidas; un lote JDBC cuenta como una.
+     */
+    int value();
+}
@@ -0,0 +1,193 @@
+package com.SAFE_Rescue.API_Recursos.instrumentacion;
+
+import com.SAFE_Rescue.API_Recursos.modelo.Estado;
+import com.SAFE_Rescue.API_Recursos.modelo.Recurso;
+import com.SAFE_Rescue.API_Recursos.modelo.TipoRecurso;
+import com.SAFE_Rescue.API_Recursos.repository.RecursoRepository;
+import com.SAFE_Rescue.API_Recursos.repository.TipoRecursoRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Clase de pruebas de integración para la instrumentación de sentencias SQL.
+ * Habilita el proxy JDBC sobre la base de datos de pruebas y verifica lo que registra por sentencia, por
+ * medición y por endpoint.
+ */
+@SpringBootTest(properties = {
+        "app.sql.instrumentacion=true",
+        "app.sql.repeticiones-n1=3",
+        "app.sql.lenta-ms=1000",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+@AutoConfigureTestDatabase
+@AutoConfigureMockMvc
+public class RegistroSentenciasTest {
+
+    @Autowired
+    private RegistroSentencias registroSentencias;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private RecursoRepository recursoRepository;
+
+    @Autowired
+    private TipoRecursoRepository tipoRecursoRepository;
+
+    private Recurso recurso;
+
+    /**
+     * Configura el entorno de pruebas antes de cada prueba.
+     * Crea un recurso y descarta lo registrado hasta ese momento.
+     */
+    @BeforeEach
+    public void setUp() {
+        TipoRecurso tipoRecurso = tipoRecursoRepository.save(new TipoRecurso(null, "Agua"));
+        recurso = recursoRepository.save(new Recurso(null, "Estanque", 100_000_000 + new Random().nextInt(800_000_000),
+                Estado.DISPONIBLE, tipoRecurso));
+        registroSentencias.reiniciar();
+    }
+
+    /**
+     * Elimina las filas creadas por la prueba.
+     */
+    @AfterEach
+    public void tearDown() {
+        recursoRepository.deleteAllInBatch();
+        tipoRecursoRepository.deleteAllInBatch();
+    }
+
+    /**
+     * Prueba que verifica que la fuente de datos se envuelve sin ocultar la fuente real.
+     */
+    @Test
+    public void dataSourceTest_Instrumentado() throws Exception {
+        // Assert
+        assertTrue(Proxy.isProxyClass(dataSource.getClass()));
+        EmbeddedDatabase real = dataSource.unwrap(EmbeddedDatabase.class);
+        assertNotNull(real);
+        assertFalse(Proxy.isProxyClass(real.getClass()));
+    }
+
+    /**
+     * Prueba que verifica que una medición cuenta las sentencias y las filas leídas dentro de ella.
+     */
+    @Test
+    public void medicionTest() {
+        // Arrange
+        long cantidad = recursoRepository.count();
+
+        // Act
+        Medicion medicion = registroSentencias.abrir("prueba");
+        List<Recurso> recursos;
+        try {
+            recursos = recursoRepository.findAll();
+        } finally {
+            registroSentencias.cerrar(medicion);
+        }
+
+        // Assert
+        assertEquals(cantidad, recursos.size());
+        assertTrue(medicion.getSentencias() >= 1);
+        assertTrue(medicion.getFilas() >= cantidad);
+        assertTrue((long) registroSentencias.estadisticas().get("ejecuciones") >= 2);
+    }
+
+    /**
+     * Prueba que verifica que las mediciones anidadas suman sus sentencias a la que las contiene.
+     */
+    @Test
+    public void medicionTest_Anidada() {
+        // Act
+        Medicion externa = registroSentencias.abrir("externa");
+        Medicion interna = registroSentencias.abrir("interna");
+        recursoRepository.findById(recurso.getId());
+        registroSentencias.cerrar(interna);
+        recursoRepository.count();
+        registroSentencias.cerrar(externa);
+
+        // Assert
+        assertEquals(1, interna.getSentencias());
+        assertEquals(2, externa.getSentencias());
+    }
+
+    /**
+     * Prueba que verifica que una sentencia repetida en una misma medición se informa como posible N+1.
+     */
+    @Test
+    public void registrarTest_PosibleN1() {
+        // Act
+        Medicion medicion = registroSentencias.abrir("n+1");
+        try {
+            for (int i = 0; i < 3; i++) {
+                recursoRepository.findById(recurso.getId() + i);
+            }
+        } finally {
+            registroSentencias.cerrar(medicion);
+        }
+
+        // Assert
+        assertEquals(1, medicion.getPorSentencia().size());
+        assertEquals(1L, registroSentencias.estadisticas().get("posiblesN1"));
+    }
+
+    /**
+     * Prueba que verifica que las listas IN de distinto largo se agrupan como una sola sentencia
+     * y que las sentencias sobre el umbral se guardan como lentas.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    public void registrarTest_NormalizaYRegistraLentas() {
+        // Act
+        registroSentencias.registrar("select * from recurso where id in (?,?,?)", 1_000, 0, false);
+        registroSentencias.registrar("select *\n  from recurso where id in (?, ?)", 1_500_000_000L, 0, false);
+
+        // Assert
+        Map<String, Object> estadisticas = registroSentencias.estadisticas();
+        assertEquals(1, estadisticas.get("sentenciasDistintas"));
+        assertEquals(1L, estadisticas.get("lentas"));
+        List<Map<String, Object>> masCostosas = (List<Map<String, Object>>) estadisticas.get("masCostosas");
+        assertEquals("select * from recurso where id in (?, ...)", masCostosas.get(0).get("sentencia"));
+        assertEquals(2L, masCostosas.get(0).get("ejecuciones"));
+        assertEquals(Map.of("<0.1ms", 1L, ">=1s", 1L), masCostosas.get(0).get("histograma"));
+    }
+
+    /**
+     * Prueba que verifica que cada solicitud HTTP se acumula en el patrón de ruta de su endpoint.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    public void registrarSolicitudTest_PorEndpoint() throws Exception {
+        // Act
+        mockMvc.perform(get("/api-recursos/v1/recursos/{id}", recurso.getId())).andExpect(status().isOk());
+        mockMvc.perform(get("/api-recursos/v1/recursos/{id}", recurso.getId())).andExpect(status().isOk());
+
+        // Assert
+        List<Map<String, Object>> endpoints = (List<Map<String, Object>>) registroSentencias.estadisticas().get("endpoints");
+        Map<String, Object> endpoint = endpoints.stream()
+                .filter(e -> e.get("endpoint").equals("GET /api-recursos/v1/recursos/{id}"))
+                .findFirst().orElseThrow();
+        assertEquals(2L, endpoint.get("solicitudes"));
+    }
+}
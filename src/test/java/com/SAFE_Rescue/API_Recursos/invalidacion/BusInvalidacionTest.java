@@ -0,0 +1,189 @@
+package com.SAFE_Rescue.API_Recursos.invalidacion;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Clase de pruebas unitarias para BusInvalidacion.
+ * Simula dos nodos sobre un transporte local y verifica la propagación y el control de versiones.
+ */
+public class BusInvalidacionTest {
+
+    private BusInvalidacion nodoA;
+    private BusInvalidacion nodoB;
+    private List<Invalidacion> recibidasEnB;
+
+    /**
+     * Configura dos nodos conectados por un canal local propio de cada prueba.
+     */
+    @BeforeEach
+    public void setUp() {
+        String canal = UUID.randomUUID().toString();
+        nodoA = new BusInvalidacion(new TransporteLocal(canal));
+        nodoB = new BusInvalidacion(new TransporteLocal(canal));
+        nodoA.iniciar();
+        nodoB.iniciar();
+        recibidasEnB = new CopyOnWriteArrayList<>();
+        nodoB.suscribir(EntidadCacheada.RECURSO, recibidasEnB::add);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        nodoA.detener();
+        nodoB.detener();
+    }
+
+    /**
+     * Prueba que verifica que un cambio publicado en un nodo llega a los suscriptores del otro.
+     */
+    @Test
+    public void publicarTest() {
+        // Act
+        Invalidacion publicada = nodoA.publicar(EntidadCacheada.RECURSO, 7, true);
+        nodoA.publicar(EntidadCacheada.VEHICULO, 7, false);
+
+        // Assert
+        assertEquals(List.of(publicada), recibidasEnB);
+        assertEquals(nodoA.getNodo(), recibidasEnB.get(0).nodo());
+        assertEquals(2L, nodoA.estadisticas().get("publicadas"));
+        assertEquals(2L, nodoA.estadisticas().get("propias"));
+        assertEquals(2L, nodoB.estadisticas().get("aplicadas"));
+    }
+
+    /**
+     * Prueba que verifica que las versiones publicadas por un nodo son crecientes.
+     */
+    @Test
+    public void publicarTest_VersionesCrecientes() {
+        // Act
+        long primera = nodoA.publicar(EntidadCacheada.RECURSO, 1, false).version();
+        long segunda = nodoA.publicar(EntidadCacheada.RECURSO, 1, false).version();
+
+        // Assert
+        assertTrue(segunda > primera);
+        assertNull(nodoA.publicar(EntidadCacheada.RECURSO, null, false));
+    }
+
+    /**
+     * Prueba que verifica que los mensajes duplicados o atrasados se descartan.
+     */
+    @Test
+    public void recibirTest_DescartaAtrasados() {
+        // Arrange
+        long nodoRemoto = 99;
+        Invalidacion nueva = new Invalidacion(EntidadCacheada.RECURSO, 5, 1000, nodoRemoto, false);
+        Invalidacion vieja = new Invalidacion(EntidadCacheada.RECURSO, 5, 900, nodoRemoto, true);
+
+        // Act
+        nodoB.recibir(nueva.codificar());
+        nodoB.recibir(nueva.codificar());
+        nodoB.recibir(vieja.codificar());
+
+        // Assert
+        assertEquals(List.of(nueva), recibidasEnB);
+        assertEquals(2L, nodoB.estadisticas().get("descartadas"));
+    }
+
+    /**
+     * Prueba que verifica que un cambio local posterior deja atrasado a un mensaje remoto anterior.
+     */
+    @Test
+    public void recibirTest_VersionLocalPosterior() {
+        // Arrange
+        Invalidacion local = nodoB.publicar(EntidadCacheada.RECURSO, 8, false);
+        Invalidacion remota = new Invalidacion(EntidadCacheada.RECURSO, 8, local.version() - 1, 99, true);
+
+        // Act
+        nodoB.recibir(remota.codificar());
+
+        // Assert
+        assertTrue(recibidasEnB.isEmpty());
+        assertEquals(1L, nodoB.estadisticas().get("descartadas"));
+    }
+
+    /**
+     * Prueba que verifica que las versiones fuera de la ventana de retención se olvidan
+     * y que un mensaje anterior a ellas sigue descartándose.
+     */
+    @Test
+    public void purgarTest() throws Exception {
+        // Arrange
+        BusInvalidacion nodoC = new BusInvalidacion(new TransporteLocal(UUID.randomUUID().toString()), 0);
+        List<Invalidacion> recibidasEnC = new CopyOnWriteArrayList<>();
+        nodoC.suscribir(EntidadCacheada.RECURSO, recibidasEnC::add);
+        Invalidacion aplicada = new Invalidacion(EntidadCacheada.RECURSO, 5, System.currentTimeMillis() << 16, 99, false);
+        nodoC.recibir(aplicada.codificar());
+        Thread.sleep(5);
+
+        // Act
+        int olvidadas = nodoC.purgar();
+        nodoC.recibir(aplicada.codificar());
+
+        // Assert
+        assertEquals(1, olvidadas);
+        assertEquals(List.of(aplicada), recibidasEnC);
+        assertEquals(0, nodoC.estadisticas().get("versiones"));
+        assertEquals(1L, nodoC.estadisticas().get("purgadas"));
+        assertEquals(1L, nodoC.estadisticas().get("descartadas"));
+        nodoC.detener();
+    }
+
+    /**
+     * Prueba que verifica que una trama inválida se cuenta como error sin afectar a los suscriptores.
+     */
+    @Test
+    public void recibirTest_TramaInvalida() {
+        // Act
+        nodoB.recibir(new byte[]{1, 2, 3});
+
+        // Assert
+        assertTrue(recibidasEnB.isEmpty());
+        assertEquals(1L, nodoB.estadisticas().get("errores"));
+    }
+
+    /**
+     * Prueba que verifica que la codificación es compacta y reversible.
+     */
+    @Test
+    public void codificarTest() {
+        // Arrange
+        Invalidacion invalidacion = new Invalidacion(EntidadCacheada.VEHICULO, Integer.MAX_VALUE, Long.MAX_VALUE, -3, true);
+
+        // Act
+        byte[] trama = invalidacion.codificar();
+
+        // Assert
+        assertEquals(23, trama.length);
+        assertEquals(invalidacion, Invalidacion.decodificar(trama));
+    }
+
+    /**
+     * Prueba que verifica la entrega de tramas entre dos transportes UDP en la máquina local.
+     */
+    @Test
+    public void transporteUdpTest() throws Exception {
+        // Arrange
+        LinkedBlockingQueue<byte[]> recibidas = new LinkedBlockingQueue<>();
+        try (TransporteUdp receptor = new TransporteUdp(0, List.of());
+             TransporteUdp emisor = new TransporteUdp(0, List.of(new InetSocketAddress("127.0.0.1", receptor.getPuerto())))) {
+            receptor.escuchar(recibidas::add);
+            byte[] trama = new Invalidacion(EntidadCacheada.RECURSO, 3, 10, 1, false).codificar();
+
+            // Act
+            emisor.enviar(trama);
+
+            // Assert
+            assertArrayEquals(trama, recibidas.poll(5, TimeUnit.SECONDS));
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.SAFE_Rescue.API_Recursos.modelo;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Clase de pruebas unitarias para el catálogo Estado y su conversor.
+ * Verifica la estabilidad de los códigos y la lectura de etiquetas.
+ */
+public class EstadoTest {
+
+    /**
+     * Prueba que verifica que cada estado tiene un código único que se puede recuperar.
+     */
+    @Test
+    public void codigosTest() {
+        // Arrange
+        Set<Byte> codigos = new HashSet<>();
+
+        // Act & Assert
+        for (Estado estado : Estado.values()) {
+            assertTrue(codigos.add(estado.getCodigo()));
+            assertEquals(estado, Estado.desdeCodigo(estado.getCodigo()));
+        }
+        assertThrows(IllegalArgumentException.class, () -> Estado.desdeCodigo((byte) 0));
+    }
+
+    /**
+     * Prueba que verifica la lectura de etiquetas sin distinguir mayúsculas, tildes ni formato de constante.
+     */
+    @Test
+    public void desdeEtiquetaTest() {
+        // Act & Assert
+        assertEquals(Estado.EN_PROCESO, Estado.desdeEtiqueta("En Proceso"));
+        assertEquals(Estado.EN_PROCESO, Estado.desdeEtiqueta("EN_PROCESO"));
+        assertEquals(Estado.EN_MANTENCION, Estado.desdeEtiqueta("en mantencion"));
+        assertNull(Estado.desdeEtiqueta(null));
+        assertThrows(IllegalArgumentException.class, () -> Estado.desdeEtiqueta("Inexistente"));
+    }
+
+    /**
+     * Prueba que verifica que el conversor JPA almacena el código de un byte.
+     */
+    @Test
+    public void conversorTest() {
+        // Arrange
+        EstadoConverter conversor = new EstadoConverter();
+
+        // Act & Assert
+        assertEquals((byte) 8, conversor.convertToDatabaseColumn(Estado.PENDIENTE));
+        assertEquals(Estado.PENDIENTE, conversor.convertToEntityAttribute((byte) 8));
+        assertNull(conversor.convertToDatabaseColumn(null));
+        assertNull(conversor.convertToEntityAttribute(null));
+    }
+}
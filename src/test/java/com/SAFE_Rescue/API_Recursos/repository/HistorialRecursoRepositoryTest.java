@@ -0,0 +1,61 @@
+package com.SAFE_Rescue.API_Recursos.repository;
+
+import com.SAFE_Rescue.API_Recursos.modelo.Estado;
+import com.SAFE_Rescue.API_Recursos.modelo.HistorialRecurso;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Clase de pruebas para HistorialRecursoRepository sobre una base de datos embebida.
+ * Verifica la consulta por recurso y rango de fechas.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+public class HistorialRecursoRepositoryTest {
+
+    @Autowired
+    private HistorialRecursoRepository historialRecursoRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private final Instant inicio = Instant.parse("2025-03-01T12:00:00Z");
+
+    /**
+     * Configura el entorno de pruebas antes de cada prueba.
+     * Persiste cambios de dos recursos en distintas fechas.
+     */
+    @BeforeEach
+    public void setUp() {
+        historialRecursoRepository.saveAll(List.of(
+                new HistorialRecurso(null, 1, inicio, "sistema", null, 10, null, Estado.DISPONIBLE),
+                new HistorialRecurso(null, 1, inicio.plusSeconds(3600), "operador", 10, 8, Estado.DISPONIBLE, Estado.DISPONIBLE),
+                new HistorialRecurso(null, 2, inicio.plusSeconds(3600), "operador", 5, 5, Estado.DISPONIBLE, Estado.RESERVADO),
+                new HistorialRecurso(null, 1, inicio.plusSeconds(7200), "operador", 8, 8, Estado.DISPONIBLE, Estado.RESERVADO)));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    /**
+     * Prueba que verifica que solo se devuelven los cambios del recurso dentro del rango, en orden.
+     */
+    @Test
+    public void findByRecursoIdAndFechaBetweenTest() {
+        // Act
+        List<HistorialRecurso> cambios = historialRecursoRepository.findByRecursoIdAndFechaBetweenOrderByFechaAscIdAsc(
+                1, inicio.plusSeconds(1), inicio.plusSeconds(7200));
+
+        // Assert
+        assertEquals(2, cambios.size());
+        assertEquals(8, cambios.get(0).getCantidadNueva());
+        assertEquals(Estado.RESERVADO, cambios.get(1).getEstadoNuevo());
+        assertTrue(cambios.stream().allMatch(cambio -> cambio.getRecursoId() == 1));
+    }
+}
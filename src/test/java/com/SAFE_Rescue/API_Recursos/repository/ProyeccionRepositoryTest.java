@@ -0,0 +1,96 @@
+package com.SAFE_Rescue.API_Recursos.repository;
+
+import com.SAFE_Rescue.API_Recursos.modelo.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Clase de pruebas para ProyeccionRepository sobre una base de datos embebida.
+ * Verifica que solo se devuelven los campos pedidos, con asociaciones anidadas y validación de nombres.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+@Import(ProyeccionRepository.class)
+public class ProyeccionRepositoryTest {
+
+    @Autowired
+    private ProyeccionRepository proyeccionRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private SolicitudRecurso conBombero;
+    private SolicitudRecurso sinBombero;
+
+    /**
+     * Configura el entorno de pruebas antes de cada prueba.
+     * Persiste dos solicitudes, una de ellas sin bombero asignado.
+     */
+    @BeforeEach
+    public void setUp() {
+        TipoRecurso tipoRecurso = entityManager.persist(new TipoRecurso(null, "Agua"));
+        Recurso recurso = entityManager.persist(new Recurso(null, "Estanque", 500, Estado.DISPONIBLE, tipoRecurso));
+        Bombero bombero = entityManager.persist(new Bombero(null, "Ana", "Soto", "Rojas", 912345678));
+        conBombero = entityManager.persist(new SolicitudRecurso(null, "Incendio", "Detalle 1", bombero, Estado.PENDIENTE, recurso, null, null));
+        sinBombero = entityManager.persist(new SolicitudRecurso(null, "Rescate", "Detalle 2", null, Estado.EN_PROCESO, recurso, null, null));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    /**
+     * Prueba que verifica la proyección de campos simples y anidados.
+     */
+    @Test
+    public void proyectarTest() {
+        // Act
+        List<Map<String, Object>> filas = proyeccionRepository.proyectar(SolicitudRecurso.class,
+                "id, titulo, estado, bombero.nombre, recurso.tipoRecurso.nombre");
+
+        // Assert
+        assertEquals(2, filas.size());
+        Map<String, Object> primera = filas.get(0);
+        assertEquals(List.of("id", "titulo", "estado", "bombero", "recurso"), List.copyOf(primera.keySet()));
+        assertEquals(conBombero.getId(), primera.get("id"));
+        assertEquals(Estado.PENDIENTE, primera.get("estado"));
+        assertEquals(Map.of("nombre", "Ana"), primera.get("bombero"));
+        assertEquals(Map.of("tipoRecurso", Map.of("nombre", "Agua")), primera.get("recurso"));
+        assertNull(filas.get(1).get("bombero"));
+        assertEquals(sinBombero.getId(), filas.get(1).get("id"));
+    }
+
+    /**
+     * Prueba que verifica que nombrar una asociación devuelve todos sus atributos simples.
+     */
+    @Test
+    public void proyectarTest_Asociacion() {
+        // Act
+        List<Map<String, Object>> filas = proyeccionRepository.proyectar(Recurso.class, "nombre,tipoRecurso");
+
+        // Assert
+        assertEquals(1, filas.size());
+        Map<?, ?> tipoRecurso = (Map<?, ?>) filas.get(0).get("tipoRecurso");
+        assertEquals(List.of("id", "nombre"), List.copyOf(tipoRecurso.keySet()));
+        assertEquals("Agua", tipoRecurso.get("nombre"));
+    }
+
+    /**
+     * Prueba que verifica el rechazo de campos inexistentes o listas vacías.
+     */
+    @Test
+    public void proyectarTest_CampoDesconocido() {
+        // Act & Assert
+        IllegalArgumentException error = assertThrows(IllegalArgumentException.class,
+                () -> proyeccionRepository.proyectar(SolicitudRecurso.class, "id,bombero.clave"));
+        assertEquals("Campo desconocido: bombero.clave", error.getMessage());
+        assertThrows(IllegalArgumentException.class, () -> proyeccionRepository.proyectar(Recurso.class, "nombre.id"));
+        assertThrows(IllegalArgumentException.class, () -> proyeccionRepository.proyectar(Recurso.class, " , "));
+    }
+}
@@ -0,0 +1,137 @@
+package com.SAFE_Rescue.API_Recursos.service;
+
+import com.SAFE_Rescue.API_Recursos.modelo.*;
+import com.SAFE_Rescue.API_Recursos.repository.DemandaRecursoRepository;
+import com.SAFE_Rescue.API_Recursos.repository.MarcaAgregacionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Clase de pruebas para DemandaRecursoService sobre una base de datos embebida.
+ * Verifica la agregación incremental por hora y por día, y que la consulta lee solo los intervalos.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+@Import(DemandaRecursoService.class)
+@TestPropertySource(properties = {"app.demanda.lote=2", "app.demanda.retraso-ms=0"})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class DemandaRecursoServiceTest {
+
+    @Autowired
+    private DemandaRecursoService demandaRecursoService;
+
+    @Autowired
+    private DemandaRecursoRepository demandaRecursoRepository;
+
+    @Autowired
+    private MarcaAgregacionRepository marcaAgregacionRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private final Instant dia = Instant.parse("2025-05-10T00:00:00Z");
+    private Recurso agua;
+    private Recurso espuma;
+
+    /**
+     * Configura el entorno de pruebas antes de cada prueba.
+     * Persiste dos recursos de distinto tipo y limpia las agregaciones previas.
+     */
+    @BeforeEach
+    public void setUp() {
+        transactionTemplate.executeWithoutResult(estado -> {
+            entityManager.getEntityManager().createQuery("DELETE FROM SolicitudRecurso").executeUpdate();
+            entityManager.getEntityManager().createQuery("DELETE FROM DemandaRecurso").executeUpdate();
+            entityManager.getEntityManager().createQuery("DELETE FROM MarcaAgregacion").executeUpdate();
+            entityManager.getEntityManager().createQuery("DELETE FROM Recurso").executeUpdate();
+            entityManager.getEntityManager().createQuery("DELETE FROM TipoRecurso").executeUpdate();
+            agua = entityManager.persist(new Recurso(null, "Estanque", 500, Estado.DISPONIBLE,
+                    entityManager.persist(new TipoRecurso(null, "Agua"))));
+            espuma = entityManager.persist(new Recurso(null, "Bidón", 20, Estado.DISPONIBLE,
+                    entityManager.persist(new TipoRecurso(null, "Espuma"))));
+        });
+    }
+
+    /**
+     * Prueba que verifica la agregación por hora y por día en varios lotes.
+     */
+    @Test
+    public void agregarTest() {
+        // Arrange
+        crear(agua, dia.plusSeconds(60));
+        crear(agua, dia.plusSeconds(120));
+        crear(agua, dia.plusSeconds(3 * 3600));
+        crear(espuma, dia.plusSeconds(3 * 3600 + 5));
+        crear(espuma, null);
+
+        // Act
+        int procesadas = demandaRecursoService.agregar();
+
+        // Assert
+        assertEquals(5, procesadas);
+        List<DemandaRecurso> horas = demandaRecursoService.buscar(Granularidad.HORA, agua.getTipoRecurso().getId(),
+                dia, dia.plusSeconds(86_399));
+        assertEquals(2, horas.size());
+        assertEquals(dia, horas.get(0).getInicio());
+        assertEquals(2L, horas.get(0).getSolicitudes());
+        assertEquals(1L, horas.get(1).getSolicitudes());
+
+        List<DemandaRecurso> dias = demandaRecursoService.buscar(Granularidad.DIA, null, dia.plusSeconds(600), dia);
+        assertEquals(2, dias.size());
+        assertEquals(3L, dias.get(0).getSolicitudes());
+        assertEquals(1L, dias.get(1).getSolicitudes());
+    }
+
+    /**
+     * Prueba que verifica que una segunda ejecución solo agrega las solicitudes nuevas.
+     */
+    @Test
+    public void agregarTest_Incremental() {
+        // Arrange
+        crear(agua, dia.plusSeconds(60));
+        demandaRecursoService.agregar();
+        SolicitudRecurso nueva = crear(agua, dia.plusSeconds(90));
+
+        // Act
+        int procesadas = demandaRecursoService.agregar();
+
+        // Assert
+        assertEquals(1, procesadas);
+        assertEquals(nueva.getId(), marcaAgregacionRepository.findById(DemandaRecursoService.MARCA).orElseThrow().getUltimoId());
+        List<DemandaRecurso> dias = demandaRecursoService.buscar(Granularidad.DIA, null, dia, dia);
+        assertEquals(1, dias.size());
+        assertEquals(2L, dias.get(0).getSolicitudes());
+        assertEquals(2, demandaRecursoRepository.count());
+    }
+
+    // MÉTODOS AUXILIARES
+
+    private SolicitudRecurso crear(Recurso recurso, Instant fechaCreacion) {
+        return transactionTemplate.execute(estado -> {
+            SolicitudRecurso solicitud = entityManager.persist(
+                    new SolicitudRecurso(null, "Solicitud", "Detalle", null, Estado.PENDIENTE, recurso, null, null));
+            entityManager.flush();
+            // Se fija la fecha después de insertar para simular solicitudes creadas en el pasado
+            entityManager.getEntityManager().createNativeQuery("UPDATE solicitud_recurso SET fecha_creacion = ?1 WHERE id = ?2")
+                    .setParameter(1, fechaCreacion)
+                    .setParameter(2, solicitud.getId())
+                    .executeUpdate();
+            return solicitud;
+        });
+    }
+}
@@ -0,0 +1,231 @@
+package com.SAFE_Rescue.API_Recursos.service;
+
+import com.SAFE_Rescue.API_Recursos.modelo.Estado;
+import com.SAFE_Rescue.API_Recursos.modelo.HistorialRecurso;
+import com.SAFE_Rescue.API_Recursos.repository.HistorialRecursoRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Clase de pruebas unitarias para el servicio HistorialRecursoService.
+ * Verifica la escritura por lotes, la escritura síncrona con la cola llena, el reintento de lotes fallidos
+ * y la recuperación desde el diario.
+ */
+@SpringBootTest(properties = {
+        "app.historial.capacidad=4",
+        "app.historial.lote=2",
+        "app.historial.intervalo-ms=3600000",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+@AutoConfigureTestDatabase
+public class HistorialRecursoServiceTest {
+
+    @Autowired
+    private HistorialRecursoService historialRecursoService;
+
+    @MockitoBean
+    private HistorialRecursoRepository historialRecursoRepository;
+
+    /**
+     * Configura el entorno de pruebas antes de cada prueba.
+     * Vacía los cambios pendientes de pruebas anteriores.
+     */
+    @BeforeEach
+    public void setUp() {
+        historialRecursoService.vaciar();
+        clearInvocations(historialRecursoRepository);
+    }
+
+    /**
+     * Limpia el entorno después de cada prueba.
+     * Quita los fallos simulados y escribe los cambios que quedaron pendientes o en reintento.
+     */
+    @AfterEach
+    public void tearDown() {
+        reset(historialRecursoRepository);
+        historialRecursoService.vaciar();
+    }
+
+    /**
+     * Prueba que verifica que los cambios se escriben en lotes del tamaño configurado.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    public void vaciarTest() {
+        // Arrange
+        for (int i = 0; i < 3; i++) {
+            historialRecursoService.registrar(1, i, i + 1, Estado.DISPONIBLE, Estado.DISPONIBLE);
+        }
+        verifyNoInteractions(historialRecursoRepository);
+
+        // Act
+        historialRecursoService.vaciar();
+
+        // Assert
+        ArgumentCaptor<List<HistorialRecurso>> lotes = ArgumentCaptor.forClass(List.class);
+        verify(historialRecursoRepository, times(2)).saveAll(lotes.capture());
+        assertEquals(2, lotes.getAllValues().get(0).size());
+        assertEquals(1, lotes.getAllValues().get(1).size());
+        HistorialRecurso primero = lotes.getAllValues().get(0).get(0);
+        assertEquals("sistema", primero.getActor());
+        assertNotNull(primero.getFecha());
+    }
+
+    /**
+     * Prueba que verifica que un registro sin cambios de cantidad ni estado se descarta.
+     */
+    @Test
+    public void registrarTest_SinCambios() {
+        // Act
+        historialRecursoService.registrar(1, 5, 5, Estado.ACTIVO, Estado.ACTIVO);
+        historialRecursoService.vaciar();
+
+        // Assert
+        verifyNoInteractions(historialRecursoRepository);
+    }
+
+    /**
+     * Prueba que verifica que con la cola llena el hilo que registra escribe los pendientes en lugar de descartarlos.
+     */
+    @Test
+    public void registrarTest_ColaLlena() {
+        // Act
+        for (int i = 0; i < 5; i++) {
+            historialRecursoService.registrar(1, i, i + 1, Estado.DISPONIBLE, Estado.DISPONIBLE);
+        }
+
+        // Assert
+        verify(historialRecursoRepository, times(2)).saveAll(anyList());
+        assertEquals(1, historialRecursoService.estadisticas().get("pendientes"));
+    }
+
+    /**
+     * Prueba que verifica que un lote que falla se reintenta en la siguiente escritura.
+     */
+    @Test
+    public void vaciarTest_Reintento() {
+        // Arrange
+        when(historialRecursoRepository.saveAll(anyList()))
+                .thenThrow(new RuntimeException("Base de datos no disponible"))
+                .thenReturn(List.of());
+        historialRecursoService.registrar(1, 1, 2, Estado.DISPONIBLE, Estado.DISPONIBLE);
+
+        // Act
+        historialRecursoService.vaciar();
+        historialRecursoService.vaciar();
+
+        // Assert
+        verify(historialRecursoRepository, times(2)).saveAll(anyList());
+        assertEquals(0, historialRecursoService.estadisticas().get("pendientes"));
+    }
+
+    /**
+     * Prueba que verifica que con la base de datos caída y la cola llena el registro no se bloquea:
+     * los cambios que no caben en la cola ni en el reintento se descartan y se cuentan.
+     */
+    @Test
+    public void registrarTest_ColaLlenaSinBaseDeDatos() {
+        // Arrange
+        when(historialRecursoRepository.saveAll(anyList())).thenThrow(new RuntimeException("Base de datos no disponible"));
+        long escritosAntes = (long) historialRecursoService.estadisticas().get("escritos");
+        long descartadosAntes = (long) historialRecursoService.estadisticas().get("descartados");
+
+        // Act
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+            for (int i = 0; i < 12; i++) {
+                historialRecursoService.registrar(1, i, i + 1, Estado.DISPONIBLE, Estado.DISPONIBLE);
+            }
+        });
+        reset(historialRecursoRepository);
+        historialRecursoService.vaciar();
+
+        // Assert
+        long escritos = (long) historialRecursoService.estadisticas().get("escritos") - escritosAntes;
+        long descartados = (long) historialRecursoService.estadisticas().get("descartados") - descartadosAntes;
+        assertTrue(descartados > 0);
+        assertEquals(12, escritos + descartados);
+        assertEquals(0, historialRecursoService.estadisticas().get("enReintento"));
+    }
+
+    /**
+     * Prueba que verifica que la consulta escribe antes los pendientes y completa el rango abierto.
+     */
+    @Test
+    public void buscarTest() {
+        // Arrange
+        historialRecursoService.registrar(7, null, 3, null, Estado.DISPONIBLE);
+
+        // Act
+        historialRecursoService.buscar(7, null, null);
+
+        // Assert
+        verify(historialRecursoRepository).saveAll(anyList());
+        verify(historialRecursoRepository).findByRecursoIdAndFechaBetweenOrderByFechaAscIdAsc(eq(7), eq(Instant.EPOCH), any(Instant.class));
+    }
+
+    /**
+     * Prueba que verifica que al reiniciar se guardan los cambios anotados en el diario cuyo lote no se confirmó.
+     */
+    @Test
+    @SuppressWarnings("unchecked")
+    public void iniciarTest_Recuperacion(@TempDir Path directorio) throws Exception {
+        // Arrange: un lote se guarda y se confirma; el siguiente cambio se pierde en memoria por una caída
+        HistorialRecursoService anterior = servicioDurable(directorio);
+        anterior.registrar(1, 1, 2, Estado.DISPONIBLE, Estado.DISPONIBLE);
+        anterior.registrar(1, 2, 3, Estado.DISPONIBLE, Estado.DISPONIBLE);
+        anterior.vaciar();
+        anterior.registrar(2, null, 5, null, Estado.RESERVADO);
+        clearInvocations(historialRecursoRepository);
+
+        // Act
+        HistorialRecursoService reiniciado = servicioDurable(directorio);
+
+        // Assert
+        ArgumentCaptor<List<HistorialRecurso>> lotes = ArgumentCaptor.forClass(List.class);
+        verify(historialRecursoRepository).saveAll(lotes.capture());
+        HistorialRecurso recuperado = lotes.getValue().get(0);
+        assertEquals(1, lotes.getValue().size());
+        assertEquals(2, recuperado.getRecursoId());
+        assertNull(recuperado.getCantidadAnterior());
+        assertEquals(5, recuperado.getCantidadNueva());
+        assertEquals(Estado.RESERVADO, recuperado.getEstadoNuevo());
+        assertEquals("sistema", recuperado.getActor());
+        assertEquals(1L, reiniciado.estadisticas().get("recuperados"));
+
+        clearInvocations(historialRecursoRepository);
+        reiniciado.detener();
+        servicioDurable(directorio).detener();
+        verify(historialRecursoRepository, never()).saveAll(anyList());
+    }
+
+    // MÉTODOS AUXILIARES
+
+    private HistorialRecursoService servicioDurable(Path directorio) throws Exception {
+        HistorialRecursoService servicio = new HistorialRecursoService();
+        ReflectionTestUtils.setField(servicio, "historialRecursoRepository", historialRecursoRepository);
+        ReflectionTestUtils.setField(servicio, "capacidad", 10);
+        ReflectionTestUtils.setField(servicio, "lote", 2);
+        ReflectionTestUtils.setField(servicio, "durable", true);
+        ReflectionTestUtils.setField(servicio, "directorio", directorio.toString());
+        ReflectionTestUtils.setField(servicio, "tamanioSegmento", 64 * 1024);
+        servicio.iniciar();
+        return servicio;
+    }
+}
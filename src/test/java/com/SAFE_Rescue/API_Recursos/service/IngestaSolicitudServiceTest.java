@@ -0,0 +1,230 @@
+package com.SAFE_Rescue.API_Recursos.service;
+
+import com.SAFE_Rescue.API_Recursos.diario.Diario;
+import com.SAFE_Rescue.API_Recursos.modelo.*;
+import com.SAFE_Rescue.API_Recursos.repository.BomberoRepository;
+import com.SAFE_Rescue.API_Recursos.repository.IngestaSolicitudRepository;
+import com.SAFE_Rescue.API_Recursos.repository.RecursoRepository;
+import com.SAFE_Rescue.API_Recursos.repository.SolicitudRecursoRepository;
+import com.SAFE_Rescue.API_Recursos.repository.TipoRecursoRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Clase de pruebas de integración para el servicio IngestaSolicitudService.
+ * Verifica la persistencia asíncrona por lotes, el rechazo de filas inválidas y la recuperación desde el diario.
+ */
+@SpringBootTest(properties = {"app.ingesta.asincrona=true", "app.ingesta.lote=50", "app.diario.tamanio-segmento=1048576",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"})
+@AutoConfigureTestDatabase
+public class IngestaSolicitudServiceTest {
+
+    @TempDir
+    private static Path directorio;
+
+    @DynamicPropertySource
+    static void propiedades(DynamicPropertyRegistry registro) {
+        registro.add("app.ingesta.directorio", () -> directorio.toString());
+    }
+
+    @Autowired
+    private IngestaSolicitudService ingestaSolicitudService;
+
+    @Autowired
+    private SolicitudRecursoRepository solicitudRecursoRepository;
+
+    @Autowired
+    private IngestaSolicitudRepository ingestaSolicitudRepository;
+
+    @Autowired
+    private BomberoRepository bomberoRepository;
+
+    @Autowired
+    private RecursoRepository recursoRepository;
+
+    @Autowired
+    private TipoRecursoRepository tipoRecursoRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Bombero bombero;
+    private Recurso recurso;
+
+    /**
+     * Configura el entorno de pruebas antes de cada prueba.
+     * Persiste un bombero y un recurso a los que apuntan las solicitudes.
+     */
+    @BeforeEach
+    public void setUp() {
+        Random random = new Random();
+        bombero = bomberoRepository.save(new Bombero(null, "Ana", "Soto", "Rojas", 100_000_000 + random.nextInt(800_000_000)));
+        TipoRecurso tipoRecurso = tipoRecursoRepository.save(new TipoRecurso(null, "Agua"));
+        recurso = recursoRepository.save(new Recurso(null, "Estanque", 100_000_000 + random.nextInt(800_000_000),
+                Estado.DISPONIBLE, tipoRecurso));
+    }
+
+    /**
+     * Elimina las filas creadas por la prueba, incluidas las que escribe la ingesta asíncrona.
+     * Cada prueba espera a que sus solicitudes se persistan, por lo que no quedan escrituras en curso.
+     */
+    @AfterEach
+    public void tearDown() {
+        ingestaSolicitudRepository.deleteAllInBatch();
+        solicitudRecursoRepository.deleteAllInBatch();
+        recursoRepository.deleteAllInBatch();
+        bomberoRepository.deleteAllInBatch();
+        tipoRecursoRepository.deleteAllInBatch();
+    }
+
+    /**
+     * Prueba que verifica que las solicitudes aceptadas se guardan y su estado pasa a GUARDADA.
+     */
+    @Test
+    public void aceptarTest() throws Exception {
+        // Arrange
+        long antes = solicitudRecursoRepository.count();
+
+        // Act
+        String[] seguimientos = new String[120];
+        for (int i = 0; i < seguimientos.length; i++) {
+            seguimientos[i] = ingestaSolicitudService.aceptar(solicitud("Solicitud " + i, recurso));
+        }
+
+        // Assert
+        for (String seguimiento : seguimientos) {
+            Map<String, Object> estado = esperar(seguimiento);
+            assertEquals("GUARDADA", estado.get("estado"));
+        }
+        assertEquals(antes + seguimientos.length, solicitudRecursoRepository.count());
+        Integer id = (Integer) esperar(seguimientos[0]).get("solicitudId");
+        SolicitudRecurso guardada = solicitudRecursoRepository.findById(id).orElseThrow();
+        assertEquals("Solicitud 0", guardada.getTitulo());
+        assertNotNull(guardada.getFechaCreacion());
+    }
+
+    /**
+     * Prueba que verifica que una fila inválida se rechaza sin afectar al resto de su lote.
+     */
+    @Test
+    public void aceptarTest_FilaInvalida() throws Exception {
+        // Arrange
+        Recurso inexistente = new Recurso(999_999, "Inexistente", 1, Estado.DISPONIBLE, recurso.getTipoRecurso());
+
+        // Act
+        String valida = ingestaSolicitudService.aceptar(solicitud("Válida", recurso));
+        String invalida = ingestaSolicitudService.aceptar(solicitud("Inválida", inexistente));
+
+        // Assert
+        assertEquals("GUARDADA", esperar(valida).get("estado"));
+        assertEquals("RECHAZADA", esperar(invalida).get("estado"));
+        assertNotNull(esperar(invalida).get("error"));
+    }
+
+    /**
+     * Prueba que verifica que un error transitorio de la base de datos no rechaza la solicitud:
+     * sigue pendiente, se reintenta y termina guardada.
+     */
+    @Test
+    public void aceptarTest_ErrorTransitorio() throws Exception {
+        // Arrange
+        TransactionTemplate original = (TransactionTemplate) ReflectionTestUtils.getField(ingestaSolicitudService, "transactionTemplate");
+        AtomicInteger fallos = new AtomicInteger(2);
+        ReflectionTestUtils.setField(ingestaSolicitudService, "transactionTemplate", new TransactionTemplate(original.getTransactionManager()) {
+            @Override
+            public <T> T execute(TransactionCallback<T> accion) {
+                if (fallos.getAndDecrement() > 0) {
+                    throw new CannotAcquireLockException("Tiempo de espera de bloqueo agotado");
+                }
+                return super.execute(accion);
+            }
+        });
+        long reintentosAntes = (long) ingestaSolicitudService.estadisticas().get("reintentos");
+
+        try {
+            // Act
+            String seguimiento = ingestaSolicitudService.aceptar(solicitud("Con reintento", recurso));
+
+            // Assert
+            assertEquals("GUARDADA", esperar(seguimiento).get("estado"));
+            assertEquals(2, (long) ingestaSolicitudService.estadisticas().get("reintentos") - reintentosAntes);
+        } finally {
+            ReflectionTestUtils.setField(ingestaSolicitudService, "transactionTemplate", original);
+        }
+    }
+
+    /**
+     * Prueba que verifica que una solicitud sin ID de recurso se rechaza al aceptarla.
+     */
+    @Test
+    public void aceptarTest_SinId() {
+        // Arrange
+        Recurso sinId = new Recurso(null, "Sin ID", 1, Estado.DISPONIBLE, recurso.getTipoRecurso());
+
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> ingestaSolicitudService.aceptar(solicitud("Sin ID", sinId)));
+    }
+
+    /**
+     * Prueba que verifica que al reiniciar se guardan las solicitudes del diario que no alcanzaron a persistirse.
+     */
+    @Test
+    public void iniciarTest_Recuperacion() throws Exception {
+        // Arrange: se detiene la ingesta y se simula una solicitud aceptada justo antes de una caída
+        ingestaSolicitudService.detener();
+        String seguimiento = UUID.randomUUID().toString();
+        try (Diario diario = new Diario(directorio.resolve("solicitudes"), 1048576)) {
+            diario.agregar((byte) 'A', objectMapper.writeValueAsBytes(new IngestaSolicitudService.SolicitudAceptada(
+                    seguimiento, Instant.now(), solicitud("Recuperada", recurso))));
+        }
+
+        // Act
+        ingestaSolicitudService.iniciar();
+
+        // Assert
+        Map<String, Object> estado = ingestaSolicitudService.estado(seguimiento).orElseThrow();
+        assertEquals("GUARDADA", estado.get("estado"));
+        assertEquals("Recuperada", solicitudRecursoRepository.findById((Integer) estado.get("solicitudId")).orElseThrow().getTitulo());
+    }
+
+    // MÉTODOS AUXILIARES
+
+    private SolicitudRecurso solicitud(String titulo, Recurso recurso) {
+        return new SolicitudRecurso(null, titulo, "Detalle de " + titulo, bombero, Estado.PENDIENTE, recurso, null, null);
+    }
+
+    private Map<String, Object> esperar(String seguimiento) throws InterruptedException {
+        long limite = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+        while (System.nanoTime() < limite) {
+            Map<String, Object> estado = ingestaSolicitudService.estado(seguimiento).orElseThrow();
+            if (!"PENDIENTE".equals(estado.get("estado"))) {
+                return estado;
+            }
+            Thread.sleep(10);
+        }
+        fail("La solicitud " + seguimiento + " no se persistió a tiempo");
+        return null;
+    }
+}
@@ -0,0 +1,174 @@
+package com.SAFE_Rescue.API_Recursos.service;
+
+import com.SAFE_Rescue.API_Recursos.indice.IndiceRecursos;
+import com.SAFE_Rescue.API_Recursos.instrumentacion.PresupuestoSql;
+import com.SAFE_Rescue.API_Recursos.modelo.Estado;
+import com.SAFE_Rescue.API_Recursos.modelo.Recurso;
+import com.SAFE_Rescue.API_Recursos.modelo.SolicitudRecurso;
+import com.SAFE_Rescue.API_Recursos.modelo.TipoRecurso;
+import com.SAFE_Rescue.API_Recursos.repository.RecursoRepository;
+import com.SAFE_Rescue.API_Recursos.repository.SolicitudRecursoRepository;
+import net.datafaker.Faker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.NoSuchElementException;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Clase de pruebas unitarias para el servicio MotorDespachoService.
+ * Verifica la selección del mejor recurso y su reserva.
+ */
+@SpringBootTest(properties = {"app.sql.instrumentacion=true", "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"})
+@AutoConfigureTestDatabase
+@PresupuestoSql(0)
+public class MotorDespachoServiceTest {
+
+    @Autowired
+    private MotorDespachoService motorDespachoService;
+
+    @Autowired
+    private IndiceRecursos indiceRecursos;
+
+    @MockitoBean
+    private RecursoRepository recursoRepository;
+
+    @MockitoBean
+    private SolicitudRecursoRepository solicitudRecursoRepository;
+
+    private Faker faker;
+    private SolicitudRecurso solicitudRecurso;
+    private TipoRecurso tipoRecurso;
+    private Recurso menorCantidad;
+    private Recurso mayorCantidad;
+
+    /**
+     * Configura el entorno de pruebas antes de cada prueba.
+     * Indexa dos recursos disponibles del mismo tipo con distinta cantidad.
+     */
+    @BeforeEach
+    public void setUp() {
+        faker = new Faker();
+        tipoRecurso = new TipoRecurso(900, faker.commerce().department());
+        menorCantidad = new Recurso(901, faker.commerce().productName(), 5, Estado.DISPONIBLE, tipoRecurso);
+        mayorCantidad = new Recurso(902, faker.commerce().productName(), 40, Estado.DISPONIBLE, tipoRecurso);
+        indiceRecursos.actualizar(menorCantidad);
+        indiceRecursos.actualizar(mayorCantidad);
+
+        solicitudRecurso = new SolicitudRecurso();
+        solicitudRecurso.setId(1);
+        solicitudRecurso.setTitulo(faker.company().name());
+        solicitudRecurso.setEstado(Estado.PENDIENTE);
+        solicitudRecurso.setDetalle(faker.lorem().sentence());
+        when(solicitudRecursoRepository.findById(1)).thenReturn(Optional.of(solicitudRecurso));
+    }
+
+    /**
+     * Prueba que verifica que se selecciona el recurso con mayor cantidad.
+     */
+    @Test
+    public void seleccionarTest() {
+        // Act & Assert
+        assertEquals(902, motorDespachoService.seleccionar(solicitudRecurso, 900).orElseThrow().id());
+    }
+
+    /**
+     * Prueba que verifica la reserva y asignación del mejor recurso.
+     * Asegura que el recurso queda reservado en el índice y asignado a la solicitud.
+     */
+    @Test
+    public void asignarMejorRecursoTest() {
+        // Arrange
+        when(recursoRepository.actualizarEstadoSiCoincide(902, Estado.DISPONIBLE, MotorDespachoService.ESTADO_RESERVADO)).thenReturn(1);
+        when(recursoRepository.findById(902)).thenReturn(Optional.of(mayorCantidad));
+
+        // Act
+        Recurso asignado = motorDespachoService.asignarMejorRecurso(1, 900);
+
+        // Assert
+        assertEquals(902, asignado.getId());
+        assertEquals(asignado, solicitudRecurso.getRecurso());
+        assertEquals(MotorDespachoService.ESTADO_RESERVADO, indiceRecursos.buscar(902).estado());
+        verify(solicitudRecursoRepository, times(1)).save(solicitudRecurso);
+    }
+
+    /**
+     * Prueba que verifica que si la base de datos rechaza la reserva se intenta con el siguiente candidato.
+     */
+    @Test
+    public void asignarMejorRecursoTest_ReservaRechazada() {
+        // Arrange
+        Recurso yaReservado = new Recurso(902, mayorCantidad.getNombre(), 40, MotorDespachoService.ESTADO_RESERVADO, tipoRecurso);
+        when(recursoRepository.actualizarEstadoSiCoincide(902, Estado.DISPONIBLE, MotorDespachoService.ESTADO_RESERVADO)).thenReturn(0);
+        when(recursoRepository.findById(902)).thenReturn(Optional.of(yaReservado));
+        when(recursoRepository.actualizarEstadoSiCoincide(901, Estado.DISPONIBLE, MotorDespachoService.ESTADO_RESERVADO)).thenReturn(1);
+        when(recursoRepository.findById(901)).thenReturn(Optional.of(menorCantidad));
+
+        // Act
+        Recurso asignado = motorDespachoService.asignarMejorRecurso(1, 900);
+
+        // Assert
+        assertEquals(901, asignado.getId());
+    }
+
+    /**
+     * Prueba que verifica que un candidato resincronizado no se restaura al revertir la transacción.
+     * Si todos los candidatos fallan, el índice conserva el estado leído de la base de datos.
+     */
+    @Test
+    public void asignarMejorRecursoTest_TodosRechazadosNoRestauraCandidatos() {
+        // Arrange
+        Recurso mayorReservado = new Recurso(902, mayorCantidad.getNombre(), 40, MotorDespachoService.ESTADO_RESERVADO, tipoRecurso);
+        Recurso menorReservado = new Recurso(901, menorCantidad.getNombre(), 5, MotorDespachoService.ESTADO_RESERVADO, tipoRecurso);
+        when(recursoRepository.actualizarEstadoSiCoincide(anyInt(), eq(Estado.DISPONIBLE), eq(MotorDespachoService.ESTADO_RESERVADO))).thenReturn(0);
+        when(recursoRepository.findById(902)).thenReturn(Optional.of(mayorReservado));
+        when(recursoRepository.findById(901)).thenReturn(Optional.of(menorReservado));
+
+        // Act
+        assertThrows(NoSuchElementException.class, () -> motorDespachoService.asignarMejorRecurso(1, 900));
+
+        // Assert
+        assertEquals(MotorDespachoService.ESTADO_RESERVADO, indiceRecursos.buscar(902).estado());
+        assertEquals(MotorDespachoService.ESTADO_RESERVADO, indiceRecursos.buscar(901).estado());
+    }
+
+    /**
+     * Prueba que verifica que al volver a despachar una solicitud se libera el recurso que tenía reservado.
+     */
+    @Test
+    public void asignarMejorRecursoTest_LiberaReservaAnterior() {
+        // Arrange
+        Recurso reservadoAntes = new Recurso(903, faker.commerce().productName(), 12, MotorDespachoService.ESTADO_RESERVADO, tipoRecurso);
+        indiceRecursos.actualizar(reservadoAntes);
+        solicitudRecurso.setRecurso(reservadoAntes);
+        Recurso liberado = new Recurso(903, reservadoAntes.getNombre(), 12, MotorDespachoService.ESTADO_LIBERADO, tipoRecurso);
+        when(recursoRepository.actualizarEstadoSiCoincide(902, Estado.DISPONIBLE, MotorDespachoService.ESTADO_RESERVADO)).thenReturn(1);
+        when(recursoRepository.findById(902)).thenReturn(Optional.of(mayorCantidad));
+        when(recursoRepository.actualizarEstadoSiCoincide(903, MotorDespachoService.ESTADO_RESERVADO, MotorDespachoService.ESTADO_LIBERADO)).thenReturn(1);
+        when(recursoRepository.findById(903)).thenReturn(Optional.of(liberado));
+
+        // Act
+        Recurso asignado = motorDespachoService.asignarMejorRecurso(1, 900);
+
+        // Assert
+        assertEquals(902, asignado.getId());
+        verify(recursoRepository).actualizarEstadoSiCoincide(903, MotorDespachoService.ESTADO_RESERVADO, MotorDespachoService.ESTADO_LIBERADO);
+        assertEquals(MotorDespachoService.ESTADO_LIBERADO, indiceRecursos.buscar(903).estado());
+    }
+
+    /**
+     * Prueba que verifica el error cuando no hay recursos disponibles del tipo solicitado.
+     */
+    @Test
+    public void asignarMejorRecursoTest_SinDisponibles() {
+        // Assert
+        assertThrows(NoSuchElementException.class, () -> motorDespachoService.asignarMejorRecurso(1, 999));
+    }
+}
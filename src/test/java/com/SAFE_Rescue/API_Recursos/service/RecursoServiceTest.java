@@ -1,5 +1,7 @@
 package com.SAFE_Rescue.API_Recursos.service;
 
+import com.SAFE_Rescue.API_Recursos.instrumentacion.PresupuestoSql;
+import com.SAFE_Rescue.API_Recursos.modelo.Estado;
 import com.SAFE_Rescue.API_Recursos.modelo.Recurso;
 import com.SAFE_Rescue.API_Recursos.modelo.TipoRecurso;
 import com.SAFE_Rescue.API_Recursos.repository.RecursoRepository;
@@ -8,6 +10,7 @@ import net.datafaker.Faker;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 
@@ -24,7 +27,9 @@ import static org.mockito.Mockito.*;
  * Verifica la funcionalidad de los métodos dentro de RecursoService,
  * incluyendo operaciones CRUD, validaciones y asignaciones.
  */
-@SpringBootTest
+@SpringBootTest(properties = {"app.sql.instrumentacion=true", "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"})
+@AutoConfigureTestDatabase
+@PresupuestoSql(0)
 public class RecursoServiceTest {
 
     @Autowired
@@ -36,6 +41,9 @@ public class RecursoServiceTest {
     @MockitoBean
     private TipoRecursoRepository tipoRecursoRepository;
 
+    @MockitoBean
+    private HistorialRecursoService historialRecursoService;
+
     private Faker faker;
     private Recurso recurso;
     private Integer id;
@@ -51,7 +59,7 @@ public class RecursoServiceTest {
         recurso.setId(1);
         recurso.setNombre(faker.commerce().productName());
         recurso.setCantidad(faker.number().numberBetween(1, 100));
-        recurso.setEstado("Activo");
+        recurso.setEstado(Estado.ACTIVO);
         recurso.setTipoRecurso(new TipoRecurso(1, faker.commerce().department()));
         id = recurso.getId();
     }
@@ -99,6 +107,25 @@ public class RecursoServiceTest {
         assertEquals(recurso.getTipoRecurso(), encontrado.getTipoRecurso());
     }
 
+    /**
+     * Prueba que verifica la búsqueda por lote con una sola consulta al repositorio.
+     * Una lista vacía de IDs no consulta la base de datos.
+     */
+    @Test
+    public void findAllByIdTest() {
+        // Arrange
+        when(recursoRepository.findAllConTipoByIdIn(List.of(id, 99))).thenReturn(List.of(recurso));
+
+        // Act
+        List<Recurso> encontrados = recursoService.findAllById(List.of(id, 99));
+        List<Recurso> vacios = recursoService.findAllById(List.of());
+
+        // Assert
+        assertEquals(List.of(recurso), encontrados);
+        assertTrue(vacios.isEmpty());
+        verify(recursoRepository, times(1)).findAllConTipoByIdIn(anyCollection());
+    }
+
     /**
      * Prueba que verifica la creación de un nuevo recurso.
      * Asegura que el recurso se guarda correctamente en el repositorio.
@@ -130,8 +157,13 @@ public class RecursoServiceTest {
         when(recursoRepository.findById(id)).thenReturn(Optional.of(recurso));
         when(recursoRepository.save(recurso)).thenReturn(recurso);
 
+        Recurso cambios = new Recurso();
+        cambios.setCantidad(recurso.getCantidad() + 5);
+        cambios.setEstado(Estado.RESERVADO);
+        Integer cantidadAnterior = recurso.getCantidad();
+
         // Act
-        Recurso actualizado = recursoService.update(recurso, id);
+        Recurso actualizado = recursoService.update(cambios, id);
 
         // Assert
         assertNotNull(actualizado);
@@ -139,6 +171,7 @@ public class RecursoServiceTest {
         assertEquals(recurso.getCantidad(), actualizado.getCantidad());
         assertEquals(recurso.getEstado(), actualizado.getEstado());
         assertEquals(recurso.getTipoRecurso(), actualizado.getTipoRecurso());
+        verify(historialRecursoService).registrar(id, cantidadAnterior, cantidadAnterior + 5, Estado.ACTIVO, Estado.RESERVADO);
     }
 
     /**
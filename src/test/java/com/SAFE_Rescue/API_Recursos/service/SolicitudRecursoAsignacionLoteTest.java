@@ -0,0 +1,115 @@
+package com.SAFE_Rescue.API_Recursos.service;
+
+import com.SAFE_Rescue.API_Recursos.modelo.*;
+import com.SAFE_Rescue.API_Recursos.repository.BomberoRepository;
+import com.SAFE_Rescue.API_Recursos.repository.RecursoRepository;
+import com.SAFE_Rescue.API_Recursos.repository.SolicitudRecursoRepository;
+import com.SAFE_Rescue.API_Recursos.repository.TipoRecursoRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Clase de pruebas de integración para la asignación por lotes de SolicitudRecursoService.
+ * Verifica, con las estadísticas de Hibernate, que las entidades se cargan con una consulta por entidad
+ * y que las actualizaciones se envían en lotes JDBC.
+ */
+@SpringBootTest(properties = {"spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"})
+@AutoConfigureTestDatabase
+public class SolicitudRecursoAsignacionLoteTest {
+
+    private static final int SOLICITUDES = 60;
+
+    @Autowired
+    private SolicitudRecursoService solicitudRecursoService;
+
+    @Autowired
+    private SolicitudRecursoRepository solicitudRecursoRepository;
+
+    @Autowired
+    private BomberoRepository bomberoRepository;
+
+    @Autowired
+    private RecursoRepository recursoRepository;
+
+    @Autowired
+    private TipoRecursoRepository tipoRecursoRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private final List<SolicitudRecurso> solicitudes = new ArrayList<>();
+    private Recurso recursoNuevo;
+    private Bombero bomberoNuevo;
+
+    /**
+     * Configura el entorno de pruebas antes de cada prueba.
+     * Persiste solicitudes que apuntan a un recurso y un bombero, y otro recurso y bombero a los que reasignarlas.
+     */
+    @BeforeEach
+    public void setUp() {
+        Random random = new Random();
+        TipoRecurso tipoRecurso = tipoRecursoRepository.save(new TipoRecurso(null, "Agua"));
+        Recurso recurso = recursoRepository.save(new Recurso(null, "Estanque", 100_000_000 + random.nextInt(800_000_000),
+                Estado.DISPONIBLE, tipoRecurso));
+        recursoNuevo = recursoRepository.save(new Recurso(null, "Bomba", 100_000_000 + random.nextInt(800_000_000),
+                Estado.DISPONIBLE, tipoRecurso));
+        Bombero bombero = bomberoRepository.save(new Bombero(null, "Ana", "Soto", "Rojas", 100_000_000 + random.nextInt(800_000_000)));
+        bomberoNuevo = bomberoRepository.save(new Bombero(null, "Luis", "Díaz", "Vera", 100_000_000 + random.nextInt(800_000_000)));
+        solicitudes.clear();
+        for (int i = 0; i < SOLICITUDES; i++) {
+            solicitudes.add(solicitudRecursoRepository.save(new SolicitudRecurso(null, "Solicitud " + i, "Detalle",
+                    bombero, Estado.PENDIENTE, recurso, null, null)));
+        }
+    }
+
+    /**
+     * Elimina las filas creadas por la prueba.
+     */
+    @AfterEach
+    public void tearDown() {
+        solicitudRecursoRepository.deleteAllInBatch();
+        recursoRepository.deleteAllInBatch();
+        bomberoRepository.deleteAllInBatch();
+        tipoRecursoRepository.deleteAllInBatch();
+    }
+
+    /**
+     * Prueba que verifica que el lote se carga con tres consultas y se actualiza en lotes JDBC.
+     */
+    @Test
+    public void asignarLoteTest() {
+        // Arrange
+        List<SolicitudRecursoService.Asignacion> asignaciones = solicitudes.stream()
+                .map(solicitud -> new SolicitudRecursoService.Asignacion(solicitud.getId(), recursoNuevo.getId(), bomberoNuevo.getId()))
+                .toList();
+        Statistics estadisticas = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        estadisticas.clear();
+
+        // Act
+        int asignadas = solicitudRecursoService.asignarLote(asignaciones);
+
+        // Assert
+        assertEquals(SOLICITUDES, asignadas);
+        assertEquals(SOLICITUDES, estadisticas.getEntityUpdateCount());
+        // Tres consultas IN y una única sentencia UPDATE preparada, ejecutada en lotes de hibernate.jdbc.batch_size
+        assertEquals(3 + 1, estadisticas.getPrepareStatementCount());
+        for (SolicitudRecurso solicitud : solicitudRecursoRepository.findAllById(solicitudes.stream().map(SolicitudRecurso::getId).toList())) {
+            assertEquals(recursoNuevo.getId(), solicitud.getRecurso().getId());
+            assertEquals(bomberoNuevo.getId(), solicitud.getBombero().getId());
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.SAFE_Rescue.API_Recursos.service;
 
+import com.SAFE_Rescue.API_Recursos.instrumentacion.PresupuestoSql;
 import com.SAFE_Rescue.API_Recursos.modelo.Bombero;
+import com.SAFE_Rescue.API_Recursos.modelo.Estado;
 import com.SAFE_Rescue.API_Recursos.modelo.Recurso;
 import com.SAFE_Rescue.API_Recursos.modelo.SolicitudRecurso;
 import com.SAFE_Rescue.API_Recursos.modelo.TipoRecurso;
@@ -11,6 +13,7 @@ import net.datafaker.Faker;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 
@@ -27,7 +30,9 @@ import static org.mockito.Mockito.*;
  * Verifica la funcionalidad de los métodos dentro de SolicitudRecursoService,
  * incluyendo operaciones CRUD, validaciones y asignaciones.
  */
-@SpringBootTest
+@SpringBootTest(properties = {"app.sql.instrumentacion=true", "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"})
+@AutoConfigureTestDatabase
+@PresupuestoSql(0)
 public class SolicitudRecursoServiceTest {
 
     @Autowired
@@ -56,10 +61,10 @@ public class SolicitudRecursoServiceTest {
         solicitudRecurso = new SolicitudRecurso();
         solicitudRecurso.setId(1);
         solicitudRecurso.setTitulo(faker.company().name());
-        solicitudRecurso.setEstado("Pendiente");
+        solicitudRecurso.setEstado(Estado.PENDIENTE);
         solicitudRecurso.setDetalle(faker.lorem().sentence());
         solicitudRecurso.setBombero(new Bombero(1,faker.name().firstName(), faker.name().lastName(), faker.name().lastName(), faker.number().numberBetween(100000000, 999999999)));
-        solicitudRecurso.setRecurso(new Recurso(1,faker.commerce().productName(),faker.number().numberBetween(1, 100),"Activo",new TipoRecurso(1, faker.commerce().department())));
+        solicitudRecurso.setRecurso(new Recurso(1,faker.commerce().productName(),faker.number().numberBetween(1, 100),Estado.ACTIVO,new TipoRecurso(1, faker.commerce().department())));
         id = solicitudRecurso.getId();
     }
 
@@ -256,4 +261,73 @@ public class SolicitudRecursoServiceTest {
         // Assert
         assertThrows(IllegalArgumentException.class, () -> solicitudRecursoService.validarSolicitud(solicitudRecurso));
     }
-}
\ No newline at end of file
+
+    /**
+     * Prueba que verifica la asignación por lotes con una consulta por entidad.
+     * Asegura que se aplican el recurso y el bombero indicados y se omiten los nulos.
+     */
+    @Test
+    public void asignarLoteTest() {
+        // Arrange
+        SolicitudRecurso otra = new SolicitudRecurso(2, "Otra", "Detalle", solicitudRecurso.getBombero(), Estado.PENDIENTE,
+                solicitudRecurso.getRecurso(), null, null);
+        Recurso recurso = new Recurso(3, "Estanque", 10, Estado.DISPONIBLE, new TipoRecurso(1, "Agua"));
+        Bombero bombero = new Bombero(4, "Ana", "Soto", "Rojas", 912345678);
+        when(solicitudRecursoRepository.findAllConRelacionesByIdIn(any())).thenReturn(List.of(solicitudRecurso, otra));
+        when(recursoRepository.findAllConTipoByIdIn(any())).thenReturn(List.of(recurso));
+        when(bomberoRepository.findAllById(any())).thenReturn(List.of(bombero));
+
+        // Act
+        int asignadas = solicitudRecursoService.asignarLote(List.of(
+                new SolicitudRecursoService.Asignacion(1, 3, 4),
+                new SolicitudRecursoService.Asignacion(2, null, 4)));
+
+        // Assert
+        assertEquals(2, asignadas);
+        assertSame(recurso, solicitudRecurso.getRecurso());
+        assertSame(bombero, solicitudRecurso.getBombero());
+        assertSame(bombero, otra.getBombero());
+        assertEquals(1, otra.getRecurso().getId());
+        verify(solicitudRecursoRepository, times(1)).findAllConRelacionesByIdIn(any());
+        verify(solicitudRecursoRepository, never()).findById(any());
+    }
+
+    /**
+     * Prueba que verifica que si falta alguna entidad no se aplica ninguna asignación.
+     * Asegura que se lanza NoSuchElementException con los IDs faltantes.
+     */
+    @Test
+    public void asignarLoteTest_Faltantes() {
+        // Arrange
+        Recurso recursoOriginal = solicitudRecurso.getRecurso();
+        when(solicitudRecursoRepository.findAllConRelacionesByIdIn(any())).thenReturn(List.of(solicitudRecurso));
+        when(recursoRepository.findAllConTipoByIdIn(any())).thenReturn(List.of(
+                new Recurso(3, "Estanque", 10, Estado.DISPONIBLE, new TipoRecurso(1, "Agua"))));
+
+        // Act
+        NoSuchElementException error = assertThrows(NoSuchElementException.class, () -> solicitudRecursoService.asignarLote(List.of(
+                new SolicitudRecursoService.Asignacion(1, 3, null),
+                new SolicitudRecursoService.Asignacion(7, 9, null))));
+
+        // Assert
+        assertTrue(error.getMessage().contains("solicitudes con ID [7]"));
+        assertTrue(error.getMessage().contains("recursos con ID [9]"));
+        assertSame(recursoOriginal, solicitudRecurso.getRecurso());
+    }
+
+    /**
+     * Prueba que verifica la validación de la lista de asignaciones.
+     * Asegura que se lanza IllegalArgumentException sin consultar la base de datos.
+     */
+    @Test
+    public void asignarLoteTest_Invalido() {
+        // Assert
+        assertThrows(IllegalArgumentException.class, () -> solicitudRecursoService.asignarLote(List.of()));
+        assertThrows(IllegalArgumentException.class, () -> solicitudRecursoService.asignarLote(List.of(
+                new SolicitudRecursoService.Asignacion(1, null, null))));
+        assertThrows(IllegalArgumentException.class, () -> solicitudRecursoService.asignarLote(List.of(
+                new SolicitudRecursoService.Asignacion(1, 3, null),
+                new SolicitudRecursoService.Asignacion(1, 4, null))));
+        verifyNoInteractions(solicitudRecursoRepository);
+    }
+}
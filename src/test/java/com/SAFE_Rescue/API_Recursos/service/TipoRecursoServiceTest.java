@@ -1,11 +1,13 @@
 package com.SAFE_Rescue.API_Recursos.service;
 
+import com.SAFE_Rescue.API_Recursos.instrumentacion.PresupuestoSql;
 import com.SAFE_Rescue.API_Recursos.modelo.TipoRecurso;
 import com.SAFE_Rescue.API_Recursos.repository.TipoRecursoRepository;
 import net.datafaker.Faker;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 
@@ -22,7 +24,9 @@ import static org.mockito.Mockito.*;
  * Verifica la funcionalidad de los métodos dentro de TipoRecursoService,
  * incluyendo operaciones CRUD y validaciones.
  */
-@SpringBootTest
+@SpringBootTest(properties = {"app.sql.instrumentacion=true", "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"})
+@AutoConfigureTestDatabase
+@PresupuestoSql(0)
 public class TipoRecursoServiceTest {
 
     @Autowired
@@ -1,5 +1,7 @@
 package com.SAFE_Rescue.API_Recursos.service;
 
+import com.SAFE_Rescue.API_Recursos.instrumentacion.PresupuestoSql;
+import com.SAFE_Rescue.API_Recursos.modelo.Estado;
 import com.SAFE_Rescue.API_Recursos.modelo.TipoVehiculo;
 import com.SAFE_Rescue.API_Recursos.modelo.Vehiculo;
 import com.SAFE_Rescue.API_Recursos.repository.VehiculoRepository;
@@ -7,6 +9,7 @@ import net.datafaker.Faker;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 
@@ -23,7 +26,9 @@ import static org.mockito.Mockito.*;
  * Verifica la funcionalidad de los métodos dentro de VehiculoService,
  * incluyendo operaciones CRUD y validaciones.
  */
-@SpringBootTest
+@SpringBootTest(properties = {"app.sql.instrumentacion=true", "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"})
+@AutoConfigureTestDatabase
+@PresupuestoSql(0)
 public class VehiculoServiceTest {
 
     @Autowired
@@ -50,7 +55,7 @@ public class VehiculoServiceTest {
         vehiculo.setId(1);
         vehiculo.setMarca(faker.company().name());
         vehiculo.setModelo(faker.commerce().productName());
-        vehiculo.setEstado("Activo");
+        vehiculo.setEstado(Estado.ACTIVO);
         vehiculo.setConductor(faker.name().fullName());
         vehiculo.setPatente("ABC123");
         vehiculo.setTipoVehiculo(new TipoVehiculo(1, faker.commerce().department()));
@@ -105,6 +110,25 @@ public class VehiculoServiceTest {
         assertEquals(vehiculo.getTipoVehiculo(),encontrado.getTipoVehiculo());
     }
 
+    /**
+     * Prueba que verifica la búsqueda por lote con una sola consulta al repositorio.
+     * Una lista vacía de IDs no consulta la base de datos.
+     */
+    @Test
+    public void findAllByIdTest() {
+        // Arrange
+        when(vehiculoRepository.findAllConTipoByIdIn(List.of(id, 99))).thenReturn(List.of(vehiculo));
+
+        // Act
+        List<Vehiculo> encontrados = vehiculoService.findAllById(List.of(id, 99));
+        List<Vehiculo> vacios = vehiculoService.findAllById(List.of());
+
+        // Assert
+        assertEquals(List.of(vehiculo), encontrados);
+        assertTrue(vacios.isEmpty());
+        verify(vehiculoRepository, times(1)).findAllConTipoByIdIn(anyCollection());
+    }
+
     /**
      * Prueba que verifica la creación de un nuevo vehiculo.
      * Asegura que el vehiculo se guarda correctamente en el repositorio.
@@ -0,0 +1,152 @@
+package com.SAFE_Rescue.API_Recursos.util;
+
+import com.SAFE_Rescue.API_Recursos.modelo.Estado;
+import com.SAFE_Rescue.API_Recursos.modelo.Recurso;
+import com.SAFE_Rescue.API_Recursos.modelo.TipoRecurso;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Clase de pruebas unitarias para SingleFlight.
+ * Verifica que las consultas concurrentes de una misma clave compartan una única ejecución.
+ */
+public class SingleFlightTest {
+
+    private SingleFlight<Integer, String> singleFlight;
+
+    /**
+     * Configura el entorno de pruebas antes de cada prueba.
+     */
+    @BeforeEach
+    public void setUp() {
+        singleFlight = new SingleFlight<>();
+    }
+
+    /**
+     * Prueba que verifica que las llamadas concurrentes de la misma clave ejecutan la carga una sola vez.
+     */
+    @Test
+    public void ejecutarTest_LlamadasConcurrentesComparten() throws Exception {
+        // Arrange
+        int hilos = 8;
+        AtomicInteger ejecuciones = new AtomicInteger();
+        CountDownLatch liberarCarga = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(hilos);
+        List<Future<String>> resultados = new ArrayList<>();
+
+        // Act
+        for (int i = 0; i < hilos; i++) {
+            resultados.add(executor.submit(() -> singleFlight.ejecutar(1, () -> {
+                ejecuciones.incrementAndGet();
+                esperar(liberarCarga);
+                return "recurso-1";
+            })));
+        }
+        while (((Number) singleFlight.estadisticas().get("coalescidas")).intValue() < hilos - 1) {
+            Thread.sleep(5);
+        }
+        liberarCarga.countDown();
+
+        // Assert
+        for (Future<String> resultado : resultados) {
+            assertEquals("recurso-1", resultado.get(5, TimeUnit.SECONDS));
+        }
+        executor.shutdown();
+        Map<String, Object> estadisticas = singleFlight.estadisticas();
+        assertEquals(1, ejecuciones.get());
+        assertEquals(8L, estadisticas.get("llamadas"));
+        assertEquals(7L, estadisticas.get("coalescidas"));
+        assertEquals(0, estadisticas.get("enCurso"));
+    }
+
+    /**
+     * Prueba que verifica que las llamadas secuenciales no reutilizan resultados anteriores.
+     */
+    @Test
+    public void ejecutarTest_LlamadasSecuencialesNoSeCachean() {
+        // Arrange
+        AtomicInteger ejecuciones = new AtomicInteger();
+
+        // Act
+        singleFlight.ejecutar(1, () -> "a" + ejecuciones.incrementAndGet());
+        String segundo = singleFlight.ejecutar(1, () -> "a" + ejecuciones.incrementAndGet());
+
+        // Assert
+        assertEquals("a2", segundo);
+        assertEquals(0L, singleFlight.estadisticas().get("coalescidas"));
+    }
+
+    /**
+     * Prueba que verifica que la excepción de la carga se propaga sin envolver.
+     */
+    @Test
+    public void ejecutarTest_PropagaExcepcion() {
+        // Assert
+        assertThrows(NoSuchElementException.class,
+                () -> singleFlight.ejecutar(1, () -> { throw new NoSuchElementException("No encontrado"); }));
+        assertEquals(0, singleFlight.estadisticas().get("enCurso"));
+    }
+
+    /**
+     * Prueba que verifica que, con función de copia, cada llamada coalescida recibe una instancia propia.
+     */
+    @Test
+    public void ejecutarTest_ConCopiaCadaLlamadaRecibeSuInstancia() throws Exception {
+        // Arrange
+        SingleFlight<Integer, Recurso> conCopia = new SingleFlight<>(Copias::recurso);
+        Recurso original = new Recurso(1, "Estanque", 100, Estado.DISPONIBLE, new TipoRecurso(1, "Agua"));
+        CountDownLatch liberarCarga = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        List<Future<Recurso>> resultados = new ArrayList<>();
+
+        // Act
+        for (int i = 0; i < 3; i++) {
+            resultados.add(executor.submit(() -> conCopia.ejecutar(1, () -> {
+                esperar(liberarCarga);
+                return original;
+            })));
+        }
+        while (((Number) conCopia.estadisticas().get("coalescidas")).intValue() < 2) {
+            Thread.sleep(5);
+        }
+        liberarCarga.countDown();
+        Set<Recurso> instancias = Collections.newSetFromMap(new IdentityHashMap<>());
+        Set<TipoRecurso> tipos = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Future<Recurso> resultado : resultados) {
+            Recurso recurso = resultado.get(5, TimeUnit.SECONDS);
+            instancias.add(recurso);
+            tipos.add(recurso.getTipoRecurso());
+            assertEquals(original, recurso);
+        }
+        executor.shutdown();
+
+        // Assert
+        assertEquals(3, instancias.size());
+        assertEquals(3, tipos.size());
+        assertTrue(instancias.contains(original));
+    }
+
+    private static void esperar(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}